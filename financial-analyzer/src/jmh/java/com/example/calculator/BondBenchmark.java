@@ -0,0 +1,73 @@
+package com.example.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만기와 이표 지급 횟수에 따른 채권 YTM 계산 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BondBenchmark {
+
+    @Param({"1", "5", "10", "30"})
+    public double yearsToMaturity;
+
+    @Param({"1", "2", "4", "12"})
+    public int couponFrequency;
+
+    // 할인 / 할증 / 음의 수익률 구간
+    @Param({"9500", "10500", "13000"})
+    public double purchasePrice;
+
+    private Bond bond;
+    private Bond fractionalBond;
+    private double previousYield;
+
+    @Setup
+    public void setUp() {
+        bond = new Bond(10000, purchasePrice, 0.035, yearsToMaturity, couponFrequency, 0.001, true);
+        fractionalBond = new Bond(10000, purchasePrice, 0.035, yearsToMaturity + 0.37, couponFrequency, 0.001, true);
+        previousYield = bond.solveYield(new NewtonYieldSolver(), bond.estimateYield()).getYield() + 0.0005;
+    }
+
+    @Benchmark
+    public CalculationResult calculate() {
+        return bond.calculate();
+    }
+
+    @Benchmark
+    public CalculationResult calculateFractionalMaturity() {
+        return fractionalBond.calculate();
+    }
+
+    @Benchmark
+    public CalculationResult calculateWarmStart() {
+        return bond.calculate(Bond.DEFAULT_SOLVER, previousYield);
+    }
+
+    @Benchmark
+    public YieldSolution solveWithBrent() {
+        return bond.solveYield(new BrentYieldSolver(), bond.estimateYield());
+    }
+
+    @Benchmark
+    public BondPricing analyze() {
+        return bond.price(previousYield);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 채권 묶음을 Bond 객체별 계산과 열 기반 BondBook으로 계산할 때의 채권당 비용을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BondBookBenchmark {
+
+    private static final int BOOK_SIZE = 10_000;
+    private static final int[] FREQUENCIES = {1, 2, 4, 12};
+
+    private Bond[] bonds;
+    private BondBook book;
+    private double[] yields;
+    private double[] prices;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        bonds = new Bond[BOOK_SIZE];
+        book = new BondBook(BOOK_SIZE);
+        for (int i = 0; i < BOOK_SIZE; i++) {
+            bonds[i] = new Bond(10000, 8500 + random.nextDouble() * 3000, random.nextDouble() * 0.06,
+                    1 + random.nextInt(30), FREQUENCIES[random.nextInt(FREQUENCIES.length)],
+                    random.nextDouble() * 0.002, random.nextBoolean());
+            book.add(bonds[i]);
+        }
+        yields = new double[BOOK_SIZE];
+        prices = new double[BOOK_SIZE];
+        book.computeYields(yields);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOK_SIZE)
+    public void bondObjects(Blackhole blackhole) {
+        for (Bond bond : bonds) {
+            blackhole.consume(bond.calculate());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOK_SIZE)
+    public double[] bookYields() {
+        book.computeYields(yields);
+        return yields;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOOK_SIZE)
+    public double[] bookPrices() {
+        book.computePrices(yields, prices);
+        return prices;
+    }
+}
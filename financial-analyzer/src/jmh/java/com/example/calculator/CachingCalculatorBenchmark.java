@@ -0,0 +1,54 @@
+package com.example.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결과 캐시 조회 비용을 캐시 없이 YTM을 푸는 비용과 비교합니다.
+ * 조회 키는 캐시에 저장된 객체와 값만 같은 별도의 인스턴스입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachingCalculatorBenchmark {
+
+    private final Calculator calculator = new Calculator();
+    private final CachingCalculator cachingCalculator = new CachingCalculator();
+    private Bond bond;
+
+    @Setup
+    public void setUp() {
+        cachingCalculator.calculate(new Bond(10000, 9500, 0.035, 10, 2, 0.001, true));
+        bond = new Bond(10000, 9500, 0.035, 10, 2, 0.001, true);
+    }
+
+    @Benchmark
+    public CalculationResult uncached() {
+        return calculator.calculate(bond);
+    }
+
+    @Benchmark
+    public CalculationResult cachedHit() {
+        return cachingCalculator.calculate(bond);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CalculationResult cachedHitContended() {
+        return cachingCalculator.calculate(bond);
+    }
+}
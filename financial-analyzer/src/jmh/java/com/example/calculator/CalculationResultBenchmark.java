@@ -0,0 +1,60 @@
+package com.example.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품별 계산 결과의 출력(toString)과 지표 조회 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculationResultBenchmark {
+
+    @Param({"BOND", "SAVINGS", "DIVIDEND"})
+    public String product;
+
+    private CalculationResult result;
+    private Metric firstMetric;
+
+    @Setup
+    public void setUp() {
+        switch (product) {
+            case "BOND":
+                result = new Bond(10000, 9500, 0.035, 3, 2, 0.001, true).calculate();
+                break;
+            case "SAVINGS":
+                result = new TieredSavingsAccount(100_000,
+                        List.of(new InterestRateTier(6, 3.5), new InterestRateTier(6, 4.0))).calculate();
+                break;
+            default:
+                result = new DividendStock(10_000, 12_000, 100, 5_000, 0.015, 0.18).calculate();
+        }
+        firstMetric = result.getMetric(0);
+    }
+
+    @Benchmark
+    public String render() {
+        return result.toString();
+    }
+
+    @Benchmark
+    public double metricLookup() {
+        return result.get(firstMetric);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계측을 끈 경우와 켠 경우(할당 추적 포함)의 계산기 오버헤드를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculatorMetricsBenchmark {
+
+    @Param({"off", "on", "allocation"})
+    public String mode;
+
+    private final Calculator calculator = new Calculator();
+    private Bond bond;
+    private DividendStock stock;
+
+    @Setup
+    public void setUp() {
+        CalculatorMetrics metrics = CalculatorMetrics.getInstance();
+        metrics.setEnabled(!mode.equals("off"));
+        metrics.setAllocationTracking(mode.equals("allocation"));
+        bond = new Bond(10000, 9500, 0.035, 10, 2, 0.001, true);
+        stock = new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18);
+    }
+
+    @TearDown
+    public void tearDown() {
+        CalculatorMetrics.getInstance().setEnabled(false);
+        CalculatorMetrics.getInstance().setAllocationTracking(false);
+        CalculatorMetrics.getInstance().reset();
+    }
+
+    @Benchmark
+    public CalculationResult bond() {
+        return calculator.calculate(bond);
+    }
+
+    @Benchmark
+    public CalculationResult dividendStock() {
+        return calculator.calculate(stock);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시세 틱 하나를 반영하는 비용을, 같은 종목의 포지션을 새 DividendStock으로 다시 만들어 계산하는 비용과 비교합니다.
+ * 장부에는 5천 개 종목에 걸친 50만 개 포지션이 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DividendPositionBookBenchmark {
+
+    private static final int POSITIONS = 500_000;
+    private static final int INSTRUMENTS = 5_000;
+
+    private DividendPositionBook book;
+    private DividendStock[] positionsOfInstrument;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    @Setup
+    public void setUp() {
+        book = new DividendPositionBook(POSITIONS);
+        SplittableRandom setupRandom = new SplittableRandom(7);
+        for (int i = 0; i < POSITIONS; i++) {
+            book.add(setupRandom.nextInt(INSTRUMENTS), new DividendStock(50000, 55000, 1 + setupRandom.nextInt(1000),
+                    150000, 0.015, 0.18));
+        }
+        // 종목 하나에 평균적으로 걸린 포지션 수만큼 객체를 준비
+        positionsOfInstrument = new DividendStock[POSITIONS / INSTRUMENTS];
+        for (int i = 0; i < positionsOfInstrument.length; i++) {
+            positionsOfInstrument[i] = new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18);
+        }
+    }
+
+    @Benchmark
+    public double applyTick() {
+        book.applyPrice(random.nextInt(INSTRUMENTS), 50000 + random.nextInt(10000));
+        return book.getTotalNetProfit();
+    }
+
+    @Benchmark
+    public double rebuildAndRecalculate() {
+        double price = 50000 + random.nextInt(10000);
+        double total = 0;
+        for (DividendStock stock : positionsOfInstrument) {
+            DividendStock repriced = new DividendStock(stock.getPurchasePricePerShare(), price, stock.getNumberOfShares(),
+                    stock.getTotalDividendReceived(), 0.015, 0.18);
+            total += repriced.calculate().get(Metric.NET_PROFIT);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배당주 실현 수익률 계산 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DividendStockBenchmark {
+
+    @Param({"1", "100", "100000"})
+    public int numberOfShares;
+
+    private DividendStock stock;
+
+    @Setup
+    public void setUp() {
+        stock = new DividendStock(52_300, 61_800, numberOfShares, 1_444.0 * numberOfShares, 0.015, 0.18);
+    }
+
+    @Benchmark
+    public CalculationResult calculate() {
+        return stock.calculate();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.calculator;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CalculatorServer}의 부하 시험 도구입니다.
+ * 지정한 수의 요청을 항상 concurrency개씩 동시에 진행 중이도록 보내고,
+ * 요청별 왕복 지연 시간 분포와 거절(503)·오류 수를 출력합니다.
+ * <pre>
+ * java -cp target/benchmarks.jar com.example.calculator.ServerLoadTest [요청 수] [동시 요청 수] [대상 URL]
+ * </pre>
+ * 대상 URL을 주지 않으면 같은 JVM 안에서 localhost의 임의 포트로 서버를 띄워 시험합니다.
+ * 연결마다 파일 기술자를 쓰므로 동시 요청 수가 크면 ulimit -n을 충분히 늘려야 합니다.
+ */
+public class ServerLoadTest {
+
+    private static final String[] BODIES = {
+        "{\"faceValue\":10000,\"purchasePrice\":9500,\"couponRate\":3.5,\"yearsToMaturity\":3,"
+                + "\"couponFrequency\":2,\"tradingFeeRate\":0.1,\"applyTax\":true}",
+        "{\"monthlyDeposit\":100000,\"tiers\":[{\"months\":6,\"annualRate\":3.5},{\"months\":6,\"annualRate\":4.0}]}",
+        "{\"purchasePricePerShare\":50000,\"sellingPricePerShare\":55000,\"numberOfShares\":100,"
+                + "\"totalDividendReceived\":150000,\"tradingFeeRate\":0.015,\"securitiesTransactionTaxRate\":0.18}"
+    };
+    private static final String[] PATHS = {"/api/bond", "/api/savings", "/api/dividend"};
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+
+        CalculatorServer server = null;
+        String baseUrl;
+        if (args.length > 2) {
+            baseUrl = args[2];
+        } else {
+            server = new CalculatorServer(new Calculator(), new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                    CalculatorServer.DEFAULT_MAX_CONCURRENT_REQUESTS, CalculatorServer.DEFAULT_MAX_BODY_BYTES);
+            server.start();
+            baseUrl = "http://localhost:" + server.getPort();
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()))
+                .build();
+        HttpRequest[] templates = new HttpRequest[PATHS.length];
+        for (int i = 0; i < PATHS.length; i++) {
+            templates[i] = HttpRequest.newBuilder(URI.create(baseUrl + PATHS[i]))
+                    .timeout(Duration.ofSeconds(60))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(BODIES[i], StandardCharsets.UTF_8))
+                    .build();
+        }
+
+        // 예열: JIT 컴파일과 연결 생성을 측정에서 빼기 위해 먼저 일부를 보냄
+        run(client, templates, Math.min(requests, 20_000), Math.min(concurrency, 256), new LatencyHistogram(),
+                new AtomicLong(), new AtomicLong());
+
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long start = System.nanoTime();
+        run(client, templates, requests, concurrency, latency, rejected, failed);
+        long elapsed = System.nanoTime() - start;
+
+        HistogramSnapshot snapshot = latency.snapshot();
+        System.out.printf(Locale.ROOT, "요청 %,d건, 동시 %,d, %.2f초, 처리량 %,.0f건/초%n",
+                requests, concurrency, elapsed / 1e9, requests * 1e9 / elapsed);
+        System.out.printf(Locale.ROOT, "지연(ms): 평균 %.2f, p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, 최대 %.2f%n",
+                snapshot.getMean() / 1e6,
+                snapshot.getValueAtPercentile(50) / 1e6,
+                snapshot.getValueAtPercentile(90) / 1e6,
+                snapshot.getValueAtPercentile(99) / 1e6,
+                snapshot.getValueAtPercentile(99.9) / 1e6,
+                snapshot.getMax() / 1e6);
+        System.out.printf("거절(503) %,d건, 오류 %,d건%n", rejected.get(), failed.get());
+
+        if (server != null) {
+            server.close();
+        }
+        System.exit(failed.get() == 0 ? 0 : 1);
+    }
+
+    private static void run(HttpClient client, HttpRequest[] templates, int requests, int concurrency,
+                            LatencyHistogram latency, AtomicLong rejected, AtomicLong failed) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            client.sendAsync(templates[i % templates.length], HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> {
+                        latency.record(System.nanoTime() - sent);
+                        if (error != null) {
+                            failed.incrementAndGet();
+                        } else if (response.statusCode() == 503) {
+                            rejected.incrementAndGet();
+                        } else if (response.statusCode() != 200) {
+                            failed.incrementAndGet();
+                        }
+                        inFlight.release();
+                        done.countDown();
+                    });
+        }
+        done.await();
+    }
+}
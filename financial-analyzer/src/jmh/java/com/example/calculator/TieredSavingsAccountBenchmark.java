@@ -0,0 +1,58 @@
+package com.example.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금리 구간 수와 전체 기간에 따른 차등금리 적금 계산 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TieredSavingsAccountBenchmark {
+
+    @Param({"1", "4", "12", "48"})
+    public int tierCount;
+
+    @Param({"12", "60", "240", "600"})
+    public int totalMonths;
+
+    @Param({"SIMPLE", "MONTHLY_COMPOUND", "DAILY_COMPOUND"})
+    public InterestMode interestMode;
+
+    private TieredSavingsAccount account;
+
+    @Setup
+    public void setUp() {
+        // 전체 기간을 구간 수로 나누어 배분 (나머지는 마지막 구간에)
+        List<InterestRateTier> tiers = new ArrayList<>();
+        int count = Math.min(tierCount, totalMonths);
+        int monthsPerTier = totalMonths / count;
+        for (int i = 0; i < count; i++) {
+            int months = i == count - 1 ? totalMonths - monthsPerTier * (count - 1) : monthsPerTier;
+            tiers.add(new InterestRateTier(months, 2.5 + 0.1 * i));
+        }
+        account = new TieredSavingsAccount(300_000, tiers, interestMode);
+    }
+
+    @Benchmark
+    public CalculationResult calculate() {
+        return account.calculate();
+    }
+}
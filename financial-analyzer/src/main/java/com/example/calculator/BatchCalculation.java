@@ -0,0 +1,166 @@
+package com.example.calculator;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 여러 금융 상품을 한 번에 계산하는 일괄(batch) 작업의 진행 상태와 결과를 나타냅니다.
+ * 상품 목록을 고정 크기의 구간(chunk)으로 나누어 Executor에 제출하며,
+ * 진행률 조회, 취소, 상품별 오류 격리를 지원합니다.
+ * 한 상품의 계산에서 예외가 발생해도 해당 상품의 오류로만 기록되고 나머지 계산은 계속됩니다.
+ */
+public class BatchCalculation {
+
+    private final FinancialProduct[] products;
+    private final CalculationResult[] results;
+    private final RuntimeException[] errors;
+    private final AtomicInteger completedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private final CountDownLatch remainingChunks;
+    private volatile boolean cancelled;
+
+    private BatchCalculation(FinancialProduct[] products, int chunkCount) {
+        this.products = products;
+        this.results = new CalculationResult[products.length];
+        this.errors = new RuntimeException[products.length];
+        this.remainingChunks = new CountDownLatch(chunkCount);
+    }
+
+    /**
+     * 일괄 계산을 시작합니다. 이 메서드는 작업을 제출한 뒤 바로 반환합니다.
+     *
+     * @param calculator 각 상품을 계산할 계산기
+     * @param products   계산할 상품 목록
+     * @param executor   구간별 작업을 실행할 Executor
+     * @param chunkSize  한 작업이 처리할 상품 수
+     * @return 진행 중인 일괄 계산
+     */
+    static BatchCalculation start(Calculator calculator, Collection<? extends FinancialProduct> products,
+                                  Executor executor, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다: " + chunkSize);
+        }
+        FinancialProduct[] items = products.toArray(new FinancialProduct[0]);
+        int chunkCount = (items.length + chunkSize - 1) / chunkSize;
+        BatchCalculation batch = new BatchCalculation(items, chunkCount);
+
+        for (int start = 0; start < items.length; start += chunkSize) {
+            int from = start;
+            int to = Math.min(start + chunkSize, items.length);
+            try {
+                executor.execute(() -> batch.runChunk(calculator, from, to));
+            } catch (RejectedExecutionException e) {
+                // 제출하지 못한 구간은 실행되지 않으므로 작업 전체를 취소 상태로 만들고 남은 구간을 정리합니다.
+                batch.cancel();
+                for (int skipped = from; skipped < items.length; skipped += chunkSize) {
+                    batch.remainingChunks.countDown();
+                }
+                break;
+            }
+        }
+        return batch;
+    }
+
+    private void runChunk(Calculator calculator, int from, int to) {
+        try {
+            for (int i = from; i < to; i++) {
+                if (cancelled) {
+                    return;
+                }
+                try {
+                    results[i] = calculator.calculate(products[i]);
+                } catch (RuntimeException e) {
+                    // 오류 격리: 실패한 상품만 기록하고 다음 상품을 계속 계산
+                    errors[i] = e;
+                    failedCount.incrementAndGet();
+                }
+                completedCount.incrementAndGet();
+            }
+        } finally {
+            remainingChunks.countDown();
+        }
+    }
+
+    /**
+     * 아직 시작되지 않은 상품의 계산을 취소합니다.
+     * 이미 계산 중인 상품은 끝까지 계산되며, 취소 이후의 상품은 결과와 오류가 모두 비어 있게 됩니다.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /** 모든 구간의 처리가 끝났는지 여부 (취소로 중단된 경우 포함) */
+    public boolean isDone() {
+        return remainingChunks.getCount() == 0;
+    }
+
+    /** 모든 구간의 처리가 끝날 때까지 기다립니다. */
+    public BatchCalculation await() throws InterruptedException {
+        remainingChunks.await();
+        return this;
+    }
+
+    /**
+     * 주어진 시간 동안 작업 완료를 기다립니다.
+     * @return 시간 안에 작업이 끝났으면 true
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return remainingChunks.await(timeout, unit);
+    }
+
+    public int getTotalCount() {
+        return products.length;
+    }
+
+    /** 성공·실패와 관계없이 계산이 끝난 상품 수 */
+    public int getCompletedCount() {
+        return completedCount.get();
+    }
+
+    public int getFailedCount() {
+        return failedCount.get();
+    }
+
+    /** 진행률 (0.0 ~ 1.0) */
+    public double getProgress() {
+        return products.length == 0 ? 1.0 : (double) completedCount.get() / products.length;
+    }
+
+    public FinancialProduct getProduct(int index) {
+        return products[index];
+    }
+
+    /**
+     * @return index번째 상품의 계산 결과. 실패했거나 아직 계산되지 않았으면 null
+     */
+    public CalculationResult getResult(int index) {
+        return results[index];
+    }
+
+    /**
+     * @return index번째 상품 계산 중 발생한 예외. 성공했거나 아직 계산되지 않았으면 null
+     */
+    public RuntimeException getError(int index) {
+        return errors[index];
+    }
+
+    /**
+     * 완료된 작업의 결과를 입력 순서대로 스트림으로 반환합니다. 실패하거나 취소된 상품은 제외됩니다.
+     * 결과의 가시성을 보장하려면 {@link #await()} 이후에 호출해야 합니다.
+     */
+    public Stream<CalculationResult> results() {
+        return IntStream.range(0, results.length)
+                .mapToObj(i -> results[i])
+                .filter(result -> result != null);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.calculator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 상품 레코드 파일을 읽어 계산하고 결과 파일로 쓰는 비대화형 일괄 처리기입니다.
+ *
+ * 파일을 고정 크기 묶음(chunk)으로 나누어 처리하며, 두 개의 묶음을 번갈아 쓰는 파이프라인으로
+ * 한 묶음이 계산되는 동안 이전 묶음의 결과를 쓰고 다음 묶음을 읽습니다.
+ * 따라서 메모리에는 최대 두 묶음만 올라가며 입력 파일 크기와 관계없이 사용량이 일정합니다.
+ */
+public class BatchRunner {
+
+    /** 한 번에 읽고 계산하는 기본 레코드 수 */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * 결과 파일을 여는 방법. 입력 파일을 연 뒤에 호출되므로 입력이 없으면 출력 파일을 건드리지 않습니다.
+     */
+    public interface WriterFactory {
+        ResultWriter open() throws IOException;
+    }
+
+    private final Calculator calculator;
+    private final Executor executor;
+    private final int chunkSize;
+
+    public BatchRunner(Calculator calculator) {
+        this(calculator, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param calculator 각 상품을 계산할 계산기
+     * @param executor   묶음 안의 상품을 병렬로 계산할 Executor
+     * @param chunkSize  한 번에 읽고 계산하는 레코드 수
+     */
+    public BatchRunner(Calculator calculator, Executor executor, int chunkSize) {
+        this.calculator = calculator;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * input의 모든 레코드를 계산하여 output에 CSV로 씁니다.
+     */
+    public BatchSummary run(Path input, Path output) throws IOException, InterruptedException {
+        return run(input, () -> new CsvResultWriter(output));
+    }
+
+    /**
+     * input의 모든 레코드를 계산하여 writer로 기록합니다. writer는 처리가 끝나면 닫힙니다.
+     * 형식이 잘못되었거나 계산에 실패한 레코드는 오류로 기록하고 계속 진행합니다.
+     */
+    public BatchSummary run(Path input, ResultWriter output) throws IOException, InterruptedException {
+        try (ResultWriter writer = output) { // 입력을 열지 못해도 닫음
+            return run(input, () -> writer);
+        }
+    }
+
+    /**
+     * input을 먼저 연 뒤 output으로 결과 파일을 열어 모든 레코드를 계산해 기록합니다.
+     * 입력 파일을 열 수 없으면 결과 파일을 만들거나 비우지 않고 IOException을 던집니다.
+     */
+    public BatchSummary run(Path input, WriterFactory output) throws IOException, InterruptedException {
+        long startTime = System.nanoTime();
+        long records = 0;
+        long failed = 0;
+
+        RecordChunk current = new RecordChunk(chunkSize);
+        RecordChunk next = new RecordChunk(chunkSize);
+        try (ProductRecordReader reader = new ProductRecordReader(input);
+             ResultWriter writer = output.open()) {
+            if (reader.read(current) == 0) {
+                return new BatchSummary(0, 0, System.nanoTime() - startTime);
+            }
+            BatchCalculation running = start(current);
+            while (true) {
+                int nextSize = reader.read(next); // 현재 묶음이 계산되는 동안 다음 묶음을 읽음
+                running.await();
+                BatchCalculation nextRunning = nextSize > 0 ? start(next) : null;
+
+                records += current.size();
+                failed += write(current, running, writer); // 다음 묶음이 계산되는 동안 결과를 씀
+
+                if (nextRunning == null) {
+                    break;
+                }
+                RecordChunk swap = current;
+                current = next;
+                next = swap;
+                running = nextRunning;
+            }
+        }
+        return new BatchSummary(records, failed, System.nanoTime() - startTime);
+    }
+
+    private BatchCalculation start(RecordChunk chunk) {
+        return calculator.calculateAll(chunk.validProducts(), executor, Calculator.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @return 실패한 레코드 수
+     */
+    private static long write(RecordChunk chunk, BatchCalculation calculation, ResultWriter writer) throws IOException {
+        long failed = 0;
+        int productIndex = 0; // 읽기에 성공한 상품만 계산에 넘겼으므로 별도로 위치를 셈
+        for (int i = 0; i < chunk.size(); i++) {
+            long lineNumber = chunk.getLineNumber(i);
+            if (chunk.getError(i) != null) {
+                writer.writeError(lineNumber, chunk.getError(i));
+                failed++;
+                continue;
+            }
+            CalculationResult result = calculation.getResult(productIndex);
+            RuntimeException error = calculation.getError(productIndex);
+            productIndex++;
+            if (result != null) {
+                writer.write(lineNumber, result);
+            } else {
+                writer.writeError(lineNumber, error != null ? String.valueOf(error) : "계산되지 않았습니다.");
+                failed++;
+            }
+        }
+        return failed;
+    }
+}
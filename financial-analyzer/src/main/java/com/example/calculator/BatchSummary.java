@@ -0,0 +1,44 @@
+package com.example.calculator;
+
+/**
+ * 파일 일괄 처리 한 번의 처리 건수와 처리량을 요약합니다.
+ */
+public class BatchSummary {
+
+    private final long records;      // 읽은 레코드 수
+    private final long failed;       // 읽기 또는 계산에 실패한 레코드 수
+    private final long elapsedNanos; // 전체 소요 시간
+
+    public BatchSummary(long records, long failed, long elapsedNanos) {
+        this.records = records;
+        this.failed = failed;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getSucceeded() {
+        return records - failed;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** 초당 처리 레코드 수 */
+    public double getRecordsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : records * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("처리 %,d건 (성공 %,d건, 실패 %,d건), 소요 %.3f초, 처리량 %,.0f건/초",
+                records, getSucceeded(), failed, elapsedNanos / 1e9, getRecordsPerSecond());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.calculator;
+
+/**
+ * 고정 길이 바이너리 결과 파일의 형식 상수입니다. 모든 값은 리틀 엔디언입니다.
+ * <pre>
+ * 헤더
+ *   int    MAGIC ("FAR1")
+ *   int    VERSION
+ *   int    지표 열 수 (최대 32)
+ *   int    레코드 크기 (바이트)
+ *   long   레코드 수
+ *   long   트레일러 위치
+ *   열마다 short 길이 + UTF-8 지표 이름 ({@link Metric} 상수 이름)
+ *   8바이트 경계까지 0으로 채움
+ * 레코드 (고정 길이)
+ *   long   입력 파일 줄 번호
+ *   int    상품 이름 번호 (오류 레코드는 -1)
+ *   int    값이 있는 열의 비트 마스크
+ *   double 열마다 하나 (값이 없으면 NaN)
+ * 트레일러
+ *   int    상품 이름 수, 이름마다 short 길이 + UTF-8 바이트
+ *   int    오류 수, 오류마다 long 레코드 번호 + short 길이 + UTF-8 메시지
+ * </pre>
+ */
+final class BinaryResultFormat {
+
+    static final int MAGIC = 0x31524146; // 파일에서 "FAR1" 순서로 보임
+    static final int VERSION = 1;
+    static final int MAX_COLUMNS = Integer.SIZE;
+    static final int FIXED_HEADER_SIZE = 32;
+    static final int RECORD_COUNT_OFFSET = 16;
+    static final int TRAILER_OFFSET_OFFSET = 24;
+    static final int RECORD_HEADER_SIZE = 16;
+    static final int ERROR_PRODUCT_ID = -1;
+
+    /** 한 번에 메모리에 매핑하는 영역의 대략적인 크기 */
+    static final long SEGMENT_BYTES = 64L << 20;
+
+    private BinaryResultFormat() {
+    }
+
+    static int recordSize(int columnCount) {
+        return RECORD_HEADER_SIZE + Double.BYTES * columnCount;
+    }
+
+    static int align8(int size) {
+        return (size + 7) & ~7;
+    }
+}
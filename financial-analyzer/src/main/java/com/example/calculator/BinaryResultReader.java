@@ -0,0 +1,273 @@
+package com.example.calculator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link BinaryResultWriter}가 쓴 바이너리 결과 파일을 메모리에 매핑하여 읽습니다.
+ * 레코드 길이가 고정되어 있으므로 임의의 레코드를 텍스트 해석 없이 바로 읽을 수 있습니다.
+ * 파일을 연 뒤에는 여러 스레드에서 동시에 읽어도 됩니다.
+ */
+public class BinaryResultReader implements Closeable {
+
+    private final FileChannel channel;
+    private final Metric[] columns;             // 알 수 없는 이름의 열은 null
+    private final String[] columnNames;
+    private final int[] columnOfMetric;         // Metric.ordinal() -> 열 번호 (없으면 -1)
+    private final int recordSize;
+    private final long recordCount;
+    private final long dataOffset;
+    private final int recordsPerSegment;
+    private final MappedByteBuffer[] segments;
+    private final String[] productNames;
+    private final Map<Long, String> errors = new HashMap<>();
+
+    public BinaryResultReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer fixed = readFully(0, BinaryResultFormat.FIXED_HEADER_SIZE);
+            if (fixed.getInt() != BinaryResultFormat.MAGIC) {
+                throw new IOException("바이너리 결과 파일이 아닙니다: " + path);
+            }
+            int version = fixed.getInt();
+            if (version != BinaryResultFormat.VERSION) {
+                throw new IOException("지원하지 않는 결과 파일 버전: " + version);
+            }
+            int columnCount = fixed.getInt();
+            this.recordSize = fixed.getInt();
+            this.recordCount = fixed.getLong();
+            long trailerOffset = fixed.getLong();
+            if (columnCount < 0 || columnCount > BinaryResultFormat.MAX_COLUMNS
+                    || recordSize != BinaryResultFormat.recordSize(columnCount)) {
+                throw new IOException("결과 파일 헤더가 손상되었습니다: 열 " + columnCount + "개, 레코드 크기 " + recordSize);
+            }
+
+            // 열 이름
+            this.columns = new Metric[columnCount];
+            this.columnNames = new String[columnCount];
+            this.columnOfMetric = new int[Metric.values().length];
+            Arrays.fill(columnOfMetric, -1);
+            long position = BinaryResultFormat.FIXED_HEADER_SIZE;
+            for (int i = 0; i < columnCount; i++) {
+                columnNames[i] = readString(position);
+                position += Short.BYTES + columnNames[i].getBytes(StandardCharsets.UTF_8).length;
+                columns[i] = metricOrNull(columnNames[i]);
+                if (columns[i] != null) {
+                    columnOfMetric[columns[i].ordinal()] = i;
+                }
+            }
+            this.dataOffset = BinaryResultFormat.align8((int) position);
+            checkLayout(path, trailerOffset);
+
+            // 레코드 영역을 일정 크기로 나누어 매핑
+            this.recordsPerSegment = (int) Math.max(1, BinaryResultFormat.SEGMENT_BYTES / recordSize);
+            int segmentCount = (int) ((recordCount + recordsPerSegment - 1) / recordsPerSegment);
+            this.segments = new MappedByteBuffer[segmentCount];
+            for (int s = 0; s < segmentCount; s++) {
+                long first = (long) s * recordsPerSegment;
+                long count = Math.min(recordsPerSegment, recordCount - first);
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset + first * recordSize, count * recordSize);
+                segments[s].order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            // 트레일러: 상품 이름과 오류 메시지
+            ByteBuffer trailer = readFully(trailerOffset, (int) (channel.size() - trailerOffset));
+            try {
+                this.productNames = new String[trailer.getInt()];
+                for (int i = 0; i < productNames.length; i++) {
+                    productNames[i] = getString(trailer);
+                }
+                int errorCount = trailer.getInt();
+                for (int i = 0; i < errorCount; i++) {
+                    long record = trailer.getLong();
+                    errors.put(record, getString(trailer));
+                }
+            } catch (BufferUnderflowException | NegativeArraySizeException e) {
+                throw new IOException("결과 파일의 트레일러가 손상되었습니다: " + path, e);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 헤더의 레코드 수와 트레일러 위치가 실제 파일 크기와 맞는지 확인합니다.
+     * 닫히지 않은 채 끝난 파일은 두 값이 0으로 남아 있으므로 여기서 걸러집니다.
+     */
+    private void checkLayout(Path path, long trailerOffset) throws IOException {
+        long fileSize = channel.size();
+        if (trailerOffset < dataOffset || trailerOffset > fileSize) {
+            throw new IOException("결과 파일이 완전히 기록되지 않았거나 손상되었습니다: " + path
+                    + " (트레일러 위치 " + trailerOffset + ", 레코드 시작 " + dataOffset + ", 파일 크기 " + fileSize + ")");
+        }
+        if (fileSize - trailerOffset > Integer.MAX_VALUE) {
+            throw new IOException("결과 파일의 트레일러가 너무 큽니다: " + path);
+        }
+        if (recordCount < 0 || recordCount > (trailerOffset - dataOffset) / recordSize) {
+            throw new IOException("결과 파일의 레코드 수가 레코드 영역과 맞지 않습니다: " + path
+                    + " (레코드 " + recordCount + "건, 영역 " + (trailerOffset - dataOffset) + "바이트)");
+        }
+    }
+
+    private static Metric metricOrNull(String name) {
+        try {
+            return Metric.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null; // 이후 버전에서 추가된 지표: 열 번호로만 읽을 수 있음
+        }
+    }
+
+    private ByteBuffer readFully(long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("결과 파일이 잘렸습니다.");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private String readString(long position) throws IOException {
+        int length = Short.toUnsignedInt(readFully(position, Short.BYTES).getShort());
+        return new String(readFully(position + Short.BYTES, length).array(), StandardCharsets.UTF_8);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public long size() {
+        return recordCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /** @return column번째 열의 지표. 이 버전에서 알 수 없는 지표이면 null */
+    public Metric getColumn(int column) {
+        return columns[column];
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    private MappedByteBuffer segmentOf(long record) {
+        if (record < 0 || record >= recordCount) {
+            throw new IndexOutOfBoundsException("record " + record + ", size " + recordCount);
+        }
+        return segments[(int) (record / recordsPerSegment)];
+    }
+
+    private int offsetOf(long record) {
+        return (int) (record % recordsPerSegment) * recordSize;
+    }
+
+    public long getLineNumber(long record) {
+        return segmentOf(record).getLong(offsetOf(record));
+    }
+
+    public boolean isError(long record) {
+        return segmentOf(record).getInt(offsetOf(record) + Long.BYTES) == BinaryResultFormat.ERROR_PRODUCT_ID;
+    }
+
+    /** @return 오류 레코드의 메시지. 오류가 아니면 null */
+    public String getError(long record) {
+        return isError(record) ? errors.get(record) : null;
+    }
+
+    /** @return 상품 이름. 오류 레코드이면 null */
+    public String getProductName(long record) {
+        int productId = segmentOf(record).getInt(offsetOf(record) + Long.BYTES);
+        return productId == BinaryResultFormat.ERROR_PRODUCT_ID ? null : productNames[productId];
+    }
+
+    public boolean has(long record, Metric metric) {
+        int column = columnOfMetric[metric.ordinal()];
+        return column >= 0 && (mask(record) & (1 << column)) != 0;
+    }
+
+    private int mask(long record) {
+        return segmentOf(record).getInt(offsetOf(record) + Long.BYTES + Integer.BYTES);
+    }
+
+    /**
+     * @return 지표 값. 이 레코드에 값이 없거나 파일에 해당 열이 없으면 NaN
+     */
+    public double getValue(long record, Metric metric) {
+        int column = columnOfMetric[metric.ordinal()];
+        return column < 0 ? Double.NaN : getValue(record, column);
+    }
+
+    public double getValue(long record, int column) {
+        return segmentOf(record).getDouble(offsetOf(record) + BinaryResultFormat.RECORD_HEADER_SIZE + column * Double.BYTES);
+    }
+
+    /**
+     * 레코드를 CalculationResult로 되돌립니다. 값이 있는 열만 열 순서대로 담습니다.
+     * @return 오류 레코드이면 null
+     */
+    public CalculationResult toResult(long record) {
+        String productName = getProductName(record);
+        if (productName == null) {
+            return null;
+        }
+        int mask = mask(record);
+        int count = 0;
+        for (int column = 0; column < columns.length; column++) {
+            if ((mask & (1 << column)) != 0 && columns[column] != null) {
+                count++;
+            }
+        }
+        Metric[] metrics = new Metric[count];
+        double[] values = new double[count];
+        int i = 0;
+        for (int column = 0; column < columns.length; column++) {
+            if ((mask & (1 << column)) != 0 && columns[column] != null) {
+                metrics[i] = columns[column];
+                values[i] = getValue(record, column);
+                i++;
+            }
+        }
+        return new CalculationResult(productName, metrics, values);
+    }
+
+    /**
+     * 모든 레코드를 {@link CsvResultWriter} 형식의 CSV로 내보냅니다.
+     * @return 내보낸 레코드 수
+     */
+    public long exportCsv(Path output) throws IOException {
+        try (CsvResultWriter writer = new CsvResultWriter(output)) {
+            for (long record = 0; record < recordCount; record++) {
+                long lineNumber = getLineNumber(record);
+                if (isError(record)) {
+                    writer.writeError(lineNumber, String.valueOf(getError(record)));
+                } else {
+                    writer.write(lineNumber, toResult(record));
+                }
+            }
+        }
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
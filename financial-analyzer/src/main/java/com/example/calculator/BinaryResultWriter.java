@@ -0,0 +1,214 @@
+package com.example.calculator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계산 결과를 고정 길이 바이너리 레코드로 씁니다. 형식은 {@link BinaryResultFormat}을 참고하세요.
+ *
+ * 텍스트 포맷팅 없이 double 값을 그대로 기록하며, 파일을 일정 크기의 영역 단위로 메모리에 매핑하여
+ * 레코드를 매핑된 버퍼에 직접 씁니다. 파일을 닫을 때 실제 크기로 줄이고 트레일러와 레코드 수를 기록합니다.
+ * 이 클래스는 스레드 안전하지 않습니다.
+ *
+ * 자바에는 매핑을 즉시 해제하는 공개 API가 없어, 닫을 때 마지막 영역이 아직 매핑된 채로 파일을 줄입니다.
+ * 리눅스와 macOS에서는 문제가 없지만, 매핑된 파일의 크기 변경을 막는 Windows에서는 {@link #close()}가
+ * IOException으로 실패하므로 이 형식을 쓰지 말고 {@link CsvResultWriter}를 사용하세요.
+ */
+public class BinaryResultWriter implements ResultWriter {
+
+    private static final int MAX_TEXT_CHARS = 8000;
+
+    private final FileChannel channel;
+    private final Metric[] columns;
+    private final int[] columnOfMetric;       // Metric.ordinal() -> 열 번호 (없으면 -1)
+    private final int recordSize;
+    private final int dataOffset;
+    private final int recordsPerSegment;
+
+    private final Map<String, Integer> productIds = new HashMap<>();
+    private final List<String> productNames = new ArrayList<>();
+    private final List<Long> errorRecords = new ArrayList<>();
+    private final List<String> errorMessages = new ArrayList<>();
+
+    private MappedByteBuffer segment;
+    private long segmentStart;   // 현재 매핑 영역의 파일 내 시작 위치
+    private long recordCount;
+    private boolean closed;
+
+    /**
+     * 모든 지표를 열로 가지는 결과 파일을 만듭니다.
+     */
+    public BinaryResultWriter(Path path) throws IOException {
+        this(path, Metric.values());
+    }
+
+    /**
+     * @param columns 기록할 지표 열. 결과에 있지만 열에 없는 지표는 기록되지 않습니다.
+     */
+    public BinaryResultWriter(Path path, Metric... columns) throws IOException {
+        if (columns.length > BinaryResultFormat.MAX_COLUMNS) {
+            throw new IllegalArgumentException("열은 최대 " + BinaryResultFormat.MAX_COLUMNS + "개입니다: " + columns.length);
+        }
+        this.columns = columns.clone();
+        this.columnOfMetric = new int[Metric.values().length];
+        Arrays.fill(columnOfMetric, -1);
+        for (int i = 0; i < columns.length; i++) {
+            columnOfMetric[columns[i].ordinal()] = i;
+        }
+        this.recordSize = BinaryResultFormat.recordSize(columns.length);
+        this.recordsPerSegment = (int) Math.max(1, BinaryResultFormat.SEGMENT_BYTES / recordSize);
+
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = encodeHeader();
+        this.dataOffset = header.remaining();
+        channel.write(header, 0);
+    }
+
+    private ByteBuffer encodeHeader() {
+        int size = BinaryResultFormat.FIXED_HEADER_SIZE;
+        byte[][] names = new byte[columns.length][];
+        for (int i = 0; i < columns.length; i++) {
+            names[i] = columns[i].name().getBytes(StandardCharsets.UTF_8);
+            size += Short.BYTES + names[i].length;
+        }
+        ByteBuffer header = ByteBuffer.allocate(BinaryResultFormat.align8(size)).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(BinaryResultFormat.MAGIC)
+                .putInt(BinaryResultFormat.VERSION)
+                .putInt(columns.length)
+                .putInt(recordSize)
+                .putLong(0)     // 레코드 수: 닫을 때 기록
+                .putLong(0);    // 트레일러 위치: 닫을 때 기록
+        for (byte[] name : names) {
+            header.putShort((short) name.length).put(name);
+        }
+        header.position(0);
+        return header;
+    }
+
+    @Override
+    public void write(long lineNumber, CalculationResult result) throws IOException {
+        int productId = productIds.computeIfAbsent(result.getProductName(), name -> {
+            productNames.add(name);
+            return productNames.size() - 1;
+        });
+        int position = nextRecordPosition();
+        int mask = 0;
+        int valuesStart = position + BinaryResultFormat.RECORD_HEADER_SIZE;
+        for (int column = 0; column < columns.length; column++) {
+            segment.putDouble(valuesStart + column * Double.BYTES, Double.NaN);
+        }
+        for (int i = 0; i < result.size(); i++) {
+            int column = columnOfMetric[result.getMetric(i).ordinal()];
+            if (column >= 0) {
+                segment.putDouble(valuesStart + column * Double.BYTES, result.getValue(i));
+                mask |= 1 << column;
+            }
+        }
+        segment.putLong(position, lineNumber);
+        segment.putInt(position + Long.BYTES, productId);
+        segment.putInt(position + Long.BYTES + Integer.BYTES, mask);
+    }
+
+    @Override
+    public void writeError(long lineNumber, String message) throws IOException {
+        errorRecords.add(recordCount);
+        errorMessages.add(message);
+        int position = nextRecordPosition();
+        segment.putLong(position, lineNumber);
+        segment.putInt(position + Long.BYTES, BinaryResultFormat.ERROR_PRODUCT_ID);
+        segment.putInt(position + Long.BYTES + Integer.BYTES, 0);
+        int valuesStart = position + BinaryResultFormat.RECORD_HEADER_SIZE;
+        for (int column = 0; column < columns.length; column++) {
+            segment.putDouble(valuesStart + column * Double.BYTES, Double.NaN);
+        }
+    }
+
+    /**
+     * 다음 레코드를 쓸 매핑 버퍼 내 위치를 반환하고, 필요하면 다음 영역을 매핑합니다.
+     */
+    private int nextRecordPosition() throws IOException {
+        long indexInSegment = recordCount % recordsPerSegment;
+        if (indexInSegment == 0) {
+            segmentStart = dataOffset + recordCount * recordSize;
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, segmentStart, (long) recordsPerSegment * recordSize);
+            segment.order(ByteOrder.LITTLE_ENDIAN);
+        }
+        recordCount++;
+        return (int) (indexInSegment * recordSize);
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (segment != null) {
+                segment.force();
+                segment = null;
+            }
+            long trailerOffset = dataOffset + recordCount * recordSize;
+            channel.truncate(trailerOffset); // 마지막 매핑 영역의 남는 부분 제거 (POSIX 전용, 클래스 설명 참고)
+            channel.write(encodeTrailer(), trailerOffset);
+
+            ByteBuffer counts = ByteBuffer.allocate(Long.BYTES * 2).order(ByteOrder.LITTLE_ENDIAN);
+            counts.putLong(recordCount).putLong(trailerOffset).flip();
+            channel.write(counts, BinaryResultFormat.RECORD_COUNT_OFFSET);
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private ByteBuffer encodeTrailer() {
+        List<byte[]> names = new ArrayList<>(productNames.size());
+        List<byte[]> messages = new ArrayList<>(errorMessages.size());
+        int size = Integer.BYTES * 2;
+        for (String name : productNames) {
+            byte[] bytes = truncatedUtf8(name);
+            names.add(bytes);
+            size += Short.BYTES + bytes.length;
+        }
+        for (String message : errorMessages) {
+            byte[] bytes = truncatedUtf8(message);
+            messages.add(bytes);
+            size += Long.BYTES + Short.BYTES + bytes.length;
+        }
+        ByteBuffer trailer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        trailer.putInt(names.size());
+        for (byte[] name : names) {
+            trailer.putShort((short) name.length).put(name);
+        }
+        trailer.putInt(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            trailer.putLong(errorRecords.get(i)).putShort((short) messages.get(i).length).put(messages.get(i));
+        }
+        trailer.flip();
+        return trailer;
+    }
+
+    /**
+     * 길이 필드(short)에 맞도록 UTF-8로 최대 4바이트인 문자를 8000자까지만 인코딩합니다.
+     */
+    private static byte[] truncatedUtf8(String text) {
+        String truncated = text.length() > MAX_TEXT_CHARS ? text.substring(0, MAX_TEXT_CHARS) : text;
+        return truncated.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,7 +1,5 @@
 package com.example.calculator;
 
-import java.util.Map;
-
 /**
  * 채권을 나타내며 FinancialProduct 인터페이스를 구현합니다.
  * 만기 수익률(YTM) 계산 로직이 이 클래스 내에 캡슐화되어 있습니다.
@@ -15,8 +13,17 @@ public class Bond implements FinancialProduct {
     private final int couponFrequency;      // 연간 이표 지급 횟수
     private final double tradingFeeRate;    // 매매 수수료율
     private final boolean applyTax;         // 세금 적용 여부
+    private final int hashCode;             // 캐시 키로 자주 쓰이므로 생성 시 한 번만 계산
+
+    static final double TAX_RATE = 0.154; // 이자 소득세
+    private static final Metric[] METRICS = {
+        Metric.YIELD_TO_MATURITY,
+        Metric.PURCHASE_PRICE,
+        Metric.FACE_VALUE
+    };
+    static final YieldSolver DEFAULT_SOLVER = new NewtonYieldSolver(); // 상태가 없으므로 스레드 간 공유 가능
 
-    private static final double TAX_RATE = 0.154; // 이자 소득세
+    private final BondPricingKernel pricingKernel; // 가격 계산 커널 (이 채권의 현금흐름 구조를 미리 계산해 둠)
 
     public Bond(double faceValue, double purchasePrice, double couponRate, double yearsToMaturity, int couponFrequency, double tradingFeeRate, boolean applyTax) {
         this.faceValue = faceValue;
@@ -26,80 +33,139 @@ public class Bond implements FinancialProduct {
         this.couponFrequency = couponFrequency;
         this.tradingFeeRate = tradingFeeRate;
         this.applyTax = applyTax;
+
+        this.pricingKernel = new BondPricingKernel(faceValue, periodicCoupon(faceValue, couponRate, couponFrequency, applyTax),
+                yearsToMaturity, couponFrequency);
+
+        int h = Double.hashCode(faceValue);
+        h = 31 * h + Double.hashCode(purchasePrice);
+        h = 31 * h + Double.hashCode(couponRate);
+        h = 31 * h + Double.hashCode(yearsToMaturity);
+        h = 31 * h + couponFrequency;
+        h = 31 * h + Double.hashCode(tradingFeeRate);
+        this.hashCode = 31 * h + Boolean.hashCode(applyTax);
+    }
+
+    /**
+     * 연간 이표 지급액을 기간별로 나누고, 필요하면 세금을 적용한 기간당 이표를 계산합니다.
+     */
+    static double periodicCoupon(double faceValue, double couponRate, int couponFrequency, boolean applyTax) {
+        double periodicCouponPayment = (faceValue * couponRate) / couponFrequency;
+        if (applyTax) {
+            periodicCouponPayment *= (1 - TAX_RATE); // 세금 적용
+        }
+        return periodicCouponPayment;
+    }
+
+    /**
+     * 수수료를 반영한 실제 투자 원금을 계산합니다.
+     */
+    static double actualPurchasePrice(double purchasePrice, double tradingFeeRate) {
+        return purchasePrice * (1 + tradingFeeRate);
     }
 
     @Override
     public CalculationResult calculate() {
-        double ytm = calculateYTM();
-        
-        Map<String, Double> results = Map.of(
-            "만기 수익률 (YTM, %)", ytm,
-            "매입 가격", purchasePrice,
-            "액면가", faceValue
-        );
-
-        return new CalculationResult("채권", results);
+        return calculate(DEFAULT_SOLVER, estimateYield());
     }
 
     /**
-     * 만기 수익률(YTM)을 계산합니다.
-     * @return 계산된 YTM 값 (%)
+     * 지정한 수익률 풀이기와 시작점으로 계산합니다.
+     * 전일 수익률을 initialGuess로 넘기면 웜 스타트로 반복 횟수를 줄일 수 있습니다.
+     *
+     * @param solver       YTM을 찾을 풀이기
+     * @param initialGuess 탐색 시작 수익률 (소수, 예: 3.5% -> 0.035)
      */
-    private double calculateYTM() {
-        final double tolerance = 0.0001; // 계산 정확도 허용 오차
-        final int maxIterations = 100;   // 최대 반복 횟수
-
-        // 수수료를 반영한 실제 투자 원금
-        double actualPurchasePrice = this.purchasePrice * (1 + this.tradingFeeRate);
-        
-        double low = 0.0;  // YTM 추정치 하한
-        double high = 1.0; // YTM 추정치 상한 (100%)
-        double ytm = 0.0;
-
-        // 이분법을 사용하여 YTM 근사치 탐색
-        for (int i = 0; i < maxIterations; i++) {
-            ytm = (low + high) / 2.0; // 중간값 시도
-            double calculatedPrice = calculateBondPrice(ytm);
-            double priceDifference = calculatedPrice - actualPurchasePrice;
-
-            if (Math.abs(priceDifference) < tolerance) {
-                return ytm * 100; // 허용 오차 내에 들어오면 성공
-            }
-
-            if (priceDifference > 0) {
-                low = ytm;
-            } else {
-                high = ytm;
-            }
-        }
-        return ytm * 100; // 최대 반복 후 최종 근사치 반환
+    public CalculationResult calculate(YieldSolver solver, double initialGuess) {
+        double ytm = solveYield(solver, initialGuess).getYield() * 100;
+
+        return new CalculationResult("채권", METRICS, ytm, purchasePrice, faceValue);
     }
 
     /**
-     * 주어진 YTM(할인율)을 사용하여 채권의 현재 가치(가격을)를 계산하는 보조 메서드입니다.
-     * @param ytm 테스트할 YTM (연이율)
-     * @return 해당 YTM으로 할인된 채권의 현재 가치
+     * 만기 수익률(YTM)을 계산하고 반복 횟수와 수렴 여부를 함께 반환합니다.
+     *
+     * @param solver       YTM을 찾을 풀이기
+     * @param initialGuess 탐색 시작 수익률 (소수)
+     * @return 찾은 YTM(소수)과 반복 횟수를 담은 결과
      */
-    private double calculateBondPrice(double ytm) {
-        double price = 0.0;
-        // 연간 이표 지급액을 기간별로 나눔
-        double periodicCouponPayment = (this.faceValue * this.couponRate) / this.couponFrequency;
+    public YieldSolution solveYield(YieldSolver solver, double initialGuess) {
+        YieldSolution solution = solver.solve(pricingKernel, actualPurchasePrice(purchasePrice, tradingFeeRate), initialGuess);
+        CalculatorMetrics.getInstance().recordSolve(solution);
+        return solution;
+    }
 
-        if (this.applyTax) {
-            periodicCouponPayment *= (1 - TAX_RATE); // 세금 적용
+    /**
+     * 근사 공식으로 YTM의 시작점을 추정합니다.
+     * (연간 이표 + (액면가 - 매입가) / 연수) / ((액면가 + 매입가) / 2)
+     * @return 추정 YTM (소수)
+     */
+    public double estimateYield() {
+        return estimateYield(faceValue, actualPurchasePrice(purchasePrice, tradingFeeRate), couponRate, yearsToMaturity, applyTax);
+    }
+
+    static double estimateYield(double faceValue, double actualPurchasePrice, double couponRate, double yearsToMaturity, boolean applyTax) {
+        double annualCoupon = faceValue * couponRate * (applyTax ? 1 - TAX_RATE : 1);
+        double averagePrice = (faceValue + actualPurchasePrice) / 2.0;
+        if (averagePrice <= 0) {
+            return 0.0;
         }
+        double amortization = yearsToMaturity > 0 ? (faceValue - actualPurchasePrice) / yearsToMaturity : 0.0;
+        return (annualCoupon + amortization) / averagePrice;
+    }
 
-        double periodicYtm = ytm / this.couponFrequency; // YTM도 기간별로 조정
-        int numberOfPeriods = (int) (this.yearsToMaturity * this.couponFrequency);
+    /**
+     * 주어진 YTM에서 가격(경과 이자 포함/제외), 경과 이자, 듀레이션, 볼록성을 한 번에 계산합니다.
+     * @param ytm 연 수익률 (소수)
+     */
+    public BondPricing price(double ytm) {
+        return pricingKernel.analyze(ytm);
+    }
 
-        // 1. 모든 (세후)이표의 현재 가치를 합산
-        for (int t = 1; t <= numberOfPeriods; t++) {
-            price += periodicCouponPayment / Math.pow(1 + periodicYtm, t);
+    /**
+     * 할인 곡선으로 할인한 가격(경과 이자 포함)을 계산합니다.
+     * 할인 계수 표는 이표 지급 횟수와 첫 이표 시점이 같은 채권끼리 {@link DiscountFactorCache#shared()}에서 함께 씁니다.
+     * @param curve 할인 곡선 (평평한 곡선이면 {@link #price(double)}의 경과 이자 포함 가격과 같음)
+     */
+    public double price(DiscountCurve curve) {
+        int periods = pricingKernel.getNumberOfPeriods();
+        if (periods == 0) {
+            return faceValue; // 만기 도래: 액면가만 남음
         }
+        DiscountFactorTable table = DiscountFactorCache.shared().get(curve, couponFrequency,
+                pricingKernel.getFirstPeriodFraction(), periods);
+        return table.dirtyPrice(faceValue, pricingKernel.getPeriodicCoupon(), periods);
+    }
+
+    /**
+     * 보유자 입장의 현금흐름 일정. 지금(0년) 수수료를 반영한 매입 대금을 음수로 내고, 첫 이표까지 남은 기간부터
+     * 1/f년 간격으로 세후 이표를 받으며 마지막 회차에 액면가를 함께 받습니다.
+     * 따라서 {@link CashFlowSchedule#totalAmount()}는 만기까지 보유했을 때의 세후 손익이고,
+     * YTM으로 만든 평탄한 곡선({@link DiscountCurve#flat})으로 할인한 현재 가치 합계는 0이 됩니다.
+     * 만기가 도래한 채권은 지금 매입 대금과 액면가만 오갑니다.
+     */
+    @Override
+    public CashFlowSchedule cashFlows() {
+        return schedule(true);
+    }
+
+    /**
+     * 매입 대금을 뺀, 받기만 하는 현금흐름(세후 이표와 액면가)의 일정. 재투자 시뮬레이션처럼 매입 대금을 따로 다루는 곳에서 씁니다.
+     */
+    CashFlowSchedule receipts() {
+        return schedule(false);
+    }
 
-        // 2. 만기 시 받을 액면가의 현재 가치를 더함
-        price += this.faceValue / Math.pow(1 + periodicYtm, numberOfPeriods);
-        return price;
+    private CashFlowSchedule schedule(boolean includePurchase) {
+        int periods = pricingKernel.getNumberOfPeriods();
+        double offset = periods == 0 ? 0 : pricingKernel.getFirstPeriodFraction();
+        double coupon = periods == 0 ? 0 : pricingKernel.getPeriodicCoupon();
+        int count = Math.max(1, periods); // 만기 도래: 지금 액면가만 받음
+        if (!includePurchase) {
+            return new PeriodicCashFlowSchedule(offset, couponFrequency, count, coupon, coupon + faceValue);
+        }
+        return new PeriodicCashFlowSchedule(-actualPurchasePrice(purchasePrice, tradingFeeRate), offset, couponFrequency,
+                count, coupon, coupon + faceValue);
     }
 
     // 다른 용도로 사용될 수 있으므로 Getter는 남겨둡니다.
@@ -110,4 +176,32 @@ public class Bond implements FinancialProduct {
     public int getCouponFrequency() { return couponFrequency; }
     public double getTradingFeeRate() { return tradingFeeRate; }
     public boolean isApplyTax() { return applyTax; }
+
+    /**
+     * 모든 입력 값이 같으면 같은 상품으로 봅니다. 같은 상품은 항상 같은 결과를 내므로 계산 결과 캐시의 키로 사용할 수 있습니다.
+     * 실수 필드는 {@link Double#compare}로 비교합니다.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Bond)) {
+            return false;
+        }
+        Bond other = (Bond) o;
+        return hashCode == other.hashCode
+                && Double.compare(faceValue, other.faceValue) == 0
+                && Double.compare(purchasePrice, other.purchasePrice) == 0
+                && Double.compare(couponRate, other.couponRate) == 0
+                && Double.compare(yearsToMaturity, other.yearsToMaturity) == 0
+                && couponFrequency == other.couponFrequency
+                && Double.compare(tradingFeeRate, other.tradingFeeRate) == 0
+                && applyTax == other.applyTax;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
 }
@@ -0,0 +1,259 @@
+package com.example.calculator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * 다수의 채권을 열(column) 단위의 원시 타입 배열로 보관하는 채권 장부입니다.
+ * 채권마다 객체와 결과 Map을 만들지 않고, 미리 계산해 둔 열을 순회하며
+ * YTM과 가격을 결과 배열에 바로 기록하므로 채권 한 건당 힙 할당이 없습니다.
+ *
+ * 가격 계산은 {@link BondPricingKernel}의 정적 메서드를, YTM 탐색은 {@link Bond}와 같은
+ * 풀이기와 시작점을 사용하므로 같은 입력의 Bond 객체와 비트 단위로 같은 결과를 냅니다.
+ * 이 클래스는 스레드 안전하지 않습니다. 채권 추가가 끝난 뒤에는 여러 스레드에서 동시에 읽어도 됩니다.
+ */
+public class BondBook {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private int size;
+
+    // 입력 열
+    private double[] faceValue;         // 액면가
+    private double[] purchasePrice;     // 매입 가격
+    private double[] couponRate;        // 표면 이율
+    private double[] yearsToMaturity;   // 만기까지 남은 연수
+    private int[] couponFrequency;      // 연간 이표 지급 횟수
+    private double[] tradingFeeRate;    // 매매 수수료율
+    private boolean[] applyTax;         // 세금 적용 여부
+
+    // 추가 시점에 미리 계산해 두는 열
+    private double[] periodicCoupon;        // 기간당 (세후) 이표
+    private int[] numberOfPeriods;          // 남은 이표 지급 횟수
+    private double[] firstPeriodFraction;   // 첫 이표까지 남은 기간
+    private double[] actualPurchasePrice;   // 수수료를 반영한 실제 투자 원금
+    private double[] initialGuess;          // YTM 탐색 시작점
+
+    public BondBook() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BondBook(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        faceValue = new double[capacity];
+        purchasePrice = new double[capacity];
+        couponRate = new double[capacity];
+        yearsToMaturity = new double[capacity];
+        couponFrequency = new int[capacity];
+        tradingFeeRate = new double[capacity];
+        applyTax = new boolean[capacity];
+        periodicCoupon = new double[capacity];
+        numberOfPeriods = new int[capacity];
+        firstPeriodFraction = new double[capacity];
+        actualPurchasePrice = new double[capacity];
+        initialGuess = new double[capacity];
+    }
+
+    /**
+     * 기존 Bond 객체들로부터 장부를 만듭니다.
+     */
+    public static BondBook of(Collection<Bond> bonds) {
+        BondBook book = new BondBook(bonds.size());
+        for (Bond bond : bonds) {
+            book.add(bond);
+        }
+        return book;
+    }
+
+    /**
+     * @return 추가된 채권의 위치(index)
+     */
+    public int add(Bond bond) {
+        return add(bond.getFaceValue(), bond.getPurchasePrice(), bond.getCouponRate(), bond.getYearsToMaturity(),
+                bond.getCouponFrequency(), bond.getTradingFeeRate(), bond.isApplyTax());
+    }
+
+    /**
+     * 채권 한 건을 추가합니다. 인자의 의미는 {@link Bond} 생성자와 같습니다.
+     * @return 추가된 채권의 위치(index)
+     */
+    public int add(double faceValue, double purchasePrice, double couponRate, double yearsToMaturity,
+                   int couponFrequency, double tradingFeeRate, boolean applyTax) {
+        if (size == this.faceValue.length) {
+            grow();
+        }
+        int i = size++;
+        this.faceValue[i] = faceValue;
+        this.purchasePrice[i] = purchasePrice;
+        this.couponRate[i] = couponRate;
+        this.yearsToMaturity[i] = yearsToMaturity;
+        this.couponFrequency[i] = couponFrequency;
+        this.tradingFeeRate[i] = tradingFeeRate;
+        this.applyTax[i] = applyTax;
+
+        this.periodicCoupon[i] = Bond.periodicCoupon(faceValue, couponRate, couponFrequency, applyTax);
+        this.numberOfPeriods[i] = BondPricingKernel.periodCount(yearsToMaturity, couponFrequency);
+        this.firstPeriodFraction[i] = BondPricingKernel.firstPeriodFraction(yearsToMaturity, couponFrequency);
+        this.actualPurchasePrice[i] = Bond.actualPurchasePrice(purchasePrice, tradingFeeRate);
+        this.initialGuess[i] = Bond.estimateYield(faceValue, actualPurchasePrice[i], couponRate, yearsToMaturity, applyTax);
+        return i;
+    }
+
+    private void grow() {
+        int capacity = faceValue.length * 2;
+        faceValue = Arrays.copyOf(faceValue, capacity);
+        purchasePrice = Arrays.copyOf(purchasePrice, capacity);
+        couponRate = Arrays.copyOf(couponRate, capacity);
+        yearsToMaturity = Arrays.copyOf(yearsToMaturity, capacity);
+        couponFrequency = Arrays.copyOf(couponFrequency, capacity);
+        tradingFeeRate = Arrays.copyOf(tradingFeeRate, capacity);
+        applyTax = Arrays.copyOf(applyTax, capacity);
+        periodicCoupon = Arrays.copyOf(periodicCoupon, capacity);
+        numberOfPeriods = Arrays.copyOf(numberOfPeriods, capacity);
+        firstPeriodFraction = Arrays.copyOf(firstPeriodFraction, capacity);
+        actualPurchasePrice = Arrays.copyOf(actualPurchasePrice, capacity);
+        initialGuess = Arrays.copyOf(initialGuess, capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * index번째 채권을 Bond 객체로 되돌립니다.
+     */
+    public Bond toBond(int index) {
+        checkIndex(index);
+        return new Bond(faceValue[index], purchasePrice[index], couponRate[index], yearsToMaturity[index],
+                couponFrequency[index], tradingFeeRate[index], applyTax[index]);
+    }
+
+    /**
+     * 모든 채권의 YTM(%)을 계산해 out에 기록합니다. {@link Bond#calculate()}의 YTM과 같은 값입니다.
+     * @param out 길이가 size() 이상인 결과 배열
+     */
+    public void computeYields(double[] out) {
+        computeYields(Bond.DEFAULT_SOLVER, 0, size, out);
+    }
+
+    /**
+     * [from, to) 구간 채권의 YTM(%)을 계산해 out의 같은 위치에 기록합니다.
+     * 호출당 풀이 상태 객체 두 개만 만들고 채권 한 건당 할당은 하지 않습니다.
+     * 풀이마다 {@link Bond#solveYield}처럼 {@link CalculatorMetrics}에 반복 횟수와 수렴 여부를 기록합니다.
+     */
+    public void computeYields(YieldSolver solver, int from, int to, double[] out) {
+        checkRange(from, to, out);
+        CalculatorMetrics metrics = CalculatorMetrics.getInstance();
+        Cursor cursor = new Cursor();
+        YieldSolution solution = new YieldSolution();
+        for (int i = from; i < to; i++) {
+            cursor.index = i;
+            solver.solve(cursor, actualPurchasePrice[i], initialGuess[i], solution);
+            metrics.recordSolve(solution);
+            out[i] = solution.getYield() * 100;
+        }
+    }
+
+    /**
+     * 모든 채권의 YTM(%)을 구간으로 나누어 여러 코어에서 병렬로 계산합니다.
+     */
+    public void computeYieldsParallel(double[] out) {
+        checkRange(0, size, out);
+        int chunkSize = Calculator.DEFAULT_CHUNK_SIZE;
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        IntStream.range(0, chunks).parallel().forEach(chunk ->
+                computeYields(Bond.DEFAULT_SOLVER, chunk * chunkSize, Math.min(size, (chunk + 1) * chunkSize), out));
+    }
+
+    /**
+     * 주어진 YTM(%)으로 모든 채권의 가격(경과 이자 포함)을 계산해 out에 기록합니다.
+     * 원시 배열만 순차 접근하는 단순 루프이므로 JIT가 최적화하기 좋습니다.
+     *
+     * @param ytmPercent 채권별 연 수익률 (%), computeYields의 결과를 그대로 넣을 수 있습니다.
+     * @param out        길이가 size() 이상인 결과 배열
+     */
+    public void computePrices(double[] ytmPercent, double[] out) {
+        checkRange(0, size, ytmPercent);
+        checkRange(0, size, out);
+        for (int i = 0; i < size; i++) {
+            out[i] = BondPricingKernel.dirtyPrice(faceValue[i], periodicCoupon[i], numberOfPeriods[i],
+                    firstPeriodFraction[i], couponFrequency[i], ytmPercent[i] / 100);
+        }
+    }
+
+    /**
+     * 할인 곡선으로 모든 채권의 가격(경과 이자 포함)을 계산해 out에 기록합니다.
+     * 이표 지급 횟수와 첫 이표 시점이 같은 채권은 같은 할인 계수 표를 쓰므로,
+     * 표가 만들어진 뒤에는 채권마다 현금흐름 수와 관계없이 곱셈 두 번으로 가격이 나옵니다.
+     *
+     * @param curve 할인 곡선
+     * @param out   길이가 size() 이상인 결과 배열
+     */
+    public void computePrices(DiscountCurve curve, double[] out) {
+        checkRange(0, size, out);
+        DiscountFactorCache cache = DiscountFactorCache.shared();
+        DiscountFactorTable table = null;
+        for (int i = 0; i < size; i++) {
+            int periods = numberOfPeriods[i];
+            if (periods == 0) {
+                out[i] = faceValue[i];
+                continue;
+            }
+            // 정렬된 장부에서는 앞 채권과 같은 표를 쓰는 경우가 많으므로 캐시 조회를 건너뜀
+            if (table == null || table.getCouponFrequency() != couponFrequency[i]
+                    || Double.doubleToLongBits(table.getFirstPeriodFraction()) != Double.doubleToLongBits(firstPeriodFraction[i])
+                    || table.getCapacity() < periods) {
+                table = cache.get(curve, couponFrequency[i], firstPeriodFraction[i], periods);
+            }
+            out[i] = table.dirtyPrice(faceValue[i], periodicCoupon[i], periods);
+        }
+    }
+
+    public double getFaceValue(int index) { checkIndex(index); return faceValue[index]; }
+    public double getPurchasePrice(int index) { checkIndex(index); return purchasePrice[index]; }
+    public double getCouponRate(int index) { checkIndex(index); return couponRate[index]; }
+    public double getYearsToMaturity(int index) { checkIndex(index); return yearsToMaturity[index]; }
+    public int getCouponFrequency(int index) { checkIndex(index); return couponFrequency[index]; }
+    public double getTradingFeeRate(int index) { checkIndex(index); return tradingFeeRate[index]; }
+    public boolean isApplyTax(int index) { checkIndex(index); return applyTax[index]; }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+    }
+
+    private void checkRange(int from, int to, double[] out) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + "), size " + size);
+        }
+        if (out.length < to) {
+            throw new IllegalArgumentException("결과 배열의 길이가 부족합니다: " + out.length + " < " + to);
+        }
+    }
+
+    /**
+     * 장부의 한 행을 가리키는 가격 함수입니다. index만 바꿔가며 재사용합니다.
+     */
+    private final class Cursor implements PriceFunction {
+        private int index;
+
+        @Override
+        public double price(double yield) {
+            return BondPricingKernel.dirtyPrice(faceValue[index], periodicCoupon[index], numberOfPeriods[index],
+                    firstPeriodFraction[index], couponFrequency[index], yield);
+        }
+
+        @Override
+        public double derivative(double yield) {
+            return BondPricingKernel.priceDerivative(faceValue[index], periodicCoupon[index], numberOfPeriods[index],
+                    firstPeriodFraction[index], couponFrequency[index], yield);
+        }
+
+        @Override
+        public double lowerBound() {
+            return -couponFrequency[index];
+        }
+    }
+}
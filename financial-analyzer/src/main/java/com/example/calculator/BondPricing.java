@@ -0,0 +1,39 @@
+package com.example.calculator;
+
+/**
+ * 특정 수익률에서 채권의 가격과 위험 지표를 한 번에 계산한 결과입니다.
+ * 모든 가격은 액면가와 같은 통화 단위이며, 듀레이션은 연 단위입니다.
+ */
+public class BondPricing {
+
+    private final double yield;             // 할인에 사용한 연 수익률 (소수)
+    private final double dirtyPrice;        // 경과 이자를 포함한 가격
+    private final double accruedInterest;   // 경과 이자
+    private final double macaulayDuration;  // 매콜리 듀레이션 (년)
+    private final double modifiedDuration;  // 수정 듀레이션 (년)
+    private final double convexity;         // 볼록성 (년^2)
+
+    public BondPricing(double yield, double dirtyPrice, double accruedInterest,
+                       double macaulayDuration, double modifiedDuration, double convexity) {
+        this.yield = yield;
+        this.dirtyPrice = dirtyPrice;
+        this.accruedInterest = accruedInterest;
+        this.macaulayDuration = macaulayDuration;
+        this.modifiedDuration = modifiedDuration;
+        this.convexity = convexity;
+    }
+
+    public double getYield() { return yield; }
+    public double getDirtyPrice() { return dirtyPrice; }
+    public double getCleanPrice() { return dirtyPrice - accruedInterest; }
+    public double getAccruedInterest() { return accruedInterest; }
+    public double getMacaulayDuration() { return macaulayDuration; }
+    public double getModifiedDuration() { return modifiedDuration; }
+    public double getConvexity() { return convexity; }
+
+    @Override
+    public String toString() {
+        return String.format("BondPricing[yield=%.6f, dirty=%.4f, clean=%.4f, accrued=%.4f, macaulay=%.6f, modified=%.6f, convexity=%.6f]",
+                yield, dirtyPrice, getCleanPrice(), accruedInterest, macaulayDuration, modifiedDuration, convexity);
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.calculator;
+
+/**
+ * 등비급수 연금 계수(annuity factor)를 이용해 채권 가격을 O(1)로 계산하는 가격 커널입니다.
+ * 기간마다 Math.pow를 호출하며 합산하는 대신, 한 번의 log1p와 exp로
+ * 가격, 도함수, 듀레이션, 볼록성을 닫힌 형태(closed form)로 구합니다.
+ *
+ * 만기까지의 기간이 정수가 아니면 첫 이표까지 남은 기간(tau, 0 < tau <= 1)을 반영하여
+ * 현금흐름 시점을 tau, tau+1, ..., tau+N-1 기간으로 보고 경과 이자를 계산합니다.
+ * 만기까지 기간이 정수이면 tau = 1 이 되어 기존의 항별 합산과 같은 결과를 냅니다.
+ *
+ * 정적 메서드는 원시 타입만 사용하므로 열 기반 대량 계산(BondBook 등)에서 할당 없이 재사용할 수 있습니다.
+ */
+public final class BondPricingKernel implements PriceFunction {
+
+    // |N * i| 가 이보다 작으면 닫힌 형태의 상쇄 오차가 커지므로 직접 합산
+    private static final double SERIES_THRESHOLD = 1e-3;
+    // 부동소수점 오차로 정수에서 살짝 벗어난 기간 수를 정수로 보정하는 허용치
+    private static final double PERIOD_ROUNDING = 1e-9;
+
+    private final double faceValue;             // 액면가
+    private final double periodicCoupon;        // 기간당 이표 (세후 적용 시 세후 금액)
+    private final int couponFrequency;          // 연간 이표 지급 횟수
+    private final int numberOfPeriods;          // 남은 이표 지급 횟수 N
+    private final double firstPeriodFraction;   // 첫 이표까지 남은 기간 tau (기간 단위)
+
+    /**
+     * @param faceValue       액면가
+     * @param periodicCoupon  기간당 이표 지급액
+     * @param yearsToMaturity 만기까지 남은 연수 (소수 허용)
+     * @param couponFrequency 연간 이표 지급 횟수
+     */
+    public BondPricingKernel(double faceValue, double periodicCoupon, double yearsToMaturity, int couponFrequency) {
+        this.faceValue = faceValue;
+        this.periodicCoupon = periodicCoupon;
+        this.couponFrequency = couponFrequency;
+        this.numberOfPeriods = periodCount(yearsToMaturity, couponFrequency);
+        this.firstPeriodFraction = firstPeriodFraction(yearsToMaturity, couponFrequency);
+    }
+
+    /**
+     * 남은 이표 지급 횟수를 계산합니다. 만기까지 기간이 정수가 아니면 올림합니다.
+     */
+    public static int periodCount(double yearsToMaturity, int couponFrequency) {
+        double periods = roundedPeriods(yearsToMaturity, couponFrequency);
+        return periods > 0 ? (int) Math.ceil(periods) : 0;
+    }
+
+    /**
+     * 첫 이표 지급일까지 남은 기간 tau를 기간 단위로 계산합니다. (0 < tau <= 1)
+     */
+    public static double firstPeriodFraction(double yearsToMaturity, int couponFrequency) {
+        double periods = roundedPeriods(yearsToMaturity, couponFrequency);
+        return periods > 0 ? periods - (Math.ceil(periods) - 1) : 1.0;
+    }
+
+    private static double roundedPeriods(double yearsToMaturity, int couponFrequency) {
+        double periods = yearsToMaturity * couponFrequency;
+        double nearest = Math.rint(periods);
+        return Math.abs(periods - nearest) < PERIOD_ROUNDING ? nearest : periods;
+    }
+
+    /**
+     * 경과 이자를 포함한 가격(dirty price)을 계산합니다.
+     *
+     * @param faceValue           액면가
+     * @param periodicCoupon      기간당 이표
+     * @param numberOfPeriods     남은 이표 지급 횟수 N
+     * @param firstPeriodFraction 첫 이표까지 남은 기간 tau
+     * @param couponFrequency     연간 이표 지급 횟수
+     * @param ytm                 연 수익률 (소수)
+     */
+    public static double dirtyPrice(double faceValue, double periodicCoupon, int numberOfPeriods,
+                                    double firstPeriodFraction, int couponFrequency, double ytm) {
+        if (numberOfPeriods == 0) {
+            return faceValue; // 만기 도래: 액면가만 남음
+        }
+        double i = ytm / couponFrequency;
+        double logGrowth = Math.log1p(i);
+        double vTau = Math.exp(-firstPeriodFraction * logGrowth);
+        double vN = Math.exp(-numberOfPeriods * logGrowth);
+        double s0 = annuityFactor(numberOfPeriods, i, logGrowth);
+        // 이표: C * v^tau * S0,  액면가: F * v^(tau+N-1)
+        return vTau * (periodicCoupon * s0 + faceValue * vN * (1 + i));
+    }
+
+    /**
+     * 연 수익률에 대한 가격의 도함수 dP/dy 를 계산합니다.
+     * 인자는 {@link #dirtyPrice}와 같습니다.
+     */
+    public static double priceDerivative(double faceValue, double periodicCoupon, int numberOfPeriods,
+                                         double firstPeriodFraction, int couponFrequency, double ytm) {
+        if (numberOfPeriods == 0) {
+            return 0.0;
+        }
+        double i = ytm / couponFrequency;
+        double logGrowth = Math.log1p(i);
+        double vTau = Math.exp(-firstPeriodFraction * logGrowth);
+        double vN = Math.exp(-numberOfPeriods * logGrowth);
+        double s0 = annuityFactor(numberOfPeriods, i, logGrowth);
+        double s1 = weightedAnnuityFactor(numberOfPeriods, i, logGrowth);
+        double lastTime = firstPeriodFraction + numberOfPeriods - 1;
+        // M1 = sum(t * CF * v^t),  dP/dy = -v * M1 / f
+        double m1 = vTau * (periodicCoupon * (firstPeriodFraction * s0 + s1) + faceValue * lastTime * vN * (1 + i));
+        return -m1 / ((1 + i) * couponFrequency);
+    }
+
+    /**
+     * S0 = sum_{k=0}^{N-1} v^k = (1 - v^N) / (1 - v)
+     */
+    private static double annuityFactor(int n, double i, double logGrowth) {
+        if (Math.abs(n * i) < SERIES_THRESHOLD) {
+            double v = 1 / (1 + i);
+            double vk = 1.0;
+            double sum = 0.0;
+            for (int k = 0; k < n; k++) {
+                sum += vk;
+                vk *= v;
+            }
+            return sum;
+        }
+        return -Math.expm1(-n * logGrowth) * (1 + i) / i;
+    }
+
+    /**
+     * S1 = sum_{k=0}^{N-1} k * v^k = (1 + i) * (1 - v^N * (1 + N*i)) / i^2
+     */
+    private static double weightedAnnuityFactor(int n, double i, double logGrowth) {
+        if (Math.abs(n * i) < SERIES_THRESHOLD) {
+            double v = 1 / (1 + i);
+            double vk = 1.0;
+            double sum = 0.0;
+            for (int k = 0; k < n; k++) {
+                sum += k * vk;
+                vk *= v;
+            }
+            return sum;
+        }
+        double vN = Math.exp(-n * logGrowth);
+        return (1 + i) * (-Math.expm1(-n * logGrowth) - n * i * vN) / (i * i);
+    }
+
+    /**
+     * S2 = sum_{k=0}^{N-1} k^2 * v^k
+     * (1 - v) * S2 = 2*S1 - (S0 - 1) - (N-1)^2 * v^N 관계를 이용해 S0, S1로부터 구합니다.
+     * (1 - v)^3 으로 나누는 전개식보다 0 근처 수익률에서 상쇄 오차가 훨씬 작습니다.
+     */
+    private static double squaredWeightedAnnuityFactor(int n, double i, double logGrowth, double s0, double s1) {
+        double v = 1 / (1 + i);
+        if (Math.abs(n * i) < SERIES_THRESHOLD) {
+            double vk = 1.0;
+            double sum = 0.0;
+            for (int k = 0; k < n; k++) {
+                sum += (double) k * k * vk;
+                vk *= v;
+            }
+            return sum;
+        }
+        double vN = Math.exp(-n * logGrowth);
+        return (2 * s1 - (s0 - 1) - (n - 1.0) * (n - 1.0) * vN) / (i * v);
+    }
+
+    /**
+     * 가격, 경과 이자, 듀레이션, 볼록성을 한 번에 계산합니다.
+     * @param ytm 연 수익률 (소수)
+     */
+    public BondPricing analyze(double ytm) {
+        double accrued = accruedInterest();
+        if (numberOfPeriods == 0) {
+            return new BondPricing(ytm, faceValue, accrued, 0.0, 0.0, 0.0);
+        }
+        double i = ytm / couponFrequency;
+        double logGrowth = Math.log1p(i);
+        double v = 1 / (1 + i);
+        double tau = firstPeriodFraction;
+        double vTau = Math.exp(-tau * logGrowth);
+        double faceDiscount = Math.exp(-numberOfPeriods * logGrowth) * (1 + i); // v^(N-1)
+        double s0 = annuityFactor(numberOfPeriods, i, logGrowth);
+        double s1 = weightedAnnuityFactor(numberOfPeriods, i, logGrowth);
+        double s2 = squaredWeightedAnnuityFactor(numberOfPeriods, i, logGrowth, s0, s1);
+        double lastTime = tau + numberOfPeriods - 1;
+
+        // 시점(기간 단위) t에 대한 0, 1, 2차 모멘트: M_k = sum(t^k * CF * v^t)
+        double m0 = vTau * (periodicCoupon * s0 + faceValue * faceDiscount);
+        double m1 = vTau * (periodicCoupon * (tau * s0 + s1) + faceValue * lastTime * faceDiscount);
+        double m2 = vTau * (periodicCoupon * (tau * tau * s0 + 2 * tau * s1 + s2) + faceValue * lastTime * lastTime * faceDiscount);
+
+        double macaulay = m1 / m0 / couponFrequency;
+        double modified = macaulay * v;
+        double convexity = v * v * (m2 + m1) / (m0 * couponFrequency * couponFrequency);
+        return new BondPricing(ytm, m0, accrued, macaulay, modified, convexity);
+    }
+
+    /**
+     * 직전 이표 지급일 이후 경과한 기간에 해당하는 이자입니다. C * (1 - tau)
+     */
+    public double accruedInterest() {
+        return numberOfPeriods == 0 ? 0.0 : periodicCoupon * (1 - firstPeriodFraction);
+    }
+
+    @Override
+    public double price(double yield) {
+        return dirtyPrice(faceValue, periodicCoupon, numberOfPeriods, firstPeriodFraction, couponFrequency, yield);
+    }
+
+    @Override
+    public double derivative(double yield) {
+        return priceDerivative(faceValue, periodicCoupon, numberOfPeriods, firstPeriodFraction, couponFrequency, yield);
+    }
+
+    @Override
+    public double lowerBound() {
+        return -couponFrequency; // (1 + y/f) > 0
+    }
+
+    public double getFaceValue() { return faceValue; }
+    public double getPeriodicCoupon() { return periodicCoupon; }
+    public int getCouponFrequency() { return couponFrequency; }
+    public int getNumberOfPeriods() { return numberOfPeriods; }
+    public double getFirstPeriodFraction() { return firstPeriodFraction; }
+}
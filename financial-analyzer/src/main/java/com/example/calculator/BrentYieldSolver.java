@@ -0,0 +1,134 @@
+package com.example.calculator;
+
+/**
+ * 브렌트(Brent) 방법으로 수익률을 찾는 안전한 풀이기입니다.
+ * 초기 추정치 주변에서 부호가 바뀌는 구간을 찾을 때까지 탐색 구간을 넓힌 뒤,
+ * 이분법·할선법·역 2차 보간을 섞어 항상 구간 안에서 수렴합니다.
+ * 고정된 [0, 1] 구간을 쓰지 않으므로 음의 수익률과 액면가보다 비싼 채권도 처리합니다.
+ */
+public class BrentYieldSolver implements YieldSolver {
+
+    private static final double INITIAL_STEP = 0.05;  // 구간 탐색 첫 간격 (연 5%p)
+    private static final int MAX_EXPANSIONS = 60;     // 구간 확장 최대 횟수
+
+    private final double tolerance;     // 수익률 허용 오차
+    private final int maxIterations;    // 최대 반복 횟수
+
+    public BrentYieldSolver() {
+        this(1e-10, 200);
+    }
+
+    /**
+     * @param tolerance     수익률에 대한 허용 오차 (예: 1e-10)
+     * @param maxIterations 구간을 찾은 뒤의 최대 반복 횟수
+     */
+    public BrentYieldSolver(double tolerance, int maxIterations) {
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    @Override
+    public void solve(PriceFunction function, double targetPrice, double initialGuess, YieldSolution solution) {
+        double lowerBound = function.lowerBound();
+        double guess = Double.isFinite(initialGuess) && initialGuess > lowerBound ? initialGuess : 0.0;
+        int iterations = 0;
+
+        // 1. 초기 추정치 주변에서 부호가 바뀌는 구간 [a, b]를 찾음
+        double step = INITIAL_STEP;
+        double a = Math.max(guess - step, midpoint(lowerBound, guess));
+        double b = guess + step;
+        double fa = function.price(a) - targetPrice;
+        double fb = function.price(b) - targetPrice;
+        iterations += 2;
+        int expansions = 0;
+        while (fa * fb > 0 && expansions++ < MAX_EXPANSIONS) {
+            step *= 2;
+            // 가격 함수는 수익률에 대해 감소하므로, 가격이 목표보다 높으면 위쪽으로 넓힘
+            if (fa > 0) {
+                a = b;
+                fa = fb;
+                b = b + step;
+                fb = function.price(b) - targetPrice;
+            } else {
+                b = a;
+                fb = fa;
+                a = Math.max(a - step, midpoint(lowerBound, a));
+                fa = function.price(a) - targetPrice;
+            }
+            iterations++;
+        }
+        if (!(fa * fb <= 0)) {
+            // 구간을 찾지 못함: 목표 가격에 더 가까운 끝점을 반환
+            solution.set(Math.abs(fa) < Math.abs(fb) ? a : b, iterations, false);
+            return;
+        }
+
+        // 2. 브렌트 반복
+        double c = a;
+        double fc = fa;
+        double d = b - a;
+        double e = d;
+        for (int i = 0; i < maxIterations; i++) {
+            if (fb * fc > 0) {
+                c = a;
+                fc = fa;
+                d = b - a;
+                e = d;
+            }
+            if (Math.abs(fc) < Math.abs(fb)) {
+                a = b;
+                b = c;
+                c = a;
+                fa = fb;
+                fb = fc;
+                fc = fa;
+            }
+            double tol1 = 2 * Math.ulp(1.0) * Math.abs(b) + 0.5 * tolerance;
+            double xm = 0.5 * (c - b);
+            if (Math.abs(xm) <= tol1 || fb == 0) {
+                solution.set(b, iterations, true);
+                return;
+            }
+            if (Math.abs(e) >= tol1 && Math.abs(fa) > Math.abs(fb)) {
+                // 할선법 또는 역 2차 보간 시도
+                double s = fb / fa;
+                double p;
+                double q;
+                if (a == c) {
+                    p = 2 * xm * s;
+                    q = 1 - s;
+                } else {
+                    double r = fb / fc;
+                    double t = fa / fc;
+                    p = s * (2 * xm * t * (t - r) - (b - a) * (r - 1));
+                    q = (t - 1) * (r - 1) * (s - 1);
+                }
+                if (p > 0) {
+                    q = -q;
+                }
+                p = Math.abs(p);
+                if (2 * p < Math.min(3 * xm * q - Math.abs(tol1 * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = xm;
+                    e = d;
+                }
+            } else {
+                // 보간이 느리면 이분법
+                d = xm;
+                e = d;
+            }
+            a = b;
+            fa = fb;
+            b += Math.abs(d) > tol1 ? d : Math.copySign(tol1, xm);
+            fb = function.price(b) - targetPrice;
+            iterations++;
+        }
+        solution.set(b, iterations, false);
+    }
+
+    private static double midpoint(double lowerBound, double value) {
+        return Double.isInfinite(lowerBound) ? Double.NEGATIVE_INFINITY : (lowerBound + value) / 2.0;
+    }
+}
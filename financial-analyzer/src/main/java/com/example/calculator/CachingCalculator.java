@@ -0,0 +1,206 @@
+package com.example.calculator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 계산 결과를 상품 값 기준으로 기억해 두는 계산기입니다.
+ * 같은 채권 종목을 보유한 수천 개의 포지션처럼 입력이 같은 상품이 반복되면
+ * YTM 풀이 같은 비싼 계산을 건너뛰고 저장된 결과를 돌려줍니다.
+ *
+ * 상품의 equals/hashCode를 키로 사용하므로 상품은 불변이어야 합니다.
+ * 크기 제한은 구획(segment)마다 나누어 적용되며, 각 구획은 분할 LRU(SLRU)로 동작합니다.
+ * 처음 들어온 항목은 시험 구역에 놓이고 다시 조회되면 보호 구역으로 올라가므로,
+ * 한 번만 계산되고 마는 상품이 대량으로 지나가도 자주 쓰이는 상품은 밀려나지 않습니다.
+ *
+ * 같은 상품을 여러 스레드가 동시에 처음 계산하면 중복 계산될 수 있지만 결과는 하나만 저장됩니다.
+ * 계산 중 발생한 예외는 저장하지 않습니다.
+ */
+public class CachingCalculator extends Calculator {
+
+    /** 기본 최대 항목 수 */
+    public static final int DEFAULT_MAXIMUM_SIZE = 100_000;
+
+    private static final double PROTECTED_RATIO = 0.8; // 구획 용량 중 보호 구역 비율
+
+    private final Calculator delegate;
+    private final int maximumSize;
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public CachingCalculator() {
+        this(new Calculator(), DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param delegate    캐시에 없는 상품을 계산할 계산기
+     * @param maximumSize 저장할 최대 결과 수
+     */
+    public CachingCalculator(Calculator delegate, int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize는 1 이상이어야 합니다: " + maximumSize);
+        }
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+
+        // 코어 수의 4배 정도로 나누어 잠금 경합을 줄이되, 구획당 용량이 너무 작아지지 않게 제한
+        int segmentCount = 1;
+        int target = Math.min(Runtime.getRuntime().availableProcessors() * 4, Math.max(1, maximumSize / 64));
+        while (segmentCount < target) {
+            segmentCount <<= 1;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // 나머지를 앞쪽 구획에 나누어 주어 전체 용량이 정확히 maximumSize가 되도록 함
+            int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            segments[i] = new Segment(capacity);
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    @Override
+    public CalculationResult calculate(FinancialProduct product) {
+        Segment segment = segmentFor(product);
+        CalculationResult cached = segment.get(product);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        CalculationResult result = delegate.calculate(product);
+        return segment.putIfAbsent(product, result);
+    }
+
+    private Segment segmentFor(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16); // 상위 비트를 섞어 구획 선택에 반영
+        return segments[h & segmentMask];
+    }
+
+    /** 저장된 모든 결과를 지웁니다. 통계는 유지됩니다. */
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /** 현재 저장된 결과 수 */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /** 용량 초과로 밀려난 결과 수 */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /** 적중률 (0.0 ~ 1.0). 조회가 없었으면 0 */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CachingCalculator[size=%d/%d, hits=%d, misses=%d, evictions=%d, hitRate=%.4f]",
+                size(), maximumSize, getHitCount(), getMissCount(), getEvictionCount(), getHitRate());
+    }
+
+    /**
+     * 하나의 잠금으로 보호되는 SLRU 구획.
+     * 두 구역 모두 접근 순서 LinkedHashMap이며 가장 오래 쓰이지 않은 항목이 맨 앞에 옵니다.
+     */
+    private final class Segment {
+        private final int protectedCapacity;
+        private final int probationCapacity;
+        private final LinkedHashMap<FinancialProduct, CalculationResult> probation;
+        private final LinkedHashMap<FinancialProduct, CalculationResult> protectedArea;
+
+        Segment(int capacity) {
+            this.protectedCapacity = (int) (capacity * PROTECTED_RATIO);
+            this.probationCapacity = capacity - protectedCapacity;
+            this.probation = new LinkedHashMap<>(16, 0.75f, true);
+            this.protectedArea = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        synchronized CalculationResult get(FinancialProduct key) {
+            CalculationResult result = protectedArea.get(key);
+            if (result != null) {
+                return result;
+            }
+            result = probation.remove(key);
+            if (result != null) {
+                promote(key, result);
+            }
+            return result;
+        }
+
+        synchronized CalculationResult putIfAbsent(FinancialProduct key, CalculationResult result) {
+            CalculationResult existing = get(key);
+            if (existing != null) {
+                return existing;
+            }
+            probation.put(key, result);
+            if (probation.size() > probationCapacity) {
+                removeEldest(probation);
+                evictionCount.increment();
+            }
+            return result;
+        }
+
+        /** 다시 조회된 항목을 보호 구역으로 올리고, 넘치는 보호 항목은 시험 구역으로 내립니다. */
+        private void promote(FinancialProduct key, CalculationResult result) {
+            if (protectedCapacity == 0) {
+                probation.put(key, result);
+                return;
+            }
+            protectedArea.put(key, result);
+            if (protectedArea.size() > protectedCapacity) {
+                Map.Entry<FinancialProduct, CalculationResult> demoted = removeEldest(protectedArea);
+                probation.put(demoted.getKey(), demoted.getValue());
+                if (probation.size() > probationCapacity) {
+                    removeEldest(probation);
+                    evictionCount.increment();
+                }
+            }
+        }
+
+        private Map.Entry<FinancialProduct, CalculationResult> removeEldest(LinkedHashMap<FinancialProduct, CalculationResult> area) {
+            var iterator = area.entrySet().iterator();
+            Map.Entry<FinancialProduct, CalculationResult> eldest = iterator.next();
+            iterator.remove();
+            return eldest;
+        }
+
+        synchronized void clear() {
+            probation.clear();
+            protectedArea.clear();
+        }
+
+        synchronized int size() {
+            return probation.size() + protectedArea.size();
+        }
+    }
+}
@@ -1,60 +1,138 @@
 package com.example.calculator;
 
-import java.text.NumberFormat;
 import java.util.Collections;
-import java.util.Locale;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
- * 모든 금융 상품의 계산 결과를 담는 유연한 컨테이너입니다.
- * Map을 사용하여 "최종 금액", "YTM" 등 다양한 이름의 지표를 저장하고,
- * 결과를 한글 형식으로 출력합니다.
+ * 모든 금융 상품의 계산 결과를 담는 컨테이너입니다.
+ * 지표는 {@link Metric} 배열과 같은 위치의 double 값으로 보관하여
+ * 문자열 해싱이나 박싱 없이 값을 읽을 수 있습니다.
+ * 출력 형식은 {@link ResultRenderer}가 담당합니다.
  */
 public class CalculationResult {
 
     private final String productName;
-    private final Map<String, Double> results;
+    private final Metric[] metrics;   // 상품별로 공유되는 지표 목록
+    private final double[] values;    // metrics와 같은 위치의 값
+    private Map<String, Double> resultsView; // getResults() 호출 시 만들어지는 호환용 Map
 
+    private static final Map<String, Metric> METRICS_BY_LABEL = metricsByLabel();
+
+    /**
+     * 배열은 복사하지 않고 그대로 보관하므로, 전달한 뒤에는 변경하면 안 됩니다.
+     * 보통 상품 클래스의 static final 지표 배열과 가변 인자로 만든 값 배열을 넘깁니다.
+     *
+     * @param productName 상품 이름
+     * @param metrics     지표 목록
+     * @param values      metrics와 같은 순서의 값
+     */
+    public CalculationResult(String productName, Metric[] metrics, double... values) {
+        if (metrics.length != values.length) {
+            throw new IllegalArgumentException("지표 수와 값의 수가 다릅니다: " + metrics.length + " != " + values.length);
+        }
+        this.productName = productName;
+        this.metrics = metrics;
+        this.values = values;
+    }
+
+    /**
+     * 한글 지표 이름을 키로 하는 Map으로 결과를 만듭니다. (이전 버전과의 호환용)
+     * 키는 {@link Metric#getLabel()}과 같아야 하며, 지표 순서는 Map의 순회 순서를 따릅니다.
+     *
+     * @throws IllegalArgumentException 알 수 없는 지표 이름이 있는 경우
+     */
     public CalculationResult(String productName, Map<String, Double> results) {
         this.productName = productName;
-        this.results = Collections.unmodifiableMap(results); // 불변 Map으로 만듦
+        this.metrics = new Metric[results.size()];
+        this.values = new double[results.size()];
+        int i = 0;
+        for (Map.Entry<String, Double> entry : results.entrySet()) {
+            Metric metric = METRICS_BY_LABEL.get(entry.getKey());
+            if (metric == null) {
+                throw new IllegalArgumentException("알 수 없는 지표 이름입니다: " + entry.getKey());
+            }
+            metrics[i] = metric;
+            values[i] = entry.getValue();
+            i++;
+        }
+    }
+
+    private static Map<String, Metric> metricsByLabel() {
+        Map<String, Metric> map = new HashMap<>();
+        for (Metric metric : Metric.values()) {
+            map.put(metric.getLabel(), metric);
+        }
+        return map;
     }
 
     public String getProductName() {
         return productName;
     }
 
+    /** 담긴 지표의 수 */
+    public int size() {
+        return metrics.length;
+    }
+
+    public Metric getMetric(int position) {
+        return metrics[position];
+    }
+
+    public double getValue(int position) {
+        return values[position];
+    }
+
+    public boolean has(Metric metric) {
+        return indexOf(metric) >= 0;
+    }
+
+    /**
+     * @throws IllegalArgumentException 이 결과에 해당 지표가 없는 경우
+     */
+    public double get(Metric metric) {
+        int index = indexOf(metric);
+        if (index < 0) {
+            throw new IllegalArgumentException(productName + " 결과에 " + metric + " 지표가 없습니다.");
+        }
+        return values[index];
+    }
+
+    public double getOrDefault(Metric metric, double defaultValue) {
+        int index = indexOf(metric);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    private int indexOf(Metric metric) {
+        // 상품당 지표가 열 개 남짓이므로 선형 탐색이 해싱보다 빠름
+        for (int i = 0; i < metrics.length; i++) {
+            if (metrics[i] == metric) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 한글 지표 이름을 키로 하는 읽기 전용 Map을 반환합니다. (이전 버전과의 호환용)
+     * 처음 호출할 때 만들어지며, 값이 박싱되므로 대량 계산에서는 {@link #get(Metric)}을 사용하세요.
+     */
     public Map<String, Double> getResults() {
-        return results;
+        Map<String, Double> view = resultsView;
+        if (view == null) {
+            Map<String, Double> map = new LinkedHashMap<>();
+            for (int i = 0; i < metrics.length; i++) {
+                map.put(metrics[i].getLabel(), values[i]);
+            }
+            view = Collections.unmodifiableMap(map);
+            resultsView = view; // 여러 스레드가 동시에 만들어도 내용이 같으므로 무방
+        }
+        return view;
     }
 
     @Override
     public String toString() {
-        // 숫자를 원화(KRW) 형식으로 포맷
-        NumberFormat currencyFormat = NumberFormat.getCurrencyInstance(Locale.KOREA);
-        String details = results.entrySet().stream()
-                .map(entry -> {
-                    String key = entry.getKey();
-                    double value = entry.getValue();
-                    // 키에 "수익률" 또는 "YTM"이 포함된 경우 퍼센트(%)로 표시
-                    if (key.contains("수익률") || key.contains("YTM")) {
-                        return String.format("  - %s: %.4f%%", key, value);
-                    } else {
-                        // 그 외에는 원화(₩)로 표시
-                        return String.format("  - %s: %s", key, currencyFormat.format(value));
-                    }
-                })
-                .collect(Collectors.joining("\n"));
-        
-        // 가장 중요한 지표를 강조하여 한 번 더 보여주기
-        String highlight = "";
-        if (results.containsKey("실효 수익률 (연, %)")) {
-            highlight = String.format("\n✨ 예상 실효 수익률: %.4f%%\n", results.get("실효 수익률 (연, %)"));
-        } else if (results.containsKey("만기 수익률 (YTM, %)")) {
-            highlight = String.format("\n✨ 예상 만기 수익률: %.4f%%\n", results.get("만기 수익률 (YTM, %)"));
-        }
-
-        return String.format("--- %s 계산 결과 ---\n%s%s", productName, details, highlight);
+        return ResultRenderer.forCurrentThread().render(this);
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,9 @@
 package com.example.calculator;
 
+import java.util.Collection;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * 다양한 금융 상품을 위한 범용 계산기입니다.
  * FinancialProduct 인터페이스를 기반으로 동작하므로,
@@ -7,9 +11,15 @@ package com.example.calculator;
  */
 public class Calculator {
 
+    /** 일괄 계산 시 한 작업 단위가 처리하는 기본 상품 수 */
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private static final CalculatorMetrics METRICS = CalculatorMetrics.getInstance();
+
     /**
      * 주어진 금융 상품에 대한 계산을 수행합니다.
      * 이 메서드는 실제 계산 로직을 상품 객체 자체에 위임합니다.
+     * 계측이 켜져 있으면 지연 시간 등을 {@link CalculatorMetrics}에 기록합니다.
      *
      * @param product 계산할 금융 상품 (예: TieredSavingsAccount, Bond 객체)
      * @return 상품의 구현에 의해 결정된 계산 결과
@@ -18,6 +28,32 @@ public class Calculator {
         // 새로운 설계의 핵심:
         // 계산기는 아무것도 계산하는 방법을 모릅니다.
         // 단지 상품에게 스스로 계산하라고 지시할 뿐입니다.
-        return product.calculate();
+        if (!METRICS.isEnabled()) {
+            return product.calculate();
+        }
+        return METRICS.measure(product);
+    }
+
+    /**
+     * 여러 금융 상품을 공용 ForkJoinPool에서 모든 코어를 사용해 병렬로 계산합니다.
+     *
+     * @param products 계산할 금융 상품 목록
+     * @return 진행 중인 일괄 계산. 결과를 읽기 전에 {@link BatchCalculation#await()}로 완료를 기다려야 합니다.
+     */
+    public BatchCalculation calculateAll(Collection<? extends FinancialProduct> products) {
+        return calculateAll(products, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 여러 금융 상품을 지정한 Executor에서 병렬로 계산합니다.
+     * 각 상품은 {@link #calculate(FinancialProduct)}를 통해 계산되므로 하위 클래스의 동작이 그대로 적용됩니다.
+     *
+     * @param products  계산할 금융 상품 목록
+     * @param executor  계산 작업을 실행할 Executor
+     * @param chunkSize 한 작업 단위가 처리할 상품 수
+     * @return 진행 중인 일괄 계산
+     */
+    public BatchCalculation calculateAll(Collection<? extends FinancialProduct> products, Executor executor, int chunkSize) {
+        return BatchCalculation.start(this, products, executor, chunkSize);
     }
 }
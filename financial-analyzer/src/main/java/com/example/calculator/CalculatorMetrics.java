@@ -0,0 +1,249 @@
+package com.example.calculator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 계산기의 계측 계층입니다. 프로세스 전체에서 하나만 존재하며 {@link Calculator}가 항상 거쳐 갑니다.
+ *
+ * 켜져 있으면 상품 유형별 지연 시간 히스토그램, 계산·실패 횟수, 채권 YTM 풀이의 반복 횟수와 미수렴 횟수를
+ * 기록하고, 할당 추적까지 켜면 계산 1회당 할당 바이트도 기록합니다.
+ * 꺼져 있으면 계산마다 volatile 변수 하나만 읽으므로 비용이 거의 없습니다.
+ * 켜져 있어도 기록 경로는 잠금과 객체 할당 없이 동작합니다.
+ *
+ * 시스템 속성 {@code calculator.metrics=true}로 시작 시 켤 수 있고,
+ * {@code calculator.metrics.allocation=true}로 할당 추적을 함께 켤 수 있습니다.
+ */
+public class CalculatorMetrics implements CalculatorMetricsMXBean {
+
+    /** JMX 객체 이름 */
+    public static final String OBJECT_NAME = "com.example.calculator:type=CalculatorMetrics";
+
+    static final int MAX_TRACKED_ITERATIONS = 64; // 이 이상 반복한 풀이는 마지막 칸에 모아 셈
+
+    private static final CalculatorMetrics INSTANCE = new CalculatorMetrics(
+            Boolean.getBoolean("calculator.metrics"), Boolean.getBoolean("calculator.metrics.allocation"));
+
+    private volatile boolean enabled;
+    private volatile boolean allocationTracking;
+    private volatile long startNanos = System.nanoTime();
+
+    // 상품 클래스 -> 지표. ClassValue가 잠금 없는 조회를, 맵이 유형마다 하나의 지표만 만들어지도록 보장
+    private final ConcurrentHashMap<Class<?>, ProductTypeMetrics> productTypes = new ConcurrentHashMap<>();
+    private final ClassValue<ProductTypeMetrics> productTypeLookup = new ClassValue<>() {
+        @Override
+        protected ProductTypeMetrics computeValue(Class<?> type) {
+            return productTypes.computeIfAbsent(type, t -> new ProductTypeMetrics(t.getSimpleName().isEmpty() ? t.getName() : t.getSimpleName()));
+        }
+    };
+
+    private final LongAdder solverInvocations = new LongAdder();
+    private final LongAdder solverIterations = new LongAdder();
+    private final LongAdder solverNonConverged = new LongAdder();
+    private final LongAdder[] iterationCounts = new LongAdder[MAX_TRACKED_ITERATIONS + 1];
+
+    private CalculatorMetrics(boolean enabled, boolean allocationTracking) {
+        for (int i = 0; i < iterationCounts.length; i++) {
+            iterationCounts[i] = new LongAdder();
+        }
+        this.enabled = enabled;
+        setAllocationTracking(allocationTracking);
+    }
+
+    public static CalculatorMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 할당 추적을 켤 때 처음 초기화됩니다. java.lang.management 클래스를 읽는 비용이 커서,
+     * 계산만 하고 끝나는 짧은 실행의 시작 시간에 포함되지 않도록 따로 둡니다.
+     */
+    private static final class AllocationCounter {
+        static final com.sun.management.ThreadMXBean BEAN = allocationMXBean();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean extended = (com.sun.management.ThreadMXBean) bean;
+            if (extended.isThreadAllocatedMemorySupported()) {
+                return extended;
+            }
+        }
+        return null; // 할당량 측정을 지원하지 않는 JVM
+    }
+
+    /**
+     * 상품을 계산하면서 지연 시간, 실패, 할당량을 기록합니다.
+     * 호출 전에 {@link #isEnabled()}를 확인하는 것은 호출하는 쪽의 몫입니다.
+     */
+    CalculationResult measure(FinancialProduct product) {
+        ProductTypeMetrics type = productTypeLookup.get(product.getClass());
+        boolean trackAllocation = allocationTracking;
+        long allocatedBefore = trackAllocation ? AllocationCounter.BEAN.getCurrentThreadAllocatedBytes() : 0;
+        long start = System.nanoTime();
+        try {
+            return product.calculate();
+        } catch (RuntimeException e) {
+            type.recordFailure();
+            throw e;
+        } finally {
+            type.recordLatency(System.nanoTime() - start);
+            if (trackAllocation) {
+                type.recordAllocation(AllocationCounter.BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore);
+            }
+        }
+    }
+
+    /**
+     * YTM 풀이 한 번의 반복 횟수와 수렴 여부를 기록합니다. 꺼져 있으면 아무것도 하지 않습니다.
+     * {@link Bond#solveYield}와 {@link BondBook#computeYields}의 대량 풀이가 모두 이곳을 거칩니다.
+     */
+    void recordSolve(YieldSolution solution) {
+        if (!enabled) {
+            return;
+        }
+        int iterations = solution.getIterations();
+        solverInvocations.increment();
+        solverIterations.add(iterations);
+        iterationCounts[Math.min(Math.max(iterations, 0), MAX_TRACKED_ITERATIONS)].increment();
+        if (!solution.isConverged()) {
+            solverNonConverged.increment();
+        }
+    }
+
+    public MetricsSnapshot snapshot() {
+        long elapsed = System.nanoTime() - startNanos;
+        List<ProductTypeSnapshot> types = new ArrayList<>();
+        for (ProductTypeMetrics type : productTypes.values()) {
+            types.add(type.snapshot(elapsed));
+        }
+        types.sort(Comparator.comparing(ProductTypeSnapshot::getProductType));
+        long[] iterations = new long[iterationCounts.length];
+        for (int i = 0; i < iterations.length; i++) {
+            iterations[i] = iterationCounts[i].sum();
+        }
+        return new MetricsSnapshot(elapsed, types, solverInvocations.sum(), solverIterations.sum(),
+                solverNonConverged.sum(), iterations);
+    }
+
+    /**
+     * 플랫폼 MBean 서버에 {@link #OBJECT_NAME}으로 등록합니다. 이미 등록되어 있으면 아무것도 하지 않습니다.
+     */
+    public void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(this, name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("계산 지표 MBean을 등록하지 못했습니다", e);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isAllocationTracking() {
+        return allocationTracking;
+    }
+
+    /**
+     * 할당 추적을 켜거나 끕니다. JVM이 스레드별 할당량 측정을 지원하지 않으면 켜지지 않습니다.
+     */
+    @Override
+    public void setAllocationTracking(boolean allocationTracking) {
+        if (allocationTracking && AllocationCounter.BEAN != null) {
+            AllocationCounter.BEAN.setThreadAllocatedMemoryEnabled(true);
+            this.allocationTracking = true;
+        } else {
+            this.allocationTracking = false;
+        }
+    }
+
+    @Override
+    public long getCalculationCount() {
+        long count = 0;
+        for (ProductTypeSnapshot type : snapshot().getProductTypes()) {
+            count += type.getCount();
+        }
+        return count;
+    }
+
+    @Override
+    public long getFailureCount() {
+        long count = 0;
+        for (ProductTypeSnapshot type : snapshot().getProductTypes()) {
+            count += type.getFailureCount();
+        }
+        return count;
+    }
+
+    @Override
+    public long getSolverInvocationCount() {
+        return solverInvocations.sum();
+    }
+
+    @Override
+    public long getSolverIterationCount() {
+        return solverIterations.sum();
+    }
+
+    @Override
+    public long getSolverNonConvergedCount() {
+        return solverNonConverged.sum();
+    }
+
+    @Override
+    public double getMeanSolverIterations() {
+        long invocations = solverInvocations.sum();
+        return invocations == 0 ? 0.0 : (double) solverIterations.sum() / invocations;
+    }
+
+    @Override
+    public List<ProductTypeSnapshot> getProductTypes() {
+        return snapshot().getProductTypes();
+    }
+
+    @Override
+    public String getSnapshotText() {
+        return snapshot().toText();
+    }
+
+    @Override
+    public String getSnapshotJson() {
+        return snapshot().toJson();
+    }
+
+    /** 모든 지표를 0으로 되돌리고 집계 기간을 새로 시작합니다. */
+    @Override
+    public void reset() {
+        for (ProductTypeMetrics type : productTypes.values()) {
+            type.reset();
+        }
+        solverInvocations.reset();
+        solverIterations.reset();
+        solverNonConverged.reset();
+        for (LongAdder count : iterationCounts) {
+            count.reset();
+        }
+        startNanos = System.nanoTime();
+    }
+}
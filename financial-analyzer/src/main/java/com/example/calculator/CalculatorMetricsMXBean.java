@@ -0,0 +1,40 @@
+package com.example.calculator;
+
+import java.util.List;
+
+/**
+ * {@link CalculatorMetrics}를 JMX로 노출하기 위한 관리 인터페이스입니다.
+ * 객체 이름은 {@link CalculatorMetrics#OBJECT_NAME}입니다.
+ */
+public interface CalculatorMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    boolean isAllocationTracking();
+
+    void setAllocationTracking(boolean allocationTracking);
+
+    /** 모든 상품 유형의 계산 횟수 합계 */
+    long getCalculationCount();
+
+    long getFailureCount();
+
+    long getSolverInvocationCount();
+
+    long getSolverIterationCount();
+
+    /** 최대 반복 안에 수렴하지 못한 YTM 풀이 수 */
+    long getSolverNonConvergedCount();
+
+    double getMeanSolverIterations();
+
+    List<ProductTypeSnapshot> getProductTypes();
+
+    String getSnapshotText();
+
+    String getSnapshotJson();
+
+    void reset();
+}
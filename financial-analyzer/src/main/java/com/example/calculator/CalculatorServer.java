@@ -0,0 +1,375 @@
+package com.example.calculator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계산기를 로컬 HTTP/JSON API로 제공하는 상주 서버입니다.
+ * 요청마다 JVM을 새로 띄우지 않아도 되도록 프런트엔드가 이 서버를 호출합니다.
+ * <pre>
+ * POST /api/bond      채권 하나 계산
+ * POST /api/savings   차등금리 적금 하나 계산
+ * POST /api/dividend  배당주 하나 계산
+ * POST /api/batch     상품 배열 계산 (각 상품에 "type" 필요, 결과를 스트리밍으로 응답)
+ * GET  /api/metrics   계산 지표 (JSON)
+ * GET  /api/health    상태 확인
+ * </pre>
+ * 요청 형식은 {@link ProductJson}을 참고하세요.
+ *
+ * 요청은 가상 스레드에서 하나씩 처리합니다. 가상 스레드가 없는 JVM(17 이하)에서는 고정 크기 스레드 풀과
+ * maxConcurrentRequests 크기의 대기열을 씁니다. 처리 중이거나 대기 중인 요청 수는 maxConcurrentRequests로 제한되며,
+ * 서버가 요청을 넘겨줄 때 허용량이 없으면 기다리지 않고 거절 전용 스레드로 보내 503(Retry-After)으로 응답합니다.
+ * 그 스레드의 대기열마저 차면 연결을 바로 닫습니다. 어느 경우에도 연결 수락 스레드는 막히지 않습니다.
+ * 본문이 maxBodyBytes를 넘는 요청은 413, Content-Length가 숫자가 아닌 요청은 400으로 거절합니다.
+ */
+public class CalculatorServer implements Closeable {
+
+    /** 기본 동시 처리 요청 수 */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4096;
+    /** 기본 요청 본문 최대 크기 (일괄 요청 포함) */
+    public static final long DEFAULT_MAX_BODY_BYTES = 64L << 20;
+
+    private static final int REJECTION_QUEUE_SIZE = 1024; // 503 응답을 기다리는 최대 요청 수
+    private static final int BACKLOG = 16384;
+
+    // 거절 전용 스레드에서 처리 중인 요청이면 true
+    private static final ThreadLocal<Boolean> OVERLOADED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    static {
+        // JDK HttpServer는 기본으로 Nagle 알고리즘을 켜 두어, 작은 응답이 지연 ACK와 맞물려 요청마다 수십 ms씩 멈춤.
+        // HttpServer 클래스가 설정을 읽기 전에 끄되, 사용자가 직접 지정한 값은 존중함
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final Calculator calculator;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ThreadPoolExecutor rejector;
+    private final Semaphore permits;
+    private final long maxBodyBytes;
+
+    /**
+     * @param calculator            상품을 계산할 계산기
+     * @param address               바인드할 주소 (포트 0이면 임의의 빈 포트)
+     * @param maxConcurrentRequests 동시에 처리하거나 대기할 최대 요청 수
+     * @param maxBodyBytes          요청 본문 최대 크기
+     */
+    public CalculatorServer(Calculator calculator, InetSocketAddress address, int maxConcurrentRequests,
+                            long maxBodyBytes) throws IOException {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("maxConcurrentRequests는 1 이상이어야 합니다: " + maxConcurrentRequests);
+        }
+        this.calculator = calculator;
+        this.permits = new Semaphore(maxConcurrentRequests);
+        this.maxBodyBytes = maxBodyBytes;
+        this.executor = newRequestExecutor(maxConcurrentRequests);
+        this.rejector = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(REJECTION_QUEUE_SIZE), daemonThreads("calculator-server-rejector"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.server = HttpServer.create(address, BACKLOG);
+        server.createContext("/api/bond", new ProductHandler(ProductJson.Type.BOND));
+        server.createContext("/api/savings", new ProductHandler(ProductJson.Type.SAVINGS));
+        server.createContext("/api/dividend", new ProductHandler(ProductJson.Type.DIVIDEND));
+        server.createContext("/api/batch", this::handleBatch);
+        server.createContext("/api/metrics", exchange -> handleGet(exchange, CalculatorMetrics.getInstance().getSnapshotJson()));
+        server.createContext("/api/health", exchange -> handleGet(exchange, "{\"status\":\"UP\"}"));
+        server.setExecutor(this::dispatch);
+    }
+
+    /**
+     * HttpServer가 요청을 넘겨줄 때 연결 수락 스레드에서 호출됩니다. 여기서는 절대 기다리지 않습니다.
+     * 허용량이 있으면 요청 Executor로, 없으면 거절 전용 스레드로 보냅니다.
+     * 거절 전용 스레드의 대기열도 차 있으면 RejectedExecutionException을 던지며, HttpServer가 연결을 닫습니다.
+     */
+    private void dispatch(Runnable exchange) {
+        if (!permits.tryAcquire()) {
+            rejector.execute(() -> {
+                OVERLOADED.set(Boolean.TRUE);
+                try {
+                    exchange.run();
+                } finally {
+                    OVERLOADED.remove();
+                }
+            });
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    exchange.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release(); // 종료 중
+            throw e;
+        }
+    }
+
+    /**
+     * 요청마다 가상 스레드를 쓰는 Executor를 만듭니다.
+     * Java 21 이상에서만 있는 API이므로 리플렉션으로 찾고, 없으면 플랫폼 스레드 풀로 대신합니다.
+     */
+    private static ExecutorService newRequestExecutor(int maxConcurrentRequests) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // 플랫폼 스레드는 비싸므로 코어 수에 비례한 크기로 두고, 초과 요청은 큐에서 기다리게 함.
+            // 큐에 들어오는 요청은 허용량을 쥐고 있으므로 큐 크기를 허용량과 같게 두면 큐가 넘치지 않음
+            int threads = Math.min(maxConcurrentRequests, Runtime.getRuntime().availableProcessors() * 8);
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(maxConcurrentRequests), daemonThreads("calculator-server"),
+                    new ThreadPoolExecutor.AbortPolicy());
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /** 실제로 바인드된 포트 */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /** 진행 중인 요청을 최대 1초 기다린 뒤 서버를 멈춥니다. */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdown();
+        rejector.shutdown();
+    }
+
+    private final class ProductHandler implements HttpHandler {
+        private final ProductJson.Type type;
+
+        ProductHandler(ProductJson.Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            if (!admit(exchange)) {
+                return;
+            }
+            try {
+                FinancialProduct product = ProductJson.read(newReader(exchange), type);
+                CalculationResult result = calculator.calculate(product);
+
+                // 단건 응답은 작으므로 길이를 알려 주고 한 번에 보냄
+                ByteArrayOutputStream body = new ByteArrayOutputStream(512);
+                Writer writer = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+                ProductJson.write(new JsonWriter(writer), result);
+                writer.flush();
+                send(exchange, 200, body.toByteArray());
+            } catch (BodyTooLargeException e) {
+                sendError(exchange, 413, e.getMessage());
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, 400, e.getMessage());
+            } catch (RuntimeException e) {
+                sendError(exchange, 500, e.toString());
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+
+    /**
+     * 일괄 요청은 상품을 하나 읽을 때마다 계산해 바로 응답에 씁니다.
+     * 한 상품의 오류는 그 상품 자리의 {"error": ...}로만 기록되고 나머지는 계속 처리됩니다.
+     */
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        if (!admit(exchange)) {
+            return;
+        }
+        JsonWriter writer = null;
+        try {
+            JsonReader reader = newReader(exchange);
+            reader.beginArray(); // 응답을 시작하기 전에 최상위 형식을 확인
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0); // 길이를 모르므로 chunked 전송
+            Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), 1 << 16);
+            writer = new JsonWriter(out);
+            writer.beginArray();
+            while (reader.hasNext()) {
+                try {
+                    ProductJson.write(writer, calculator.calculate(ProductJson.read(reader, null)));
+                } catch (JsonSyntaxException e) {
+                    ProductJson.writeError(writer, e.getMessage());
+                    break; // 구문이 깨지면 이후 위치를 신뢰할 수 없으므로 중단
+                } catch (IllegalArgumentException e) {
+                    ProductJson.writeError(writer, e.getMessage()); // 상품 객체는 끝까지 읽혔으므로 다음 상품으로
+                } catch (RuntimeException e) {
+                    ProductJson.writeError(writer, e.toString());
+                }
+            }
+            writer.endArray();
+            writer.flush();
+        } catch (BodyTooLargeException | IllegalArgumentException e) {
+            if (writer == null) {
+                sendError(exchange, e instanceof BodyTooLargeException ? 413 : 400, e.getMessage());
+            } else {
+                // 이미 200으로 응답을 시작했으므로 마지막 요소로 오류를 남기고 배열을 닫음
+                ProductJson.writeError(writer, e.getMessage());
+                writer.endArray();
+                writer.flush();
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleGet(HttpExchange exchange, String json) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, 405, "GET만 지원합니다");
+                return;
+            }
+            send(exchange, 200, json.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * 동시 처리 허용량, 메서드, 본문 크기를 확인합니다. 거절한 경우 응답까지 마치고 false를 반환합니다.
+     * 허용량은 {@link #dispatch}에서 이미 확인했으므로 여기서는 기다리지 않습니다.
+     */
+    private boolean admit(HttpExchange exchange) throws IOException {
+        if (OVERLOADED.get()) {
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            sendError(exchange, 503, "서버가 바쁩니다. 잠시 후 다시 시도하세요");
+            exchange.close();
+            return false;
+        }
+        if (!exchange.getRequestMethod().equals("POST")) {
+            sendError(exchange, 405, "POST만 지원합니다");
+            exchange.close();
+            return false;
+        }
+        String length = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (length != null) {
+            long bytes;
+            try {
+                bytes = Long.parseLong(length.trim());
+            } catch (NumberFormatException e) {
+                bytes = -1;
+            }
+            if (bytes < 0) {
+                sendError(exchange, 400, "Content-Length가 잘못되었습니다: " + length);
+                exchange.close();
+                return false;
+            }
+            if (bytes > maxBodyBytes) {
+                sendError(exchange, 413, "요청 본문이 너무 큽니다 (최대 " + maxBodyBytes + "바이트)");
+                exchange.close();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private JsonReader newReader(HttpExchange exchange) {
+        InputStream body = new LimitedInputStream(exchange.getRequestBody(), maxBodyBytes);
+        return new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(128);
+        Writer writer = new OutputStreamWriter(body, StandardCharsets.UTF_8);
+        ProductJson.writeError(new JsonWriter(writer), message);
+        writer.flush();
+        send(exchange, status, body.toByteArray());
+    }
+
+    /**
+     * Content-Length 없이(chunked) 들어오는 본문도 크기를 제한하기 위한 입력 스트림
+     */
+    private static final class LimitedInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            this.in = in;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                consume(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = in.read(buffer, offset, length);
+            if (read > 0) {
+                consume(read);
+            }
+            return read;
+        }
+
+        private void consume(int bytes) throws BodyTooLargeException {
+            remaining -= bytes;
+            if (remaining < 0) {
+                throw new BodyTooLargeException("요청 본문이 너무 큽니다");
+            }
+        }
+    }
+
+    /**
+     * 본문이 maxBodyBytes를 넘었음을 알립니다. 값 오류(400)와 구별해 413으로 응답하기 위한 예외
+     */
+    private static final class BodyTooLargeException extends IOException {
+        BodyTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.calculator;
+
+import java.util.Collection;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * 금융 상품의 현금흐름 일정입니다. 보유자 입장에서 받는 돈은 양수, 내는 돈은 음수입니다.
+ * 일정에는 매입 대금이나 납입액 같은 내는 돈도 모두 들어가므로, 상품의 일정을 그대로 더하면 순현금흐름이 됩니다.
+ *
+ * 현금흐름은 미리 만들어 두지 않고 위치(index)로 그때그때 계산하므로, 만기가 긴 상품도 객체나 배열을 만들지 않습니다.
+ * 스트림은 크기를 아는 원시 타입 스트림이라 박싱 없이 병렬로 나눠 처리할 수 있고,
+ * 여러 상품의 일정은 {@link #aggregate}로 기간 구간별 합계에 바로 더할 수 있습니다.
+ */
+public interface CashFlowSchedule {
+
+    /**
+     * 현금흐름을 받는 처리기. 박싱을 피하기 위해 원시 타입 인자를 씁니다.
+     */
+    @FunctionalInterface
+    interface CashFlowHandler {
+        void onCashFlow(double years, double amount);
+    }
+
+    /** 현금흐름 수 */
+    int size();
+
+    /** index번째 현금흐름까지의 기간 (연, 오름차순) */
+    double time(int index);
+
+    /** index번째 현금흐름 금액 */
+    double amount(int index);
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** 모든 현금흐름을 시간 순서대로 처리기에 넘깁니다. */
+    default void forEach(CashFlowHandler handler) {
+        int n = size();
+        for (int i = 0; i < n; i++) {
+            handler.onCashFlow(time(i), amount(i));
+        }
+    }
+
+    default DoubleStream times() {
+        return IntStream.range(0, size()).mapToDouble(this::time);
+    }
+
+    default DoubleStream amounts() {
+        return IntStream.range(0, size()).mapToDouble(this::amount);
+    }
+
+    /** 현금흐름별 현재 가치 */
+    default DoubleStream presentValues(DiscountCurve curve) {
+        return IntStream.range(0, size()).mapToDouble(i -> amount(i) * curve.discountFactor(time(i)));
+    }
+
+    /** 할인하지 않은 현금흐름 합계 (내는 돈을 뺀 보유자의 순손익) */
+    default double totalAmount() {
+        double sum = 0;
+        int n = size();
+        for (int i = 0; i < n; i++) {
+            sum += amount(i);
+        }
+        return sum;
+    }
+
+    /** 할인 곡선으로 할인한 현재 가치 합계 */
+    default double presentValue(DiscountCurve curve) {
+        double sum = 0;
+        int n = size();
+        for (int i = 0; i < n; i++) {
+            sum += amount(i) * curve.discountFactor(time(i));
+        }
+        return sum;
+    }
+
+    /**
+     * 현금흐름을 bucketYears 폭의 기간 구간별로 buckets에 더합니다.
+     * 구간 i는 [i·bucketYears, (i+1)·bucketYears) 이며, 마지막 구간 이후의 현금흐름은 마지막 구간에 더합니다.
+     */
+    default void addTo(double[] buckets, double bucketYears) {
+        if (!(bucketYears > 0)) {
+            throw new IllegalArgumentException("구간 폭은 0보다 커야 합니다: " + bucketYears);
+        }
+        int last = buckets.length - 1;
+        int n = size();
+        for (int i = 0; i < n; i++) {
+            int bucket = (int) Math.min(last, Math.max(0, Math.floor(time(i) / bucketYears)));
+            buckets[bucket] += amount(i);
+        }
+    }
+
+    /**
+     * 여러 상품의 현금흐름을 기간 구간별로 합산합니다. 상품 단위로 병렬 처리하며,
+     * 현금흐름 하나하나에 대한 객체는 만들지 않습니다.
+     *
+     * @param products    합산할 상품
+     * @param bucketYears 구간 폭 (연, 예: 월별 -> 1.0 / 12)
+     * @param bucketCount 구간 수 (이후의 현금흐름은 마지막 구간에 합산)
+     * @return 구간별 현금흐름 합계
+     */
+    static double[] aggregate(Collection<? extends FinancialProduct> products, double bucketYears, int bucketCount) {
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("구간 수는 1 이상이어야 합니다: " + bucketCount);
+        }
+        return products.parallelStream().collect(
+                () -> new double[bucketCount],
+                (buckets, product) -> product.cashFlows().addTo(buckets, bucketYears),
+                (left, right) -> {
+                    for (int i = 0; i < bucketCount; i++) {
+                        left[i] += right[i];
+                    }
+                });
+    }
+
+    /** 현금흐름이 없는 일정 */
+    static CashFlowSchedule empty() {
+        return PeriodicCashFlowSchedule.EMPTY;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.calculator;
+
+/**
+ * 반올림 오차를 따로 모아 보정하는 합계(Kahan-Babuška/Neumaier)입니다.
+ * 크기가 크게 다른 값을 수백만 번 더해도 오차가 더한 횟수에 따라 커지지 않으며,
+ * 병렬로 나눠 더한 부분합끼리 합쳐도 보정항이 함께 합쳐집니다.
+ */
+final class CompensatedSum {
+
+    private double sum;
+    private double compensation; // 지금까지 sum에 반영되지 못한 낮은 자리의 합
+
+    void add(double value) {
+        double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+    }
+
+    void add(CompensatedSum other) {
+        add(other.sum);
+        add(other.compensation);
+    }
+
+    double value() {
+        return sum + compensation;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.calculator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 계산 결과를 한 줄에 하나씩 CSV로 씁니다.
+ * <pre>
+ * 줄번호,상품이름,지표=값,지표=값,...
+ * 줄번호,ERROR,오류 메시지
+ * </pre>
+ * 지표 이름은 {@link Metric} 상수 이름을 쓰며, 값은 포맷 없이 double 그대로 기록합니다.
+ */
+public class CsvResultWriter implements ResultWriter {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final BufferedWriter writer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    public CsvResultWriter(Path path) throws IOException {
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(path), StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write("# line,product,METRIC=value,...\n");
+    }
+
+    @Override
+    public void write(long lineNumber, CalculationResult result) throws IOException {
+        line.setLength(0);
+        line.append(lineNumber).append(',').append(result.getProductName());
+        for (int i = 0; i < result.size(); i++) {
+            line.append(',').append(result.getMetric(i).name()).append('=').append(result.getValue(i));
+        }
+        line.append('\n');
+        writer.append(line);
+    }
+
+    @Override
+    public void writeError(long lineNumber, String message) throws IOException {
+        line.setLength(0);
+        line.append(lineNumber).append(",ERROR,");
+        // 한 줄, 한 필드로 유지되도록 구분자와 개행을 공백으로 바꿈
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            line.append(c == ',' || c == '\n' || c == '\r' ? ' ' : c);
+        }
+        line.append('\n');
+        writer.append(line);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
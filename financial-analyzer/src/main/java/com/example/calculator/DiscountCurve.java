@@ -0,0 +1,25 @@
+package com.example.calculator;
+
+/**
+ * 만기(연)별 할인 계수를 주는 할인 곡선입니다.
+ * 같은 곡선을 쓰는 채권들이 {@link DiscountFactorCache}의 할인 계수 표를 함께 쓰려면
+ * 구현체가 값 기준 equals/hashCode를 제공해야 합니다.
+ */
+public interface DiscountCurve {
+
+    /**
+     * @param years 현재부터 현금흐름까지의 기간 (연)
+     * @return 할인 계수 (현재 가치 / 미래 가치)
+     */
+    double discountFactor(double years);
+
+    /**
+     * 모든 만기에 같은 수익률을 쓰는 평탄한 곡선. YTM으로 가격을 매기는 것과 같습니다.
+     *
+     * @param annualYield          연 수익률 (소수)
+     * @param compoundingFrequency 연간 복리 횟수 (보통 채권의 이표 지급 횟수)
+     */
+    static DiscountCurve flat(double annualYield, int compoundingFrequency) {
+        return new FlatDiscountCurve(annualYield, compoundingFrequency);
+    }
+}
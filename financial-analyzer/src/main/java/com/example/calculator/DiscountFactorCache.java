@@ -0,0 +1,93 @@
+package com.example.calculator;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 채권이 함께 쓰는 스레드 안전한 할인 계수 표 캐시입니다.
+ * (할인 곡선, 이표 지급 횟수, 첫 이표까지 남은 기간)이 같은 채권은 같은 표를 씁니다.
+ *
+ * 더 긴 채권이 오면 표를 두 배 이상으로 늘려 다시 만들고, 표 수가 최대치를 넘으면 캐시를 비웁니다.
+ * (곡선이 바뀌면 예전 표는 다시 쓰이지 않으므로, 복잡한 교체 정책 대신 통째로 비움)
+ */
+public class DiscountFactorCache {
+
+    /** 기본 최대 표 수 */
+    public static final int DEFAULT_MAXIMUM_TABLES = 4096;
+
+    private static final DiscountFactorCache SHARED = new DiscountFactorCache(DEFAULT_MAXIMUM_TABLES);
+
+    private final int maximumTables;
+    private final ConcurrentHashMap<Key, DiscountFactorTable> tables = new ConcurrentHashMap<>();
+
+    public DiscountFactorCache(int maximumTables) {
+        if (maximumTables <= 0) {
+            throw new IllegalArgumentException("maximumTables는 1 이상이어야 합니다: " + maximumTables);
+        }
+        this.maximumTables = maximumTables;
+    }
+
+    /** 프로세스 전체에서 함께 쓰는 캐시 */
+    public static DiscountFactorCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * 최소 periods개 시점을 담은 표를 반환합니다. 없거나 짧으면 새로 만듭니다.
+     */
+    public DiscountFactorTable get(DiscountCurve curve, int couponFrequency, double firstPeriodFraction, int periods) {
+        Key key = new Key(curve, couponFrequency, firstPeriodFraction);
+        DiscountFactorTable table = tables.get(key);
+        if (table != null && table.getCapacity() >= periods) {
+            return table;
+        }
+        if (table == null && tables.size() >= maximumTables) {
+            tables.clear();
+        }
+        return tables.compute(key, (k, existing) -> {
+            if (existing != null && existing.getCapacity() >= periods) {
+                return existing; // 다른 스레드가 먼저 만듦
+            }
+            int capacity = existing == null ? periods : Math.max(periods, existing.getCapacity() * 2);
+            return DiscountFactorTable.build(curve, couponFrequency, firstPeriodFraction, capacity);
+        });
+    }
+
+    public int size() {
+        return tables.size();
+    }
+
+    public void clear() {
+        tables.clear();
+    }
+
+    private static final class Key {
+        private final DiscountCurve curve;
+        private final int couponFrequency;
+        private final long firstPeriodFractionBits;
+        private final int hash;
+
+        Key(DiscountCurve curve, int couponFrequency, double firstPeriodFraction) {
+            this.curve = curve;
+            this.couponFrequency = couponFrequency;
+            this.firstPeriodFractionBits = Double.doubleToLongBits(firstPeriodFraction);
+            this.hash = 31 * (31 * curve.hashCode() + couponFrequency) + Long.hashCode(firstPeriodFractionBits);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash
+                    && couponFrequency == other.couponFrequency
+                    && firstPeriodFractionBits == other.firstPeriodFractionBits
+                    && curve.equals(other.curve);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.calculator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * 한 할인 곡선에서 이표 지급 시점들의 할인 계수와 그 누적 합(연금 계수)을 미리 계산해 둔 표입니다.
+ *
+ * 이표 지급 횟수가 f이고 첫 이표까지 남은 기간이 tau(기간 단위)인 채권의 현금흐름 시점은
+ * (tau + j) / f 년 (j = 0, 1, ...)이므로, f와 tau가 같은 채권은 만기와 관계없이 같은 표를 함께 씁니다.
+ * 누적 합을 함께 저장하므로 표가 있으면 채권 가격을 현금흐름 수와 관계없이 상수 시간에 계산합니다.
+ * P = C · A(N) + F · DF(N-1),  A(N) = DF(0) + ... + DF(N-1)
+ *
+ * 항목 수가 {@link #OFF_HEAP_THRESHOLD} 이상인 큰 표는 GC 대상 힙을 차지하지 않도록 direct 버퍼에 둡니다.
+ * 만들어진 뒤에는 바뀌지 않으므로 여러 스레드에서 동시에 읽어도 됩니다.
+ */
+public final class DiscountFactorTable {
+
+    /** 이 항목 수 이상이면 힙 밖(direct 버퍼)에 저장 */
+    public static final int OFF_HEAP_THRESHOLD = 4096;
+
+    private final DiscountCurve curve;
+    private final int couponFrequency;
+    private final double firstPeriodFraction;
+    private final int capacity;
+    private final DoubleBuffer discountFactors;   // DF((tau + j) / f)
+    private final DoubleBuffer annuityFactors;    // DF(0) + ... + DF(j)
+
+    private DiscountFactorTable(DiscountCurve curve, int couponFrequency, double firstPeriodFraction, int capacity) {
+        this.curve = curve;
+        this.couponFrequency = couponFrequency;
+        this.firstPeriodFraction = firstPeriodFraction;
+        this.capacity = capacity;
+        this.discountFactors = allocate(capacity);
+        this.annuityFactors = allocate(capacity);
+
+        double sum = 0;
+        for (int j = 0; j < capacity; j++) {
+            double discount = curve.discountFactor((firstPeriodFraction + j) / couponFrequency);
+            sum += discount;
+            discountFactors.put(j, discount);
+            annuityFactors.put(j, sum);
+        }
+    }
+
+    /**
+     * @param curve               할인 곡선
+     * @param couponFrequency     연간 이표 지급 횟수
+     * @param firstPeriodFraction 첫 이표까지 남은 기간 tau (0 < tau <= 1)
+     * @param capacity            담을 현금흐름 시점 수 (가장 긴 채권의 이표 지급 횟수)
+     */
+    public static DiscountFactorTable build(DiscountCurve curve, int couponFrequency, double firstPeriodFraction, int capacity) {
+        if (couponFrequency <= 0) {
+            throw new IllegalArgumentException("이표 지급 횟수는 1 이상이어야 합니다: " + couponFrequency);
+        }
+        return new DiscountFactorTable(curve, couponFrequency, firstPeriodFraction, Math.max(1, capacity));
+    }
+
+    private static DoubleBuffer allocate(int entries) {
+        if (entries >= OFF_HEAP_THRESHOLD) {
+            return ByteBuffer.allocateDirect(entries * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        }
+        return DoubleBuffer.allocate(entries);
+    }
+
+    /** j번째 현금흐름 시점 (tau + j) / f 년의 할인 계수 */
+    public double discountFactor(int j) {
+        return discountFactors.get(j);
+    }
+
+    /** 처음 n개 시점의 할인 계수 합 (n >= 1) */
+    public double annuityFactor(int n) {
+        return annuityFactors.get(n - 1);
+    }
+
+    /**
+     * 경과 이자를 포함한 가격. {@link BondPricingKernel#dirtyPrice}와 같은 현금흐름을 곡선으로 할인합니다.
+     *
+     * @param numberOfPeriods 남은 이표 지급 횟수 (capacity 이하)
+     */
+    public double dirtyPrice(double faceValue, double periodicCoupon, int numberOfPeriods) {
+        if (numberOfPeriods == 0) {
+            return faceValue; // 만기 도래: 액면가만 남음
+        }
+        return periodicCoupon * annuityFactors.get(numberOfPeriods - 1) + faceValue * discountFactors.get(numberOfPeriods - 1);
+    }
+
+    public DiscountCurve getCurve() { return curve; }
+    public int getCouponFrequency() { return couponFrequency; }
+    public double getFirstPeriodFraction() { return firstPeriodFraction; }
+    public int getCapacity() { return capacity; }
+
+    /** 표가 힙 밖(direct 버퍼)에 저장되어 있는지 여부 */
+    public boolean isOffHeap() {
+        return discountFactors.isDirect();
+    }
+}
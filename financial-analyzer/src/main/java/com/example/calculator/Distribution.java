@@ -0,0 +1,85 @@
+package com.example.calculator;
+
+/**
+ * 값들을 보관하지 않고 요약하는 분포입니다. 건수, 평균과 표준편차(Welford, 합칠 때는 Chan의 공식),
+ * 최솟값·최댓값, t-digest 분위수를 누적하며, 부분 분포끼리 합칠 수 있습니다.
+ * 평균이 크고 퍼짐이 작은 값(예: 만기 수령액)도 제곱합 방식과 달리 분산이 상쇄 오차로 무너지지 않습니다.
+ * 값은 만든 쪽(예: {@link MonteCarloEngine})만 더하고, 결과로 넘기기 전에 {@link #compress()}로 압축해 두므로
+ * 넘어간 뒤에는 여러 스레드에서 동시에 읽어도 됩니다.
+ */
+public final class Distribution {
+
+    private long count;
+    private double mean;
+    private double squaredDeviations; // 평균과의 편차 제곱합 (M2)
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private final TDigest digest = new TDigest();
+
+    Distribution() {
+    }
+
+    /** NaN이나 무한대는 정의되지 않은 값(예: 만기가 도래한 채권의 수익률)으로 보고 건너뜁니다. */
+    void add(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return;
+        }
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        digest.add(value);
+    }
+
+    void merge(Distribution other) {
+        if (other.count == 0) {
+            return;
+        }
+        long combined = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / combined;
+        squaredDeviations += other.squaredDeviations + delta * delta * ((double) count * other.count / combined);
+        count = combined;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        digest.merge(other.digest);
+    }
+
+    /** 분위수를 읽을 때 할당이 없도록 t-digest를 미리 압축합니다. 값을 다 더한 뒤에 부릅니다. */
+    void compress() {
+        digest.compress();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /** 표본 표준편차 */
+    public double getStandardDeviation() {
+        if (count < 2) {
+            return Double.NaN;
+        }
+        return Math.sqrt(squaredDeviations / (count - 1));
+    }
+
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     */
+    public double getValueAtPercentile(double percentile) {
+        return digest.getValueAtPercentile(percentile);
+    }
+}
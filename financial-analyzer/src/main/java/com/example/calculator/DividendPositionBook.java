@@ -0,0 +1,238 @@
+package com.example.calculator;
+
+import java.util.Arrays;
+
+/**
+ * 다수의 배당주 포지션을 시세 변동에 따라 증분으로 재평가하는 장부입니다.
+ *
+ * 매수 금액, 매수 수수료, 세후 배당금처럼 시세와 무관한 값은 추가할 때 한 번만 계산해 열(column)에 보관하고,
+ * 매도 쪽 값(매도 금액, 매도 수수료, 증권거래세, 손익, 수익률)은 종목의 현재 시세로 조회할 때 계산합니다.
+ * 같은 종목의 포지션은 모두 그 종목의 현재 시세 하나로 평가됩니다.
+ *
+ * 매도 쪽 손익은 시세에 대해 선형이므로 종목마다 (Σ 주식 수 × (1 - 수수료율 - 거래세율))을 기울기로 모아 두면
+ * 새 시세가 들어올 때 포지션 수와 관계없이 O(1)로 전체 손익을 갱신할 수 있습니다.
+ * 전체 손익은 보정 합(Kahan)으로 누적하며, {@link #recomputeTotalNetProfit()}로 언제든 포지션별 값에서 다시 맞출 수 있습니다.
+ *
+ * 포지션별 값은 같은 입력의 {@link DividendStock#calculate()}와 비트 단위로 같습니다.
+ * 이 클래스는 스레드 안전하지 않습니다. 시세 반영은 한 스레드({@link PositionRevaluator})에서만 해야 합니다.
+ */
+public class DividendPositionBook {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private int size;
+
+    // 포지션 열
+    private int[] instrumentId;             // 종목 번호
+    private int[] numberOfShares;           // 주식 수
+    private double[] tradingFeeRate;        // 편도 매매 수수료율 (소수)
+    private double[] transactionTaxRate;    // 증권거래세율 (소수)
+    private double[] totalPurchaseAmount;   // 총 매수 금액
+    private double[] purchaseFee;           // 매수 수수료
+    private double[] totalInvestment;       // 총 투자 원금
+    private double[] grossDividend;         // 세전 배당금
+    private double[] dividendTax;           // 배당소득세
+    private double[] netDividend;           // 세후 배당금
+
+    // 종목 열 (종목 번호로 바로 찾음)
+    private double[] markPrice = new double[0];     // 현재 시세
+    private double[] slope = new double[0];         // 시세 1원 변동당 손익 변동
+    private double[] intercept = new double[0];     // 시세와 무관한 손익 항의 합 (세후 배당 - 투자 원금)
+    private int[] positionCount = new int[0];
+
+    // 전체 손익 (Kahan 보정 합)
+    private double totalNetProfit;
+    private double compensation;
+    private double totalInvestmentSum;
+    private long ticksApplied;
+
+    public DividendPositionBook() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DividendPositionBook(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        instrumentId = new int[capacity];
+        numberOfShares = new int[capacity];
+        tradingFeeRate = new double[capacity];
+        transactionTaxRate = new double[capacity];
+        totalPurchaseAmount = new double[capacity];
+        purchaseFee = new double[capacity];
+        totalInvestment = new double[capacity];
+        grossDividend = new double[capacity];
+        dividendTax = new double[capacity];
+        netDividend = new double[capacity];
+    }
+
+    /**
+     * 포지션을 추가합니다. 종목의 시세가 아직 없으면 이 상품의 매도 가격을 현재 시세로 삼고,
+     * 이미 있으면 포지션은 기존 시세로 평가됩니다.
+     *
+     * @param instrumentId 종목 번호 (0 이상, 시세 틱과 같은 번호 체계)
+     * @return 추가된 포지션의 위치(index)
+     */
+    public int add(int instrumentId, DividendStock stock) {
+        if (instrumentId < 0) {
+            throw new IllegalArgumentException("종목 번호는 0 이상이어야 합니다: " + instrumentId);
+        }
+        if (size == this.instrumentId.length) {
+            grow();
+        }
+        ensureInstrument(instrumentId);
+
+        int i = size++;
+        int shares = stock.getNumberOfShares();
+        double feeRate = stock.getTradingFeeRate();
+        double taxRate = stock.getSecuritiesTransactionTaxRate();
+        this.instrumentId[i] = instrumentId;
+        this.numberOfShares[i] = shares;
+        this.tradingFeeRate[i] = feeRate;
+        this.transactionTaxRate[i] = taxRate;
+
+        // DividendStock.calculate()와 같은 순서로 계산
+        this.totalPurchaseAmount[i] = stock.getPurchasePricePerShare() * shares;
+        this.purchaseFee[i] = totalPurchaseAmount[i] * feeRate;
+        this.totalInvestment[i] = totalPurchaseAmount[i] + purchaseFee[i];
+        this.grossDividend[i] = stock.getTotalDividendReceived();
+        this.dividendTax[i] = grossDividend[i] * DividendStock.DIVIDEND_INCOME_TAX_RATE;
+        this.netDividend[i] = grossDividend[i] - dividendTax[i];
+
+        if (positionCount[instrumentId]++ == 0) {
+            markPrice[instrumentId] = stock.getSellingPricePerShare();
+        }
+        double positionSlope = shares * (1 - feeRate - taxRate);
+        double positionIntercept = netDividend[i] - totalInvestment[i];
+        slope[instrumentId] += positionSlope;
+        intercept[instrumentId] += positionIntercept;
+        addToTotal(markPrice[instrumentId] * positionSlope + positionIntercept);
+        totalInvestmentSum += totalInvestment[i];
+        return i;
+    }
+
+    private void ensureInstrument(int id) {
+        if (id < markPrice.length) {
+            return;
+        }
+        int capacity = Math.max(id + 1, markPrice.length * 2);
+        markPrice = Arrays.copyOf(markPrice, capacity);
+        slope = Arrays.copyOf(slope, capacity);
+        intercept = Arrays.copyOf(intercept, capacity);
+        positionCount = Arrays.copyOf(positionCount, capacity);
+    }
+
+    private void grow() {
+        int capacity = instrumentId.length * 2;
+        instrumentId = Arrays.copyOf(instrumentId, capacity);
+        numberOfShares = Arrays.copyOf(numberOfShares, capacity);
+        tradingFeeRate = Arrays.copyOf(tradingFeeRate, capacity);
+        transactionTaxRate = Arrays.copyOf(transactionTaxRate, capacity);
+        totalPurchaseAmount = Arrays.copyOf(totalPurchaseAmount, capacity);
+        purchaseFee = Arrays.copyOf(purchaseFee, capacity);
+        totalInvestment = Arrays.copyOf(totalInvestment, capacity);
+        grossDividend = Arrays.copyOf(grossDividend, capacity);
+        dividendTax = Arrays.copyOf(dividendTax, capacity);
+        netDividend = Arrays.copyOf(netDividend, capacity);
+    }
+
+    /**
+     * 종목의 새 시세를 반영합니다. 포지션 수와 관계없이 상수 시간이며 할당이 없습니다.
+     *
+     * @return 보유 포지션이 있는 종목이면 true, 모르는 종목이면 무시하고 false
+     */
+    public boolean applyPrice(int instrumentId, double sellingPricePerShare) {
+        if (instrumentId < 0 || instrumentId >= positionCount.length || positionCount[instrumentId] == 0) {
+            return false;
+        }
+        double previous = markPrice[instrumentId];
+        markPrice[instrumentId] = sellingPricePerShare;
+        addToTotal((sellingPricePerShare - previous) * slope[instrumentId]);
+        ticksApplied++;
+        return true;
+    }
+
+    private void addToTotal(double delta) {
+        double y = delta - compensation;
+        double t = totalNetProfit + y;
+        compensation = (t - totalNetProfit) - y;
+        totalNetProfit = t;
+    }
+
+    /**
+     * 전체 손익을 포지션별 값의 합으로 다시 계산해 누적 오차를 없앱니다. O(포지션 수)
+     * @return 다시 계산한 전체 손익
+     */
+    public double recomputeTotalNetProfit() {
+        double sum = 0;
+        double c = 0;
+        for (int i = 0; i < size; i++) {
+            double y = getNetProfit(i) - c;
+            double t = sum + y;
+            c = (t - sum) - y;
+            sum = t;
+        }
+        totalNetProfit = sum;
+        compensation = 0;
+        return sum;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 모든 포지션의 최종 실현 손익 합계 (현재 시세 기준) */
+    public double getTotalNetProfit() {
+        return totalNetProfit;
+    }
+
+    public double getTotalInvestment() {
+        return totalInvestmentSum;
+    }
+
+    /** 전체 수익률 (%) */
+    public double getTotalReturn() {
+        return totalInvestmentSum == 0 ? 0.0 : totalNetProfit / totalInvestmentSum * 100;
+    }
+
+    /** 지금까지 반영한 시세 수 */
+    public long getTicksApplied() {
+        return ticksApplied;
+    }
+
+    public int getInstrumentId(int index) {
+        return instrumentId[index];
+    }
+
+    /** @return 종목의 현재 시세. 보유 포지션이 없는 종목이면 NaN */
+    public double getMarkPrice(int instrumentId) {
+        return instrumentId >= 0 && instrumentId < positionCount.length && positionCount[instrumentId] > 0
+                ? markPrice[instrumentId] : Double.NaN;
+    }
+
+    /** index번째 포지션의 최종 실현 손익 (현재 시세 기준) */
+    public double getNetProfit(int index) {
+        double totalSellingAmount = markPrice[instrumentId[index]] * numberOfShares[index];
+        double sellingFee = totalSellingAmount * tradingFeeRate[index];
+        double securitiesTransactionTax = totalSellingAmount * transactionTaxRate[index];
+        return (totalSellingAmount - sellingFee - securitiesTransactionTax) + netDividend[index] - totalInvestment[index];
+    }
+
+    /** index번째 포지션의 실현 수익률 (%) */
+    public double getReturn(int index) {
+        return (getNetProfit(index) / totalInvestment[index]) * 100;
+    }
+
+    /**
+     * index번째 포지션을 현재 시세로 평가한 전체 결과.
+     * 같은 입력으로 만든 {@link DividendStock}의 계산 결과와 같습니다.
+     */
+    public CalculationResult toResult(int index) {
+        double totalSellingAmount = markPrice[instrumentId[index]] * numberOfShares[index];
+        double sellingFee = totalSellingAmount * tradingFeeRate[index];
+        double securitiesTransactionTax = totalSellingAmount * transactionTaxRate[index];
+        double netProfit = (totalSellingAmount - sellingFee - securitiesTransactionTax) + netDividend[index] - totalInvestment[index];
+        double returnOnInvestment = (netProfit / totalInvestment[index]) * 100;
+        return DividendStock.result(totalInvestment[index], totalPurchaseAmount[index], purchaseFee[index],
+                totalSellingAmount, sellingFee, securitiesTransactionTax, grossDividend[index], dividendTax[index],
+                netDividend[index], netProfit, returnOnInvestment);
+    }
+}
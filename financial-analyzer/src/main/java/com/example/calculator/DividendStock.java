@@ -1,8 +1,5 @@
 package com.example.calculator;
 
-import java.util.Map;
-import static java.util.Map.entry;
-
 /**
  * 배당주 투자의 실현 수익률을 계산하는 클래스입니다.
  * 매매 차익, 배당금 수익, 그리고 관련된 모든 세금과 수수료를 반영합니다.
@@ -16,16 +13,47 @@ public class DividendStock implements FinancialProduct {
     private final double tradingFeeRate;        // 매매 수수료율 (편도, %)
     private final double securitiesTransactionTaxRate; // 증권거래세율 (%)
 
-    private static final double DIVIDEND_INCOME_TAX_RATE = 0.154; // 배당소득세율 (15.4%)
+    static final double DIVIDEND_INCOME_TAX_RATE = 0.154; // 배당소득세율 (15.4%)
+    private static final Metric[] METRICS = {
+        Metric.TOTAL_INVESTMENT,
+        Metric.TOTAL_PURCHASE_AMOUNT,
+        Metric.PURCHASE_FEE,
+        Metric.TOTAL_SELLING_AMOUNT,
+        Metric.SELLING_FEE,
+        Metric.SECURITIES_TRANSACTION_TAX,
+        Metric.GROSS_DIVIDEND,
+        Metric.DIVIDEND_INCOME_TAX,
+        Metric.NET_DIVIDEND,
+        Metric.NET_PROFIT,
+        Metric.REALIZED_RETURN
+    };
 
     public DividendStock(double purchasePricePerShare, double sellingPricePerShare, int numberOfShares,
                          double totalDividendReceived, double tradingFeeRate, double securitiesTransactionTaxRate) {
+        this(tradingFeeRate / 100.0, securitiesTransactionTaxRate / 100.0, // 퍼센트를 소수점으로 변환
+                purchasePricePerShare, sellingPricePerShare, numberOfShares, totalDividendReceived);
+    }
+
+    /** 소수 단위 비율을 받습니다. (퍼센트를 받는 공개 생성자와 구별되도록 비율을 앞에 받음) */
+    private DividendStock(double tradingFeeRate, double securitiesTransactionTaxRate, double purchasePricePerShare,
+                          double sellingPricePerShare, int numberOfShares, double totalDividendReceived) {
         this.purchasePricePerShare = purchasePricePerShare;
         this.sellingPricePerShare = sellingPricePerShare;
         this.numberOfShares = numberOfShares;
         this.totalDividendReceived = totalDividendReceived;
-        this.tradingFeeRate = tradingFeeRate / 100.0; // 퍼센트를 소수점으로 변환
-        this.securitiesTransactionTaxRate = securitiesTransactionTaxRate / 100.0; // 퍼센트를 소수점으로 변환
+        this.tradingFeeRate = tradingFeeRate;
+        this.securitiesTransactionTaxRate = securitiesTransactionTaxRate;
+    }
+
+    /**
+     * 수수료율과 세율을 소수 단위({@link #getTradingFeeRate()}와 같은 단위)로 받아 만듭니다.
+     * 퍼센트로 되돌리지 않으므로 저장해 둔 값이 비트 단위로 그대로 복원됩니다.
+     */
+    static DividendStock ofDecimalRates(double purchasePricePerShare, double sellingPricePerShare, int numberOfShares,
+                                        double totalDividendReceived, double tradingFeeRate,
+                                        double securitiesTransactionTaxRate) {
+        return new DividendStock(tradingFeeRate, securitiesTransactionTaxRate,
+                purchasePricePerShare, sellingPricePerShare, numberOfShares, totalDividendReceived);
     }
 
     @Override
@@ -48,20 +76,68 @@ public class DividendStock implements FinancialProduct {
         double netProfit = (totalSellingAmount - sellingFee - securitiesTransactionTax) + netDividend - totalInvestment;
         double returnOnInvestment = (netProfit / totalInvestment) * 100; // 실현 수익률 (%)
 
-        Map<String, Double> results = Map.ofEntries(
-            entry("총 투자 원금 (매수금액 + 수수료)", totalInvestment),
-            entry("총 매수 금액", totalPurchaseAmount),
-            entry("매수 시 수수료", purchaseFee),
-            entry("총 매도 금액", totalSellingAmount),
-            entry("매도 시 수수료", sellingFee),
-            entry("증권거래세", securitiesTransactionTax),
-            entry("세전 총 배당금", totalDividendReceived),
-            entry("배당소득세 (15.4%)", dividendTax),
-            entry("세후 순수 배당금", netDividend),
-            entry("최종 실현 손익", netProfit),
-            entry("실현 수익률 (%)", returnOnInvestment)
+        return result(totalInvestment, totalPurchaseAmount, purchaseFee, totalSellingAmount, sellingFee,
+                securitiesTransactionTax, totalDividendReceived, dividendTax, netDividend, netProfit, returnOnInvestment);
+    }
+
+    /**
+     * 계산된 값들을 배당주 결과로 묶습니다. 증분 재평가({@link DividendPositionBook})도 같은 형식을 씁니다.
+     */
+    static CalculationResult result(double totalInvestment, double totalPurchaseAmount, double purchaseFee,
+                                    double totalSellingAmount, double sellingFee, double securitiesTransactionTax,
+                                    double grossDividend, double dividendTax, double netDividend,
+                                    double netProfit, double returnOnInvestment) {
+        return new CalculationResult("배당주 투자", METRICS,
+            totalInvestment,
+            totalPurchaseAmount,
+            purchaseFee,
+            totalSellingAmount,
+            sellingFee,
+            securitiesTransactionTax,
+            grossDividend,
+            dividendTax,
+            netDividend,
+            netProfit,
+            returnOnInvestment
         );
+    }
+
+    public double getPurchasePricePerShare() { return purchasePricePerShare; }
+    public double getSellingPricePerShare() { return sellingPricePerShare; }
+    public int getNumberOfShares() { return numberOfShares; }
+    public double getTotalDividendReceived() { return totalDividendReceived; }
+    /** @return 편도 매매 수수료율 (소수) */
+    public double getTradingFeeRate() { return tradingFeeRate; }
+    /** @return 증권거래세율 (소수) */
+    public double getSecuritiesTransactionTaxRate() { return securitiesTransactionTaxRate; }
+
+    /**
+     * 모든 입력 값이 같으면 같은 상품으로 봅니다. 실수 필드는 {@link Double#compare}로 비교합니다.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DividendStock)) {
+            return false;
+        }
+        DividendStock other = (DividendStock) o;
+        return Double.compare(purchasePricePerShare, other.purchasePricePerShare) == 0
+                && Double.compare(sellingPricePerShare, other.sellingPricePerShare) == 0
+                && numberOfShares == other.numberOfShares
+                && Double.compare(totalDividendReceived, other.totalDividendReceived) == 0
+                && Double.compare(tradingFeeRate, other.tradingFeeRate) == 0
+                && Double.compare(securitiesTransactionTaxRate, other.securitiesTransactionTaxRate) == 0;
+    }
 
-        return new CalculationResult("배당주 투자", results);
+    @Override
+    public int hashCode() {
+        int h = Double.hashCode(purchasePricePerShare);
+        h = 31 * h + Double.hashCode(sellingPricePerShare);
+        h = 31 * h + numberOfShares;
+        h = 31 * h + Double.hashCode(totalDividendReceived);
+        h = 31 * h + Double.hashCode(tradingFeeRate);
+        return 31 * h + Double.hashCode(securitiesTransactionTaxRate);
     }
 }
@@ -0,0 +1,181 @@
+package com.example.calculator;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ByteBuffer에 담긴 ASCII 숫자를 String을 만들지 않고 바로 해석합니다.
+ *
+ * 유효 숫자가 15자리 이하이고 10의 지수가 22 이하인 경우(일반적인 금액·비율 입력의 대부분)는
+ * 정수 가수와 10의 거듭제곱이 모두 double로 정확히 표현되므로, 곱셈이나 나눗셈 한 번으로
+ * Double.parseDouble과 똑같이 올바르게 반올림된 값을 얻습니다. 그 밖의 경우에만 String을 만들어
+ * Double.parseDouble에 맡깁니다.
+ */
+final class FastNumberParser {
+
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private FastNumberParser() {
+    }
+
+    /**
+     * buffer의 [from, to) 구간을 double로 해석합니다. 앞뒤 공백은 무시합니다.
+     * @throws NumberFormatException 숫자 형식이 아닌 경우
+     */
+    static double parseDouble(ByteBuffer buffer, int from, int to) {
+        int start = skipSpaces(buffer, from, to);
+        int end = trimSpaces(buffer, start, to);
+        int i = start;
+        if (i == end) {
+            throw new NumberFormatException("빈 숫자 필드");
+        }
+        boolean negative = false;
+        byte c = buffer.get(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int scale = 0;          // 10의 지수 보정
+        boolean anyDigit = false;
+        boolean exact = true;
+
+        for (; i < end && isDigit(buffer.get(i)); i++) {
+            anyDigit = true;
+            int digit = buffer.get(i) - '0';
+            if (mantissa != 0 || digit != 0) {
+                if (++significantDigits > MAX_EXACT_DIGITS) {
+                    exact = false; // 정확히 표현할 수 없으므로 아래에서 Double.parseDouble로 처리
+                } else {
+                    mantissa = mantissa * 10 + digit;
+                }
+            }
+        }
+        if (i < end && buffer.get(i) == '.') {
+            for (i++; i < end && isDigit(buffer.get(i)); i++) {
+                anyDigit = true;
+                int digit = buffer.get(i) - '0';
+                if (mantissa != 0 || digit != 0) {
+                    if (++significantDigits > MAX_EXACT_DIGITS) {
+                        exact = false;
+                        continue;
+                    }
+                    mantissa = mantissa * 10 + digit;
+                }
+                scale--;
+            }
+        }
+        if (!anyDigit) {
+            throw new NumberFormatException("숫자가 아닙니다: " + text(buffer, start, end));
+        }
+        if (i < end && (buffer.get(i) == 'e' || buffer.get(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+                negativeExponent = buffer.get(i) == '-';
+                i++;
+            }
+            int exponent = 0;
+            int exponentStart = i;
+            for (; i < end && isDigit(buffer.get(i)); i++) {
+                exponent = Math.min(exponent * 10 + (buffer.get(i) - '0'), 100_000);
+            }
+            if (i == exponentStart) {
+                throw new NumberFormatException("숫자가 아닙니다: " + text(buffer, start, end));
+            }
+            scale += negativeExponent ? -exponent : exponent;
+        }
+        if (i != end) {
+            throw new NumberFormatException("숫자가 아닙니다: " + text(buffer, start, end));
+        }
+
+        if (!exact || scale < -22 || scale > 22) {
+            return Double.parseDouble(text(buffer, start, end));
+        }
+        double value = scale >= 0 ? mantissa * POWERS_OF_TEN[scale] : mantissa / POWERS_OF_TEN[-scale];
+        return negative ? -value : value;
+    }
+
+    /**
+     * buffer의 [from, to) 구간을 int로 해석합니다.
+     * @throws NumberFormatException 정수 형식이 아니거나 범위를 벗어난 경우
+     */
+    static int parseInt(ByteBuffer buffer, int from, int to) {
+        int start = skipSpaces(buffer, from, to);
+        int end = trimSpaces(buffer, start, to);
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        if (i == end) {
+            throw new NumberFormatException("정수가 아닙니다: " + text(buffer, start, end));
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            byte c = buffer.get(i);
+            if (!isDigit(c)) {
+                throw new NumberFormatException("정수가 아닙니다: " + text(buffer, start, end));
+            }
+            value = value * 10 + (c - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("정수 범위를 벗어났습니다: " + text(buffer, start, end));
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("정수 범위를 벗어났습니다: " + text(buffer, start, end));
+        }
+        return (int) value;
+    }
+
+    /**
+     * [from, to) 구간이 주어진 ASCII 문자열과 대소문자 구분 없이 같은지 확인합니다. (앞뒤 공백 무시)
+     */
+    static boolean equalsIgnoreCase(ByteBuffer buffer, int from, int to, String ascii) {
+        int start = skipSpaces(buffer, from, to);
+        int end = trimSpaces(buffer, start, to);
+        if (end - start != ascii.length()) {
+            return false;
+        }
+        for (int i = 0; i < ascii.length(); i++) {
+            if (Character.toUpperCase(buffer.get(start + i)) != Character.toUpperCase(ascii.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String text(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int skipSpaces(ByteBuffer buffer, int from, int to) {
+        while (from < to && (buffer.get(from) == ' ' || buffer.get(from) == '\t')) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimSpaces(ByteBuffer buffer, int from, int to) {
+        while (to > from && (buffer.get(to - 1) == ' ' || buffer.get(to - 1) == '\t')) {
+            to--;
+        }
+        return to;
+    }
+}
@@ -14,4 +14,14 @@ public interface FinancialProduct {
      * @return 계산 결과를 담은 CalculationResult 객체.
      */
     CalculationResult calculate();
-}
\ No newline at end of file
+
+    /**
+     * 이 금융 상품의 현금흐름 일정을 반환합니다. 현금흐름은 순회할 때 계산되므로 호출 자체는 가볍습니다.
+     * 현금흐름 구조가 정해지지 않은 상품은 빈 일정을 반환합니다.
+     *
+     * @return 보유자 입장의 현금흐름 일정 (받는 돈은 양수, 내는 돈은 음수)
+     */
+    default CashFlowSchedule cashFlows() {
+        return CashFlowSchedule.empty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.calculator;
+
+/**
+ * 모든 만기에 같은 수익률을 적용하는 할인 곡선: DF(t) = (1 + y/f)^(-f·t)
+ */
+final class FlatDiscountCurve implements DiscountCurve {
+
+    private final double annualYield;
+    private final int compoundingFrequency;
+    private final double logGrowth; // ln(1 + y/f)
+
+    FlatDiscountCurve(double annualYield, int compoundingFrequency) {
+        if (compoundingFrequency <= 0) {
+            throw new IllegalArgumentException("복리 횟수는 1 이상이어야 합니다: " + compoundingFrequency);
+        }
+        this.annualYield = annualYield;
+        this.compoundingFrequency = compoundingFrequency;
+        this.logGrowth = Math.log1p(annualYield / compoundingFrequency);
+    }
+
+    @Override
+    public double discountFactor(double years) {
+        return Math.exp(-compoundingFrequency * years * logGrowth);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FlatDiscountCurve)) {
+            return false;
+        }
+        FlatDiscountCurve other = (FlatDiscountCurve) o;
+        return Double.compare(annualYield, other.annualYield) == 0 && compoundingFrequency == other.compoundingFrequency;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(annualYield) + compoundingFrequency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FlatDiscountCurve[%.6f, f=%d]", annualYield, compoundingFrequency);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.calculator;
+
+/**
+ * {@link LatencyHistogram}의 한 시점 분포입니다. 만들어진 뒤에는 바뀌지 않습니다.
+ */
+public class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long totalCount;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long totalCount, long sum, long max) {
+        this.counts = counts;
+        this.totalCount = totalCount;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    /** 평균 (기록이 없으면 0) */
+    public double getMean() {
+        return totalCount == 0 ? 0.0 : (double) sum / totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * 주어진 백분위수의 값을 반환합니다. 해당 구간의 상한으로 보고하되 최댓값을 넘지 않습니다.
+     *
+     * @param percentile 백분위수 (0 ~ 100, 예: 99.9)
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100.0, percentile) / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.bucketUpperBound(i), max);
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.calculator;
+
+/**
+ * 적금 이자를 계산하는 방식입니다.
+ */
+public enum InterestMode {
+    /** 단리: 원금 × 연이율 × (예치개월수 / 12) */
+    SIMPLE,
+    /** 월 복리: 매월 (1 + 연이율 / 12) 배로 불어남 */
+    MONTHLY_COMPOUND,
+    /** 일 복리: 매일 (1 + 연이율 / 365) 배로 불어나며, 한 달은 365 / 12 일로 봄 */
+    DAILY_COMPOUND
+}
@@ -13,8 +13,23 @@ public class InterestRateTier {
      * @param annualRate 이 구간의 연이율 (예: 3.5% -> 3.5 입력).
      */
     public InterestRateTier(int months, double annualRate) {
+        this(annualRate / 100.0, months); // 3.5 -> 0.035 와 같이 소수점으로 저장
+    }
+
+    /** 소수 단위 연이율을 받습니다. (퍼센트를 받는 공개 생성자와 구별되도록 인자 순서가 다름) */
+    private InterestRateTier(double decimalRate, int months) {
         this.months = months;
-        this.annualRate = annualRate / 100.0; // 3.5 -> 0.035 와 같이 소수점으로 저장
+        this.annualRate = decimalRate;
+    }
+
+    /**
+     * 소수 단위 연이율로 구간을 만듭니다. 저장해 둔 {@link #getAnnualRate()} 값을
+     * 퍼센트로 되돌렸다 다시 나누면 값이 미세하게 달라질 수 있으므로, 저장소에서 읽을 때 사용합니다.
+     *
+     * @param annualRate 연이율 (소수, 예: 3.5% -> 0.035)
+     */
+    static InterestRateTier ofDecimalRate(int months, double annualRate) {
+        return new InterestRateTier(annualRate, months);
     }
 
     public int getMonths() {
@@ -24,4 +39,21 @@ public class InterestRateTier {
     public double getAnnualRate() {
         return annualRate;
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof InterestRateTier)) {
+            return false;
+        }
+        InterestRateTier other = (InterestRateTier) o;
+        return months == other.months && Double.compare(annualRate, other.annualRate) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * months + Double.hashCode(annualRate);
+    }
+}
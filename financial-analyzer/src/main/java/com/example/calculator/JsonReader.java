@@ -0,0 +1,315 @@
+package com.example.calculator;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 입력 스트림을 앞에서부터 한 토큰씩 읽는 JSON 풀(pull) 파서입니다.
+ * 문서 전체를 트리로 만들지 않으므로 큰 일괄 요청도 상품 하나 크기의 메모리로 처리할 수 있습니다.
+ *
+ * 구문이 잘못된 입력은 {@link JsonSyntaxException}으로 알리며, 이후로는 더 읽을 수 없습니다.
+ * 다음 값의 종류가 요청한 것과 다르면 값을 소비하지 않고 {@link IllegalArgumentException}을 던지므로,
+ * 호출한 쪽은 {@link #skipValue()}로 그 값을 건너뛰고 계속 읽을 수 있습니다.
+ */
+class JsonReader {
+
+    /** 다음에 올 값의 종류 */
+    enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private static final int MAX_DEPTH = 64;
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    // 중첩 상태: 객체 안에서 이름을 기다리는지, 첫 요소인지를 깊이마다 기록
+    private final boolean[] inObject = new boolean[MAX_DEPTH];
+    private final boolean[] expectingFirst = new boolean[MAX_DEPTH];
+    private int depth;
+    private boolean expectingValueAfterName;
+
+    private final StringBuilder scratch = new StringBuilder(32);
+
+    JsonReader(Reader in) {
+        this.in = in;
+    }
+
+    Token peek() throws IOException {
+        int c = skipWhitespace();
+        if (depth > 0 && !expectingValueAfterName) {
+            boolean first = expectingFirst[depth - 1];
+            if (c == (inObject[depth - 1] ? '}' : ']')) {
+                return inObject[depth - 1] ? Token.END_OBJECT : Token.END_ARRAY;
+            }
+            if (!first) {
+                if (c != ',') {
+                    throw syntaxError("',' 또는 닫는 괄호가 필요합니다");
+                }
+                position++;
+                expectingFirst[depth - 1] = true; // 쉼표를 소비했으므로 다음 요소를 첫 요소처럼 읽음
+                c = skipWhitespace();
+            }
+            if (inObject[depth - 1]) {
+                if (c != '"') {
+                    throw syntaxError("항목 이름이 필요합니다");
+                }
+                return Token.NAME;
+            }
+        }
+        switch (c) {
+            case -1: return Token.END_DOCUMENT;
+            case '{': return Token.BEGIN_OBJECT;
+            case '[': return Token.BEGIN_ARRAY;
+            case '"': return Token.STRING;
+            case 't':
+            case 'f': return Token.BOOLEAN;
+            case 'n': return Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return Token.NUMBER;
+                }
+                throw syntaxError("예상하지 못한 문자 '" + (char) c + "'");
+        }
+    }
+
+    void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        position++;
+        push(true);
+    }
+
+    void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        position++;
+        pop();
+    }
+
+    void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        position++;
+        push(false);
+    }
+
+    void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        position++;
+        pop();
+    }
+
+    /** 현재 객체나 배열에 요소가 더 있는지 여부 */
+    boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    String nextName() throws IOException {
+        expect(Token.NAME);
+        String name = readString();
+        if (skipWhitespace() != ':') {
+            throw syntaxError("':'가 필요합니다");
+        }
+        position++;
+        expectingFirst[depth - 1] = false;
+        expectingValueAfterName = true;
+        return name;
+    }
+
+    String nextString() throws IOException {
+        expect(Token.STRING);
+        String value = readString();
+        valueConsumed();
+        return value;
+    }
+
+    double nextDouble() throws IOException {
+        expect(Token.NUMBER);
+        scratch.setLength(0);
+        while (true) {
+            int c = peekChar();
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                scratch.append((char) c);
+                position++;
+            } else {
+                break;
+            }
+        }
+        valueConsumed();
+        try {
+            return Double.parseDouble(scratch.toString());
+        } catch (NumberFormatException e) {
+            throw syntaxError("숫자 형식이 잘못되었습니다: " + scratch);
+        }
+    }
+
+    boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        boolean value = peekChar() == 't';
+        readLiteral(value ? "true" : "false");
+        valueConsumed();
+        return value;
+    }
+
+    void nextNull() throws IOException {
+        expect(Token.NULL);
+        readLiteral("null");
+        valueConsumed();
+    }
+
+    /** 다음 값을 (중첩된 객체나 배열이면 통째로) 건너뜁니다. */
+    void skipValue() throws IOException {
+        switch (peek()) {
+            case BEGIN_OBJECT:
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case BEGIN_ARRAY:
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            case STRING: nextString(); break;
+            case NUMBER: nextDouble(); break;
+            case BOOLEAN: nextBoolean(); break;
+            case NULL: nextNull(); break;
+            default: throw syntaxError("값이 필요합니다");
+        }
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token actual = peek();
+        if (actual != expected) {
+            if (actual == Token.END_DOCUMENT) {
+                throw syntaxError("입력이 예상보다 일찍 끝났습니다");
+            }
+            throw new IllegalArgumentException("JSON 값 종류 오류: " + expected + "이(가) 필요하지만 " + actual + "이(가) 왔습니다");
+        }
+    }
+
+    private void push(boolean object) {
+        if (depth == MAX_DEPTH) {
+            throw syntaxError("중첩이 너무 깊습니다");
+        }
+        expectingValueAfterName = false;
+        inObject[depth] = object;
+        expectingFirst[depth] = true;
+        depth++;
+    }
+
+    private void pop() {
+        depth--;
+        valueConsumed();
+    }
+
+    /** 값 하나를 다 읽은 뒤 바깥 컨테이너의 상태를 갱신 */
+    private void valueConsumed() {
+        expectingValueAfterName = false;
+        if (depth > 0) {
+            expectingFirst[depth - 1] = false;
+        }
+    }
+
+    private String readString() throws IOException {
+        position++; // 여는 따옴표
+        scratch.setLength(0);
+        while (true) {
+            int c = nextChar();
+            if (c == '"') {
+                return scratch.toString();
+            }
+            if (c == '\\') {
+                int escaped = nextChar();
+                switch (escaped) {
+                    case '"': case '\\': case '/': scratch.append((char) escaped); break;
+                    case 'b': scratch.append('\b'); break;
+                    case 'f': scratch.append('\f'); break;
+                    case 'n': scratch.append('\n'); break;
+                    case 'r': scratch.append('\r'); break;
+                    case 't': scratch.append('\t'); break;
+                    case 'u':
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(nextChar(), 16);
+                            if (digit < 0) {
+                                throw syntaxError("잘못된 유니코드 이스케이프");
+                            }
+                            code = code * 16 + digit;
+                        }
+                        scratch.append((char) code);
+                        break;
+                    default: throw syntaxError("잘못된 이스케이프 문자");
+                }
+            } else if (c < 0x20) {
+                throw syntaxError("문자열이 끝나지 않았습니다");
+            } else {
+                scratch.append((char) c);
+            }
+        }
+    }
+
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (nextChar() != literal.charAt(i)) {
+                throw syntaxError(literal + "이(가) 필요합니다");
+            }
+        }
+    }
+
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            int c = peekChar();
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                position++;
+            } else {
+                return c;
+            }
+        }
+    }
+
+    private int peekChar() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private int nextChar() throws IOException {
+        int c = peekChar();
+        if (c < 0) {
+            throw syntaxError("입력이 예상보다 일찍 끝났습니다");
+        }
+        position++;
+        return c;
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private JsonSyntaxException syntaxError(String message) {
+        return new JsonSyntaxException(message);
+    }
+}
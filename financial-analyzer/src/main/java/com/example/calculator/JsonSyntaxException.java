@@ -0,0 +1,15 @@
+package com.example.calculator;
+
+/**
+ * JSON 입력의 구문이 깨져 더 읽을 수 없음을 알리는 예외입니다.
+ * 값의 종류가 기대와 다를 뿐인 경우(예: 숫자 자리에 문자열)는 읽던 위치가 유효하므로
+ * 이 예외가 아닌 {@link IllegalArgumentException}으로 알립니다.
+ */
+class JsonSyntaxException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    JsonSyntaxException(String message) {
+        super("JSON 구문 오류: " + message);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.calculator;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * JSON을 앞에서부터 바로 써 내려가는 스트리밍 작성기입니다.
+ * 쉼표와 콜론은 중첩 상태에 따라 자동으로 붙습니다.
+ */
+class JsonWriter {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final Writer out;
+    private final boolean[] hasElements = new boolean[MAX_DEPTH]; // 깊이마다 이미 쓴 요소가 있는지
+    private int depth;
+    private boolean afterName;
+
+    JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    JsonWriter name(String name) throws IOException {
+        separate();
+        writeString(name);
+        out.write(':');
+        afterName = true;
+        return this;
+    }
+
+    JsonWriter value(String value) throws IOException {
+        separate();
+        if (value == null) {
+            out.write("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    /** NaN과 무한대는 JSON 숫자로 표현할 수 없으므로 null로 씁니다. */
+    JsonWriter value(double value) throws IOException {
+        separate();
+        out.write(Double.isFinite(value) ? Double.toString(value) : "null");
+        return this;
+    }
+
+    JsonWriter value(long value) throws IOException {
+        separate();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    JsonWriter value(boolean value) throws IOException {
+        separate();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    private JsonWriter open(char bracket) throws IOException {
+        separate();
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("JSON 중첩이 너무 깊습니다");
+        }
+        out.write(bracket);
+        hasElements[depth++] = false;
+        return this;
+    }
+
+    private JsonWriter close(char bracket) throws IOException {
+        depth--;
+        out.write(bracket);
+        return this;
+    }
+
+    /** 값이나 이름 앞에 필요한 쉼표를 붙입니다. 이름 바로 뒤의 값에는 붙이지 않습니다. */
+    private void separate() throws IOException {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (hasElements[depth - 1]) {
+                out.write(',');
+            }
+            hasElements[depth - 1] = true;
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escaped;
+            if (c == '"') {
+                escaped = "\\\"";
+            } else if (c == '\\') {
+                escaped = "\\\\";
+            } else if (c == '\n') {
+                escaped = "\\n";
+            } else if (c == '\r') {
+                escaped = "\\r";
+            } else if (c == '\t') {
+                escaped = "\\t";
+            } else if (c < 0x20) {
+                escaped = String.format("\\u%04x", (int) c);
+            } else {
+                continue;
+            }
+            out.write(value, start, i - start);
+            out.write(escaped);
+            start = i + 1;
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
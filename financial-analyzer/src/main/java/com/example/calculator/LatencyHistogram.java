@@ -0,0 +1,103 @@
+package com.example.calculator;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 나노초 단위 지연 시간을 기록하는 잠금 없는 로그-선형 히스토그램입니다. (HdrHistogram과 같은 방식)
+ *
+ * 값은 2의 거듭제곱 구간마다 16개의 하위 구간으로 나뉘므로 상대 오차는 약 6% 이내입니다.
+ * 스레드마다 다른 줄무늬(stripe)에 기록하여 여러 스레드가 같은 카운터를 두고 경합하지 않게 하며,
+ * 기록 경로에서는 객체를 만들지 않습니다. 줄무늬는 {@link #snapshot()}에서 합쳐집니다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;       // 2의 거듭제곱 구간당 하위 구간 수
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;           // 이 값 미만은 1ns 단위로 그대로 기록
+    static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT;
+
+    private static final int PADDING = 8; // 줄무늬별 합계·최댓값이 같은 캐시 라인을 공유하지 않도록 띄우는 간격
+
+    private final int stripeMask;
+    private final AtomicLongArray counts; // [줄무늬][구간]
+    private final AtomicLongArray sums;   // 줄무늬별 합계 (PADDING 간격)
+    private final AtomicLongArray maxima; // 줄무늬별 최댓값 (PADDING 간격)
+
+    public LatencyHistogram() {
+        int stripes = Integer.highestOneBit(Math.min(16, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        this.stripeMask = stripes - 1;
+        this.counts = new AtomicLongArray(stripes * BUCKET_COUNT);
+        this.sums = new AtomicLongArray(stripes * PADDING);
+        this.maxima = new AtomicLongArray(stripes * PADDING);
+    }
+
+    /**
+     * @param nanos 기록할 지연 시간 (음수는 0으로 기록)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        counts.getAndIncrement(stripe * BUCKET_COUNT + bucketIndex(value));
+        sums.getAndAdd(stripe * PADDING, value);
+        int maxIndex = stripe * PADDING;
+        long currentMax;
+        while (value > (currentMax = maxima.get(maxIndex)) && !maxima.compareAndSet(maxIndex, currentMax, value)) {
+            // 다른 스레드가 먼저 더 큰 값을 기록했으면 다시 비교
+        }
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return LINEAR_LIMIT + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /** index번째 구간에 속하는 가장 큰 값 */
+    static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS + 1;
+        int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = ((long) (SUB_BUCKET_COUNT + subBucket)) << (exponent - SUB_BUCKET_BITS);
+        return lower + width - 1;
+    }
+
+    /**
+     * 모든 줄무늬를 합친 현재 분포를 반환합니다.
+     * 기록 중에 호출해도 안전하지만, 동시에 기록된 값은 일부만 반영될 수 있습니다.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] merged = new long[BUCKET_COUNT];
+        int stripes = stripeMask + 1;
+        long total = 0;
+        long sum = 0;
+        long max = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            int base = stripe * BUCKET_COUNT;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long count = counts.get(base + i);
+                merged[i] += count;
+                total += count;
+            }
+            sum += sums.get(stripe * PADDING);
+            max = Math.max(max, maxima.get(stripe * PADDING));
+        }
+        return new HistogramSnapshot(merged, total, sum, max);
+    }
+
+    /** 모든 기록을 지웁니다. 동시에 기록 중인 값은 지워지지 않을 수 있습니다. */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        for (int i = 0; i < sums.length(); i++) {
+            sums.set(i, 0);
+            maxima.set(i, 0);
+        }
+    }
+}
@@ -1,11 +1,49 @@
 package com.example.calculator;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 public class Main {
-    public static void main(String[] args) {
+
+    /** 시작 시간 측정 여부: -Dcalculator.startup.timing=true */
+    private static final boolean STARTUP_TIMING = Boolean.getBoolean("calculator.startup.timing");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("--calc")) {
+            runSingle(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--warmup")) {
+            runWarmup();
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--batch")) {
+            runBatch(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--export-csv")) {
+            exportCsv(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--revalue")) {
+            runRevalue(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--server")) {
+            runServer(args);
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
         Calculator calculator = new Calculator();
 
@@ -51,6 +89,276 @@ public class Main {
         scanner.close();
     }
 
+    /**
+     * 한 번 계산하고 끝나는 모드: Main --calc [--pretty] <레코드>
+     * 레코드는 일괄 처리 CSV와 같은 형식이며, 쉼표 대신 인자로 나눠 줘도 됩니다.
+     * <pre>
+     * Main --calc BOND 10000 9500 3 5 2 0.1 true
+     * Main --calc SAVINGS,100000,12,3.0,24,4.0
+     * </pre>
+     * 기본 출력은 "지표=값" 줄이며 통화·로케일 형식을 쓰지 않으므로 NumberFormat과 로케일 자료를 읽지 않습니다.
+     * --pretty를 주면 대화형 모드와 같은 형식으로 출력합니다.
+     */
+    private static void runSingle(String[] args) {
+        long mainStartNanos = System.nanoTime();
+        boolean pretty = args.length > 1 && args[1].equals("--pretty");
+        int first = pretty ? 2 : 1;
+        List<String> fields = new ArrayList<>();
+        for (int i = first; i < args.length; i++) {
+            for (String field : args[i].split(",")) {
+                if (!field.isBlank()) {
+                    fields.add(field.trim());
+                }
+            }
+        }
+        if (fields.isEmpty()) { // 인자가 없거나 ",", 공백뿐인 경우
+            System.err.println("사용법: Main --calc [--pretty] <BOND|SAVINGS|DIVIDEND>,<필드>...");
+            System.exit(2);
+        }
+
+        CalculationResult result;
+        try {
+            result = new Calculator().calculate(parseRecord(fields));
+        } catch (IllegalArgumentException e) {
+            System.err.println("잘못된 입력: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        if (pretty) {
+            System.out.println(result);
+        } else {
+            StringBuilder out = new StringBuilder(256);
+            for (int i = 0; i < result.size(); i++) {
+                out.append(result.getMetric(i).name()).append('=').append(result.getValue(i)).append('\n');
+            }
+            System.out.print(out);
+        }
+        System.out.flush();
+        if (STARTUP_TIMING) {
+            reportStartupTime(mainStartNanos);
+        }
+    }
+
+    /**
+     * 일괄 처리 CSV와 같은 필드 순서로 상품을 만듭니다. (금리·수수료·세율은 % 단위)
+     */
+    private static FinancialProduct parseRecord(List<String> fields) {
+        String type = fields.get(0);
+        switch (type.toUpperCase(Locale.ROOT)) {
+            case "BOND":
+                requireFields(fields, 8, type);
+                return ProductFactory.bond(number(fields, 1), number(fields, 2), number(fields, 3), number(fields, 4),
+                        integer(fields, 5), number(fields, 6), bool(fields, 7));
+            case "SAVINGS": {
+                if (fields.size() < 4 || fields.size() % 2 != 0) {
+                    throw new IllegalArgumentException("SAVINGS는 월납입액 뒤에 (개월수, 연금리) 쌍이 1개 이상 필요합니다");
+                }
+                List<InterestRateTier> tiers = new ArrayList<>();
+                for (int i = 2; i < fields.size(); i += 2) {
+                    tiers.add(new InterestRateTier(integer(fields, i), number(fields, i + 1)));
+                }
+                return ProductFactory.savingsAccount(number(fields, 1), tiers);
+            }
+            case "DIVIDEND":
+                requireFields(fields, 7, type);
+                return ProductFactory.dividendStock(number(fields, 1), number(fields, 2), integer(fields, 3),
+                        number(fields, 4), number(fields, 5), number(fields, 6));
+            default:
+                throw new IllegalArgumentException("알 수 없는 상품 유형: " + type);
+        }
+    }
+
+    private static void requireFields(List<String> fields, int count, String type) {
+        if (fields.size() != count) {
+            throw new IllegalArgumentException(type + "는 필드가 " + count + "개여야 합니다: " + fields.size());
+        }
+    }
+
+    private static double number(List<String> fields, int index) {
+        return Double.parseDouble(fields.get(index)); // NumberFormatException은 IllegalArgumentException
+    }
+
+    private static int integer(List<String> fields, int index) {
+        return Integer.parseInt(fields.get(index));
+    }
+
+    // 일괄 처리 입력과 같이 true/false만 받음 (Boolean.parseBoolean은 오타를 false로 읽음)
+    private static boolean bool(List<String> fields, int index) {
+        String value = fields.get(index);
+        if (value.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("세금 적용 여부는 true 또는 false여야 합니다: " + value);
+    }
+
+    /**
+     * JVM 시작부터 첫 결과 출력까지의 시간을 표준 오류로 출력합니다.
+     * 측정이 끝난 뒤에 java.lang.management를 읽으므로 측정값에는 그 비용이 들어가지 않습니다.
+     */
+    private static void reportStartupTime(long mainStartNanos) {
+        long nowMillis = System.currentTimeMillis();
+        long mainMillis = (System.nanoTime() - mainStartNanos) / 1_000_000;
+        long vmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.err.printf("시작 시간: JVM 시작→첫 결과 %d ms (main→첫 결과 %d ms)%n", nowMillis - vmStartMillis, mainMillis);
+    }
+
+    /**
+     * 클래스 데이터 공유(AppCDS) 아카이브를 만들 때 쓰는 학습 실행: Main --warmup
+     * 세 상품 유형, 두 YTM 풀이기, 결과 출력 형식을 모두 한 번씩 거쳐 짧은 실행에서 쓰는 클래스를 미리 읽어 둡니다.
+     * 빌드가 -XX:ArchiveClassesAtExit로 이 모드를 실행해 target/financial-analyzer.jsa를 만듭니다.
+     */
+    private static void runWarmup() {
+        Calculator calculator = new Calculator();
+        List<FinancialProduct> products = List.of(
+                ProductFactory.bond(10000, 9500, 3, 5, 2, 0.1, true),
+                ProductFactory.savingsAccount(100000, List.of(new InterestRateTier(12, 3.0), new InterestRateTier(24, 4.0))),
+                new TieredSavingsAccount(100000, List.of(new InterestRateTier(36, 3.5)), InterestMode.DAILY_COMPOUND),
+                ProductFactory.dividendStock(50000, 56000, 100, 120000, 0.015, 0.18));
+        StringBuilder out = new StringBuilder(4096);
+        for (FinancialProduct product : products) {
+            CalculationResult result = calculator.calculate(product);
+            for (int i = 0; i < result.size(); i++) {
+                out.append(result.getMetric(i).name()).append('=').append(result.getValue(i)).append('\n');
+            }
+            ResultRenderer.forCurrentThread().render(result, out);
+            out.append('\n');
+        }
+        Bond bond = (Bond) products.get(0);
+        out.append(bond.solveYield(new BrentYieldSolver(), bond.estimateYield())).append('\n');
+        out.append(parseRecord(List.of("BOND", "10000", "9500", "3", "5", "2", "0.1", "true")).calculate().size());
+        System.out.println(out);
+    }
+
+    /**
+     * 비대화형 일괄 처리 모드: Main --batch <입력 CSV> <출력 파일> [묶음 크기] [csv|binary]
+     * -Dcalculator.metrics=true로 실행하면 계산 지표를 JMX에 등록하고
+     * calculator.metrics.interval초(기본 10초)마다 표준 오류로 출력합니다.
+     */
+    private static void runBatch(String[] args) throws IOException, InterruptedException {
+        if (args.length < 3) {
+            System.err.println("사용법: Main --batch <입력 CSV> <출력 파일> [묶음 크기] [csv|binary]");
+            System.exit(2);
+        }
+        int chunkSize = args.length > 3 ? Integer.parseInt(args[3]) : BatchRunner.DEFAULT_CHUNK_SIZE;
+        boolean binary = args.length > 4 && args[4].equalsIgnoreCase("binary");
+        Path output = Path.of(args[2]);
+        BatchRunner.WriterFactory writer = binary ? () -> new BinaryResultWriter(output) : () -> new CsvResultWriter(output);
+        BatchRunner runner = new BatchRunner(new Calculator(), ForkJoinPool.commonPool(), chunkSize);
+
+        CalculatorMetrics metrics = CalculatorMetrics.getInstance();
+        MetricsReporter reporter = null;
+        if (metrics.isEnabled()) {
+            metrics.registerMBean();
+            long intervalSeconds = Long.getLong("calculator.metrics.interval", 10);
+            reporter = MetricsReporter.start(metrics, intervalSeconds * 1000, System.err, MetricsReporter.Format.TEXT);
+        }
+        try {
+            BatchSummary summary = runner.run(Path.of(args[1]), writer);
+            System.out.println(summary);
+        } finally {
+            if (reporter != null) {
+                reporter.close(); // 마지막 요약 출력
+            }
+        }
+    }
+
+    /**
+     * 저장소 재평가 모드: Main --revalue <저장소 디렉터리> <입력 CSV>
+     * 입력의 각 줄은 맨 앞에 포지션 ID 열이 있는 상품 레코드입니다. (예: P-001,BOND,10000,9500,3.5,3,2,0.1,true)
+     * 저장된 상품과 달라진 포지션만 다시 계산해 저장하고, 입력에 없는 포지션은 저장소에서 지웁니다.
+     * 입력에 오류가 있으면 빠진 포지션인지 알 수 없으므로 지우지 않습니다.
+     */
+    private static void runRevalue(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("사용법: Main --revalue <저장소 디렉터리> <입력 CSV>");
+            System.exit(2);
+        }
+        long startTime = System.nanoTime();
+        long records = 0;
+        long changed = 0;
+        long failed = 0;
+        long removed = 0;
+        Set<String> positionIds = new HashSet<>();
+        Calculator calculator = new Calculator();
+        RecordChunk chunk = new RecordChunk(BatchRunner.DEFAULT_CHUNK_SIZE);
+        try (ProductStore store = new ProductStore(Path.of(args[1]));
+             ProductRecordReader reader = ProductRecordReader.withPositionIds(Path.of(args[2]))) {
+            while (reader.read(chunk) > 0) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    records++;
+                    long lineNumber = chunk.getLineNumber(i);
+                    String id = chunk.getPositionId(i);
+                    FinancialProduct product = chunk.getProduct(i);
+                    if (id != null && !positionIds.add(id)) {
+                        failed++;
+                        System.err.printf("%d번째 줄: 포지션 ID가 중복됩니다: %s%n", lineNumber, id);
+                        continue;
+                    }
+                    if (product == null) {
+                        failed++;
+                        System.err.printf("%d번째 줄: %s%n", lineNumber, chunk.getError(i));
+                        continue;
+                    }
+                    if (store.matches(id, product)) {
+                        continue;
+                    }
+                    try {
+                        store.put(id, product, calculator.calculate(product));
+                        changed++;
+                    } catch (RuntimeException e) {
+                        failed++;
+                        System.err.printf("%d번째 줄: %s%n", lineNumber, e.getMessage() != null ? e.getMessage() : e);
+                    }
+                }
+            }
+            if (failed == 0) {
+                for (String id : store.ids()) {
+                    if (!positionIds.contains(id) && store.remove(id)) {
+                        removed++;
+                    }
+                }
+            } else {
+                System.err.println("입력에 오류가 있어 입력에 없는 포지션을 지우지 않았습니다.");
+            }
+            System.out.printf(Locale.ROOT, "%,d건 중 %,d건을 다시 계산해 저장하고 %,d건을 지웠습니다. "
+                            + "(오류 %,d건, 저장된 포지션 %,d건, %.1f초)%n",
+                    records, changed, removed, failed, store.size(), (System.nanoTime() - startTime) / 1e9);
+        }
+    }
+
+    /**
+     * 상주 HTTP/JSON 서버 모드: Main --server [포트] [최대 동시 요청 수]
+     * 기본 포트는 8080이며 localhost에만 바인드합니다. 종료 신호를 받으면 진행 중인 요청을 마무리하고 멈춥니다.
+     */
+    private static void runServer(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+        int maxConcurrentRequests = args.length > 2 ? Integer.parseInt(args[2]) : CalculatorServer.DEFAULT_MAX_CONCURRENT_REQUESTS;
+        CalculatorServer server = new CalculatorServer(new Calculator(), new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                maxConcurrentRequests, CalculatorServer.DEFAULT_MAX_BODY_BYTES);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.start();
+        System.out.printf("계산 서버가 http://localhost:%d/api 에서 요청을 기다립니다.%n", server.getPort());
+        Thread.currentThread().join(); // 종료 신호가 올 때까지 대기
+    }
+
+    /**
+     * 바이너리 결과 파일을 CSV로 내보내기: Main --export-csv <바이너리 결과> <출력 CSV>
+     */
+    private static void exportCsv(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("사용법: Main --export-csv <바이너리 결과> <출력 CSV>");
+            System.exit(2);
+        }
+        try (BinaryResultReader reader = new BinaryResultReader(Path.of(args[1]))) {
+            long records = reader.exportCsv(Path.of(args[2]));
+            System.out.printf("%,d건을 내보냈습니다.%n", records);
+        }
+    }
+
     private static FinancialProduct createSavingsAccountFromUserInput(Scanner scanner) {
         System.out.println("\n--- 기간별 차등금리 적금 계산기 ---");
         System.out.print("월 납입액 (원): ");
@@ -74,7 +382,7 @@ public class Main {
             return null;
         }
 
-        return new TieredSavingsAccount(monthlyDeposit, tiers);
+        return ProductFactory.savingsAccount(monthlyDeposit, tiers);
     }
 
     private static FinancialProduct createBondFromUserInput(Scanner scanner) {
@@ -86,7 +394,7 @@ public class Main {
         double purchasePrice = scanner.nextDouble();
 
         System.out.print("표면 이율 (연, %): ");
-        double couponRate = scanner.nextDouble() / 100.0;
+        double couponRate = scanner.nextDouble();
 
         System.out.print("만기까지 남은 기간 (년): ");
         double yearsToMaturity = scanner.nextDouble();
@@ -95,12 +403,12 @@ public class Main {
         int couponFrequency = scanner.nextInt();
 
         System.out.print("매매 수수료율 (%, 예: 0.1% -> 0.1): ");
-        double tradingFeeRate = scanner.nextDouble() / 100.0;
+        double tradingFeeRate = scanner.nextDouble();
 
         System.out.print("이자 소득세(15.4%) 적용 여부 (true/false): ");
         boolean applyTax = scanner.nextBoolean();
 
-        return new Bond(faceValue, purchasePrice, couponRate, yearsToMaturity, couponFrequency, tradingFeeRate, applyTax);
+        return ProductFactory.bond(faceValue, purchasePrice, couponRate, yearsToMaturity, couponFrequency, tradingFeeRate, applyTax);
     }
 
     private static FinancialProduct createDividendStockFromUserInput(Scanner scanner) {
@@ -123,6 +431,6 @@ public class Main {
         System.out.print("증권거래세율 (%, 예: 0.18): ");
         double taxRate = scanner.nextDouble();
 
-        return new DividendStock(purchasePrice, sellingPrice, shares, dividends, tradingFee, taxRate);
+        return ProductFactory.dividendStock(purchasePrice, sellingPrice, shares, dividends, tradingFee, taxRate);
     }
 }
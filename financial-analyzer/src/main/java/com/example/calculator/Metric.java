@@ -0,0 +1,58 @@
+package com.example.calculator;
+
+/**
+ * 계산 결과에 담기는 지표의 종류입니다.
+ * 결과는 문자열 키 대신 이 열거형으로 값을 찾으며, 화면에 보여줄 한글 이름과 표시 형식을 함께 가집니다.
+ */
+public enum Metric {
+
+    // 채권
+    YIELD_TO_MATURITY("만기 수익률 (YTM, %)", Unit.PERCENT),
+    PURCHASE_PRICE("매입 가격", Unit.CURRENCY),
+    FACE_VALUE("액면가", Unit.CURRENCY),
+
+    // 기간별 차등금리 적금
+    TOTAL_PRINCIPAL("총 원금", Unit.CURRENCY),
+    PRE_TAX_INTEREST("세전 총 이자", Unit.CURRENCY),
+    INTEREST_INCOME_TAX("이자 소득세 (15.4%)", Unit.CURRENCY),
+    FINAL_AMOUNT("세후 실수령액", Unit.CURRENCY),
+    EFFECTIVE_ANNUAL_YIELD("실효 수익률 (연, %)", Unit.PERCENT),
+
+    // 배당주
+    TOTAL_INVESTMENT("총 투자 원금 (매수금액 + 수수료)", Unit.CURRENCY),
+    TOTAL_PURCHASE_AMOUNT("총 매수 금액", Unit.CURRENCY),
+    PURCHASE_FEE("매수 시 수수료", Unit.CURRENCY),
+    TOTAL_SELLING_AMOUNT("총 매도 금액", Unit.CURRENCY),
+    SELLING_FEE("매도 시 수수료", Unit.CURRENCY),
+    SECURITIES_TRANSACTION_TAX("증권거래세", Unit.CURRENCY),
+    GROSS_DIVIDEND("세전 총 배당금", Unit.CURRENCY),
+    DIVIDEND_INCOME_TAX("배당소득세 (15.4%)", Unit.CURRENCY),
+    NET_DIVIDEND("세후 순수 배당금", Unit.CURRENCY),
+    NET_PROFIT("최종 실현 손익", Unit.CURRENCY),
+    REALIZED_RETURN("실현 수익률 (%)", Unit.PERCENT);
+
+    /**
+     * 지표 값의 표시 형식
+     */
+    public enum Unit {
+        CURRENCY, // 원화(₩)
+        PERCENT   // 퍼센트(%)
+    }
+
+    private final String label;
+    private final Unit unit;
+
+    Metric(String label, Unit unit) {
+        this.label = label;
+        this.unit = unit;
+    }
+
+    /** 화면에 표시할 한글 이름 */
+    public String getLabel() {
+        return label;
+    }
+
+    public Unit getUnit() {
+        return unit;
+    }
+}
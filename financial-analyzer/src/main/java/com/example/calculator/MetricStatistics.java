@@ -0,0 +1,93 @@
+package com.example.calculator;
+
+/**
+ * 한 지표 값들의 합쳐지는(mergeable) 통계입니다.
+ * 건수, 보정 합계, 최솟값·최댓값, 가중 평균, t-digest 분위수를 값을 보관하지 않고 누적합니다.
+ * 값은 {@link PortfolioAggregator}를 통해서만 더해지며, 요약에 담긴 뒤에는 읽기만 합니다.
+ */
+public final class MetricStatistics {
+
+    private final Metric metric;
+    private long count;
+    private final CompensatedSum sum = new CompensatedSum();
+    private final CompensatedSum weightedSum = new CompensatedSum();
+    private final CompensatedSum weightTotal = new CompensatedSum();
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private final TDigest digest = new TDigest();
+
+    MetricStatistics(Metric metric) {
+        this.metric = metric;
+    }
+
+    /**
+     * @param weight 가중 평균에 쓸 무게 (0 이하이면 가중 평균에서 제외)
+     */
+    void add(double value, double weight) {
+        if (Double.isNaN(value)) {
+            return; // 정의되지 않은 값(예: 원금 0인 수익률)은 통계에서 제외
+        }
+        count++;
+        sum.add(value);
+        if (weight > 0) {
+            weightedSum.add(value * weight);
+            weightTotal.add(weight);
+        }
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (!Double.isInfinite(value)) {
+            digest.add(value);
+        }
+    }
+
+    void merge(MetricStatistics other) {
+        count += other.count;
+        sum.add(other.sum);
+        weightedSum.add(other.weightedSum);
+        weightTotal.add(other.weightTotal);
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        digest.merge(other.digest);
+    }
+
+    /** 분위수를 읽을 때 할당이 없도록 t-digest를 미리 압축합니다. */
+    void compress() {
+        digest.compress();
+    }
+
+    public Metric getMetric() { return metric; }
+    public long getCount() { return count; }
+
+    public double getSum() {
+        return sum.value();
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : sum.value() / count;
+    }
+
+    /**
+     * 투자 원금 가중 평균. 예를 들어 YTM은 매입 가격으로, 실효 수익률은 총 원금으로 가중합니다.
+     * @return 무게가 있는 값이 없으면 NaN
+     */
+    public double getWeightedMean() {
+        double weight = weightTotal.value();
+        return weight > 0 ? weightedSum.value() / weight : Double.NaN;
+    }
+
+    public double getMin() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return t-digest로 추정한 분위수
+     */
+    public double getValueAtPercentile(double percentile) {
+        return digest.getValueAtPercentile(percentile);
+    }
+}
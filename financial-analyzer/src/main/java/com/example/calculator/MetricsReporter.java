@@ -0,0 +1,80 @@
+package com.example.calculator;
+
+import java.io.Closeable;
+import java.io.PrintStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계산 지표 요약을 일정한 간격으로 출력하는 보고기입니다.
+ * 데몬 스레드에서 동작하므로 프로그램 종료를 막지 않으며, {@link #close()} 시 마지막 요약을 한 번 더 출력합니다.
+ */
+public class MetricsReporter implements Closeable {
+
+    /** 출력 형식 */
+    public enum Format {
+        TEXT,
+        JSON
+    }
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final CalculatorMetrics metrics;
+    private final PrintStream out;
+    private final Format format;
+    private final ScheduledExecutorService scheduler;
+
+    private MetricsReporter(CalculatorMetrics metrics, PrintStream out, Format format) {
+        this.metrics = metrics;
+        this.out = out;
+        this.format = format;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "calculator-metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 보고를 시작합니다.
+     *
+     * @param metrics       출력할 지표
+     * @param intervalMillis 출력 간격 (밀리초)
+     * @param out           출력 대상
+     * @param format        출력 형식
+     */
+    public static MetricsReporter start(CalculatorMetrics metrics, long intervalMillis, PrintStream out, Format format) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("intervalMillis는 1 이상이어야 합니다: " + intervalMillis);
+        }
+        MetricsReporter reporter = new MetricsReporter(metrics, out, format);
+        reporter.scheduler.scheduleAtFixedRate(reporter::report, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return reporter;
+    }
+
+    /** 현재 요약을 즉시 한 번 출력합니다. */
+    public void report() {
+        MetricsSnapshot snapshot = metrics.snapshot();
+        out.println(format == Format.JSON ? snapshot.toJson() : snapshot.toText());
+        out.flush();
+    }
+
+    /**
+     * 주기 보고를 멈추고 마지막 요약을 출력합니다.
+     * 진행 중인 보고가 끝날 때까지 기다리므로 마지막 요약이 다른 출력과 섞이지 않습니다.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow(); // 출력 대상이 막혀 있는 경우: 더 기다리지 않음
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        report();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.calculator;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 계산 지표 전체의 한 시점 요약입니다. 사람이 읽는 텍스트와 JSON으로 내보낼 수 있습니다.
+ */
+public class MetricsSnapshot {
+
+    private final long elapsedNanos;
+    private final List<ProductTypeSnapshot> productTypes;
+    private final long solverInvocations;
+    private final long solverIterations;
+    private final long solverNonConverged;
+    private final long[] iterationCounts; // 반복 횟수별 풀이 수 (마지막 칸은 그 이상 모두)
+
+    MetricsSnapshot(long elapsedNanos, List<ProductTypeSnapshot> productTypes,
+                    long solverInvocations, long solverIterations, long solverNonConverged, long[] iterationCounts) {
+        this.elapsedNanos = elapsedNanos;
+        this.productTypes = productTypes;
+        this.solverInvocations = solverInvocations;
+        this.solverIterations = solverIterations;
+        this.solverNonConverged = solverNonConverged;
+        this.iterationCounts = iterationCounts;
+    }
+
+    public long getElapsedNanos() { return elapsedNanos; }
+    public List<ProductTypeSnapshot> getProductTypes() { return productTypes; }
+    public long getSolverInvocations() { return solverInvocations; }
+    public long getSolverIterations() { return solverIterations; }
+    public long getSolverNonConverged() { return solverNonConverged; }
+
+    public double getMeanSolverIterations() {
+        return solverInvocations == 0 ? 0.0 : (double) solverIterations / solverInvocations;
+    }
+
+    /** @return iterations번 반복한 풀이 수 */
+    public long getSolverIterationCount(int iterations) {
+        return iterations < iterationCounts.length ? iterationCounts[iterations] : 0;
+    }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "=== 계산 지표 (집계 %.1f초) ===%n", elapsedNanos / 1e9));
+        for (ProductTypeSnapshot type : productTypes) {
+            sb.append(String.format(Locale.ROOT,
+                    "%-22s 건수=%d 실패=%d 처리량=%.1f/s 평균=%.0fns p50=%d p90=%d p99=%d p99.9=%d 최대=%d 할당=%.0fB%n",
+                    type.getProductType(), type.getCount(), type.getFailureCount(), type.getThroughputPerSecond(),
+                    type.getMeanNanos(), type.getP50Nanos(), type.getP90Nanos(), type.getP99Nanos(),
+                    type.getP999Nanos(), type.getMaxNanos(), type.getMeanAllocatedBytes()));
+        }
+        sb.append(String.format(Locale.ROOT, "YTM 풀이: 호출=%d 평균 반복=%.2f 미수렴=%d%n",
+                solverInvocations, getMeanSolverIterations(), solverNonConverged));
+        if (solverInvocations > 0) {
+            sb.append("반복 분포:");
+            for (int i = 0; i < iterationCounts.length; i++) {
+                if (iterationCounts[i] > 0) {
+                    sb.append(' ').append(i).append(i == iterationCounts.length - 1 ? "+" : "").append('=').append(iterationCounts[i]);
+                }
+            }
+            sb.append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"elapsedNanos\":").append(elapsedNanos).append(",\"productTypes\":[");
+        for (int i = 0; i < productTypes.size(); i++) {
+            ProductTypeSnapshot type = productTypes.get(i);
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"productType\":\"").append(type.getProductType()).append('"')
+              .append(",\"count\":").append(type.getCount())
+              .append(",\"failureCount\":").append(type.getFailureCount())
+              .append(",\"throughputPerSecond\":").append(type.getThroughputPerSecond())
+              .append(",\"meanNanos\":").append(type.getMeanNanos())
+              .append(",\"p50Nanos\":").append(type.getP50Nanos())
+              .append(",\"p90Nanos\":").append(type.getP90Nanos())
+              .append(",\"p99Nanos\":").append(type.getP99Nanos())
+              .append(",\"p999Nanos\":").append(type.getP999Nanos())
+              .append(",\"maxNanos\":").append(type.getMaxNanos())
+              .append(",\"meanAllocatedBytes\":").append(type.getMeanAllocatedBytes())
+              .append('}');
+        }
+        sb.append("],\"solver\":{\"invocations\":").append(solverInvocations)
+          .append(",\"iterations\":").append(solverIterations)
+          .append(",\"nonConverged\":").append(solverNonConverged)
+          .append(",\"iterationHistogram\":[");
+        for (int i = 0; i < iterationCounts.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(iterationCounts[i]);
+        }
+        return sb.append("]}}").toString();
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+}
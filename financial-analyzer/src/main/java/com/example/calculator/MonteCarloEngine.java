@@ -0,0 +1,224 @@
+package com.example.calculator;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 단기 금리 경로를 시뮬레이션해 상품의 만기 결과 분포를 구하는 몬테카를로 엔진입니다.
+ *
+ * 경로는 월 단위로 만들며, 상품마다 다음과 같이 경로를 따라 다시 계산합니다.
+ * <ul>
+ *   <li>차등금리 적금: 달력 월 m의 모든 구간 금리에 (r(m) - r(0))를 더해 이자를 계산한 세후 실수령액과,
+ *       {@link TieredSavingsAccount#calculate()}와 같은 공식의 실효 수익률.</li>
+ *   <li>채권: 이표를 받을 때마다 경로의 단기 금리로 만기까지 재투자한 만기 총액과,
+ *       수수료를 반영한 매입 가격 대비 실현 수익률(이표 지급 횟수 기준 복리, %).
+ *       변동성이 0이고 금리가 YTM을 연속 복리로 환산한 값에 고정되면 실현 수익률은 YTM과 같습니다.</li>
+ * </ul>
+ *
+ * 경로는 고정된 수의 묶음(block)으로 나눠 병렬로 처리합니다. 묶음마다 난수 생성기를 시드에서 순서대로 split()해
+ * 미리 정해 두고 묶음 결과도 순서대로 합치므로, 같은 시드·경로 수·묶음 수이면 코어 수나 스레드 배치와 관계없이
+ * 결과가 비트 단위로 같습니다. 결과는 분포 요약(t-digest)에만 누적하므로 메모리는 경로 수와 무관합니다.
+ */
+public class MonteCarloEngine {
+
+    /** 기본 묶음 수. 병렬 처리 단위이자 결정적 결과를 위한 난수 스트림 수입니다. */
+    public static final int DEFAULT_BLOCKS = 64;
+
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final double MONTH = 1.0 / MONTHS_PER_YEAR;
+
+    private final VasicekModel model;
+    private final long seed;
+    private final int blocks;
+
+    public MonteCarloEngine(VasicekModel model, long seed) {
+        this(model, seed, DEFAULT_BLOCKS);
+    }
+
+    /**
+     * @param model  단기 금리 모형
+     * @param seed   난수 시드 (같은 시드이면 같은 결과)
+     * @param blocks 경로를 나눌 묶음 수 (결과의 재현성은 이 값에도 달려 있음)
+     */
+    public MonteCarloEngine(VasicekModel model, long seed, int blocks) {
+        if (blocks <= 0) {
+            throw new IllegalArgumentException("묶음 수는 1 이상이어야 합니다: " + blocks);
+        }
+        this.model = model;
+        this.seed = seed;
+        this.blocks = blocks;
+    }
+
+    /**
+     * @param product 시뮬레이션할 상품 (Bond, TieredSavingsAccount)
+     * @param paths   경로 수
+     * @return 만기 금액과 실현 수익률의 분포
+     * @throws IllegalArgumentException 지원하지 않는 상품인 경우
+     */
+    public MonteCarloResult simulate(FinancialProduct product, long paths) {
+        if (paths <= 0) {
+            throw new IllegalArgumentException("경로 수는 1 이상이어야 합니다: " + paths);
+        }
+        PathProduct pathProduct = prepare(product);
+        int blockCount = (int) Math.min(blocks, paths);
+
+        // 스레드 배치와 무관하도록 난수 스트림을 묶음 순서대로 미리 나눠 둠
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[blockCount];
+        for (int b = 0; b < blockCount; b++) {
+            randoms[b] = root.split();
+        }
+
+        long start = System.nanoTime();
+        Distribution[] finalAmounts = new Distribution[blockCount];
+        Distribution[] yields = new Distribution[blockCount];
+        IntStream.range(0, blockCount).parallel().forEach(b -> {
+            long blockPaths = paths / blockCount + (b < paths % blockCount ? 1 : 0);
+            Distribution finalAmount = new Distribution();
+            Distribution realizedYield = new Distribution();
+            double[] rates = new double[pathProduct.steps()];
+            double[] scratch = new double[pathProduct.scratchSize()];
+            SplittableRandom random = randoms[b];
+            for (long p = 0; p < blockPaths; p++) {
+                model.simulate(random, MONTH, rates);
+                pathProduct.evaluate(rates, scratch, finalAmount, realizedYield);
+            }
+            finalAmounts[b] = finalAmount;
+            yields[b] = realizedYield;
+        });
+
+        Distribution finalAmount = new Distribution();
+        Distribution realizedYield = new Distribution();
+        for (int b = 0; b < blockCount; b++) {
+            finalAmount.merge(finalAmounts[b]);
+            realizedYield.merge(yields[b]);
+        }
+        finalAmount.compress();
+        realizedYield.compress();
+        return new MonteCarloResult(paths, seed, finalAmount, realizedYield, System.nanoTime() - start);
+    }
+
+    private PathProduct prepare(FinancialProduct product) {
+        if (product instanceof TieredSavingsAccount) {
+            return new SavingsPath((TieredSavingsAccount) product, model.getInitialRate());
+        }
+        if (product instanceof Bond) {
+            return new BondPath((Bond) product);
+        }
+        throw new IllegalArgumentException("몬테카를로 시뮬레이션을 지원하지 않는 상품입니다: " + product.getClass().getName());
+    }
+
+    /**
+     * 경로와 무관한 값을 미리 계산해 둔 상품. 여러 스레드가 함께 쓰므로 상태를 바꾸지 않으며,
+     * 경로마다 필요한 작업 공간은 묶음별 scratch 배열로 받습니다.
+     */
+    private abstract static class PathProduct {
+        /** 필요한 월별 금리 수 */
+        abstract int steps();
+
+        abstract int scratchSize();
+
+        abstract void evaluate(double[] rates, double[] scratch, Distribution finalAmount, Distribution realizedYield);
+    }
+
+    private static final class SavingsPath extends PathProduct {
+        private final TieredInterestEngine engine;
+        private final double monthlyDeposit;
+        private final InterestMode interestMode;
+        private final int totalMonths;
+        private final double principal;
+        private final double initialRate;
+
+        SavingsPath(TieredSavingsAccount account, double initialRate) {
+            this.engine = account.getInterestEngine();
+            this.monthlyDeposit = account.getMonthlyDeposit();
+            this.interestMode = account.getInterestMode();
+            this.totalMonths = Math.max(0, engine.getTotalMonths());
+            this.principal = monthlyDeposit * totalMonths;
+            this.initialRate = initialRate;
+        }
+
+        @Override
+        int steps() {
+            return totalMonths;
+        }
+
+        @Override
+        int scratchSize() {
+            return engine.pathScratchSize();
+        }
+
+        @Override
+        void evaluate(double[] rates, double[] scratch, Distribution finalAmount, Distribution realizedYield) {
+            // 경로는 매번 새로 만들므로 금리 배열을 그대로 달별 금리 이동으로 바꿔 씀
+            for (int m = 0; m < totalMonths; m++) {
+                rates[m] -= initialRate;
+            }
+            double interest = engine.totalInterest(monthlyDeposit, interestMode, rates, scratch);
+            double afterTaxInterest = interest - interest * TieredSavingsAccount.TAX_RATE;
+            finalAmount.add(principal + afterTaxInterest);
+            // TieredSavingsAccount.calculate()의 실효 수익률 공식
+            realizedYield.add((afterTaxInterest / principal) * (12.0 / (totalMonths + 1)) * 2 * 100);
+        }
+    }
+
+    private static final class BondPath extends PathProduct {
+        private final double[] times;       // 현금흐름 시점 (연)
+        private final double[] amounts;     // 현금흐름 금액 (세후 이표, 마지막은 액면가 포함)
+        private final double maturity;      // 마지막 현금흐름 시점
+        private final double actualPurchasePrice;
+        private final int couponFrequency;
+        private final int steps;
+
+        BondPath(Bond bond) {
+            CashFlowSchedule schedule = bond.receipts(); // 매입 대금은 actualPurchasePrice로 따로 다룸
+            int n = schedule.size();
+            this.times = new double[n];
+            this.amounts = new double[n];
+            for (int i = 0; i < n; i++) {
+                times[i] = schedule.time(i);
+                amounts[i] = schedule.amount(i);
+            }
+            this.maturity = n == 0 ? 0.0 : times[n - 1];
+            this.actualPurchasePrice = Bond.actualPurchasePrice(bond.getPurchasePrice(), bond.getTradingFeeRate());
+            this.couponFrequency = bond.getCouponFrequency();
+            this.steps = (int) Math.ceil(maturity * MONTHS_PER_YEAR) + 1;
+        }
+
+        @Override
+        int steps() {
+            return steps;
+        }
+
+        @Override
+        int scratchSize() {
+            return steps + 1;
+        }
+
+        /**
+         * 금리 경로의 누적 적분 I(t) = ∫r로 각 현금흐름을 만기까지 exp(I(T) - I(t))배로 불립니다.
+         */
+        @Override
+        void evaluate(double[] rates, double[] integral, Distribution finalAmount, Distribution realizedYield) {
+            integral[0] = 0;
+            for (int m = 0; m < steps; m++) {
+                integral[m + 1] = integral[m] + rates[m] * MONTH;
+            }
+            double atMaturity = integralAt(rates, integral, maturity);
+            double wealth = 0;
+            for (int i = 0; i < times.length; i++) {
+                wealth += amounts[i] * Math.exp(atMaturity - integralAt(rates, integral, times[i]));
+            }
+            finalAmount.add(wealth);
+            if (maturity > 0) {
+                double periods = couponFrequency * maturity;
+                realizedYield.add(couponFrequency * Math.expm1(Math.log(wealth / actualPurchasePrice) / periods) * 100);
+            }
+        }
+
+        private double integralAt(double[] rates, double[] integral, double years) {
+            int month = Math.min((int) (years * MONTHS_PER_YEAR), steps - 1);
+            return integral[month] + rates[month] * (years - month * MONTH);
+        }
+    }
+}
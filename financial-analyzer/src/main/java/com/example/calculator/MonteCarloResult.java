@@ -0,0 +1,57 @@
+package com.example.calculator;
+
+import java.util.Locale;
+
+/**
+ * 몬테카를로 시뮬레이션 결과입니다. 점 추정 하나 대신 만기 금액과 실현 수익률(%)의 분포를 담습니다.
+ */
+public class MonteCarloResult {
+
+    private final long paths;
+    private final long seed;
+    private final Distribution finalAmount;
+    private final Distribution realizedYield;
+    private final long elapsedNanos;
+
+    MonteCarloResult(long paths, long seed, Distribution finalAmount, Distribution realizedYield, long elapsedNanos) {
+        this.paths = paths;
+        this.seed = seed;
+        this.finalAmount = finalAmount;
+        this.realizedYield = realizedYield;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getPaths() { return paths; }
+    public long getSeed() { return seed; }
+
+    /** 만기 금액 분포 (적금: 세후 실수령액, 채권: 이표를 재투자한 만기 총액) */
+    public Distribution getFinalAmount() { return finalAmount; }
+
+    /** 실현 수익률 분포 (%) */
+    public Distribution getRealizedYield() { return realizedYield; }
+
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "=== 몬테카를로 결과 (경로 %d개, 시드 %d, %.2f초) ===%n", paths, seed, elapsedNanos / 1e9));
+        sb.append(String.format(Locale.ROOT, "%-12s %16s %14s %16s %16s %16s %16s %16s%n",
+                "", "평균", "표준편차", "p1", "p5", "p50", "p95", "p99"));
+        appendRow("만기 금액", finalAmount, sb);
+        appendRow("실현 수익률", realizedYield, sb);
+        return sb.toString();
+    }
+
+    private static void appendRow(String label, Distribution distribution, StringBuilder sb) {
+        sb.append(String.format(Locale.ROOT, "%-12s %16.4f %14.4f %16.4f %16.4f %16.4f %16.4f %16.4f%n", label,
+                distribution.getMean(), distribution.getStandardDeviation(),
+                distribution.getValueAtPercentile(1), distribution.getValueAtPercentile(5),
+                distribution.getValueAtPercentile(50), distribution.getValueAtPercentile(95),
+                distribution.getValueAtPercentile(99)));
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.calculator;
+
+/**
+ * 가격 함수의 해석적 도함수(듀레이션)를 이용하는 뉴턴-랩슨 수익률 풀이기입니다.
+ * 보통 몇 번의 반복으로 수렴하며, 도함수가 0이 되거나 정의역을 벗어나거나
+ * 최대 반복 안에 수렴하지 못하면 안전한 대체 풀이기(기본: 브렌트)로 넘어갑니다.
+ */
+public class NewtonYieldSolver implements YieldSolver {
+
+    private final double tolerance;     // 수익률 허용 오차
+    private final int maxIterations;    // 뉴턴 단계 최대 반복 횟수
+    private final YieldSolver fallback; // 뉴턴 실패 시 사용할 풀이기
+
+    public NewtonYieldSolver() {
+        this(1e-10, 20);
+    }
+
+    /**
+     * @param tolerance     수익률에 대한 허용 오차 (예: 1e-10)
+     * @param maxIterations 뉴턴 단계의 최대 반복 횟수
+     */
+    public NewtonYieldSolver(double tolerance, int maxIterations) {
+        this(tolerance, maxIterations, new BrentYieldSolver(tolerance, 200));
+    }
+
+    public NewtonYieldSolver(double tolerance, int maxIterations, YieldSolver fallback) {
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void solve(PriceFunction function, double targetPrice, double initialGuess, YieldSolution solution) {
+        double lowerBound = function.lowerBound();
+        double y = Double.isFinite(initialGuess) && initialGuess > lowerBound ? initialGuess : 0.0;
+
+        int iterations = 0;
+        while (iterations < maxIterations) {
+            double priceDifference = function.price(y) - targetPrice;
+            double slope = function.derivative(y);
+            iterations++;
+            if (slope == 0 || !Double.isFinite(slope) || !Double.isFinite(priceDifference)) {
+                break;
+            }
+            double next = y - priceDifference / slope;
+            if (!(next > lowerBound)) {
+                break; // 정의역을 벗어나면 대체 풀이기로
+            }
+            if (Math.abs(next - y) <= tolerance) {
+                solution.set(next, iterations, true);
+                return;
+            }
+            y = next;
+        }
+
+        // 뉴턴이 실패하면 처음 추정치에서 대체 풀이기로 다시 탐색
+        fallback.solve(function, targetPrice, initialGuess, solution);
+        solution.set(solution.getYield(), iterations + solution.getIterations(), solution.isConverged());
+    }
+}
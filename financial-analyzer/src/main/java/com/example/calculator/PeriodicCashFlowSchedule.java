@@ -0,0 +1,88 @@
+package com.example.calculator;
+
+/**
+ * 일정한 간격으로 같은 금액이 오가고 마지막 회차만 금액이 다른 현금흐름 일정입니다.
+ * 지금(0년) 한 번 오가는 초기 금액을 앞에 둘 수 있으며, 그 뒤 k번째 정기 현금흐름은 (offset + k) / frequency 년에 발생합니다.
+ *
+ * 채권: 초기 금액 = -수수료 포함 매입 대금, offset = 첫 이표까지 남은 기간, 금액 = 기간당 이표, 마지막 회차 = 이표 + 액면가
+ * 적금: 초기 금액 없음, offset = 0, 금액 = -월 납입액, 마지막 회차(만기) = 세후 만기 수령액
+ */
+final class PeriodicCashFlowSchedule implements CashFlowSchedule {
+
+    static final PeriodicCashFlowSchedule EMPTY = new PeriodicCashFlowSchedule(0, 1, 0, 0, 0);
+
+    private final int initialCount;     // 초기 금액이 있으면 1
+    private final double initialAmount; // 지금(0년) 오가는 금액
+    private final double offset;        // 첫 정기 현금흐름까지의 기간 (기간 단위)
+    private final int frequency;        // 연간 현금흐름 횟수
+    private final int count;            // 정기 현금흐름 수
+    private final double regularAmount; // 마지막을 제외한 회차의 금액
+    private final double finalAmount;   // 마지막 회차의 금액
+
+    PeriodicCashFlowSchedule(double offset, int frequency, int count, double regularAmount, double finalAmount) {
+        this(0, 0.0, offset, frequency, count, regularAmount, finalAmount);
+    }
+
+    /**
+     * 지금(0년) 오가는 initialAmount 뒤에 정기 현금흐름이 이어지는 일정을 만듭니다.
+     */
+    PeriodicCashFlowSchedule(double initialAmount, double offset, int frequency, int count, double regularAmount,
+                             double finalAmount) {
+        this(1, initialAmount, offset, frequency, count, regularAmount, finalAmount);
+    }
+
+    private PeriodicCashFlowSchedule(int initialCount, double initialAmount, double offset, int frequency, int count,
+                                     double regularAmount, double finalAmount) {
+        if (frequency <= 0) {
+            throw new IllegalArgumentException("연간 현금흐름 횟수는 1 이상이어야 합니다: " + frequency);
+        }
+        this.initialCount = initialCount;
+        this.initialAmount = initialAmount;
+        this.offset = offset;
+        this.frequency = frequency;
+        this.count = Math.max(0, count);
+        this.regularAmount = regularAmount;
+        this.finalAmount = finalAmount;
+    }
+
+    @Override
+    public int size() {
+        return initialCount + count;
+    }
+
+    @Override
+    public double time(int index) {
+        int k = periodicIndex(index);
+        return k < 0 ? 0.0 : (offset + k) / frequency;
+    }
+
+    @Override
+    public double amount(int index) {
+        int k = periodicIndex(index);
+        if (k < 0) {
+            return initialAmount;
+        }
+        return k == count - 1 ? finalAmount : regularAmount;
+    }
+
+    @Override
+    public double totalAmount() {
+        double periodic = count == 0 ? 0.0 : regularAmount * (count - 1) + finalAmount;
+        return initialCount == 0 ? periodic : initialAmount + periodic;
+    }
+
+    /** @return 정기 현금흐름 중 몇 번째인지. 초기 금액이면 -1 */
+    private int periodicIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size());
+        }
+        return index - initialCount;
+    }
+
+    @Override
+    public String toString() {
+        return "PeriodicCashFlowSchedule[initial=" + (initialCount == 0 ? "none" : String.valueOf(initialAmount))
+                + ", count=" + count + ", frequency=" + frequency + ", offset=" + offset
+                + ", regular=" + regularAmount + ", final=" + finalAmount + "]";
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.calculator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * 계산 결과를 묶음별로 집계하는 합쳐지는(mergeable) 누적기입니다.
+ *
+ * 결과는 들어오는 대로 묶음별 통계({@link PortfolioGroup})에 더하고 보관하지 않으므로,
+ * 결과 수와 관계없이 메모리는 묶음 수 × 지표 수에 비례합니다.
+ * 묶음 이름은 기본으로 상품 이름이며, 사용자 태그(계좌, 전략 등)를 직접 줄 수도 있습니다.
+ *
+ * 스레드 안전하지 않습니다. 병렬로 집계할 때는 스레드마다 누적기를 두고 {@link #merge}로 합치거나,
+ * 이 방식을 그대로 쓰는 {@link #collector()}를 병렬 스트림에 사용하세요.
+ * <pre>
+ * PortfolioSummary summary = products.parallelStream()
+ *         .collect(PortfolioAggregator.collector(calculator::calculate, p -&gt; accountOf(p)));
+ * </pre>
+ */
+public class PortfolioAggregator {
+
+    private final Map<String, PortfolioGroup> groups = new HashMap<>();
+
+    /** 상품 이름으로 묶어 더합니다. */
+    public void accept(CalculationResult result) {
+        accept(result, result.getProductName());
+    }
+
+    /**
+     * @param group 결과를 더할 묶음 이름 (사용자 태그)
+     * @throws IllegalArgumentException 묶음 이름이 전체 합계 이름({@link PortfolioSummary#TOTAL})과 같은 경우
+     *                                  (출력에서 전체 합계 줄과 구별할 수 없으므로)
+     */
+    public void accept(CalculationResult result, String group) {
+        if (group.equals(PortfolioSummary.TOTAL)) {
+            throw new IllegalArgumentException("전체 합계 이름은 묶음 이름으로 쓸 수 없습니다: " + group);
+        }
+        groups.computeIfAbsent(group, PortfolioGroup::new).add(result);
+    }
+
+    /**
+     * 다른 누적기의 내용을 이 누적기에 합칩니다.
+     * @return 이 누적기
+     */
+    public PortfolioAggregator merge(PortfolioAggregator other) {
+        for (PortfolioGroup group : other.groups.values()) {
+            groups.computeIfAbsent(group.getName(), PortfolioGroup::new).merge(group);
+        }
+        return this;
+    }
+
+    /**
+     * 지금까지 더한 내용의 요약. 누적기와 상태를 공유하지 않으므로 이후에 더해도 요약은 바뀌지 않습니다.
+     * 분위수 추정용 t-digest는 여기서 압축해 두므로 요약은 여러 스레드에서 동시에 읽어도 됩니다.
+     */
+    public PortfolioSummary summary() {
+        Map<String, PortfolioGroup> copies = new HashMap<>();
+        PortfolioGroup total = new PortfolioGroup(PortfolioSummary.TOTAL);
+        for (PortfolioGroup group : groups.values()) {
+            PortfolioGroup copy = new PortfolioGroup(group.getName());
+            copy.merge(group);
+            copy.compress();
+            copies.put(copy.getName(), copy);
+            total.merge(group);
+        }
+        total.compress();
+        return new PortfolioSummary(copies, total);
+    }
+
+    /** 계산 결과 스트림을 상품 이름별로 집계하는 Collector (병렬 스트림 지원) */
+    public static Collector<CalculationResult, ?, PortfolioSummary> collector() {
+        return collector(Function.identity(), CalculationResult::getProductName);
+    }
+
+    /**
+     * 원소마다 결과와 묶음 이름을 꺼내 집계하는 Collector (병렬 스트림 지원).
+     *
+     * @param result 원소의 계산 결과 (예: 상품 스트림이면 calculator::calculate)
+     * @param group  원소의 묶음 이름 (사용자 태그)
+     */
+    public static <T> Collector<T, ?, PortfolioSummary> collector(Function<? super T, CalculationResult> result,
+                                                                 Function<? super T, String> group) {
+        return Collector.of(
+                PortfolioAggregator::new,
+                (aggregator, element) -> {
+                    CalculationResult r = result.apply(element);
+                    aggregator.accept(r, group.apply(element));
+                },
+                PortfolioAggregator::merge,
+                PortfolioAggregator::summary);
+    }
+}
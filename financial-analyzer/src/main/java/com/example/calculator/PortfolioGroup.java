@@ -0,0 +1,136 @@
+package com.example.calculator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 포트폴리오의 한 묶음(상품 이름이나 사용자 태그가 같은 결과들)의 집계입니다.
+ *
+ * 투자 원금과 손익은 결과에 담긴 지표에서 상품 유형에 맞게 꺼냅니다.
+ * <ul>
+ *   <li>투자 원금: 총 투자 원금(배당주), 총 원금(적금), 매입 가격(채권) 중 있는 것</li>
+ *   <li>손익: 최종 실현 손익(배당주), 세후 실수령액 - 총 원금(적금). 채권 결과에는 손익을 구할 지표가 없어 제외</li>
+ * </ul>
+ * 수익률(% 단위) 지표의 가중 평균은 그 결과의 투자 원금으로 가중합니다.
+ */
+public final class PortfolioGroup {
+
+    private static final Metric[] METRICS = Metric.values();
+
+    private final String name;
+    private long count;
+    private long profitCount;
+    private final CompensatedSum totalInvestment = new CompensatedSum();
+    private final CompensatedSum totalProfit = new CompensatedSum();
+    private final MetricStatistics[] statistics = new MetricStatistics[METRICS.length]; // 지표 순서(ordinal)로, 처음 나올 때 생성
+
+    PortfolioGroup(String name) {
+        this.name = name;
+    }
+
+    void add(CalculationResult result) {
+        count++;
+        double investment = investment(result);
+        if (!Double.isNaN(investment)) {
+            totalInvestment.add(investment);
+        }
+        double profit = profit(result);
+        if (!Double.isNaN(profit)) {
+            totalProfit.add(profit);
+            profitCount++;
+        }
+        for (int i = 0; i < result.size(); i++) {
+            Metric metric = result.getMetric(i);
+            double weight = metric.getUnit() == Metric.Unit.PERCENT ? investment : 1.0;
+            statisticsFor(metric).add(result.getValue(i), weight);
+        }
+    }
+
+    void merge(PortfolioGroup other) {
+        count += other.count;
+        profitCount += other.profitCount;
+        totalInvestment.add(other.totalInvestment);
+        totalProfit.add(other.totalProfit);
+        for (int i = 0; i < statistics.length; i++) {
+            if (other.statistics[i] != null) {
+                statisticsFor(METRICS[i]).merge(other.statistics[i]);
+            }
+        }
+    }
+
+    /** 요약으로 넘기기 전에 지표 통계를 압축합니다. */
+    void compress() {
+        for (MetricStatistics stats : statistics) {
+            if (stats != null) {
+                stats.compress();
+            }
+        }
+    }
+
+    private MetricStatistics statisticsFor(Metric metric) {
+        MetricStatistics stats = statistics[metric.ordinal()];
+        if (stats == null) {
+            stats = new MetricStatistics(metric);
+            statistics[metric.ordinal()] = stats;
+        }
+        return stats;
+    }
+
+    /** 결과의 투자 원금. 해당 지표가 없으면 NaN */
+    static double investment(CalculationResult result) {
+        if (result.has(Metric.TOTAL_INVESTMENT)) {
+            return result.get(Metric.TOTAL_INVESTMENT);
+        }
+        if (result.has(Metric.TOTAL_PRINCIPAL)) {
+            return result.get(Metric.TOTAL_PRINCIPAL);
+        }
+        return result.getOrDefault(Metric.PURCHASE_PRICE, Double.NaN);
+    }
+
+    /** 결과의 세후 손익. 구할 수 없으면 NaN */
+    static double profit(CalculationResult result) {
+        if (result.has(Metric.NET_PROFIT)) {
+            return result.get(Metric.NET_PROFIT);
+        }
+        if (result.has(Metric.FINAL_AMOUNT) && result.has(Metric.TOTAL_PRINCIPAL)) {
+            return result.get(Metric.FINAL_AMOUNT) - result.get(Metric.TOTAL_PRINCIPAL);
+        }
+        return Double.NaN;
+    }
+
+    public String getName() { return name; }
+
+    /** 묶음의 결과 수 */
+    public long getCount() { return count; }
+
+    public double getTotalInvestment() {
+        return totalInvestment.value();
+    }
+
+    /** 손익을 구할 수 있는 결과들의 세후 손익 합계 */
+    public double getTotalProfit() {
+        return totalProfit.value();
+    }
+
+    /** 손익 합계에 포함된 결과 수 */
+    public long getProfitCount() { return profitCount; }
+
+    /**
+     * @return 지표의 통계. 이 묶음의 결과에 없는 지표면 null
+     */
+    public MetricStatistics get(Metric metric) {
+        return statistics[metric.ordinal()];
+    }
+
+    /** 이 묶음의 결과에 나온 지표들의 통계 (지표 선언 순서) */
+    public List<MetricStatistics> getMetricStatistics() {
+        List<MetricStatistics> list = new ArrayList<>();
+        for (MetricStatistics stats : statistics) {
+            if (stats != null) {
+                list.add(stats);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.calculator;
+
+/**
+ * {@link PositionRevaluator}가 발행하는 배당주 장부 전체 손익의 한 시점 값입니다. 만들어진 뒤에는 바뀌지 않습니다.
+ */
+public class PortfolioPnl {
+
+    private final double totalNetProfit;
+    private final double totalInvestment;
+    private final long ticksApplied;
+    private final long lastTickNanos;
+    private final long publishedNanos;
+
+    PortfolioPnl(double totalNetProfit, double totalInvestment, long ticksApplied, long lastTickNanos, long publishedNanos) {
+        this.totalNetProfit = totalNetProfit;
+        this.totalInvestment = totalInvestment;
+        this.ticksApplied = ticksApplied;
+        this.lastTickNanos = lastTickNanos;
+        this.publishedNanos = publishedNanos;
+    }
+
+    /** 모든 포지션의 최종 실현 손익 합계 */
+    public double getTotalNetProfit() { return totalNetProfit; }
+    public double getTotalInvestment() { return totalInvestment; }
+
+    /** 전체 수익률 (%) */
+    public double getTotalReturn() {
+        return totalInvestment == 0 ? 0.0 : totalNetProfit / totalInvestment * 100;
+    }
+
+    /** 이 값에 반영된 누적 시세 수 */
+    public long getTicksApplied() { return ticksApplied; }
+
+    /** 이 값에 반영된 마지막 틱을 꺼낸 시각 (System.nanoTime 기준) */
+    public long getLastTickNanos() { return lastTickNanos; }
+
+    /** 발행 시각 (System.nanoTime 기준) */
+    public long getPublishedNanos() { return publishedNanos; }
+
+    @Override
+    public String toString() {
+        return String.format("PortfolioPnl[손익=%.2f, 투자 원금=%.2f, 수익률=%.4f%%, 틱=%d]",
+                totalNetProfit, totalInvestment, getTotalReturn(), ticksApplied);
+    }
+}
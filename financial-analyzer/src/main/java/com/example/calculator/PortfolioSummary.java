@@ -0,0 +1,108 @@
+package com.example.calculator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 포트폴리오 집계의 한 시점 요약입니다. 묶음별 통계와 전체 합계를 담으며 표 형태의 텍스트와 CSV로 내보낼 수 있습니다.
+ */
+public class PortfolioSummary {
+
+    /** 전체 합계 묶음의 이름 */
+    public static final String TOTAL = "전체";
+
+    private final Map<String, PortfolioGroup> groups;
+    private final List<String> groupNames; // 이름 순
+    private final PortfolioGroup total;
+
+    PortfolioSummary(Map<String, PortfolioGroup> groups, PortfolioGroup total) {
+        this.groups = groups;
+        List<String> names = new ArrayList<>(groups.keySet());
+        Collections.sort(names);
+        this.groupNames = Collections.unmodifiableList(names);
+        this.total = total;
+    }
+
+    public List<String> getGroupNames() {
+        return groupNames;
+    }
+
+    /** @return 묶음의 통계. 없는 묶음이면 null */
+    public PortfolioGroup getGroup(String name) {
+        return groups.get(name);
+    }
+
+    /** 모든 묶음을 합친 통계 */
+    public PortfolioGroup getTotal() {
+        return total;
+    }
+
+    /**
+     * 묶음별 건수·투자 원금·손익 표와, 묶음별 지표 통계 표를 출력합니다.
+     */
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "=== 포트폴리오 요약 (%d건) ===%n", total.getCount()));
+        sb.append(String.format(Locale.ROOT, "%-24s %10s %20s %20s%n", "묶음", "건수", "투자 원금", "세후 손익"));
+        for (String name : groupNames) {
+            appendGroupRow(groups.get(name), sb);
+        }
+        appendGroupRow(total, sb);
+        for (String name : groupNames) {
+            PortfolioGroup group = groups.get(name);
+            sb.append(String.format(Locale.ROOT, "%n--- %s ---%n", name));
+            sb.append(String.format(Locale.ROOT, "%-34s %10s %18s %14s %14s %14s %14s %14s%n",
+                    "지표", "건수", "합계", "가중 평균", "최소", "p50", "p99", "최대"));
+            for (MetricStatistics stats : group.getMetricStatistics()) {
+                sb.append(String.format(Locale.ROOT, "%-34s %10d %18.2f %14.4f %14.4f %14.4f %14.4f %14.4f%n",
+                        stats.getMetric().getLabel(), stats.getCount(), stats.getSum(), stats.getWeightedMean(),
+                        stats.getMin(), stats.getValueAtPercentile(50), stats.getValueAtPercentile(99), stats.getMax()));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendGroupRow(PortfolioGroup group, StringBuilder sb) {
+        String profit = group.getProfitCount() == 0 ? "-" : String.format(Locale.ROOT, "%.2f", group.getTotalProfit());
+        sb.append(String.format(Locale.ROOT, "%-24s %10d %20.2f %20s%n",
+                group.getName(), group.getCount(), group.getTotalInvestment(), profit));
+    }
+
+    /**
+     * 묶음·지표별 통계를 한 줄씩 CSV로 출력합니다. (전체 합계 묶음 포함)
+     * 열: group,metric,count,sum,mean,weightedMean,min,p50,p90,p99,max
+     */
+    public String toCsv() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("group,metric,count,sum,mean,weightedMean,min,p50,p90,p99,max\n");
+        for (String name : groupNames) {
+            appendCsvRows(groups.get(name), sb);
+        }
+        appendCsvRows(total, sb);
+        return sb.toString();
+    }
+
+    private static void appendCsvRows(PortfolioGroup group, StringBuilder sb) {
+        for (MetricStatistics stats : group.getMetricStatistics()) {
+            sb.append(group.getName().replace(',', ' ')).append(',').append(stats.getMetric().name())
+              .append(',').append(stats.getCount())
+              .append(',').append(stats.getSum())
+              .append(',').append(stats.getMean())
+              .append(',').append(stats.getWeightedMean())
+              .append(',').append(stats.getMin())
+              .append(',').append(stats.getValueAtPercentile(50))
+              .append(',').append(stats.getValueAtPercentile(90))
+              .append(',').append(stats.getValueAtPercentile(99))
+              .append(',').append(stats.getMax())
+              .append('\n');
+        }
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+}
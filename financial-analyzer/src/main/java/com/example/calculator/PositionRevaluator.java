@@ -0,0 +1,128 @@
+package com.example.calculator;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 시세 틱 링 버퍼를 소비해 {@link DividendPositionBook}을 재평가하고 전체 손익을 발행하는 전용 스레드입니다.
+ *
+ * 틱은 한 번에 최대 maxBatch개씩 꺼내 반영하며, 반영한 변경이 있으면
+ * 버퍼가 비었을 때 바로, 계속 틱이 들어오는 동안에는 publishInterval마다 새 {@link PortfolioPnl}을 발행합니다.
+ * 따라서 틱이 반영된 손익이 발행되기까지의 지연은 publishInterval과 한 묶음 처리 시간의 합을 넘지 않습니다.
+ *
+ * 장부는 이 스레드만 수정하므로, 시작한 뒤에는 다른 스레드에서 장부를 직접 읽거나 바꾸면 안 됩니다.
+ * 발행된 값은 {@link #getLatest()}나 리스너로 받습니다.
+ */
+public class PositionRevaluator implements Closeable {
+
+    private static final int SPINS_BEFORE_PARK = 100;
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final DividendPositionBook book;
+    private final PriceTickRingBuffer ticks;
+    private final int maxBatch;
+    private final long publishIntervalNanos;
+    private final Consumer<PortfolioPnl> listener;
+    private final PriceTickRingBuffer.TickHandler applier; // 틱마다 람다를 만들지 않도록 한 번만 생성
+    private final Thread thread;
+
+    private volatile boolean running = true;
+    private volatile PortfolioPnl latest;
+
+    /**
+     * @param book            재평가할 장부
+     * @param ticks           시세 틱 버퍼
+     * @param maxBatch        한 번에 꺼낼 최대 틱 수
+     * @param publishInterval 틱이 계속 들어올 때의 발행 간격
+     * @param unit            publishInterval의 단위
+     * @param listener        발행된 손익을 받을 리스너 (소비자 스레드에서 호출되므로 빨리 끝나야 함, null 가능)
+     */
+    public PositionRevaluator(DividendPositionBook book, PriceTickRingBuffer ticks, int maxBatch,
+                              long publishInterval, TimeUnit unit, Consumer<PortfolioPnl> listener) {
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("maxBatch는 1 이상이어야 합니다: " + maxBatch);
+        }
+        this.book = book;
+        this.ticks = ticks;
+        this.maxBatch = maxBatch;
+        this.publishIntervalNanos = unit.toNanos(publishInterval);
+        this.listener = listener;
+        this.applier = book::applyPrice;
+        this.latest = snapshot(System.nanoTime());
+        this.thread = new Thread(this::run, "dividend-position-revaluator");
+        thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /** 가장 최근에 발행된 전체 손익 */
+    public PortfolioPnl getLatest() {
+        return latest;
+    }
+
+    private void run() {
+        boolean pending = false;
+        long lastPublish = System.nanoTime();
+        long lastTick = lastPublish;
+        int idleSpins = 0;
+        while (running) {
+            int drained = ticks.drain(applier, maxBatch);
+            long now = System.nanoTime();
+            if (drained > 0) {
+                pending = true;
+                lastTick = now;
+                idleSpins = 0;
+            }
+            if (pending && (drained < maxBatch || now - lastPublish >= publishIntervalNanos)) {
+                publish(lastTick, now);
+                pending = false;
+                lastPublish = now;
+            }
+            if (drained == 0) {
+                // 잠깐 돌며 기다리다가 계속 비어 있으면 CPU를 양보
+                if (++idleSpins < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+        }
+        // 멈추기 전에 남은 틱까지 반영해 마지막 값을 발행
+        while (ticks.drain(applier, maxBatch) > 0) {
+            pending = true;
+        }
+        if (pending) {
+            long now = System.nanoTime();
+            publish(now, now);
+        }
+    }
+
+    private void publish(long lastTickNanos, long now) {
+        PortfolioPnl pnl = new PortfolioPnl(book.getTotalNetProfit(), book.getTotalInvestment(), book.getTicksApplied(),
+                lastTickNanos, now);
+        latest = pnl;
+        if (listener != null) {
+            listener.accept(pnl);
+        }
+    }
+
+    private PortfolioPnl snapshot(long now) {
+        return new PortfolioPnl(book.getTotalNetProfit(), book.getTotalInvestment(), book.getTicksApplied(), now, now);
+    }
+
+    /** 남은 틱을 모두 반영하고 마지막 값을 발행한 뒤 스레드를 멈춥니다. */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
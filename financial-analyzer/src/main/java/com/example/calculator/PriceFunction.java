@@ -0,0 +1,25 @@
+package com.example.calculator;
+
+/**
+ * 수익률(할인율)에 따른 가격 함수를 나타냅니다.
+ * YieldSolver는 이 함수를 이용해 목표 가격을 만족하는 수익률을 찾습니다.
+ */
+public interface PriceFunction {
+    /**
+     * @param yield 연 수익률 (소수, 예: 3.5% -> 0.035)
+     * @return 해당 수익률로 할인한 가격
+     */
+    double price(double yield);
+
+    /**
+     * 수익률에 대한 가격의 1차 도함수 dP/dy를 반환합니다.
+     * @param yield 연 수익률 (소수)
+     */
+    double derivative(double yield);
+
+    /**
+     * 가격 함수가 정의되는 수익률의 하한(이 값 자체는 제외)을 반환합니다.
+     * 예를 들어 연 n회 복리 할인에서는 (1 + y/n) > 0 이어야 하므로 -n 입니다.
+     */
+    double lowerBound();
+}
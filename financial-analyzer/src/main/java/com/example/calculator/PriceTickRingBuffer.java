@@ -0,0 +1,100 @@
+package com.example.calculator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시세 틱(종목 번호, 가격)을 전달하는 잠금 없는 고정 크기 링 버퍼입니다.
+ * 여러 생산자가 동시에 넣고, 소비자는 하나만 꺼낼 수 있습니다. (MPSC)
+ *
+ * 칸마다 순번(sequence)을 두는 방식(Vyukov)이라 생산자끼리는 꼬리 위치에 대한 CAS 한 번으로만 경쟁하며,
+ * 틱은 원시 타입 배열에 그대로 담기므로 넣고 꺼낼 때 객체를 만들지 않습니다.
+ * 버퍼가 가득 차면 {@link #offer}가 false를 반환하므로, 생산자가 버릴지 다시 시도할지 정할 수 있습니다.
+ */
+public class PriceTickRingBuffer {
+
+    /**
+     * 꺼낸 틱을 받는 처리기. 박싱을 피하기 위해 원시 타입 인자를 씁니다.
+     */
+    @FunctionalInterface
+    public interface TickHandler {
+        void onTick(int instrumentId, double price);
+    }
+
+    private final int mask;
+    private final AtomicLongArray sequences; // 칸별 순번: 비어 있으면 위치, 채워지면 위치 + 1
+    private final int[] instrumentIds;
+    private final double[] prices;
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치 (생산자 공유)
+    private long head;                                // 다음에 꺼낼 위치 (소비자 전용)
+
+    /**
+     * @param capacity 담을 수 있는 최대 틱 수 (2의 거듭제곱으로 올림)
+     */
+    public PriceTickRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity는 1 이상 2^30 이하여야 합니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity * 2 - 1);
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.instrumentIds = new int[size];
+        this.prices = new double[size];
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 틱을 넣습니다. 여러 스레드에서 동시에 호출해도 됩니다.
+     * @return 버퍼가 가득 차서 넣지 못했으면 false
+     */
+    public boolean offer(int instrumentId, double price) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long sequence = sequences.get(index);
+            if (sequence == position) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    instrumentIds[index] = instrumentId;
+                    prices[index] = price;
+                    sequences.lazySet(index, position + 1); // 데이터를 쓴 뒤에 소비자에게 공개
+                    return true;
+                }
+            } else if (sequence < position) {
+                return false; // 한 바퀴 전의 틱을 소비자가 아직 꺼내지 않음
+            }
+            // 다른 생산자가 먼저 이 위치를 가져갔으면 다시 시도
+        }
+    }
+
+    /**
+     * 쌓인 틱을 최대 maxTicks개까지 꺼내 처리기에 넘깁니다. 소비자 스레드 하나에서만 호출해야 합니다.
+     * @return 꺼낸 틱 수
+     */
+    public int drain(TickHandler handler, int maxTicks) {
+        int drained = 0;
+        while (drained < maxTicks) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break; // 비었거나 생산자가 아직 쓰는 중
+            }
+            int instrumentId = instrumentIds[index];
+            double price = prices[index];
+            sequences.lazySet(index, head + mask + 1); // 다음 바퀴의 생산자에게 칸을 돌려줌
+            head++;
+            handler.onTick(instrumentId, price);
+            drained++;
+        }
+        return drained;
+    }
+
+    /** 대략적인 대기 틱 수 (동시에 넣고 꺼내는 중에는 정확하지 않음) */
+    public int size() {
+        return (int) Math.max(0, Math.min(tail.get() - head, capacity()));
+    }
+}
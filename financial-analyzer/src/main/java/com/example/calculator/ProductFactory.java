@@ -0,0 +1,42 @@
+package com.example.calculator;
+
+import java.util.List;
+
+/**
+ * 사용자가 입력하는 단위(퍼센트 등) 그대로 금융 상품을 만드는 도우미입니다.
+ * 대화형 입력과 파일 입력이 같은 단위 변환 규칙을 쓰도록 한곳에 모아 둡니다.
+ */
+public final class ProductFactory {
+
+    private ProductFactory() {
+    }
+
+    /**
+     * @param couponRatePercent     표면 이율 (연, %)
+     * @param tradingFeeRatePercent 매매 수수료율 (%, 예: 0.1% -> 0.1)
+     */
+    public static Bond bond(double faceValue, double purchasePrice, double couponRatePercent, double yearsToMaturity,
+                            int couponFrequency, double tradingFeeRatePercent, boolean applyTax) {
+        return new Bond(faceValue, purchasePrice, couponRatePercent / 100.0, yearsToMaturity, couponFrequency,
+                tradingFeeRatePercent / 100.0, applyTax);
+    }
+
+    /**
+     * @param tiers 금리 구간 (연 금리는 % 단위로 만든 InterestRateTier)
+     */
+    public static TieredSavingsAccount savingsAccount(double monthlyDeposit, List<InterestRateTier> tiers) {
+        return new TieredSavingsAccount(monthlyDeposit, tiers);
+    }
+
+    /**
+     * @param tradingFeeRatePercent         편도 매매 수수료율 (%, 예: 0.015)
+     * @param transactionTaxRatePercent     증권거래세율 (%, 예: 0.18)
+     */
+    public static DividendStock dividendStock(double purchasePricePerShare, double sellingPricePerShare, int numberOfShares,
+                                              double totalDividendReceived, double tradingFeeRatePercent,
+                                              double transactionTaxRatePercent) {
+        // DividendStock은 퍼센트 단위를 그대로 받아 내부에서 변환합니다.
+        return new DividendStock(purchasePricePerShare, sellingPricePerShare, numberOfShares, totalDividendReceived,
+                tradingFeeRatePercent, transactionTaxRatePercent);
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.calculator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 금융 상품 요청과 계산 결과의 JSON 표현입니다. 단위는 대화형 입력과 같습니다 (비율은 %).
+ * <pre>
+ * 채권:   {"faceValue":10000,"purchasePrice":9500,"couponRate":3.5,"yearsToMaturity":3,
+ *          "couponFrequency":2,"tradingFeeRate":0.1,"applyTax":true}
+ * 적금:   {"monthlyDeposit":100000,"tiers":[{"months":6,"annualRate":3.5}],"interestMode":"SIMPLE"}
+ * 배당주: {"purchasePricePerShare":50000,"sellingPricePerShare":55000,"numberOfShares":100,
+ *          "totalDividendReceived":150000,"tradingFeeRate":0.015,"securitiesTransactionTaxRate":0.18}
+ * 결과:   {"product":"채권","values":{"YIELD_TO_MATURITY":5.43,...}}
+ * </pre>
+ * 일괄 요청의 각 상품에는 "type" 항목(BOND, SAVINGS, DIVIDEND)이 추가로 필요합니다.
+ */
+final class ProductJson {
+
+    /** 상품 종류. 이름은 CSV 일괄 입력의 레코드 종류와 같습니다. */
+    enum Type {
+        BOND,
+        SAVINGS,
+        DIVIDEND
+    }
+
+    private ProductJson() {
+    }
+
+    /**
+     * 객체 하나를 읽어 상품을 만듭니다.
+     *
+     * @param type 상품 종류. null이면 객체의 "type" 항목에서 읽습니다.
+     * @throws IllegalArgumentException 필수 항목이 없거나 값의 종류가 잘못된 경우. 이때도 객체는 끝까지 읽혀 있습니다.
+     * @throws JsonSyntaxException      JSON 구문이 깨져 더 읽을 수 없는 경우
+     */
+    static FinancialProduct read(JsonReader reader, Type type) throws IOException {
+        Fields fields = new Fields();
+        if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+            reader.skipValue(); // 일괄 요청에서 다음 상품부터 이어 읽을 수 있도록 값을 소비
+            throw new IllegalArgumentException("상품은 JSON 객체여야 합니다");
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "type": fields.typeName = string(reader, fields, name); break;
+                case "faceValue": fields.faceValue = number(reader, fields, name); break;
+                case "purchasePrice": fields.purchasePrice = number(reader, fields, name); break;
+                case "couponRate": fields.couponRate = number(reader, fields, name); break;
+                case "yearsToMaturity": fields.yearsToMaturity = number(reader, fields, name); break;
+                case "couponFrequency": fields.couponFrequency = number(reader, fields, name); break;
+                case "tradingFeeRate": fields.tradingFeeRate = number(reader, fields, name); break;
+                case "applyTax": fields.applyTax = bool(reader, fields, name); break;
+                case "monthlyDeposit": fields.monthlyDeposit = number(reader, fields, name); break;
+                case "tiers": readTiers(reader, fields); break;
+                case "interestMode": fields.interestModeName = string(reader, fields, name); break;
+                case "purchasePricePerShare": fields.purchasePricePerShare = number(reader, fields, name); break;
+                case "sellingPricePerShare": fields.sellingPricePerShare = number(reader, fields, name); break;
+                case "numberOfShares": fields.numberOfShares = number(reader, fields, name); break;
+                case "totalDividendReceived": fields.totalDividendReceived = number(reader, fields, name); break;
+                case "securitiesTransactionTaxRate": fields.securitiesTransactionTaxRate = number(reader, fields, name); break;
+                default:
+                    reader.skipValue(); // 알 수 없는 항목은 무시
+            }
+        }
+        reader.endObject();
+
+        // 검증은 객체를 끝까지 읽은 뒤에 하여, 일괄 요청에서 오류가 나도 다음 상품부터 이어 읽을 수 있게 함
+        if (fields.error != null) {
+            throw new IllegalArgumentException(fields.error);
+        }
+        Type productType = type;
+        if (productType == null) {
+            if (fields.typeName == null) {
+                throw new IllegalArgumentException("상품 종류(type)가 필요합니다");
+            }
+            productType = parseType(fields.typeName);
+        }
+        switch (productType) {
+            case BOND:
+                return ProductFactory.bond(
+                        require(fields.faceValue, "faceValue"),
+                        require(fields.purchasePrice, "purchasePrice"),
+                        require(fields.couponRate, "couponRate"),
+                        require(fields.yearsToMaturity, "yearsToMaturity"),
+                        requireInt(fields.couponFrequency, "couponFrequency"),
+                        require(fields.tradingFeeRate, "tradingFeeRate"),
+                        require(fields.applyTax, "applyTax"));
+            case SAVINGS:
+                if (fields.tiers == null) {
+                    throw new IllegalArgumentException("필수 항목이 없습니다: tiers");
+                }
+                InterestMode interestMode = fields.interestModeName == null
+                        ? InterestMode.SIMPLE : parseInterestMode(fields.interestModeName);
+                return new TieredSavingsAccount(require(fields.monthlyDeposit, "monthlyDeposit"), fields.tiers, interestMode);
+            default:
+                return ProductFactory.dividendStock(
+                        require(fields.purchasePricePerShare, "purchasePricePerShare"),
+                        require(fields.sellingPricePerShare, "sellingPricePerShare"),
+                        requireInt(fields.numberOfShares, "numberOfShares"),
+                        require(fields.totalDividendReceived, "totalDividendReceived"),
+                        require(fields.tradingFeeRate, "tradingFeeRate"),
+                        require(fields.securitiesTransactionTaxRate, "securitiesTransactionTaxRate"));
+        }
+    }
+
+    static void write(JsonWriter writer, CalculationResult result) throws IOException {
+        writer.beginObject();
+        writer.name("product").value(result.getProductName());
+        writer.name("values").beginObject();
+        for (int i = 0; i < result.size(); i++) {
+            writer.name(result.getMetric(i).name()).value(result.getValue(i));
+        }
+        writer.endObject();
+        writer.endObject();
+    }
+
+    static void writeError(JsonWriter writer, String message) throws IOException {
+        writer.beginObject().name("error").value(message).endObject();
+    }
+
+    static Type parseType(String name) {
+        try {
+            return Type.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 상품 종류입니다: " + name);
+        }
+    }
+
+    private static InterestMode parseInterestMode(String name) {
+        try {
+            return InterestMode.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 이자 계산 방식입니다: " + name);
+        }
+    }
+
+    private static void readTiers(JsonReader reader, Fields fields) throws IOException {
+        if (reader.peek() != JsonReader.Token.BEGIN_ARRAY) {
+            reader.skipValue();
+            fields.reject("tiers는 배열이어야 합니다");
+            return;
+        }
+        List<InterestRateTier> tiers = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() != JsonReader.Token.BEGIN_OBJECT) {
+                reader.skipValue();
+                fields.reject("금리 구간은 객체여야 합니다");
+                continue;
+            }
+            double months = Double.NaN;
+            double annualRate = Double.NaN;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("months")) {
+                    months = number(reader, fields, name);
+                } else if (name.equals("annualRate")) {
+                    annualRate = number(reader, fields, name);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            if (Double.isNaN(months) || months != Math.rint(months) || Double.isNaN(annualRate)) {
+                fields.reject("금리 구간에는 정수 months와 annualRate가 필요합니다");
+            } else {
+                tiers.add(new InterestRateTier((int) months, annualRate));
+            }
+        }
+        reader.endArray();
+        fields.tiers = tiers;
+    }
+
+    // 값의 종류가 다르면 값을 건너뛰고 오류를 기록해 둠 (객체를 끝까지 읽은 뒤 던짐)
+    private static double number(JsonReader reader, Fields fields, String name) throws IOException {
+        if (reader.peek() == JsonReader.Token.NUMBER) {
+            return reader.nextDouble();
+        }
+        reader.skipValue();
+        fields.reject(name + "은(는) 숫자여야 합니다");
+        return Double.NaN;
+    }
+
+    private static String string(JsonReader reader, Fields fields, String name) throws IOException {
+        if (reader.peek() == JsonReader.Token.STRING) {
+            return reader.nextString();
+        }
+        reader.skipValue();
+        fields.reject(name + "은(는) 문자열이어야 합니다");
+        return null;
+    }
+
+    private static Boolean bool(JsonReader reader, Fields fields, String name) throws IOException {
+        if (reader.peek() == JsonReader.Token.BOOLEAN) {
+            return reader.nextBoolean();
+        }
+        reader.skipValue();
+        fields.reject(name + "은(는) true 또는 false여야 합니다");
+        return null;
+    }
+
+    private static double require(double value, String name) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("필수 항목이 없습니다: " + name);
+        }
+        return value;
+    }
+
+    private static boolean require(Boolean value, String name) {
+        if (value == null) {
+            throw new IllegalArgumentException("필수 항목이 없습니다: " + name);
+        }
+        return value;
+    }
+
+    private static int requireInt(double value, String name) {
+        require(value, name);
+        if (value != Math.rint(value) || value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(name + "은(는) 정수여야 합니다: " + value);
+        }
+        return (int) value;
+    }
+
+    /** 읽는 중인 상품의 항목들. 없는 항목은 NaN(문자열·참거짓 값은 null)으로 표시합니다. */
+    private static final class Fields {
+        String typeName;
+        double faceValue = Double.NaN;
+        double purchasePrice = Double.NaN;
+        double couponRate = Double.NaN;
+        double yearsToMaturity = Double.NaN;
+        double couponFrequency = Double.NaN;
+        double tradingFeeRate = Double.NaN;
+        Boolean applyTax;
+        double monthlyDeposit = Double.NaN;
+        List<InterestRateTier> tiers;
+        String error;           // 처음 발견한 값 오류
+        String interestModeName;
+        double purchasePricePerShare = Double.NaN;
+        double sellingPricePerShare = Double.NaN;
+        double numberOfShares = Double.NaN;
+        double totalDividendReceived = Double.NaN;
+        double securitiesTransactionTaxRate = Double.NaN;
+
+        void reject(String message) {
+            if (error == null) {
+                error = message;
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.calculator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 금융 상품 레코드가 한 줄에 하나씩 담긴 CSV 파일을 FileChannel로 스트리밍하며 읽습니다.
+ * 고정 크기의 다이렉트 버퍼만 사용하므로 파일 크기와 관계없이 메모리 사용량이 일정하며,
+ * 숫자는 버퍼의 바이트에서 바로 해석합니다.
+ *
+ * 레코드 형식 (금리·수수료·세율은 대화형 입력과 같이 % 단위, '#'으로 시작하는 줄과 빈 줄은 무시):
+ * <pre>
+ * BOND,액면가,매입가격,표면이율,만기연수,연간이표횟수,매매수수료율,세금적용(true/false)
+ * SAVINGS,월납입액,개월수1,연금리1[,개월수2,연금리2 ...]
+ * DIVIDEND,주당매수가격,주당매도가격,주식수,세전총배당금,편도매매수수료율,증권거래세율
+ * </pre>
+ * {@link #withPositionIds}로 열면 각 줄의 맨 앞에 포지션 ID 열이 하나 더 있습니다. (예: {@code P-001,BOND,...})
+ */
+public class ProductRecordReader implements Closeable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final boolean positionIds; // 줄 맨 앞에 포지션 ID 열이 있는지
+    private boolean endOfFile;
+    private long lineNumber;
+
+    // 현재 줄과 필드의 버퍼 내 위치
+    private int lineStart;
+    private int lineEnd;
+    private int nextLineStart;
+    private int fieldStart;
+    private int fieldEnd;
+
+    public ProductRecordReader(Path path) throws IOException {
+        this(path, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param bufferSize 읽기 버퍼 크기. 한 줄은 이 크기보다 짧아야 합니다.
+     */
+    public ProductRecordReader(Path path, int bufferSize) throws IOException {
+        this(path, bufferSize, false);
+    }
+
+    private ProductRecordReader(Path path, int bufferSize, boolean positionIds) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.buffer.flip(); // 처음에는 읽을 내용이 없는 상태
+        this.positionIds = positionIds;
+    }
+
+    /**
+     * 각 줄의 맨 앞에 포지션 ID 열이 있는 파일을 엽니다. 읽은 ID는 {@link RecordChunk#getPositionId}로 얻습니다.
+     * 줄 번호와 달리 줄을 넣거나 빼도 바뀌지 않으므로 저장소({@link ProductStore})의 키로 씁니다.
+     */
+    public static ProductRecordReader withPositionIds(Path path) throws IOException {
+        return new ProductRecordReader(path, DEFAULT_BUFFER_SIZE, true);
+    }
+
+    /**
+     * 다음 레코드를 최대 chunk.capacity()개까지 읽어 chunk에 채웁니다.
+     * 형식이 잘못된 레코드는 상품 대신 오류 메시지로 기록되며 읽기는 계속됩니다.
+     *
+     * @return 읽은 레코드 수. 파일 끝이면 0
+     */
+    public int read(RecordChunk chunk) throws IOException {
+        chunk.clear();
+        while (chunk.size() < chunk.capacity() && nextLine()) {
+            if (lineStart == lineEnd || buffer.get(lineStart) == '#') {
+                buffer.position(nextLineStart);
+                continue; // 빈 줄, 주석
+            }
+            String positionId = null;
+            try {
+                if (positionIds) {
+                    positionId = nextPositionId();
+                }
+                chunk.addProduct(lineNumber, positionId, parseRecord());
+            } catch (RuntimeException e) {
+                chunk.addError(lineNumber, positionId, e.getMessage() != null ? e.getMessage() : e.toString());
+            }
+            buffer.position(nextLineStart);
+        }
+        return chunk.size();
+    }
+
+    private String nextPositionId() {
+        nextField();
+        if (fieldStart == fieldEnd) {
+            throw new IllegalArgumentException("포지션 ID가 비어 있습니다.");
+        }
+        return FastNumberParser.text(buffer, fieldStart, fieldEnd);
+    }
+
+    private FinancialProduct parseRecord() {
+        nextField();
+        if (FastNumberParser.equalsIgnoreCase(buffer, fieldStart, fieldEnd, "BOND")) {
+            Bond bond = ProductFactory.bond(nextDouble(), nextDouble(), nextDouble(), nextDouble(),
+                    nextInt(), nextDouble(), nextBoolean());
+            expectEndOfLine();
+            return bond;
+        }
+        if (FastNumberParser.equalsIgnoreCase(buffer, fieldStart, fieldEnd, "SAVINGS")) {
+            double monthlyDeposit = nextDouble();
+            List<InterestRateTier> tiers = new ArrayList<>();
+            while (hasMoreFields()) {
+                tiers.add(new InterestRateTier(nextInt(), nextDouble()));
+            }
+            if (tiers.isEmpty()) {
+                throw new IllegalArgumentException("금리 구간이 없습니다.");
+            }
+            return ProductFactory.savingsAccount(monthlyDeposit, tiers);
+        }
+        if (FastNumberParser.equalsIgnoreCase(buffer, fieldStart, fieldEnd, "DIVIDEND")) {
+            DividendStock stock = ProductFactory.dividendStock(nextDouble(), nextDouble(), nextInt(), nextDouble(),
+                    nextDouble(), nextDouble());
+            expectEndOfLine();
+            return stock;
+        }
+        throw new IllegalArgumentException("알 수 없는 상품 종류: " + FastNumberParser.text(buffer, fieldStart, fieldEnd));
+    }
+
+    /**
+     * 다음 줄을 버퍼 안에 온전히 준비합니다. 줄이 버퍼 경계에 걸치면 남은 내용을 앞으로 당기고 더 읽습니다.
+     * @return 읽을 줄이 없으면 false
+     */
+    private boolean nextLine() throws IOException {
+        while (true) {
+            int start = buffer.position();
+            int newline = indexOfNewline(start, buffer.limit());
+            if (newline >= 0 || (endOfFile && buffer.hasRemaining())) {
+                int end = newline >= 0 ? newline : buffer.limit();
+                nextLineStart = newline >= 0 ? newline + 1 : end;
+                if (end > start && buffer.get(end - 1) == '\r') {
+                    end--; // CRLF
+                }
+                lineNumber++;
+                lineStart = start;
+                lineEnd = end;
+                fieldEnd = start - 1; // 아직 필드를 읽지 않음
+                return true;
+            }
+            if (endOfFile) {
+                return false;
+            }
+            buffer.compact();
+            if (!buffer.hasRemaining()) {
+                throw new IOException((lineNumber + 1) + "번째 줄이 버퍼 크기(" + buffer.capacity() + " 바이트)보다 깁니다.");
+            }
+            if (channel.read(buffer) < 0) {
+                endOfFile = true;
+            }
+            buffer.flip();
+        }
+    }
+
+    private int indexOfNewline(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean hasMoreFields() {
+        return fieldEnd < lineEnd;
+    }
+
+    private void nextField() {
+        if (!hasMoreFields()) {
+            throw new IllegalArgumentException("필드 수가 부족합니다.");
+        }
+        fieldStart = fieldEnd + 1;
+        int i = fieldStart;
+        while (i < lineEnd && buffer.get(i) != ',') {
+            i++;
+        }
+        fieldEnd = i;
+    }
+
+    private void expectEndOfLine() {
+        if (hasMoreFields()) {
+            throw new IllegalArgumentException("필드가 너무 많습니다.");
+        }
+    }
+
+    private double nextDouble() {
+        nextField();
+        return FastNumberParser.parseDouble(buffer, fieldStart, fieldEnd);
+    }
+
+    private int nextInt() {
+        nextField();
+        return FastNumberParser.parseInt(buffer, fieldStart, fieldEnd);
+    }
+
+    private boolean nextBoolean() {
+        nextField();
+        if (FastNumberParser.equalsIgnoreCase(buffer, fieldStart, fieldEnd, "true")) {
+            return true;
+        }
+        if (FastNumberParser.equalsIgnoreCase(buffer, fieldStart, fieldEnd, "false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("true/false가 아닙니다: " + FastNumberParser.text(buffer, fieldStart, fieldEnd));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
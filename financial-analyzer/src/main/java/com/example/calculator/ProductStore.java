@@ -0,0 +1,541 @@
+package com.example.calculator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 정의와 계산 결과를 ID별로 보관하는 내장형 저장소입니다.
+ *
+ * 디렉터리 안의 세그먼트 파일에 레코드를 덧붙이기만 하며(append-only), 레코드마다 CRC-32C를 붙여
+ * 쓰는 도중 끊긴 레코드는 다시 열 때 잘라 냅니다. 세그먼트는 메모리에 매핑해 읽고 쓰며,
+ * 메모리에는 ID별 최신 레코드의 위치만 색인으로 둡니다. 형식은 {@link ProductStoreFormat}을 참고하세요.
+ *
+ * 쓰던 세그먼트가 차면 봉인하고 새 세그먼트를 엽니다. 봉인된 세그먼트에서 더 이상 쓰이지 않는 레코드가
+ * 일정 비율을 넘으면, 데몬 스레드가 살아 있는 레코드만 새 세그먼트로 옮기고 옛 세그먼트를 지웁니다(압축).
+ *
+ * {@link #put}은 상품과 결과가 저장된 것과 같으면 아무것도 쓰지 않으므로, 매일 전체 포지션을 다시 넣어도
+ * 바뀐 포지션만 기록됩니다. 계산 전에 {@link #matches}로 입력이 바뀌었는지 먼저 확인할 수도 있습니다.
+ * <pre>
+ * try (ProductStore store = new ProductStore(Path.of("positions"))) {
+ *     if (!store.matches(id, product)) {
+ *         store.put(id, product, calculator.calculate(product));
+ *     }
+ * }
+ * </pre>
+ *
+ * 쓰기는 운영체제 페이지 캐시까지 반영되므로 프로세스가 비정상 종료되어도 남습니다.
+ * 전원 장애에도 남아야 하면 {@link #sync()}를 호출하세요. (세그먼트를 봉인하거나 닫을 때는 자동으로 내립니다)
+ *
+ * 여러 스레드에서 동시에 사용할 수 있습니다. 읽기는 잠금 없이 하며 쓰기는 한 번에 하나씩 합니다.
+ * 한 디렉터리는 한 프로세스만 열어야 합니다.
+ *
+ * 리눅스와 macOS 같은 POSIX 시스템 전용입니다. 세그먼트를 봉인할 때 아직 매핑된 파일을 줄이고, 압축한 뒤에는
+ * 읽는 스레드가 매핑을 쥐고 있을 수 있는 옛 세그먼트 파일을 지웁니다. POSIX에서는 매핑이 해제될 때까지 내용이
+ * 남아 있어 그동안 읽어도 되지만, 매핑된 파일의 크기 변경과 삭제를 막는 Windows에서는 IOException으로 실패합니다.
+ */
+public class ProductStore implements Closeable {
+
+    /** 기본 세그먼트 크기 */
+    public static final int DEFAULT_SEGMENT_BYTES = 64 << 20;
+
+    /** 봉인된 세그먼트에서 쓰이지 않는 바이트가 이 비율 이상이면 압축합니다. */
+    public static final double DEFAULT_COMPACTION_GARBAGE_RATIO = 0.5;
+
+    private static final int MIN_SEGMENT_BYTES = 4096;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    /**
+     * {@link #forEach}가 저장된 항목마다 호출하는 콜백
+     */
+    public interface EntryHandler {
+        /**
+         * @param result 계산 결과. 결과 없이 저장했으면 null
+         */
+        void accept(String id, FinancialProduct product, CalculationResult result);
+    }
+
+    /** ID의 최신 레코드 위치 (같은지 비교할 때는 객체 자체를 비교) */
+    private static final class Location {
+        final ProductStoreSegment segment;
+        final int offset;
+
+        Location(ProductStoreSegment segment, int offset) {
+            this.segment = segment;
+            this.offset = offset;
+        }
+    }
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final double compactionGarbageRatio;
+    private final ConcurrentHashMap<String, Location> index = new ConcurrentHashMap<>();
+    private final ExecutorService compactor;
+    private final Object compactionLock = new Object();
+    private final long discardedBytes;
+
+    // 아래는 이 객체의 잠금 아래에서만 바꿈
+    private final ProductStoreFormat.Encoder encoder = new ProductStoreFormat.Encoder();
+    private final List<ProductStoreSegment> sealedSegments = new ArrayList<>(); // 기준 순번 순
+    private ProductStoreSegment active;
+    private long nextSequence;
+    private long nextSegmentId;
+    private boolean compactionScheduled;
+    private boolean closed;
+
+    private volatile IOException compactionFailure;
+
+    /**
+     * 디렉터리의 저장소를 엽니다. 디렉터리가 없으면 만듭니다.
+     */
+    public ProductStore(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_COMPACTION_GARBAGE_RATIO);
+    }
+
+    /**
+     * @param segmentBytes           세그먼트 하나의 최대 크기 (바이트). 레코드 하나는 이보다 작아야 합니다.
+     * @param compactionGarbageRatio 압축을 시작할, 봉인된 세그먼트에서 쓰이지 않는 바이트의 비율 (0 ~ 1)
+     */
+    public ProductStore(Path directory, int segmentBytes, double compactionGarbageRatio) throws IOException {
+        if (segmentBytes < MIN_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("세그먼트 크기는 " + MIN_SEGMENT_BYTES + "바이트 이상이어야 합니다: " + segmentBytes);
+        }
+        if (!(compactionGarbageRatio >= 0 && compactionGarbageRatio <= 1)) {
+            throw new IllegalArgumentException("압축 기준 비율은 0 ~ 1이어야 합니다: " + compactionGarbageRatio);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.compactionGarbageRatio = compactionGarbageRatio;
+        Files.createDirectories(directory);
+        try {
+            this.discardedBytes = recover();
+            if (active == null) {
+                active = newSegment(directory.resolve(segmentFileName(nextSegmentId)), nextSequence);
+            }
+        } catch (IOException | RuntimeException e) {
+            closeSegments();
+            throw e;
+        }
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-store-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 세그먼트를 모두 읽어 색인을 만듭니다. ID마다 순번이 가장 큰 레코드가 최신이며,
+     * 압축 도중 멈춰 같은 레코드가 두 세그먼트에 남아 있어도 순번으로 걸러집니다.
+     *
+     * @return 끊긴 레코드를 잘라 낸 바이트 수
+     */
+    private long recover() throws IOException {
+        List<Path> leftovers = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + COMPACTING_SUFFIX)) {
+            stream.forEach(leftovers::add);
+        }
+        for (Path leftover : leftovers) {
+            Files.delete(leftover); // 마치지 못한 압축 결과 (원본 세그먼트는 그대로 있음)
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                long id = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+                sealedSegments.add(ProductStoreSegment.open(id, path, 0));
+                nextSegmentId = Math.max(nextSegmentId, id + 1);
+            }
+        }
+        sealedSegments.sort(Comparator.comparingLong(ProductStoreSegment::getBaseSequence)
+                .thenComparingLong(ProductStoreSegment::getId));
+
+        // 가장 최근에 쓰던 세그먼트에 자리가 남았으면 이어서 씀 (열 때마다 작은 세그먼트가 늘지 않도록)
+        if (!sealedSegments.isEmpty()) {
+            int last = sealedSegments.size() - 1;
+            ProductStoreSegment newest = sealedSegments.get(last);
+            if (newest.hasCurrentMetrics() && newest.getOpenedSize() < segmentBytes) {
+                newest.close();
+                active = ProductStoreSegment.open(newest.getId(), newest.getPath(), segmentBytes);
+                sealedSegments.remove(last);
+            }
+        }
+
+        Map<String, Long> deleted = new HashMap<>(); // 삭제된 ID의 삭제 순번 (읽는 동안만 필요)
+        long discarded = 0;
+        for (ProductStoreSegment segment : sealedSegments) {
+            discarded += segment.scan((s, offset) -> recoverRecord(s, offset, deleted));
+        }
+        if (active != null) {
+            discarded += active.scan((s, offset) -> recoverRecord(s, offset, deleted));
+        }
+        return discarded;
+    }
+
+    private void recoverRecord(ProductStoreSegment segment, int offset, Map<String, Long> deleted) {
+        long sequence = segment.sequence(offset);
+        nextSequence = Math.max(nextSequence, sequence + 1);
+        String id = segment.id(offset);
+        Location current = index.get(id);
+        long currentSequence = current != null ? current.segment.sequence(current.offset) : deleted.getOrDefault(id, -1L);
+        if (sequence <= currentSequence) {
+            return;
+        }
+        if (segment.type(offset) == ProductStoreFormat.PUT) {
+            index.put(id, new Location(segment, offset));
+            segment.liveBytes += segment.recordSize(offset);
+            deleted.remove(id);
+        } else {
+            index.remove(id);
+            deleted.put(id, sequence);
+        }
+        if (current != null) {
+            current.segment.liveBytes -= current.segment.recordSize(current.offset);
+        }
+    }
+
+    private static String segmentFileName(long id) {
+        return String.format(Locale.ROOT, "%s%016d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX);
+    }
+
+    private ProductStoreSegment newSegment(Path path, long baseSequence) throws IOException {
+        return ProductStoreSegment.create(nextSegmentId++, path, baseSequence, segmentBytes);
+    }
+
+    // ---- 쓰기 ----
+
+    /**
+     * 상품과 결과를 저장합니다. 저장된 상품·결과와 같으면 아무것도 쓰지 않습니다.
+     *
+     * @param result 계산 결과 (없으면 null)
+     * @return 새로 기록했으면 true, 저장된 내용과 같아 건너뛰었으면 false
+     * @throws IllegalArgumentException 저장을 지원하지 않는 상품(Bond, TieredSavingsAccount, DividendStock 외)이거나
+     *                                  레코드가 세그먼트보다 큰 경우
+     */
+    public synchronized boolean put(String id, FinancialProduct product, CalculationResult result) throws IOException {
+        ensureOpen();
+        ByteBuffer record = encoder.put(nextSequence, id, product, result);
+        Location current = index.get(id);
+        if (current != null && current.segment.contentEquals(current.offset, record)) {
+            return false;
+        }
+        append(id, record, ProductStoreFormat.PUT);
+        return true;
+    }
+
+    /**
+     * @return 저장되어 있던 ID이면 true
+     */
+    public synchronized boolean remove(String id) throws IOException {
+        ensureOpen();
+        if (!index.containsKey(id)) {
+            return false;
+        }
+        append(id, encoder.delete(nextSequence, id), ProductStoreFormat.DELETE);
+        return true;
+    }
+
+    private void append(String id, ByteBuffer record, byte type) throws IOException {
+        int size = record.remaining();
+        if (size > active.maxRecordSize()) {
+            throw new IllegalArgumentException("레코드(" + size + "바이트)가 세그먼트보다 큽니다: " + id);
+        }
+        int offset = active.append(record);
+        if (offset < 0) {
+            rollSegment();
+            offset = active.append(record);
+        }
+        nextSequence++;
+        Location previous;
+        if (type == ProductStoreFormat.PUT) {
+            active.liveBytes += size;
+            previous = index.put(id, new Location(active, offset));
+        } else {
+            previous = index.remove(id);
+        }
+        if (previous != null) {
+            previous.segment.liveBytes -= previous.segment.recordSize(previous.offset);
+        }
+    }
+
+    /**
+     * 새 세그먼트를 먼저 만든 뒤에 쓰던 세그먼트를 봉인합니다. 새 세그먼트를 만들지 못하면 쓰던 세그먼트는
+     * 그대로 남아 다음 쓰기에서 다시 시도하며, 봉인이 실패해도 세그먼트는 이미 바뀌었으므로 더 쓰지 않습니다.
+     * (봉인하지 못한 끝의 빈 공간은 다시 열 때 잘라 냄)
+     */
+    private void rollSegment() throws IOException {
+        ProductStoreSegment next = newSegment(directory.resolve(segmentFileName(nextSegmentId)), nextSequence);
+        ProductStoreSegment full = active;
+        sealedSegments.add(full);
+        active = next;
+        full.seal();
+        if (!compactionScheduled && garbageRatio() >= compactionGarbageRatio) {
+            compactionScheduled = true;
+            compactor.execute(this::compactInBackground);
+        }
+    }
+
+    /** 봉인된 세그먼트에서 쓰이지 않는 바이트의 비율 */
+    private double garbageRatio() {
+        long total = 0;
+        long live = 0;
+        for (ProductStoreSegment segment : sealedSegments) {
+            total += segment.size();
+            live += segment.liveBytes;
+        }
+        return total == 0 ? 0 : (double) (total - live) / total;
+    }
+
+    /**
+     * 쓰던 세그먼트의 내용을 디스크에 내립니다.
+     */
+    public synchronized void sync() {
+        ensureOpen();
+        active.force();
+    }
+
+    // ---- 읽기 ----
+
+    /** @return 저장된 상품. 없으면 null */
+    public FinancialProduct getProduct(String id) {
+        Location location = index.get(id);
+        return location == null ? null : location.segment.product(location.offset);
+    }
+
+    /** @return 저장된 계산 결과. ID가 없거나 결과 없이 저장했으면 null */
+    public CalculationResult getResult(String id) {
+        Location location = index.get(id);
+        return location == null ? null : location.segment.result(location.offset);
+    }
+
+    public boolean contains(String id) {
+        return index.containsKey(id);
+    }
+
+    /**
+     * 저장된 상품이 주어진 상품과 같은지 확인합니다. 상품을 읽어 만들지 않고 인코딩한 바이트를 비교합니다.
+     *
+     * @return 같은 상품이 저장되어 있으면 true (다시 계산할 필요 없음)
+     */
+    public boolean matches(String id, FinancialProduct product) {
+        Location location = index.get(id);
+        return location != null
+                && location.segment.productEquals(location.offset, new ProductStoreFormat.Encoder().product(product));
+    }
+
+    /**
+     * @return 저장된 ID 목록 (호출한 시점의 사본, 순서는 정해져 있지 않음)
+     */
+    public List<String> ids() {
+        return new ArrayList<>(index.keySet());
+    }
+
+    /** 저장된 ID 수 */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 저장된 항목을 모두 읽어 handler에 넘깁니다. 순서는 정해져 있지 않으며,
+     * 읽는 동안 다른 스레드가 바꾼 내용은 반영될 수도, 안 될 수도 있습니다.
+     */
+    public void forEach(EntryHandler handler) {
+        for (Map.Entry<String, Location> entry : index.entrySet()) {
+            Location location = entry.getValue();
+            ProductStoreFormat.Decoder decoder = location.segment.decoder(location.offset);
+            handler.accept(entry.getKey(), decoder.product(), decoder.result());
+        }
+    }
+
+    /** 저장소를 열 때 끊긴 레코드를 잘라 낸 바이트 수 */
+    public long getDiscardedBytes() {
+        return discardedBytes;
+    }
+
+    /** 세그먼트 파일 수 (쓰던 세그먼트 포함) */
+    public synchronized int getSegmentCount() {
+        return sealedSegments.size() + 1;
+    }
+
+    // ---- 압축 ----
+
+    private void compactInBackground() {
+        try {
+            compactSealedSegments();
+        } catch (IOException | RuntimeException e) {
+            compactionFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+        } finally {
+            synchronized (this) {
+                compactionScheduled = false;
+            }
+        }
+    }
+
+    /**
+     * 봉인된 세그먼트를 지금 압축합니다. 백그라운드 압축이 진행 중이면 끝날 때까지 기다린 뒤 실행합니다.
+     */
+    public void compact() throws IOException {
+        synchronized (this) {
+            ensureOpen();
+        }
+        compactSealedSegments();
+    }
+
+    /**
+     * 봉인된 세그먼트를 모두 모아, 색인이 가리키는 레코드만 새 세그먼트로 옮깁니다.
+     *
+     * 봉인된 세그먼트는 바뀌지 않으므로 복사는 잠금 없이 하고, 색인은 복사하는 동안 바뀌지 않은 ID만 새 위치로 바꿉니다.
+     * 삭제 레코드는 버립니다. 입력 세그먼트를 모두 모으므로 같은 ID의 더 오래된 레코드도 함께 사라지며,
+     * 쓰던 세그먼트의 레코드는 모두 입력보다 최신이기 때문입니다. 새 세그먼트는 디스크에 내리고 이름을 바꾼 뒤에
+     * 옛 세그먼트를 오래된 것부터 지우므로, 어느 단계에서 멈춰도 다시 열면 같은 내용이 됩니다.
+     */
+    private void compactSealedSegments() throws IOException {
+        synchronized (compactionLock) {
+            List<ProductStoreSegment> inputs;
+            synchronized (this) {
+                if (closed || sealedSegments.isEmpty()) {
+                    return;
+                }
+                inputs = new ArrayList<>(sealedSegments);
+            }
+
+            List<ProductStoreSegment> outputs = new ArrayList<>();
+            List<String> movedIds = new ArrayList<>();
+            List<Location> movedFrom = new ArrayList<>();
+            List<Location> movedTo = new ArrayList<>();
+            ProductStoreFormat.Encoder reencoder = new ProductStoreFormat.Encoder();
+            try {
+                for (ProductStoreSegment input : inputs) {
+                    input.forEachRecord((segment, offset) -> {
+                        if (segment.type(offset) != ProductStoreFormat.PUT) {
+                            return;
+                        }
+                        String id = segment.id(offset);
+                        Location current = index.get(id);
+                        if (current == null || current.segment != segment || current.offset != offset) {
+                            return; // 더 최신 레코드가 있거나 삭제됨
+                        }
+                        ByteBuffer record = segment.hasCurrentMetrics()
+                                ? segment.copy(offset)
+                                : reencode(reencoder, segment, offset, id);
+                        ProductStoreSegment output = outputs.isEmpty() ? null : outputs.get(outputs.size() - 1);
+                        int newOffset = output == null ? -1 : output.append(record);
+                        if (newOffset < 0) {
+                            output = newCompactionOutput(segment.sequence(offset));
+                            outputs.add(output);
+                            newOffset = output.append(record);
+                        }
+                        movedIds.add(id);
+                        movedFrom.add(current);
+                        movedTo.add(new Location(output, newOffset));
+                    });
+                }
+                for (ProductStoreSegment output : outputs) {
+                    output.seal();
+                    output.moveTo(directory.resolve(segmentFileName(output.getId())));
+                }
+            } catch (IOException | RuntimeException e) {
+                for (ProductStoreSegment output : outputs) {
+                    output.close();
+                    Files.deleteIfExists(output.getPath());
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                for (int i = 0; i < movedIds.size(); i++) {
+                    Location to = movedTo.get(i);
+                    if (index.replace(movedIds.get(i), movedFrom.get(i), to)) {
+                        to.segment.liveBytes += to.segment.recordSize(to.offset);
+                    }
+                }
+                sealedSegments.removeAll(inputs);
+                sealedSegments.addAll(0, outputs); // 입력보다 나중에 봉인된 세그먼트보다 오래된 레코드
+            }
+            for (ProductStoreSegment input : inputs) {
+                input.close();
+                Files.delete(input.getPath()); // 색인에서 이미 꺼낸 위치를 읽는 스레드가 있을 수 있음 (POSIX 전용, 클래스 설명 참고)
+            }
+        }
+    }
+
+    private ProductStoreSegment newCompactionOutput(long baseSequence) throws IOException {
+        long id;
+        synchronized (this) {
+            id = nextSegmentId++;
+        }
+        Path path = directory.resolve(segmentFileName(id) + COMPACTING_SUFFIX);
+        return ProductStoreSegment.create(id, path, baseSequence, segmentBytes);
+    }
+
+    /** 지표 목록이 다른 이전 버전의 레코드를 현재 형식으로 다시 인코딩합니다. */
+    private static ByteBuffer reencode(ProductStoreFormat.Encoder encoder, ProductStoreSegment segment, int offset, String id) {
+        ProductStoreFormat.Decoder decoder = segment.decoder(offset);
+        FinancialProduct product = decoder.product();
+        return encoder.put(segment.sequence(offset), id, product, decoder.result());
+    }
+
+    // ---- 닫기 ----
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("상품 저장소가 닫혔습니다: " + directory);
+        }
+    }
+
+    /**
+     * 진행 중인 압축이 끝나기를 기다린 뒤, 쓰던 세그먼트를 봉인하고 파일을 닫습니다.
+     *
+     * @throws IOException 백그라운드 압축이 실패했던 경우에도 (저장된 내용은 그대로 남아 있음)
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (compactionLock) { // 다른 스레드에서 호출한 compact()도 기다림
+            synchronized (this) {
+                try {
+                    active.seal();
+                } finally {
+                    closeSegments();
+                }
+            }
+        }
+        IOException failure = compactionFailure;
+        if (failure != null) {
+            throw new IOException("백그라운드 압축에 실패했습니다: " + directory, failure);
+        }
+    }
+
+    private void closeSegments() throws IOException {
+        if (active != null) {
+            active.close();
+        }
+        for (ProductStoreSegment segment : sealedSegments) {
+            segment.close();
+        }
+    }
+}
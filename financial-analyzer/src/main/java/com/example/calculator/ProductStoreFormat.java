@@ -0,0 +1,314 @@
+package com.example.calculator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * 상품 저장소 세그먼트 파일의 형식 상수와 레코드 인코딩입니다. 모든 값은 리틀 엔디언입니다.
+ * <pre>
+ * 헤더
+ *   int    MAGIC ("FPS1")
+ *   int    VERSION
+ *   long   기준 순번 (이 세그먼트의 레코드 순번은 모두 이 값 이상)
+ *   int    지표 수, 지표마다 short 길이 + UTF-8 이름 ({@link Metric} 상수 이름)
+ *   8바이트 경계까지 0으로 채움
+ * 레코드 (가변 길이, 앞에서부터 이어 붙임)
+ *   int    본문 길이 (0이면 데이터의 끝)
+ *   int    본문의 CRC-32C
+ *   본문
+ *     long   순번 (저장소 전체에서 증가, 같은 ID이면 큰 쪽이 최신)
+ *     byte   종류 (PUT, DELETE)
+ *     short  ID 길이 + UTF-8 ID
+ *     PUT이면 상품, 결과
+ * 상품
+ *   byte   상품 종류, 이어서 종류별 필드 (금리·수수료율·세율은 상품이 보관하는 소수 단위 그대로)
+ *   BOND      double 액면가, 매입가격, 표면이율, 만기연수, int 연간이표횟수, double 수수료율, byte 세금적용
+ *   SAVINGS   double 월납입액, byte 이자 계산 방식, int 구간 수, 구간마다 int 개월수 + double 연이율
+ *   DIVIDEND  double 주당매수가격, 주당매도가격, int 주식수, double 세전총배당금, 수수료율, 증권거래세율
+ * 결과
+ *   byte   결과가 있으면 1, 없으면 0
+ *   short  상품 이름 길이 + UTF-8 이름
+ *   byte   지표 수, 지표마다 byte 헤더의 지표 번호 + double 값
+ * </pre>
+ * 상품 인코딩은 앞에서부터 읽어 끝을 알 수 있으므로, 상품이 같은지는 바이트를 비교해 판단할 수 있습니다.
+ */
+final class ProductStoreFormat {
+
+    static final int MAGIC = 0x31535046; // 파일에서 "FPS1" 순서로 보임
+    static final int VERSION = 1;
+    static final int BASE_SEQUENCE_OFFSET = 8;
+    static final int FIXED_HEADER_SIZE = 20;
+
+    static final int RECORD_HEADER_SIZE = 8;                // 본문 길이 + CRC
+    static final int SEQUENCE_SIZE = Long.BYTES;
+    static final int TYPE_OFFSET = RECORD_HEADER_SIZE + SEQUENCE_SIZE;
+    static final int ID_OFFSET = TYPE_OFFSET + 1;
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    static final byte BOND = 1;
+    static final byte SAVINGS = 2;
+    static final byte DIVIDEND = 3;
+
+    static final int MAX_ID_BYTES = Short.MAX_VALUE;
+    static final int MAX_NAME_CHARS = 8000;
+
+    private ProductStoreFormat() {
+    }
+
+    static int align8(int size) {
+        return (size + 7) & ~7;
+    }
+
+    /** 현재 버전의 지표 목록을 담은 헤더. 지표 번호는 {@link Metric#ordinal()}과 같습니다. */
+    static ByteBuffer encodeHeader(long baseSequence) {
+        Metric[] metrics = Metric.values();
+        byte[][] names = new byte[metrics.length][];
+        int size = FIXED_HEADER_SIZE;
+        for (int i = 0; i < metrics.length; i++) {
+            names[i] = metrics[i].name().getBytes(StandardCharsets.UTF_8);
+            size += Short.BYTES + names[i].length;
+        }
+        ByteBuffer header = ByteBuffer.allocate(align8(size)).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putLong(baseSequence).putInt(metrics.length);
+        for (byte[] name : names) {
+            header.putShort((short) name.length).put(name);
+        }
+        header.position(0);
+        return header;
+    }
+
+    static int crc(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 레코드를 만드는 재사용 버퍼. 모자라면 두 배로 늘립니다. 스레드 안전하지 않습니다.
+     */
+    static final class Encoder {
+
+        private ByteBuffer buffer = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+
+        /**
+         * PUT 레코드를 만듭니다.
+         * @return 레코드 전체가 position 0부터 limit까지 담긴 버퍼 (다음 호출 전까지만 유효)
+         * @throws IllegalArgumentException 저장할 수 없는 상품이거나 ID가 너무 긴 경우
+         */
+        ByteBuffer put(long sequence, String id, FinancialProduct product, CalculationResult result) {
+            begin(sequence, PUT, id);
+            putProduct(product);
+            putResult(result);
+            return finish();
+        }
+
+        ByteBuffer delete(long sequence, String id) {
+            begin(sequence, DELETE, id);
+            return finish();
+        }
+
+        /** 상품 부분만 인코딩합니다. 저장된 상품과 바이트를 비교할 때 씁니다. */
+        ByteBuffer product(FinancialProduct product) {
+            buffer.clear();
+            putProduct(product);
+            buffer.flip();
+            return buffer;
+        }
+
+        private void begin(long sequence, byte type, String id) {
+            byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+            if (idBytes.length > MAX_ID_BYTES) {
+                throw new IllegalArgumentException("ID가 너무 깁니다: " + idBytes.length + "바이트");
+            }
+            buffer.clear();
+            ensure(ID_OFFSET + Short.BYTES + idBytes.length);
+            buffer.position(RECORD_HEADER_SIZE); // 길이와 CRC는 마지막에 채움
+            buffer.putLong(sequence).put(type).putShort((short) idBytes.length).put(idBytes);
+        }
+
+        private ByteBuffer finish() {
+            int end = buffer.position();
+            int bodyLength = end - RECORD_HEADER_SIZE;
+            buffer.putInt(0, bodyLength).putInt(Integer.BYTES, crc(buffer, RECORD_HEADER_SIZE, bodyLength));
+            buffer.position(0).limit(end);
+            return buffer;
+        }
+
+        private void putProduct(FinancialProduct product) {
+            if (product instanceof Bond) {
+                Bond bond = (Bond) product;
+                ensure(1 + Double.BYTES * 5 + Integer.BYTES + 1);
+                buffer.put(BOND)
+                      .putDouble(bond.getFaceValue())
+                      .putDouble(bond.getPurchasePrice())
+                      .putDouble(bond.getCouponRate())
+                      .putDouble(bond.getYearsToMaturity())
+                      .putInt(bond.getCouponFrequency())
+                      .putDouble(bond.getTradingFeeRate())
+                      .put((byte) (bond.isApplyTax() ? 1 : 0));
+            } else if (product instanceof TieredSavingsAccount) {
+                TieredSavingsAccount account = (TieredSavingsAccount) product;
+                List<InterestRateTier> tiers = account.getInterestRateTiers();
+                ensure(1 + Double.BYTES + 1 + Integer.BYTES + tiers.size() * (Integer.BYTES + Double.BYTES));
+                buffer.put(SAVINGS)
+                      .putDouble(account.getMonthlyDeposit())
+                      .put((byte) account.getInterestMode().ordinal())
+                      .putInt(tiers.size());
+                for (InterestRateTier tier : tiers) {
+                    buffer.putInt(tier.getMonths()).putDouble(tier.getAnnualRate());
+                }
+            } else if (product instanceof DividendStock) {
+                DividendStock stock = (DividendStock) product;
+                ensure(1 + Double.BYTES * 5 + Integer.BYTES);
+                buffer.put(DIVIDEND)
+                      .putDouble(stock.getPurchasePricePerShare())
+                      .putDouble(stock.getSellingPricePerShare())
+                      .putInt(stock.getNumberOfShares())
+                      .putDouble(stock.getTotalDividendReceived())
+                      .putDouble(stock.getTradingFeeRate())
+                      .putDouble(stock.getSecuritiesTransactionTaxRate());
+            } else {
+                throw new IllegalArgumentException("저장을 지원하지 않는 상품입니다: "
+                        + (product == null ? "null" : product.getClass().getName()));
+            }
+        }
+
+        private void putResult(CalculationResult result) {
+            if (result == null) {
+                ensure(1);
+                buffer.put((byte) 0);
+                return;
+            }
+            String name = result.getProductName();
+            byte[] nameBytes = (name.length() > MAX_NAME_CHARS ? name.substring(0, MAX_NAME_CHARS) : name)
+                    .getBytes(StandardCharsets.UTF_8);
+            int size = result.size();
+            ensure(1 + Short.BYTES + nameBytes.length + 1 + size * (1 + Double.BYTES));
+            buffer.put((byte) 1).putShort((short) nameBytes.length).put(nameBytes).put((byte) size);
+            for (int i = 0; i < size; i++) {
+                buffer.put((byte) result.getMetric(i).ordinal()).putDouble(result.getValue(i));
+            }
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            int capacity = buffer.capacity();
+            while (capacity - buffer.position() < bytes) {
+                capacity *= 2;
+            }
+            ByteBuffer grown = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+
+    /**
+     * 매핑된 세그먼트에서 상품과 결과를 읽는 커서. 절대 위치로만 읽으므로 여러 스레드가 같은 버퍼를 함께 읽어도 됩니다.
+     */
+    static final class Decoder {
+
+        private final ByteBuffer buffer;
+        private final Metric[] metrics; // 헤더의 지표 번호 -> 지표 (이 버전에서 모르는 지표는 null)
+        private int position;
+
+        Decoder(ByteBuffer buffer, Metric[] metrics, int position) {
+            this.buffer = buffer;
+            this.metrics = metrics;
+            this.position = position;
+        }
+
+        int position() {
+            return position;
+        }
+
+        FinancialProduct product() {
+            byte kind = buffer.get(position++);
+            switch (kind) {
+                case BOND: {
+                    double faceValue = nextDouble();
+                    double purchasePrice = nextDouble();
+                    double couponRate = nextDouble();
+                    double yearsToMaturity = nextDouble();
+                    int couponFrequency = nextInt();
+                    double tradingFeeRate = nextDouble();
+                    boolean applyTax = buffer.get(position++) != 0;
+                    return new Bond(faceValue, purchasePrice, couponRate, yearsToMaturity, couponFrequency,
+                            tradingFeeRate, applyTax);
+                }
+                case SAVINGS: {
+                    double monthlyDeposit = nextDouble();
+                    InterestMode mode = InterestMode.values()[buffer.get(position++)];
+                    int tierCount = nextInt();
+                    List<InterestRateTier> tiers = new ArrayList<>(tierCount);
+                    for (int i = 0; i < tierCount; i++) {
+                        int months = nextInt();
+                        tiers.add(InterestRateTier.ofDecimalRate(months, nextDouble()));
+                    }
+                    return new TieredSavingsAccount(monthlyDeposit, tiers, mode);
+                }
+                case DIVIDEND: {
+                    double purchasePricePerShare = nextDouble();
+                    double sellingPricePerShare = nextDouble();
+                    int numberOfShares = nextInt();
+                    double totalDividendReceived = nextDouble();
+                    double tradingFeeRate = nextDouble();
+                    double transactionTaxRate = nextDouble();
+                    return DividendStock.ofDecimalRates(purchasePricePerShare, sellingPricePerShare, numberOfShares,
+                            totalDividendReceived, tradingFeeRate, transactionTaxRate);
+                }
+                default:
+                    throw new IllegalStateException("알 수 없는 상품 종류: " + kind);
+            }
+        }
+
+        /** @return 결과. 저장하지 않았으면 null */
+        CalculationResult result() {
+            if (buffer.get(position++) == 0) {
+                return null;
+            }
+            byte[] name = new byte[Short.toUnsignedInt(buffer.getShort(position))];
+            buffer.get(position + Short.BYTES, name);
+            position += Short.BYTES + name.length;
+            int size = Byte.toUnsignedInt(buffer.get(position++));
+            Metric[] resultMetrics = new Metric[size];
+            double[] values = new double[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                Metric metric = metrics[Byte.toUnsignedInt(buffer.get(position++))];
+                double value = nextDouble();
+                if (metric != null) { // 이후 버전에서 추가된 지표는 건너뜀
+                    resultMetrics[count] = metric;
+                    values[count] = value;
+                    count++;
+                }
+            }
+            if (count < size) {
+                resultMetrics = Arrays.copyOf(resultMetrics, count);
+                values = Arrays.copyOf(values, count);
+            }
+            return new CalculationResult(new String(name, StandardCharsets.UTF_8), resultMetrics, values);
+        }
+
+        private double nextDouble() {
+            double value = buffer.getDouble(position);
+            position += Double.BYTES;
+            return value;
+        }
+
+        private int nextInt() {
+            int value = buffer.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.example.calculator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 상품 저장소의 세그먼트 파일 하나입니다. 형식은 {@link ProductStoreFormat}을 참고하세요.
+ *
+ * 파일 전체를 메모리에 매핑하고 레코드를 매핑된 버퍼에 이어 붙입니다. 새로 만든 세그먼트는 최대 크기로 매핑해 두었다가
+ * 봉인({@link #seal()})할 때 실제 크기로 줄이며, 봉인한 뒤에는 바뀌지 않습니다.
+ * 읽기는 절대 위치로만 하므로 여러 스레드가 동시에 읽어도 되며, 쓰기는 저장소가 한 번에 하나씩만 합니다.
+ *
+ * 봉인할 때 매핑을 그대로 둔 채 파일을 줄이고, 닫은 뒤 매핑이 남은 파일을 지우는 것은 POSIX에서만 됩니다.
+ * ({@link ProductStore} 설명 참고)
+ */
+final class ProductStoreSegment {
+
+    /** {@link #scan}이 레코드마다 호출하는 콜백 */
+    interface RecordHandler {
+        void record(ProductStoreSegment segment, int offset) throws IOException;
+    }
+
+    private final long id;
+    private Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final Metric[] metrics;        // 헤더의 지표 번호 -> 지표 (모르는 지표는 null)
+    private final boolean currentMetrics;  // 헤더의 지표 목록이 이 버전과 같은지 (레코드를 그대로 복사해도 되는지)
+    private final int dataOffset;
+    private long baseSequence;
+    private int end;                       // 유효한 데이터의 끝
+    private boolean sealed;
+    private final int openedSize;          // 열 때의 파일 크기
+
+    long liveBytes;                        // 색인이 가리키는 레코드의 바이트 수 (저장소의 잠금 아래에서만 바꿈)
+
+    private ProductStoreSegment(long id, Path path, FileChannel channel, MappedByteBuffer buffer, Metric[] metrics,
+                                boolean currentMetrics, int dataOffset, long baseSequence, int end, boolean sealed,
+                                int openedSize) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.metrics = metrics;
+        this.currentMetrics = currentMetrics;
+        this.dataOffset = dataOffset;
+        this.baseSequence = baseSequence;
+        this.end = end;
+        this.sealed = sealed;
+        this.openedSize = openedSize;
+    }
+
+    /**
+     * 쓰기용 세그먼트를 새로 만듭니다. 파일은 capacity 크기로 늘어나며 봉인할 때 줄어듭니다.
+     */
+    static ProductStoreSegment create(long id, Path path, long baseSequence, int capacity) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ProductStoreFormat.encodeHeader(baseSequence);
+            int dataOffset = header.remaining();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(capacity, dataOffset));
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(0, header, 0, dataOffset);
+            return new ProductStoreSegment(id, path, channel, buffer, Metric.values(), true, dataOffset,
+                    baseSequence, dataOffset, false, dataOffset);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            Files.deleteIfExists(path); // 빈 파일이 남으면 다시 열 때 올바르지 않은 세그먼트가 됨
+            throw e;
+        }
+    }
+
+    /**
+     * 기존 세그먼트를 열어 매핑합니다. 레코드는 {@link #scan}으로 확인하기 전까지 읽으면 안 됩니다.
+     *
+     * @param appendCapacity 파일이 이보다 작으면 이 크기로 매핑해 이어서 쓸 수 있게 열고, 아니면 봉인된 상태로 엽니다.
+     */
+    static ProductStoreSegment open(long id, Path path, int appendCapacity) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            if (size < ProductStoreFormat.FIXED_HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("세그먼트 크기가 올바르지 않습니다: " + path + " (" + size + "바이트)");
+            }
+            boolean appendable = appendCapacity > size;
+            MappedByteBuffer buffer = appendable
+                    ? channel.map(FileChannel.MapMode.READ_WRITE, 0, appendCapacity)
+                    : channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != ProductStoreFormat.MAGIC) {
+                throw new IOException("상품 저장소 세그먼트가 아닙니다: " + path);
+            }
+            int version = buffer.getInt(Integer.BYTES);
+            if (version != ProductStoreFormat.VERSION) {
+                throw new IOException("지원하지 않는 세그먼트 버전: " + version + " (" + path + ")");
+            }
+            long baseSequence = buffer.getLong(ProductStoreFormat.BASE_SEQUENCE_OFFSET);
+
+            // 지표 목록: 이름으로 찾아 이후 버전에서 순서가 바뀌거나 지표가 추가되어도 읽을 수 있게 함
+            Metric[] current = Metric.values();
+            int metricCount = buffer.getInt(ProductStoreFormat.FIXED_HEADER_SIZE - Integer.BYTES);
+            Metric[] metrics = new Metric[metricCount];
+            boolean currentMetrics = metricCount == current.length;
+            int position = ProductStoreFormat.FIXED_HEADER_SIZE;
+            for (int i = 0; i < metricCount; i++) {
+                byte[] name = new byte[Short.toUnsignedInt(buffer.getShort(position))];
+                buffer.get(position + Short.BYTES, name);
+                position += Short.BYTES + name.length;
+                metrics[i] = metricOrNull(new String(name, StandardCharsets.UTF_8));
+                currentMetrics &= i < current.length && metrics[i] == current[i];
+            }
+            int dataOffset = ProductStoreFormat.align8(position);
+            return new ProductStoreSegment(id, path, channel, buffer, metrics, currentMetrics, dataOffset,
+                    baseSequence, dataOffset, !appendable, (int) size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static Metric metricOrNull(String name) {
+        try {
+            return Metric.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 열어 둔 세그먼트의 레코드를 처음부터 확인하며 handler에 넘깁니다.
+     * 길이가 0이거나 범위를 벗어나거나 CRC가 맞지 않는 레코드에서 멈추고, 그 뒤는 잘라 냅니다.
+     * (쓰는 도중 프로세스가 죽어 일부만 기록된 레코드) 이어서 쓸 세그먼트는 파일을 줄이는 대신 0으로 지웁니다.
+     *
+     * @return 잘라 낸 바이트 수
+     */
+    long scan(RecordHandler handler) throws IOException {
+        int limit = openedSize;
+        int position = dataOffset;
+        while (limit - position >= ProductStoreFormat.RECORD_HEADER_SIZE) {
+            int bodyLength = buffer.getInt(position);
+            if (bodyLength < ProductStoreFormat.ID_OFFSET - ProductStoreFormat.RECORD_HEADER_SIZE + Short.BYTES
+                    || bodyLength > limit - position - ProductStoreFormat.RECORD_HEADER_SIZE
+                    || buffer.getInt(position + Integer.BYTES)
+                            != ProductStoreFormat.crc(buffer, position + ProductStoreFormat.RECORD_HEADER_SIZE, bodyLength)) {
+                break;
+            }
+            handler.record(this, position);
+            position += ProductStoreFormat.RECORD_HEADER_SIZE + bodyLength;
+        }
+        end = position;
+        int discarded = openedSize - end;
+        if (discarded > 0 && sealed) {
+            channel.truncate(end);
+        } else if (discarded > 0) {
+            for (int i = end; i < openedSize; i++) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+        return discarded;
+    }
+
+    /**
+     * 확인을 마친 레코드를 순서대로 handler에 넘깁니다.
+     */
+    void forEachRecord(RecordHandler handler) throws IOException {
+        int position = dataOffset;
+        while (position < end) {
+            handler.record(this, position);
+            position += recordSize(position);
+        }
+    }
+
+    /**
+     * 레코드를 끝에 덧붙입니다.
+     * @return 레코드의 위치. 남은 공간이 모자라면 -1
+     */
+    int append(ByteBuffer record) {
+        int length = record.remaining();
+        if (sealed || buffer.capacity() - end < length) {
+            return -1;
+        }
+        int offset = end;
+        buffer.put(offset, record, record.position(), length);
+        end += length;
+        return offset;
+    }
+
+    /** 빈 세그먼트에 넣을 수 있는 가장 큰 레코드 크기 */
+    int maxRecordSize() {
+        return buffer.capacity() - dataOffset;
+    }
+
+    /**
+     * 기록한 내용을 디스크에 내리고, 파일을 실제 크기로 줄여 더 이상 쓰지 않도록 봉인합니다.
+     */
+    void seal() throws IOException {
+        if (sealed) {
+            return;
+        }
+        sealed = true;
+        buffer.force();
+        channel.truncate(end); // 매핑해 둔 남는 부분 제거 (그 부분은 읽지 않음. 매핑된 채 줄이므로 POSIX 전용)
+        channel.force(true);
+    }
+
+    /** 기록한 내용을 디스크에 내립니다. */
+    void force() {
+        buffer.force();
+    }
+
+    /** 압축 결과처럼 레코드를 다 쓴 뒤에 정해지는 기준 순번을 기록합니다. 봉인하기 전에만 부를 수 있습니다. */
+    void setBaseSequence(long baseSequence) {
+        this.baseSequence = baseSequence;
+        buffer.putLong(ProductStoreFormat.BASE_SEQUENCE_OFFSET, baseSequence);
+    }
+
+    /** 파일 이름을 바꿉니다. (같은 디렉터리 안에서 원자적으로) */
+    void moveTo(Path target) throws IOException {
+        Files.move(path, target, StandardCopyOption.ATOMIC_MOVE);
+        path = target;
+    }
+
+    /**
+     * 채널을 닫습니다. 매핑은 참조가 사라질 때 해제되므로, 이미 색인에서 꺼낸 위치는 닫은 뒤에도 읽을 수 있습니다.
+     * POSIX에서는 파일을 지워도 매핑이 해제될 때까지 내용이 남지만, Windows에서는 매핑이 남은 파일을 지울 수 없습니다.
+     */
+    void close() throws IOException {
+        channel.close();
+    }
+
+    long getId() { return id; }
+    Path getPath() { return path; }
+    long getBaseSequence() { return baseSequence; }
+    boolean isSealed() { return sealed; }
+    boolean hasCurrentMetrics() { return currentMetrics; }
+
+    /** 열 때의 파일 크기 */
+    int getOpenedSize() { return openedSize; }
+
+    /** 헤더를 포함한 데이터 크기 */
+    int size() {
+        return end;
+    }
+
+    // ---- 레코드 읽기 (offset은 레코드의 시작 위치) ----
+
+    int recordSize(int offset) {
+        return ProductStoreFormat.RECORD_HEADER_SIZE + buffer.getInt(offset);
+    }
+
+    long sequence(int offset) {
+        return buffer.getLong(offset + ProductStoreFormat.RECORD_HEADER_SIZE);
+    }
+
+    byte type(int offset) {
+        return buffer.get(offset + ProductStoreFormat.TYPE_OFFSET);
+    }
+
+    String id(int offset) {
+        byte[] bytes = new byte[idLength(offset)];
+        buffer.get(offset + ProductStoreFormat.ID_OFFSET + Short.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int idLength(int offset) {
+        return Short.toUnsignedInt(buffer.getShort(offset + ProductStoreFormat.ID_OFFSET));
+    }
+
+    /** PUT 레코드에서 상품이 시작하는 위치 */
+    private int productOffset(int offset) {
+        return offset + ProductStoreFormat.ID_OFFSET + Short.BYTES + idLength(offset);
+    }
+
+    FinancialProduct product(int offset) {
+        return decoder(offset).product();
+    }
+
+    CalculationResult result(int offset) {
+        ProductStoreFormat.Decoder decoder = decoder(offset);
+        decoder.product();
+        return decoder.result();
+    }
+
+    ProductStoreFormat.Decoder decoder(int offset) {
+        return new ProductStoreFormat.Decoder(buffer, metrics, productOffset(offset));
+    }
+
+    /** 저장된 상품의 인코딩이 product(position부터 limit까지)와 같은지 비교합니다. */
+    boolean productEquals(int offset, ByteBuffer product) {
+        int start = productOffset(offset);
+        int length = product.remaining();
+        return start + length <= offset + recordSize(offset)
+                && buffer.slice(start, length).equals(product);
+    }
+
+    /**
+     * 두 PUT 레코드의 순번을 뺀 본문(ID, 상품, 결과)이 같은지 비교합니다.
+     * @param record 레코드 전체가 position부터 limit까지 담긴 버퍼
+     */
+    boolean contentEquals(int offset, ByteBuffer record) {
+        int skip = ProductStoreFormat.TYPE_OFFSET;
+        int length = record.remaining() - skip;
+        return recordSize(offset) - skip == length
+                && buffer.slice(offset + skip, length).equals(record.slice(record.position() + skip, length));
+    }
+
+    /** 레코드를 그대로 복사한 버퍼 (position 0부터 limit까지) */
+    ByteBuffer copy(int offset) {
+        return buffer.slice(offset, recordSize(offset));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.calculator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 상품 유형(클래스)의 계산 지연 시간, 실패 수, 할당량을 누적합니다.
+ */
+class ProductTypeMetrics {
+
+    private final String productType;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder allocationSamples = new LongAdder();
+
+    ProductTypeMetrics(String productType) {
+        this.productType = productType;
+    }
+
+    void recordLatency(long nanos) {
+        latency.record(nanos);
+    }
+
+    void recordFailure() {
+        failureCount.increment();
+    }
+
+    void recordAllocation(long bytes) {
+        allocatedBytes.add(bytes);
+        allocationSamples.increment();
+    }
+
+    /**
+     * @param elapsedNanos 처리량 계산에 사용할 집계 기간
+     */
+    ProductTypeSnapshot snapshot(long elapsedNanos) {
+        HistogramSnapshot histogram = latency.snapshot();
+        long samples = allocationSamples.sum();
+        double throughput = elapsedNanos > 0 ? histogram.getCount() * 1e9 / elapsedNanos : 0.0;
+        return new ProductTypeSnapshot(productType, histogram.getCount(), failureCount.sum(), throughput,
+                histogram.getMean(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99),
+                histogram.getValueAtPercentile(99.9),
+                histogram.getMax(),
+                samples == 0 ? 0.0 : (double) allocatedBytes.sum() / samples);
+    }
+
+    void reset() {
+        latency.reset();
+        failureCount.reset();
+        allocatedBytes.reset();
+        allocationSamples.reset();
+    }
+}
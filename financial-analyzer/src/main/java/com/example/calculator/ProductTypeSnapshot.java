@@ -0,0 +1,51 @@
+package com.example.calculator;
+
+/**
+ * 한 상품 유형의 계산 통계 요약입니다. JMX에서는 CompositeData로 노출됩니다.
+ * 지연 시간은 모두 나노초 단위입니다.
+ */
+public class ProductTypeSnapshot {
+
+    private final String productType;
+    private final long count;
+    private final long failureCount;
+    private final double throughputPerSecond;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+    private final double meanAllocatedBytes;
+
+    ProductTypeSnapshot(String productType, long count, long failureCount, double throughputPerSecond,
+                        double meanNanos, long p50Nanos, long p90Nanos, long p99Nanos, long p999Nanos,
+                        long maxNanos, double meanAllocatedBytes) {
+        this.productType = productType;
+        this.count = count;
+        this.failureCount = failureCount;
+        this.throughputPerSecond = throughputPerSecond;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+        this.meanAllocatedBytes = meanAllocatedBytes;
+    }
+
+    public String getProductType() { return productType; }
+    /** 실패를 포함한 계산 횟수 */
+    public long getCount() { return count; }
+    public long getFailureCount() { return failureCount; }
+    /** 집계 시작 이후 초당 계산 수 */
+    public double getThroughputPerSecond() { return throughputPerSecond; }
+    public double getMeanNanos() { return meanNanos; }
+    public long getP50Nanos() { return p50Nanos; }
+    public long getP90Nanos() { return p90Nanos; }
+    public long getP99Nanos() { return p99Nanos; }
+    public long getP999Nanos() { return p999Nanos; }
+    public long getMaxNanos() { return maxNanos; }
+    /** 계산 1회당 평균 할당 바이트 (할당 추적이 꺼져 있으면 0) */
+    public double getMeanAllocatedBytes() { return meanAllocatedBytes; }
+}
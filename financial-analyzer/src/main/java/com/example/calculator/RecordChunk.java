@@ -0,0 +1,89 @@
+package com.example.calculator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 파일에서 읽은 레코드 한 묶음입니다. 일괄 처리에서 메모리 사용량을 일정하게 유지하기 위해
+ * 같은 객체를 비우고 다시 채우며 재사용합니다.
+ * 각 레코드는 읽기에 성공하면 상품을, 실패하면 오류 메시지를 가집니다.
+ */
+public class RecordChunk {
+
+    private final long[] lineNumbers;
+    private final String[] positionIds;         // 포지션 ID 열이 없거나 읽지 못한 레코드는 null
+    private final FinancialProduct[] products;  // 읽기에 실패한 레코드는 null
+    private final String[] errors;              // 읽기에 성공한 레코드는 null
+    private final List<FinancialProduct> validProducts;
+    private int size;
+
+    public RecordChunk(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다: " + capacity);
+        }
+        this.lineNumbers = new long[capacity];
+        this.positionIds = new String[capacity];
+        this.products = new FinancialProduct[capacity];
+        this.errors = new String[capacity];
+        this.validProducts = new ArrayList<>(capacity);
+    }
+
+    public int capacity() {
+        return lineNumbers.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positionIds[i] = null;
+            products[i] = null; // 이전 묶음의 상품을 붙잡고 있지 않도록
+            errors[i] = null;
+        }
+        validProducts.clear();
+        size = 0;
+    }
+
+    void addProduct(long lineNumber, String positionId, FinancialProduct product) {
+        lineNumbers[size] = lineNumber;
+        positionIds[size] = positionId;
+        products[size] = product;
+        size++;
+        validProducts.add(product);
+    }
+
+    void addError(long lineNumber, String positionId, String error) {
+        lineNumbers[size] = lineNumber;
+        positionIds[size] = positionId;
+        errors[size] = error;
+        size++;
+    }
+
+    /** 레코드가 있던 원본 파일의 줄 번호 (1부터 시작) */
+    public long getLineNumber(int index) {
+        return lineNumbers[index];
+    }
+
+    /**
+     * @return 레코드의 포지션 ID ({@link ProductRecordReader#withPositionIds} 참고). ID 열이 없거나 읽지 못했으면 null
+     */
+    public String getPositionId(int index) {
+        return positionIds[index];
+    }
+
+    public FinancialProduct getProduct(int index) {
+        return products[index];
+    }
+
+    public String getError(int index) {
+        return errors[index];
+    }
+
+    /** 읽기에 성공한 상품만 레코드 순서대로 담은 읽기 전용 목록 */
+    public List<FinancialProduct> validProducts() {
+        return Collections.unmodifiableList(validProducts);
+    }
+}
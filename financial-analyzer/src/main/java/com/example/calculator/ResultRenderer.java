@@ -0,0 +1,83 @@
+package com.example.calculator;
+
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * CalculationResult를 사람이 읽는 형식으로 출력합니다.
+ * 금액은 통화 형식으로, 수익률은 소수점 넷째 자리 퍼센트로 표시합니다.
+ *
+ * NumberFormat 생성 비용이 크므로 한 번 만들어 재사용하도록 설계되었습니다.
+ * NumberFormat이 스레드 안전하지 않으므로 이 클래스도 스레드 안전하지 않으며,
+ * 여러 스레드에서는 {@link #forCurrentThread()}로 스레드별 인스턴스를 사용하세요.
+ */
+public class ResultRenderer {
+
+    private static final ThreadLocal<ResultRenderer> PER_THREAD = ThreadLocal.withInitial(ResultRenderer::new);
+
+    private final NumberFormat currencyFormat;
+    private final DecimalFormat percentFormat;
+
+    public ResultRenderer() {
+        this(Locale.KOREA);
+    }
+
+    public ResultRenderer(Locale locale) {
+        this.currencyFormat = NumberFormat.getCurrencyInstance(locale);
+        this.percentFormat = new DecimalFormat("0.0000", DecimalFormatSymbols.getInstance(locale));
+        this.percentFormat.setRoundingMode(RoundingMode.HALF_UP); // String.format("%.4f")와 같은 반올림
+    }
+
+    /**
+     * 현재 스레드 전용 기본(한국어) 렌더러를 반환합니다.
+     */
+    public static ResultRenderer forCurrentThread() {
+        return PER_THREAD.get();
+    }
+
+    public String render(CalculationResult result) {
+        StringBuilder out = new StringBuilder(256);
+        render(result, out);
+        return out.toString();
+    }
+
+    /**
+     * 결과를 out 뒤에 이어서 씁니다.
+     */
+    public void render(CalculationResult result, StringBuilder out) {
+        out.append("--- ").append(result.getProductName()).append(" 계산 결과 ---\n");
+        for (int i = 0; i < result.size(); i++) {
+            if (i > 0) {
+                out.append('\n');
+            }
+            Metric metric = result.getMetric(i);
+            out.append("  - ").append(metric.getLabel()).append(": ");
+            appendValue(metric, result.getValue(i), out);
+        }
+
+        // 가장 중요한 지표를 강조하여 한 번 더 보여주기
+        if (result.has(Metric.EFFECTIVE_ANNUAL_YIELD)) {
+            appendHighlight("예상 실효 수익률", result.get(Metric.EFFECTIVE_ANNUAL_YIELD), out);
+        } else if (result.has(Metric.YIELD_TO_MATURITY)) {
+            appendHighlight("예상 만기 수익률", result.get(Metric.YIELD_TO_MATURITY), out);
+        }
+    }
+
+    /**
+     * 지표의 표시 형식에 맞게 값 하나를 씁니다.
+     */
+    public void appendValue(Metric metric, double value, StringBuilder out) {
+        if (metric.getUnit() == Metric.Unit.PERCENT) {
+            out.append(percentFormat.format(value)).append('%');
+        } else {
+            out.append(currencyFormat.format(value));
+        }
+    }
+
+    private void appendHighlight(String label, double value, StringBuilder out) {
+        out.append("\n✨ ").append(label).append(": ").append(percentFormat.format(value)).append("%\n");
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.calculator;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 일괄 처리 결과를 레코드 순서대로 기록하는 출력 형식에 대한 계약입니다.
+ */
+public interface ResultWriter extends Closeable {
+
+    /**
+     * @param lineNumber 입력 파일에서 이 상품이 있던 줄 번호
+     * @param result     계산 결과
+     */
+    void write(long lineNumber, CalculationResult result) throws IOException;
+
+    /**
+     * 읽기 또는 계산에 실패한 레코드를 기록합니다.
+     */
+    void writeError(long lineNumber, String message) throws IOException;
+}
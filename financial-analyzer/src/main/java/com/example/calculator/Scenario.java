@@ -0,0 +1,52 @@
+package com.example.calculator;
+
+/**
+ * 상품을 다시 평가할 하나의 시장·제도 시나리오입니다.
+ * 금리 평행 이동, 세율 변경, 수수료율 변경을 조합할 수 있으며,
+ * 세율과 수수료율이 NaN이면 각 상품의 기본값을 그대로 사용합니다.
+ */
+public class Scenario {
+
+    /** 아무것도 바꾸지 않는 기준 시나리오 */
+    public static final Scenario BASE = new Scenario("기준", 0.0, Double.NaN, Double.NaN);
+
+    private final String name;
+    private final double rateShift;   // 금리 평행 이동 폭 (소수, +1%p -> 0.01)
+    private final double taxRate;     // 이자·배당 소득세율 (소수), NaN이면 상품 기본값
+    private final double feeRate;     // 매매 수수료율 (소수), NaN이면 상품 기본값
+
+    public Scenario(String name, double rateShift, double taxRate, double feeRate) {
+        this.name = name;
+        this.rateShift = rateShift;
+        this.taxRate = taxRate;
+        this.feeRate = feeRate;
+    }
+
+    /**
+     * 금리만 평행 이동하는 시나리오를 만듭니다.
+     * @param rateShift 이동 폭 (소수, 예: +50bp -> 0.005)
+     */
+    public static Scenario parallelShift(double rateShift) {
+        return new Scenario(String.format("%+.0fbp", rateShift * 10_000), rateShift, Double.NaN, Double.NaN);
+    }
+
+    /** 세율만 바꾼 새 시나리오 */
+    public Scenario withTaxRate(double taxRate) {
+        return new Scenario(name, rateShift, taxRate, feeRate);
+    }
+
+    /** 수수료율만 바꾼 새 시나리오 */
+    public Scenario withFeeRate(double feeRate) {
+        return new Scenario(name, rateShift, taxRate, feeRate);
+    }
+
+    public String getName() { return name; }
+    public double getRateShift() { return rateShift; }
+    public double getTaxRate() { return taxRate; }
+    public double getFeeRate() { return feeRate; }
+
+    @Override
+    public String toString() {
+        return String.format("Scenario[%s, shift=%.6f, tax=%s, fee=%s]", name, rateShift, taxRate, feeRate);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.calculator;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 같은 상품들을 여러 시나리오에서 한꺼번에 다시 평가하는 엔진입니다.
+ *
+ * 상품마다 시나리오와 무관한 부분(채권의 기준 YTM과 현금흐름 구조, 적금의 구간 누적 개월 수,
+ * 배당주의 매수·매도 금액)을 한 번만 미리 계산해 두고, 시나리오 값은 원시 배열로 펼친 뒤
+ * 상품별로 병렬 처리하여 행렬을 채웁니다. 평가 루프 안에서는 객체를 만들지 않습니다.
+ *
+ * 시나리오별 평가값은 모두 원화 금액입니다.
+ * <ul>
+ *   <li>채권: 기준 YTM에 금리 이동을 더한 수익률로 할인한 가격(경과 이자 포함)에서 매도 수수료를 뺀 금액.
+ *       세금 적용 채권은 이표에 시나리오 세율을 적용합니다.</li>
+ *   <li>차등금리 적금: 모든 구간 금리에 이동 폭을 더해 계산한 세후 실수령액.</li>
+ *   <li>배당주: 시나리오 수수료율(매수·매도)과 배당소득세율을 적용한 최종 실현 손익. 금리 이동은 영향이 없습니다.</li>
+ * </ul>
+ */
+public class ScenarioEngine {
+
+    /**
+     * @param products  평가할 상품 (Bond, TieredSavingsAccount, DividendStock)
+     * @param scenarios 시나리오 목록
+     * @return 상품 × 시나리오 평가 결과
+     * @throws IllegalArgumentException 지원하지 않는 상품이 포함되었거나, 상품 수 × 시나리오 수가 배열 하나에 담을 수 있는
+     *                                  크기({@link ScenarioMatrix#MAX_CELLS})를 넘는 경우
+     */
+    public ScenarioMatrix evaluate(List<? extends FinancialProduct> products, List<Scenario> scenarios) {
+        ScenarioMatrix.checkSize(products.size(), scenarios.size());
+        FinancialProduct[] items = products.toArray(new FinancialProduct[0]);
+        PreparedProduct[] prepared = new PreparedProduct[items.length];
+        IntStream.range(0, items.length).parallel().forEach(i -> prepared[i] = prepare(items[i]));
+
+        int scenarioCount = scenarios.size();
+        double[] shifts = new double[scenarioCount];
+        double[] taxRates = new double[scenarioCount];
+        double[] feeRates = new double[scenarioCount];
+        for (int s = 0; s < scenarioCount; s++) {
+            Scenario scenario = scenarios.get(s);
+            shifts[s] = scenario.getRateShift();
+            taxRates[s] = scenario.getTaxRate();
+            feeRates[s] = scenario.getFeeRate();
+        }
+
+        double[] values = new double[items.length * scenarioCount];
+        IntStream.range(0, items.length).parallel().forEach(row -> {
+            PreparedProduct product = prepared[row];
+            int offset = row * scenarioCount;
+            for (int s = 0; s < scenarioCount; s++) {
+                values[offset + s] = product.value(shifts[s], taxRates[s], feeRates[s]);
+            }
+        });
+        return new ScenarioMatrix(items.length, scenarioCount, values);
+    }
+
+    private static PreparedProduct prepare(FinancialProduct product) {
+        if (product instanceof Bond) {
+            return new PreparedBond((Bond) product);
+        }
+        if (product instanceof TieredSavingsAccount) {
+            return new PreparedSavingsAccount((TieredSavingsAccount) product);
+        }
+        if (product instanceof DividendStock) {
+            return new PreparedDividendStock((DividendStock) product);
+        }
+        throw new IllegalArgumentException("시나리오 평가를 지원하지 않는 상품입니다: " + product.getClass().getName());
+    }
+
+    private static double orDefault(double override, double defaultValue) {
+        return Double.isNaN(override) ? defaultValue : override;
+    }
+
+    /**
+     * 시나리오와 무관한 값을 미리 계산해 둔 상품
+     */
+    private abstract static class PreparedProduct {
+        /**
+         * @param rateShift 금리 이동 폭
+         * @param taxRate   세율 (NaN이면 기본값)
+         * @param feeRate   수수료율 (NaN이면 기본값)
+         */
+        abstract double value(double rateShift, double taxRate, double feeRate);
+    }
+
+    private static final class PreparedBond extends PreparedProduct {
+        private final double faceValue;
+        private final double grossPeriodicCoupon;   // 세전 기간당 이표
+        private final int numberOfPeriods;
+        private final double firstPeriodFraction;
+        private final int couponFrequency;
+        private final boolean applyTax;
+        private final double tradingFeeRate;
+        private final double baseYield;             // 기준 YTM (소수)
+
+        PreparedBond(Bond bond) {
+            this.faceValue = bond.getFaceValue();
+            this.grossPeriodicCoupon = Bond.periodicCoupon(bond.getFaceValue(), bond.getCouponRate(), bond.getCouponFrequency(), false);
+            this.numberOfPeriods = BondPricingKernel.periodCount(bond.getYearsToMaturity(), bond.getCouponFrequency());
+            this.firstPeriodFraction = BondPricingKernel.firstPeriodFraction(bond.getYearsToMaturity(), bond.getCouponFrequency());
+            this.couponFrequency = bond.getCouponFrequency();
+            this.applyTax = bond.isApplyTax();
+            this.tradingFeeRate = bond.getTradingFeeRate();
+            this.baseYield = bond.solveYield(Bond.DEFAULT_SOLVER, bond.estimateYield()).getYield();
+        }
+
+        @Override
+        double value(double rateShift, double taxRate, double feeRate) {
+            double coupon = applyTax ? grossPeriodicCoupon * (1 - orDefault(taxRate, Bond.TAX_RATE)) : grossPeriodicCoupon;
+            double price = BondPricingKernel.dirtyPrice(faceValue, coupon, numberOfPeriods, firstPeriodFraction,
+                    couponFrequency, baseYield + rateShift);
+            return price * (1 - orDefault(feeRate, tradingFeeRate));
+        }
+    }
+
+    private static final class PreparedSavingsAccount extends PreparedProduct {
+        private final TieredInterestEngine engine;
+        private final double monthlyDeposit;
+        private final InterestMode interestMode;
+        private final double principal;
+
+        PreparedSavingsAccount(TieredSavingsAccount account) {
+            this.engine = account.getInterestEngine();
+            this.monthlyDeposit = account.getMonthlyDeposit();
+            this.interestMode = account.getInterestMode();
+            this.principal = monthlyDeposit * Math.max(0, engine.getTotalMonths());
+        }
+
+        @Override
+        double value(double rateShift, double taxRate, double feeRate) {
+            double interest = engine.totalInterest(monthlyDeposit, interestMode, rateShift);
+            return principal + interest * (1 - orDefault(taxRate, TieredSavingsAccount.TAX_RATE));
+        }
+    }
+
+    private static final class PreparedDividendStock extends PreparedProduct {
+        private final double totalPurchaseAmount;
+        private final double totalSellingAmount;
+        private final double totalDividendReceived;
+        private final double tradingFeeRate;
+        private final double securitiesTransactionTax;
+
+        PreparedDividendStock(DividendStock stock) {
+            this.totalPurchaseAmount = stock.getPurchasePricePerShare() * stock.getNumberOfShares();
+            this.totalSellingAmount = stock.getSellingPricePerShare() * stock.getNumberOfShares();
+            this.totalDividendReceived = stock.getTotalDividendReceived();
+            this.tradingFeeRate = stock.getTradingFeeRate();
+            this.securitiesTransactionTax = totalSellingAmount * stock.getSecuritiesTransactionTaxRate();
+        }
+
+        @Override
+        double value(double rateShift, double taxRate, double feeRate) {
+            double fee = orDefault(feeRate, tradingFeeRate);
+            double totalInvestment = totalPurchaseAmount + totalPurchaseAmount * fee;
+            double netDividend = totalDividendReceived - totalDividendReceived * orDefault(taxRate, DividendStock.DIVIDEND_INCOME_TAX_RATE);
+            return (totalSellingAmount - totalSellingAmount * fee - securitiesTransactionTax) + netDividend - totalInvestment;
+        }
+    }
+}
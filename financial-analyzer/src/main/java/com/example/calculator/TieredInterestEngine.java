@@ -0,0 +1,250 @@
+package com.example.calculator;
+
+import java.util.List;
+
+/**
+ * 기간별 차등 금리 적금의 총 이자를 금리 구간 수에 비례하는 시간(O(구간 수))에 계산하는 엔진입니다.
+ *
+ * 매월 입금되는 예치금은 자신이 머무는 기간의 처음부터 1구간, 2구간, ... 순서로 금리를 적용받습니다.
+ * 회차마다 구간을 다시 순회하는 대신, 구간별 누적 개월 수(prefix sum)를 미리 구해 두고
+ * 단리는 등차수열 합, 복리는 등비수열 합 공식으로 모든 회차의 이자를 한 번에 더합니다.
+ * 구간 정보는 생성 시 한 번만 계산하므로 같은 엔진으로 여러 월 납입액을 계산할 수 있습니다.
+ */
+public final class TieredInterestEngine {
+
+    private static final double DAYS_PER_YEAR = 365.0;
+
+    private final int[] months;             // 구간별 개월 수
+    private final double[] annualRates;     // 구간별 연이율 (소수)
+    private final int[] elapsedBefore;      // 이 구간 이전 구간들의 누적 개월 수
+    private final int totalMonths;          // 전체 납입 개월 수
+
+    public TieredInterestEngine(List<InterestRateTier> tiers) {
+        int count = tiers.size();
+        this.months = new int[count];
+        this.annualRates = new double[count];
+        this.elapsedBefore = new int[count];
+        int elapsed = 0;
+        for (int j = 0; j < count; j++) {
+            InterestRateTier tier = tiers.get(j);
+            months[j] = tier.getMonths();
+            annualRates[j] = tier.getAnnualRate();
+            elapsedBefore[j] = elapsed;
+            elapsed += tier.getMonths();
+        }
+        this.totalMonths = elapsed;
+    }
+
+    public int getTotalMonths() {
+        return totalMonths;
+    }
+
+    /**
+     * 매월 같은 금액을 납입할 때 만기까지의 세전 총 이자를 계산합니다.
+     *
+     * @param monthlyDeposit 월 납입액
+     * @param mode           이자 계산 방식
+     * @return 세전 총 이자
+     */
+    public double totalInterest(double monthlyDeposit, InterestMode mode) {
+        return totalInterest(monthlyDeposit, mode, 0.0);
+    }
+
+    /**
+     * 모든 구간의 연이율을 같은 폭만큼 옮겼을 때의 세전 총 이자를 계산합니다.
+     * 구간 정보를 다시 만들지 않으므로 금리 충격 시나리오를 반복 평가할 때 할당이 없습니다.
+     *
+     * @param monthlyDeposit 월 납입액
+     * @param mode           이자 계산 방식
+     * @param rateShift      모든 구간 연이율에 더할 값 (소수, 예: +1%p -> 0.01)
+     * @return 세전 총 이자
+     */
+    public double totalInterest(double monthlyDeposit, InterestMode mode, double rateShift) {
+        switch (mode) {
+            case SIMPLE:
+                return simpleInterest(monthlyDeposit, rateShift);
+            case MONTHLY_COMPOUND:
+                return compoundInterest(monthlyDeposit, false, rateShift);
+            case DAILY_COMPOUND:
+                return compoundInterest(monthlyDeposit, true, rateShift);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 이자 계산 방식: " + mode);
+        }
+    }
+
+    /**
+     * 단리 이자.
+     * 남은 기간이 R개월인 예치금이 j번째 구간에 머무는 개월 수는 min(M_j, max(0, R - E_j)) 이므로,
+     * R = 1..T 에 대한 합을 구간마다 등차수열 합으로 구합니다.
+     */
+    private double simpleInterest(double monthlyDeposit, double rateShift) {
+        double totalInterest = 0;
+        for (int j = 0; j < months.length; j++) {
+            if (months[j] <= 0) {
+                continue; // 머무는 개월 수가 0 이하인 구간은 이자가 없음
+            }
+            long depositMonths = sumClippedMonths(1 - elapsedBefore[j], totalMonths - elapsedBefore[j], months[j]);
+            // (원금 * 연이율 * (예치개월수/12)) 공식으로 단리 계산
+            totalInterest += monthlyDeposit * (annualRates[j] + rateShift) * (depositMonths / 12.0);
+        }
+        return totalInterest;
+    }
+
+    /**
+     * sum_{x=from}^{to} min(limit, max(0, x)) 를 계산합니다. (limit > 0)
+     */
+    private static long sumClippedMonths(long from, long to, long limit) {
+        long sum = 0;
+        // 1 <= x <= limit 구간: x 자체의 합
+        long low = Math.max(from, 1);
+        long high = Math.min(to, limit);
+        if (low <= high) {
+            sum += (low + high) * (high - low + 1) / 2;
+        }
+        // x > limit 구간: limit씩 더해짐
+        low = Math.max(from, limit + 1);
+        if (low <= to) {
+            sum += limit * (to - low + 1);
+        }
+        return sum;
+    }
+
+    /**
+     * 복리 이자.
+     * 남은 기간이 R개월이고 j번째 구간에서 x개월째인 예치금의 증가 배수는 P_j * q_j^x 입니다.
+     * (P_j = 이전 구간들의 누적 증가 배수, q_j = 이 구간의 월 증가 배수)
+     * x = 1..M_j 의 합을 등비수열 합으로 구합니다.
+     */
+    private double compoundInterest(double monthlyDeposit, boolean daily, double rateShift) {
+        double growthSum = 0;       // sum_R (증가 배수)
+        double logPriorGrowth = 0;  // log P_j
+        for (int j = 0; j < months.length; j++) {
+            int m = months[j];
+            if (m < 0) {
+                throw new IllegalArgumentException("복리 계산에서는 구간 개월 수가 음수일 수 없습니다: " + m);
+            }
+            if (m == 0) {
+                continue;
+            }
+            double logMonthlyGrowth = logMonthlyGrowth(annualRates[j] + rateShift, daily);
+            // sum_{x=1}^{M} q^x = q * (q^M - 1) / (q - 1)
+            double geometricSum = logMonthlyGrowth == 0
+                    ? m
+                    : Math.exp(logMonthlyGrowth) * Math.expm1(m * logMonthlyGrowth) / Math.expm1(logMonthlyGrowth);
+            growthSum += Math.exp(logPriorGrowth) * geometricSum;
+            logPriorGrowth += m * logMonthlyGrowth;
+        }
+        return monthlyDeposit * (growthSum - Math.max(0, totalMonths));
+    }
+
+    /** 한 달 동안의 증가 배수의 로그 */
+    private static double logMonthlyGrowth(double annualRate, boolean daily) {
+        return daily
+                ? (DAYS_PER_YEAR / 12.0) * Math.log1p(annualRate / DAYS_PER_YEAR)
+                : Math.log1p(annualRate / 12.0);
+    }
+
+    /** {@link #totalInterest(double, InterestMode, double[], double[])}에 넘길 작업 배열의 최소 길이 */
+    int pathScratchSize() {
+        return (months.length + 1) * (Math.max(0, totalMonths) + 1);
+    }
+
+    /**
+     * 달마다 다른 금리 이동을 적용한 세전 총 이자를 계산합니다. (금리 경로 시뮬레이션용)
+     *
+     * 달력상 m번째 달(0부터)에는 모든 구간 연이율에 monthlyShifts[m]을 더합니다.
+     * 예치금은 자기 예치 기간의 처음부터 구간을 순서대로 거치므로 같은 달이라도 회차마다 적용 구간이 다릅니다.
+     * 구간마다 달력 월에 대한 누적 합(단리는 금리 이동의 합, 복리는 월 증가 배수 로그의 합)을 만들어 두면
+     * 회차마다 구간 수만큼의 뺄셈으로 끝나므로 O(개월 수 × 구간 수)입니다.
+     * 모든 달의 이동이 같으면 {@link #totalInterest(double, InterestMode, double)}와 같은 값입니다.
+     *
+     * @param monthlyShifts 길이가 총 개월 수 이상인 달별 금리 이동 (소수)
+     * @param scratch       길이가 {@link #pathScratchSize()} 이상인 작업 배열 (경로마다 할당하지 않도록 호출하는 쪽이 보관)
+     */
+    double totalInterest(double monthlyDeposit, InterestMode mode, double[] monthlyShifts, double[] scratch) {
+        int total = totalMonths;
+        if (total <= 0) {
+            return totalInterest(monthlyDeposit, mode, 0.0); // 이동을 적용할 달이 없음
+        }
+        switch (mode) {
+            case SIMPLE:
+                return simpleInterest(monthlyDeposit, monthlyShifts, scratch);
+            case MONTHLY_COMPOUND:
+                return compoundInterest(monthlyDeposit, false, monthlyShifts, scratch);
+            case DAILY_COMPOUND:
+                return compoundInterest(monthlyDeposit, true, monthlyShifts, scratch);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 이자 계산 방식: " + mode);
+        }
+    }
+
+    /**
+     * 단리 이자 = 이동이 없을 때의 이자 + 월 납입액 / 12 × (각 회차가 머무는 달들의 이동 합)
+     */
+    private double simpleInterest(double monthlyDeposit, double[] monthlyShifts, double[] prefix) {
+        int total = totalMonths;
+        prefix[0] = 0;
+        for (int m = 0; m < total; m++) {
+            prefix[m + 1] = prefix[m] + monthlyShifts[m];
+        }
+        double shiftSum = 0;
+        for (int k = 0; k < total; k++) {
+            int remaining = total - k;
+            for (int j = 0; j < months.length; j++) {
+                if (months[j] <= 0) {
+                    continue;
+                }
+                int count = Math.min(months[j], Math.max(0, remaining - elapsedBefore[j]));
+                if (count > 0) {
+                    int from = Math.min(Math.max(k + elapsedBefore[j], 0), total);
+                    int to = Math.min(from + count, total);
+                    shiftSum += prefix[to] - prefix[from];
+                }
+            }
+        }
+        return simpleInterest(monthlyDeposit, 0.0) + monthlyDeposit * shiftSum / 12.0;
+    }
+
+    /**
+     * 복리 이자. 회차 k의 증가 배수는 exp(구간별로 그 회차가 머무는 달들의 월 증가 배수 로그 합)입니다.
+     */
+    private double compoundInterest(double monthlyDeposit, boolean daily, double[] monthlyShifts, double[] scratch) {
+        int total = totalMonths;
+        int stride = total + 1;
+        for (int j = 0; j < months.length; j++) {
+            int m = months[j];
+            if (m < 0) {
+                throw new IllegalArgumentException("복리 계산에서는 구간 개월 수가 음수일 수 없습니다: " + m);
+            }
+            if (m == 0) {
+                continue;
+            }
+            // 이 구간에 머물 수 있는 달력 월은 elapsedBefore[j] 이후뿐
+            int base = j * stride;
+            int start = elapsedBefore[j];
+            scratch[base + start] = 0;
+            for (int month = start; month < total; month++) {
+                scratch[base + month + 1] = scratch[base + month] + logMonthlyGrowth(annualRates[j] + monthlyShifts[month], daily);
+            }
+        }
+        double growthSum = 0;
+        for (int k = 0; k < total; k++) {
+            int remaining = total - k;
+            double logGrowth = 0;
+            for (int j = 0; j < months.length; j++) {
+                if (remaining <= elapsedBefore[j]) {
+                    break; // 이 회차는 이 구간 이후로는 가지 못함
+                }
+                int count = Math.min(months[j], remaining - elapsedBefore[j]);
+                if (count == 0) {
+                    continue;
+                }
+                int base = j * stride;
+                int from = k + elapsedBefore[j];
+                logGrowth += scratch[base + from + count] - scratch[base + from];
+            }
+            growthSum += Math.exp(logGrowth);
+        }
+        return monthlyDeposit * (growthSum - total);
+    }
+}
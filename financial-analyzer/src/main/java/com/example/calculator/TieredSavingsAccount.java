@@ -1,7 +1,6 @@
 package com.example.calculator;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * 기간별 차등 금리를 적용하는 적금 계좌를 나타냅니다.
@@ -12,43 +11,41 @@ public class TieredSavingsAccount implements FinancialProduct {
 
     private final double monthlyDeposit;
     private final List<InterestRateTier> interestRateTiers;
-    private static final double TAX_RATE = 0.154; // 이자 소득세 15.4%
+    private final InterestMode interestMode;
+    private final TieredInterestEngine interestEngine;
+    private final int hashCode;             // 구간 목록까지 해시해야 하므로 생성 시 한 번만 계산
+    static final double TAX_RATE = 0.154; // 이자 소득세 15.4%
+    private static final Metric[] METRICS = {
+        Metric.TOTAL_PRINCIPAL,
+        Metric.PRE_TAX_INTEREST,
+        Metric.INTEREST_INCOME_TAX,
+        Metric.FINAL_AMOUNT,
+        Metric.EFFECTIVE_ANNUAL_YIELD
+    };
 
     public TieredSavingsAccount(double monthlyDeposit, List<InterestRateTier> interestRateTiers) {
+        this(monthlyDeposit, interestRateTiers, InterestMode.SIMPLE);
+    }
+
+    /**
+     * @param monthlyDeposit    월 납입액
+     * @param interestRateTiers 순서대로 적용되는 금리 구간
+     * @param interestMode      이자 계산 방식 (단리, 월 복리, 일 복리)
+     */
+    public TieredSavingsAccount(double monthlyDeposit, List<InterestRateTier> interestRateTiers, InterestMode interestMode) {
         this.monthlyDeposit = monthlyDeposit;
-        this.interestRateTiers = interestRateTiers;
+        this.interestRateTiers = List.copyOf(interestRateTiers); // 엔진이 미리 계산한 값과 어긋나지 않도록 복사
+        this.interestMode = interestMode;
+        this.interestEngine = new TieredInterestEngine(this.interestRateTiers);
+        this.hashCode = 31 * (31 * Double.hashCode(monthlyDeposit) + this.interestRateTiers.hashCode()) + interestMode.ordinal();
     }
 
     @Override
     public CalculationResult calculate() {
-        double principal = 0; // 총 원금
-        double totalInterest = 0; // 세전 총 이자
-        int totalMonths = 0;
-        for(InterestRateTier tier : interestRateTiers) {
-            totalMonths += tier.getMonths();
-        }
-
-        // 각 입금 회차별로 예치 기간을 계산하여 이자 계산 (단리 방식)
-        // 은행의 실제 적금 계산 방식과 유사합니다.
-        for (int month = 1; month <= totalMonths; month++) {
-            principal += monthlyDeposit;
-            double interestForThisDeposit = 0;
-            int monthsRemaining = totalMonths - month + 1; // 이 예치금이 머무를 개월 수
-
-            int elapsedMonthsInTiers = 0;
-            // 각 금리 구간을 순회하며 이자를 계산
-            for (InterestRateTier tier : interestRateTiers) {
-                // 현재 회차의 예치금이 현재 금리 구간에 얼마나 머무르는지 계산
-                int monthsInThisTier = Math.min(tier.getMonths(), Math.max(0, monthsRemaining - elapsedMonthsInTiers));
-                
-                if (monthsInThisTier > 0) {
-                    // (원금 * 연이율 * (예치개월수/12)) 공식으로 단리 계산
-                    interestForThisDeposit += monthlyDeposit * tier.getAnnualRate() * (monthsInThisTier / 12.0);
-                }
-                elapsedMonthsInTiers += tier.getMonths();
-            }
-            totalInterest += interestForThisDeposit;
-        }
+        int totalMonths = interestEngine.getTotalMonths();
+        double principal = monthlyDeposit * Math.max(0, totalMonths); // 총 원금
+        // 각 입금 회차별 예치 기간에 따른 이자를 구간별 공식으로 한 번에 합산 (은행의 실제 적금 계산 방식과 유사)
+        double totalInterest = interestEngine.totalInterest(monthlyDeposit, interestMode); // 세전 총 이자
 
         double tax = totalInterest * TAX_RATE;
         double afterTaxInterest = totalInterest - tax;
@@ -59,14 +56,52 @@ public class TieredSavingsAccount implements FinancialProduct {
         // 단리 적금의 실효 수익률을 구하는 간편 공식입니다.
         double effectiveApy = (afterTaxInterest / principal) * (12.0 / (totalMonths + 1)) * 2 * 100;
 
-        Map<String, Double> results = Map.of(
-            "총 원금", principal,
-            "세전 총 이자", totalInterest,
-            "이자 소득세 (15.4%)", tax,
-            "세후 실수령액", finalAmount,
-            "실효 수익률 (연, %)", effectiveApy
-        );
+        return new CalculationResult("기간별 차등금리 적금", METRICS,
+            principal, totalInterest, tax, finalAmount, effectiveApy);
+    }
 
-        return new CalculationResult("기간별 차등금리 적금", results);
+    /**
+     * 매월 초(0, 1/12, ... 년) 납입하는 월 납입액(음수)과 만기(총개월수/12 년)에 받는 세후 만기 수령액의 일정.
+     * 합계는 세후 이자, 납입 합계의 부호를 바꾼 값은 총 원금으로 calculate() 결과와 같습니다.
+     */
+    @Override
+    public CashFlowSchedule cashFlows() {
+        int totalMonths = interestEngine.getTotalMonths();
+        if (totalMonths <= 0) {
+            return CashFlowSchedule.empty();
+        }
+        double principal = monthlyDeposit * totalMonths;
+        double totalInterest = interestEngine.totalInterest(monthlyDeposit, interestMode);
+        double finalAmount = principal + (totalInterest - totalInterest * TAX_RATE);
+        return new PeriodicCashFlowSchedule(0, 12, totalMonths + 1, -monthlyDeposit, finalAmount);
+    }
+
+    public double getMonthlyDeposit() { return monthlyDeposit; }
+    public List<InterestRateTier> getInterestRateTiers() { return interestRateTiers; }
+    public InterestMode getInterestMode() { return interestMode; }
+
+    TieredInterestEngine getInterestEngine() { return interestEngine; }
+
+    /**
+     * 월 납입액, 금리 구간, 이자 계산 방식이 모두 같으면 같은 상품으로 봅니다.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TieredSavingsAccount)) {
+            return false;
+        }
+        TieredSavingsAccount other = (TieredSavingsAccount) o;
+        return hashCode == other.hashCode
+                && Double.compare(monthlyDeposit, other.monthlyDeposit) == 0
+                && interestMode == other.interestMode
+                && interestRateTiers.equals(other.interestRateTiers);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package com.example.calculator;
+
+import java.util.SplittableRandom;
+
+/**
+ * 단기 금리의 Vasicek 모형: dr = a(b - r)dt + σ dW
+ *
+ * 한 단계의 분포를 정확히 아는 모형이라 시간 간격을 잘게 나누지 않아도 이산화 오차가 없습니다.
+ * r(t+Δ) = r(t)·e^(-aΔ) + b(1 - e^(-aΔ)) + σ·√((1 - e^(-2aΔ)) / 2a)·Z
+ * 평균 회귀 속도 a가 0이면 산술 브라운 운동(σ·√Δ·Z)이 됩니다. 금리는 음수가 될 수 있습니다.
+ */
+public final class VasicekModel {
+
+    private final double initialRate;     // r(0) (소수, 연속 복리)
+    private final double meanReversion;   // a
+    private final double longTermRate;    // b (소수)
+    private final double volatility;      // σ (소수)
+
+    /**
+     * @param initialRate   현재 단기 금리 (소수, 예: 3.5% -> 0.035)
+     * @param meanReversion 평균 회귀 속도 a (0 이상, 연 단위)
+     * @param longTermRate  장기 평균 금리 b (소수)
+     * @param volatility    변동성 σ (0 이상, 소수)
+     */
+    public VasicekModel(double initialRate, double meanReversion, double longTermRate, double volatility) {
+        if (!(meanReversion >= 0)) {
+            throw new IllegalArgumentException("평균 회귀 속도는 0 이상이어야 합니다: " + meanReversion);
+        }
+        if (!(volatility >= 0)) {
+            throw new IllegalArgumentException("변동성은 0 이상이어야 합니다: " + volatility);
+        }
+        this.initialRate = initialRate;
+        this.meanReversion = meanReversion;
+        this.longTermRate = longTermRate;
+        this.volatility = volatility;
+    }
+
+    /**
+     * 금리 경로 하나를 만듭니다. rates[i]는 i번째 구간 [iΔ, (i+1)Δ) 동안의 단기 금리이며 rates[0]은 현재 금리입니다.
+     *
+     * @param random 난수 생성기 (경로를 만드는 스레드 전용)
+     * @param dt     구간 길이 Δ (연, 예: 월 -> 1.0 / 12)
+     * @param rates  경로를 채울 배열 (길이만큼 만듦)
+     */
+    public void simulate(SplittableRandom random, double dt, double[] rates) {
+        if (rates.length == 0) {
+            return;
+        }
+        double decay;
+        double standardDeviation;
+        if (meanReversion == 0) {
+            decay = 1;
+            standardDeviation = volatility * Math.sqrt(dt);
+        } else {
+            decay = Math.exp(-meanReversion * dt);
+            standardDeviation = volatility * Math.sqrt(-Math.expm1(-2 * meanReversion * dt) / (2 * meanReversion));
+        }
+        double drift = longTermRate * (1 - decay);
+        double rate = initialRate;
+        rates[0] = rate;
+        for (int i = 1; i < rates.length; i++) {
+            rate = rate * decay + drift + standardDeviation * random.nextGaussian();
+            rates[i] = rate;
+        }
+    }
+
+    public double getInitialRate() { return initialRate; }
+    public double getMeanReversion() { return meanReversion; }
+    public double getLongTermRate() { return longTermRate; }
+    public double getVolatility() { return volatility; }
+
+    @Override
+    public String toString() {
+        return "VasicekModel[r0=" + initialRate + ", a=" + meanReversion + ", b=" + longTermRate + ", sigma=" + volatility + "]";
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.calculator;
+
+/**
+ * 수익률 탐색 한 번의 결과를 담습니다.
+ * 대량 계산에서 할당을 줄일 수 있도록 하나의 객체를 여러 번의 탐색에 재사용할 수 있습니다.
+ */
+public class YieldSolution {
+
+    private double yield;        // 찾은 수익률 (소수)
+    private int iterations;      // 가격 함수를 평가한 반복 횟수
+    private boolean converged;   // 허용 오차 안으로 수렴했는지 여부
+
+    /**
+     * 탐색 결과를 기록합니다. YieldSolver 구현체가 호출합니다.
+     */
+    public void set(double yield, int iterations, boolean converged) {
+        this.yield = yield;
+        this.iterations = iterations;
+        this.converged = converged;
+    }
+
+    /** @return 찾은 연 수익률 (소수). 수렴에 실패한 경우 마지막 추정치 */
+    public double getYield() {
+        return yield;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public boolean isConverged() {
+        return converged;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("YieldSolution[yield=%.10f, iterations=%d, converged=%s]", yield, iterations, converged);
+    }
+}
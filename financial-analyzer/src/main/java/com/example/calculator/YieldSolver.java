@@ -0,0 +1,27 @@
+package com.example.calculator;
+
+/**
+ * 목표 가격을 만족하는 수익률을 찾는 알고리즘에 대한 계약입니다.
+ * 허용 오차는 가격이 아닌 수익률에 대해 적용됩니다.
+ */
+public interface YieldSolver {
+
+    /**
+     * price(y) = targetPrice 를 만족하는 수익률 y를 찾아 solution에 기록합니다.
+     *
+     * @param function     수익률에 따른 가격 함수
+     * @param targetPrice  맞춰야 할 가격
+     * @param initialGuess 탐색 시작점 (소수). 전일 수익률 등으로 웜 스타트할 수 있습니다.
+     * @param solution     결과를 기록할 객체
+     */
+    void solve(PriceFunction function, double targetPrice, double initialGuess, YieldSolution solution);
+
+    /**
+     * 결과 객체를 새로 만들어 수익률을 찾습니다.
+     */
+    default YieldSolution solve(PriceFunction function, double targetPrice, double initialGuess) {
+        YieldSolution solution = new YieldSolution();
+        solve(function, targetPrice, initialGuess, solution);
+        return solution;
+    }
+}
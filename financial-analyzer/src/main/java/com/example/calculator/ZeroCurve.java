@@ -0,0 +1,86 @@
+package com.example.calculator;
+
+import java.util.Arrays;
+
+/**
+ * 기준 만기(pillar)별 무이표 금리로 정의한 할인 곡선입니다.
+ * 금리는 연속 복리 기준이며, 기준 만기 사이는 금리를 선형 보간하고 양 끝 밖은 가장 가까운 금리를 그대로 씁니다.
+ * DF(t) = exp(-z(t)·t)
+ */
+public final class ZeroCurve implements DiscountCurve {
+
+    private final double[] tenors;      // 기준 만기 (연, 오름차순)
+    private final double[] zeroRates;   // 연속 복리 무이표 금리 (소수)
+
+    /**
+     * @param tenors    기준 만기 (연, 오름차순)
+     * @param zeroRates 기준 만기별 연속 복리 무이표 금리 (소수, 예: 3.5% -> 0.035)
+     */
+    public ZeroCurve(double[] tenors, double[] zeroRates) {
+        if (tenors.length == 0 || tenors.length != zeroRates.length) {
+            throw new IllegalArgumentException("기준 만기와 금리의 개수가 같고 1개 이상이어야 합니다");
+        }
+        for (int i = 1; i < tenors.length; i++) {
+            if (!(tenors[i] > tenors[i - 1])) {
+                throw new IllegalArgumentException("기준 만기는 오름차순이어야 합니다: " + Arrays.toString(tenors));
+            }
+        }
+        this.tenors = tenors.clone();
+        this.zeroRates = zeroRates.clone();
+    }
+
+    /** 만기 years의 무이표 금리 (연속 복리, 소수) */
+    public double zeroRate(double years) {
+        int last = tenors.length - 1;
+        if (years <= tenors[0]) {
+            return zeroRates[0];
+        }
+        if (years >= tenors[last]) {
+            return zeroRates[last];
+        }
+        int index = Arrays.binarySearch(tenors, years);
+        if (index >= 0) {
+            return zeroRates[index];
+        }
+        int upper = -index - 1;
+        int lower = upper - 1;
+        double weight = (years - tenors[lower]) / (tenors[upper] - tenors[lower]);
+        return zeroRates[lower] + weight * (zeroRates[upper] - zeroRates[lower]);
+    }
+
+    @Override
+    public double discountFactor(double years) {
+        return Math.exp(-zeroRate(years) * years);
+    }
+
+    /** 모든 금리를 shift만큼 평행 이동한 새 곡선 (소수, +1bp -> 0.0001) */
+    public ZeroCurve shifted(double shift) {
+        double[] rates = zeroRates.clone();
+        for (int i = 0; i < rates.length; i++) {
+            rates[i] += shift;
+        }
+        return new ZeroCurve(tenors, rates);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ZeroCurve)) {
+            return false;
+        }
+        ZeroCurve other = (ZeroCurve) o;
+        return Arrays.equals(tenors, other.tenors) && Arrays.equals(zeroRates, other.zeroRates);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(tenors) + Arrays.hashCode(zeroRates);
+    }
+
+    @Override
+    public String toString() {
+        return "ZeroCurve" + Arrays.toString(tenors) + Arrays.toString(zeroRates);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.calculator;
+
+import java.util.List;
+
+/**
+ * 최적화 이전 구현의 계산 방식을 그대로 옮긴 기준 구현입니다. 현재 구현과의 일치 여부를 확인하는 데 씁니다.
+ */
+final class BaselineCalculations {
+
+    private static final double TAX_RATE = 0.154;
+
+    private BaselineCalculations() {
+    }
+
+    /** 이분법 YTM (%). 가격 차이가 0.0001 미만이면 멈춤 */
+    static double bondYield(Bond bond) {
+        double actualPurchasePrice = bond.getPurchasePrice() * (1 + bond.getTradingFeeRate());
+        double low = 0.0;
+        double high = 1.0;
+        double ytm = 0.0;
+        for (int i = 0; i < 100; i++) {
+            ytm = (low + high) / 2.0;
+            double priceDifference = bondPrice(bond, ytm) - actualPurchasePrice;
+            if (Math.abs(priceDifference) < 0.0001) {
+                return ytm * 100;
+            }
+            if (priceDifference > 0) {
+                low = ytm;
+            } else {
+                high = ytm;
+            }
+        }
+        return ytm * 100;
+    }
+
+    static double bondPrice(Bond bond, double ytm) {
+        double price = 0.0;
+        double periodicCouponPayment = (bond.getFaceValue() * bond.getCouponRate()) / bond.getCouponFrequency();
+        if (bond.isApplyTax()) {
+            periodicCouponPayment *= (1 - TAX_RATE);
+        }
+        double periodicYtm = ytm / bond.getCouponFrequency();
+        int numberOfPeriods = (int) (bond.getYearsToMaturity() * bond.getCouponFrequency());
+        for (int t = 1; t <= numberOfPeriods; t++) {
+            price += periodicCouponPayment / Math.pow(1 + periodicYtm, t);
+        }
+        price += bond.getFaceValue() / Math.pow(1 + periodicYtm, numberOfPeriods);
+        return price;
+    }
+
+    /** 회차별·구간별로 단리 이자를 더하는 적금 계산: {총 원금, 세전 이자, 세금, 세후 실수령액, 실효 수익률} */
+    static double[] savings(double monthlyDeposit, List<InterestRateTier> tiers) {
+        double principal = 0;
+        double totalInterest = 0;
+        int totalMonths = 0;
+        for (InterestRateTier tier : tiers) {
+            totalMonths += tier.getMonths();
+        }
+        for (int month = 1; month <= totalMonths; month++) {
+            principal += monthlyDeposit;
+            double interestForThisDeposit = 0;
+            int monthsRemaining = totalMonths - month + 1;
+            int elapsedMonthsInTiers = 0;
+            for (InterestRateTier tier : tiers) {
+                int monthsInThisTier = Math.min(tier.getMonths(), Math.max(0, monthsRemaining - elapsedMonthsInTiers));
+                if (monthsInThisTier > 0) {
+                    interestForThisDeposit += monthlyDeposit * tier.getAnnualRate() * (monthsInThisTier / 12.0);
+                }
+                elapsedMonthsInTiers += tier.getMonths();
+            }
+            totalInterest += interestForThisDeposit;
+        }
+        double tax = totalInterest * TAX_RATE;
+        double afterTaxInterest = totalInterest - tax;
+        double finalAmount = principal + afterTaxInterest;
+        double effectiveApy = (afterTaxInterest / principal) * (12.0 / (totalMonths + 1)) * 2 * 100;
+        return new double[] {principal, totalInterest, tax, finalAmount, effectiveApy};
+    }
+
+    /** 배당주 계산: DividendStock의 지표 순서와 같음. 수수료율과 거래세율은 % 단위 */
+    static double[] dividendStock(double purchasePricePerShare, double sellingPricePerShare, int numberOfShares,
+                                  double totalDividendReceived, double tradingFeePercent, double transactionTaxPercent) {
+        double tradingFeeRate = tradingFeePercent / 100.0;
+        double totalPurchaseAmount = purchasePricePerShare * numberOfShares;
+        double purchaseFee = totalPurchaseAmount * tradingFeeRate;
+        double totalInvestment = totalPurchaseAmount + purchaseFee;
+        double totalSellingAmount = sellingPricePerShare * numberOfShares;
+        double sellingFee = totalSellingAmount * tradingFeeRate;
+        double securitiesTransactionTax = totalSellingAmount * (transactionTaxPercent / 100.0);
+        double dividendTax = totalDividendReceived * TAX_RATE;
+        double netDividend = totalDividendReceived - dividendTax;
+        double netProfit = (totalSellingAmount - sellingFee - securitiesTransactionTax) + netDividend - totalInvestment;
+        double returnOnInvestment = (netProfit / totalInvestment) * 100;
+        return new double[] {totalInvestment, totalPurchaseAmount, purchaseFee, totalSellingAmount, sellingFee,
+                securitiesTransactionTax, totalDividendReceived, dividendTax, netDividend, netProfit,
+                returnOnInvestment};
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class BatchCalculationTest {
+
+    private static List<FinancialProduct> bonds(int count) {
+        List<FinancialProduct> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(new Bond(10000 + i, 9500, 0.03, 5, 2, 0.001, true));
+        }
+        return products;
+    }
+
+    /** blockAt 상품을 계산하기 직전에 release가 열릴 때까지 멈추는 계산기 */
+    private static final class BlockingCalculator extends Calculator {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private final FinancialProduct blockAt;
+
+        BlockingCalculator(FinancialProduct blockAt) {
+            this.blockAt = blockAt;
+        }
+
+        @Override
+        public CalculationResult calculate(FinancialProduct product) {
+            if (product == blockAt) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.calculate(product);
+        }
+    }
+
+    @Test
+    void failedProductsAreIsolated() throws InterruptedException {
+        List<FinancialProduct> products = bonds(10);
+        FinancialProduct bad = products.get(3);
+        Calculator calculator = new Calculator() {
+            @Override
+            public CalculationResult calculate(FinancialProduct product) {
+                if (product == bad) {
+                    throw new IllegalArgumentException("계산 불가");
+                }
+                return super.calculate(product);
+            }
+        };
+        BatchCalculation batch = calculator.calculateAll(products, Runnable::run, 4).await();
+
+        assertTrue(batch.isDone());
+        assertEquals(10, batch.getCompletedCount());
+        assertEquals(1, batch.getFailedCount());
+        assertEquals("계산 불가", batch.getError(3).getMessage());
+        assertNull(batch.getResult(3));
+        for (int i = 0; i < 10; i++) {
+            if (i != 3) {
+                assertNull(batch.getError(i));
+                assertEquals(new Calculator().calculate(products.get(i)).getResults(), batch.getResult(i).getResults());
+            }
+        }
+        List<CalculationResult> results = batch.results().collect(Collectors.toList());
+        assertEquals(9, results.size());
+        assertSame(batch.getResult(4), results.get(3)); // 입력 순서, 실패한 상품은 빠짐
+    }
+
+    @Test
+    void reportsProgressWhileRunning() throws InterruptedException {
+        List<FinancialProduct> products = bonds(4);
+        BlockingCalculator calculator = new BlockingCalculator(products.get(2));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            BatchCalculation batch = calculator.calculateAll(products, executor, 1);
+            assertTrue(calculator.blocked.await(10, TimeUnit.SECONDS));
+            assertEquals(2, batch.getCompletedCount());
+            assertEquals(0.5, batch.getProgress());
+            assertFalse(batch.isDone());
+            assertFalse(batch.await(10, TimeUnit.MILLISECONDS));
+
+            calculator.release.countDown();
+            assertTrue(batch.await(10, TimeUnit.SECONDS));
+            assertEquals(1.0, batch.getProgress());
+            assertEquals(4, batch.getTotalCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void cancelStopsProductsNotYetStarted() throws InterruptedException {
+        List<FinancialProduct> products = bonds(6);
+        BlockingCalculator calculator = new BlockingCalculator(products.get(1));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            BatchCalculation batch = calculator.calculateAll(products, executor, 2);
+            assertTrue(calculator.blocked.await(10, TimeUnit.SECONDS));
+            batch.cancel();
+            calculator.release.countDown();
+            assertTrue(batch.await(10, TimeUnit.SECONDS));
+
+            assertTrue(batch.isCancelled());
+            assertEquals(2, batch.getCompletedCount()); // 계산 중이던 상품까지만
+            assertNotNull(batch.getResult(1));
+            for (int i = 2; i < 6; i++) {
+                assertNull(batch.getResult(i));
+                assertNull(batch.getError(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void rejectedChunksDoNotBlockAwait() throws InterruptedException {
+        AtomicInteger submitted = new AtomicInteger();
+        // 두 작업까지만 바로 실행하고 그 뒤는 거절하는 Executor
+        Executor rejectsAfterTwo = task -> {
+            if (submitted.incrementAndGet() > 2) {
+                throw new RejectedExecutionException("대기열이 가득 찼습니다");
+            }
+            task.run();
+        };
+        BatchCalculation batch = new Calculator().calculateAll(bonds(11), rejectsAfterTwo, 2);
+
+        assertTrue(batch.await(10, TimeUnit.SECONDS), "거절된 구간이 정리되지 않았습니다");
+        assertTrue(batch.isDone());
+        assertTrue(batch.isCancelled());
+        assertEquals(3, submitted.get()); // 처음 거절된 뒤로는 제출하지 않음
+        assertEquals(4, batch.getCompletedCount());
+        assertEquals(4, batch.results().count());
+        assertNull(batch.getResult(4));
+    }
+
+    @Test
+    void emptyBatchIsDoneImmediately() {
+        BatchCalculation batch = new Calculator().calculateAll(List.of(), Runnable::run, 8);
+        assertTrue(batch.isDone());
+        assertEquals(1.0, batch.getProgress());
+        assertEquals(0, batch.results().count());
+    }
+
+    @Test
+    void rejectsNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new Calculator().calculateAll(bonds(1), Runnable::run, 0));
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchRunnerTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * 여러 묶음과 매핑 영역에 걸치는 입력을 만듭니다. 형식 오류 줄과 주석 줄도 섞습니다.
+     */
+    private Path writeInput(int records) throws IOException {
+        SplittableRandom random = new SplittableRandom(11);
+        StringBuilder csv = new StringBuilder("# 테스트 입력\n");
+        for (int i = 0; i < records; i++) {
+            switch (i % 4) {
+                case 0:
+                    csv.append(String.format(Locale.ROOT, "BOND,10000,%.2f,%.3f,%.2f,%d,%.3f,%b%n",
+                            9000 + random.nextDouble(2000), random.nextDouble(8), 0.5 + random.nextDouble(20),
+                            new int[] {1, 2, 4, 12}[random.nextInt(4)], random.nextDouble(0.5), random.nextBoolean()));
+                    break;
+                case 1:
+                    csv.append(String.format(Locale.ROOT, "SAVINGS,%d,%d,%.2f,%d,%.2f%n",
+                            1000 + random.nextInt(100000), 1 + random.nextInt(24), random.nextDouble(6),
+                            1 + random.nextInt(24), random.nextDouble(6)));
+                    break;
+                case 2:
+                    csv.append(String.format(Locale.ROOT, "DIVIDEND,%.2f,%.2f,%d,%.2f,%.3f,%.3f%n",
+                            1000 + random.nextDouble(100000), 1000 + random.nextDouble(100000), 1 + random.nextInt(1000),
+                            random.nextDouble(1000000), random.nextDouble(0.5), random.nextDouble(0.5)));
+                    break;
+                default:
+                    csv.append(i % 40 == 3 ? "BOND,not-a-number\n" : "\n");
+                    break;
+            }
+        }
+        Path input = dir.resolve("input.csv");
+        Files.writeString(input, csv, StandardCharsets.UTF_8);
+        return input;
+    }
+
+    @Test
+    void binaryExportReproducesCsvOutput() throws Exception {
+        Path input = writeInput(20_000);
+        BatchRunner runner = new BatchRunner(new Calculator(), ForkJoinPool.commonPool(), 3000);
+
+        Path csv = dir.resolve("out.csv");
+        Path binary = dir.resolve("out.bin");
+        Path exported = dir.resolve("exported.csv");
+        BatchSummary fromCsv = runner.run(input, csv);
+        BatchSummary fromBinary = runner.run(input, () -> new BinaryResultWriter(binary));
+        try (BinaryResultReader reader = new BinaryResultReader(binary)) {
+            assertEquals(reader.size(), reader.exportCsv(exported));
+        }
+
+        assertEquals(fromCsv.getRecords(), fromBinary.getRecords());
+        assertEquals(fromCsv.getFailed(), fromBinary.getFailed());
+        assertArrayEquals(Files.readAllBytes(csv), Files.readAllBytes(exported));
+    }
+
+    @Test
+    void dividendResultsMatchBaselineFormulas() throws Exception {
+        Path input = writeInput(2000);
+        Path output = dir.resolve("out.csv");
+        new BatchRunner(new Calculator()).run(input, output);
+
+        List<String> inputLines = Files.readAllLines(input);
+        int checked = 0;
+        for (String line : Files.readAllLines(output)) {
+            String[] fields = line.split(",");
+            if (!fields[1].equals("배당주 투자")) {
+                continue;
+            }
+            String[] record = inputLines.get(Integer.parseInt(fields[0]) - 1).split(",");
+            double[] expected = BaselineCalculations.dividendStock(Double.parseDouble(record[1]),
+                    Double.parseDouble(record[2]), Integer.parseInt(record[3]), Double.parseDouble(record[4]),
+                    Double.parseDouble(record[5]), Double.parseDouble(record[6]));
+            assertEquals(expected.length, fields.length - 2, line);
+            for (int m = 0; m < expected.length; m++) {
+                double actual = Double.parseDouble(fields[m + 2].substring(fields[m + 2].indexOf('=') + 1));
+                assertEquals(expected[m], actual, 1e-12 * Math.max(1, Math.abs(expected[m])), line);
+            }
+            checked++;
+        }
+        assertEquals(500, checked);
+    }
+
+    @Test
+    void missingInputLeavesExistingOutputUntouched() throws Exception {
+        Path output = dir.resolve("out.csv");
+        Files.writeString(output, "이전 결과\n");
+        BatchRunner runner = new BatchRunner(new Calculator());
+
+        assertThrows(NoSuchFileException.class, () -> runner.run(dir.resolve("missing.csv"), output));
+        assertThrows(NoSuchFileException.class,
+                () -> runner.run(dir.resolve("missing.csv"), () -> new BinaryResultWriter(output)));
+        assertEquals("이전 결과\n", Files.readString(output));
+    }
+
+    @Test
+    void emptyInputWritesEmptyBinaryFile() throws Exception {
+        Path input = dir.resolve("empty.csv");
+        Files.writeString(input, "# 비어 있음\n");
+        Path binary = dir.resolve("out.bin");
+        new BatchRunner(new Calculator()).run(input, () -> new BinaryResultWriter(binary));
+
+        try (BinaryResultReader reader = new BinaryResultReader(binary)) {
+            assertEquals(0, reader.size());
+        }
+    }
+}
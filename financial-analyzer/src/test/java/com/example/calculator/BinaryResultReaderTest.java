@@ -0,0 +1,96 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BinaryResultReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private Path writeSample() throws IOException {
+        Path path = dir.resolve("sample.bin");
+        try (BinaryResultWriter writer = new BinaryResultWriter(path)) {
+            writer.write(1, new Bond(10000, 9500, 0.03, 5, 2, 0.001, true).calculate());
+            writer.writeError(2, "형식 오류");
+            writer.write(3, new DividendStock(50000, 55000, 10, 3000, 0.015, 0.2).calculate());
+        }
+        return path;
+    }
+
+    private static void overwriteHeader(Path path, long recordCount, long trailerOffset) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            ByteBuffer counts = ByteBuffer.allocate(Long.BYTES * 2).order(ByteOrder.LITTLE_ENDIAN);
+            counts.putLong(recordCount).putLong(trailerOffset).flip();
+            channel.write(counts, BinaryResultFormat.RECORD_COUNT_OFFSET);
+        }
+    }
+
+    private static long trailerOffset(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(buffer, BinaryResultFormat.TRAILER_OFFSET_OFFSET);
+            return buffer.getLong(0);
+        }
+    }
+
+    @Test
+    void readsWhatWriterWrote() throws IOException {
+        Path path = writeSample();
+        try (BinaryResultReader reader = new BinaryResultReader(path)) {
+            assertEquals(3, reader.size());
+            assertEquals("채권", reader.getProductName(0));
+            assertEquals("형식 오류", reader.getError(1));
+            assertNull(reader.toResult(1));
+            assertEquals(3, reader.getLineNumber(2));
+            assertTrue(reader.has(2, Metric.NET_PROFIT));
+        }
+    }
+
+    @Test
+    void rejectsFileThatWasNeverClosed() throws IOException {
+        Path path = writeSample();
+        overwriteHeader(path, 0, 0); // 닫기 전 상태의 헤더
+        IOException e = assertThrows(IOException.class, () -> new BinaryResultReader(path));
+        assertTrue(e.getMessage().contains("완전히 기록되지 않았거나"), e.getMessage());
+    }
+
+    @Test
+    void rejectsTrailerOffsetBeyondFile() throws IOException {
+        Path path = writeSample();
+        overwriteHeader(path, 3, 1L << 40);
+        assertThrows(IOException.class, () -> new BinaryResultReader(path));
+    }
+
+    @Test
+    void rejectsRecordCountLargerThanDataRegion() throws IOException {
+        Path path = writeSample();
+        long trailerOffset = trailerOffset(path);
+        overwriteHeader(path, 4, trailerOffset);
+        IOException e = assertThrows(IOException.class, () -> new BinaryResultReader(path));
+        assertTrue(e.getMessage().contains("레코드 수"), e.getMessage());
+
+        overwriteHeader(path, -1, trailerOffset);
+        assertThrows(IOException.class, () -> new BinaryResultReader(path));
+    }
+
+    @Test
+    void rejectsTruncatedTrailer() throws IOException {
+        Path path = writeSample();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(trailerOffset(path) + 3);
+        }
+        assertThrows(IOException.class, () -> new BinaryResultReader(path));
+    }
+}
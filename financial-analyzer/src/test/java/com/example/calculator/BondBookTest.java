@@ -0,0 +1,92 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class BondBookTest {
+
+    private static List<Bond> randomBonds(int count, boolean wholePeriods) {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] frequencies = {1, 2, 4, 12};
+        List<Bond> bonds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int frequency = frequencies[random.nextInt(frequencies.length)];
+            double years = wholePeriods ? 1 + random.nextInt(30) : 0.1 + random.nextDouble() * 30;
+            bonds.add(new Bond(10000, 8000 + random.nextDouble() * 4000, random.nextDouble() * 0.08, years,
+                    frequency, random.nextDouble() * 0.005, random.nextBoolean()));
+        }
+        return bonds;
+    }
+
+    @Test
+    void yieldsAreBitIdenticalToBondCalculate() {
+        List<Bond> bonds = randomBonds(2000, false);
+        BondBook book = BondBook.of(bonds);
+        double[] yields = new double[book.size()];
+        double[] parallel = new double[book.size()];
+        book.computeYields(yields);
+        book.computeYieldsParallel(parallel);
+        for (int i = 0; i < bonds.size(); i++) {
+            double expected = bonds.get(i).calculate().get(Metric.YIELD_TO_MATURITY);
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(yields[i]), "bond " + i);
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(parallel[i]), "bond " + i);
+        }
+    }
+
+    @Test
+    void pricesMatchBondPrice() {
+        List<Bond> bonds = randomBonds(2000, false);
+        BondBook book = BondBook.of(bonds);
+        double[] yields = new double[book.size()];
+        double[] prices = new double[book.size()];
+        book.computeYields(yields);
+        book.computePrices(yields, prices);
+        for (int i = 0; i < bonds.size(); i++) {
+            // 가격은 듀레이션까지 함께 구하는 Bond.price와 계산 순서가 달라 마지막 자리까지 같지는 않음
+            double expected = bonds.get(i).price(yields[i] / 100).getDirtyPrice();
+            assertEquals(expected, prices[i], Math.abs(expected) * 1e-13, "bond " + i);
+        }
+    }
+
+    @Test
+    void yieldsMatchBaselineBisection() {
+        for (Bond bond : randomBonds(500, true)) {
+            double baseline = BaselineCalculations.bondYield(bond);
+            if (baseline <= 0.001 || baseline >= 99.999) {
+                continue; // 기준 구현의 탐색 범위 [0%, 100%] 밖
+            }
+            double ytm = bond.calculate().get(Metric.YIELD_TO_MATURITY);
+            assertEquals(baseline, ytm, 1e-5, bond.toString());
+        }
+    }
+
+    @Test
+    void bulkSolvesAreRecordedInMetrics() {
+        CalculatorMetrics metrics = CalculatorMetrics.getInstance();
+        BondBook book = BondBook.of(randomBonds(300, false));
+        double[] yields = new double[book.size()];
+        boolean wasEnabled = metrics.isEnabled();
+        try {
+            metrics.setEnabled(false);
+            long before = metrics.snapshot().getSolverInvocations();
+            book.computeYields(yields);
+            assertEquals(before, metrics.snapshot().getSolverInvocations()); // 꺼져 있으면 기록하지 않음
+
+            metrics.setEnabled(true);
+            MetricsSnapshot start = metrics.snapshot();
+            book.computeYields(yields);
+            book.computeYieldsParallel(yields);
+            MetricsSnapshot end = metrics.snapshot();
+            assertEquals(600, end.getSolverInvocations() - start.getSolverInvocations());
+            assertTrue(end.getSolverIterations() - start.getSolverIterations() >= 600);
+            assertEquals(start.getSolverNonConverged(), end.getSolverNonConverged());
+        } finally {
+            metrics.setEnabled(wasEnabled);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CachingCalculatorTest {
+
+    /** 호출 수를 세고, 호출마다 새 결과 객체를 돌려주는 계산기 */
+    private static final class CountingCalculator extends Calculator {
+        int calls;
+        boolean fail;
+
+        @Override
+        public CalculationResult calculate(FinancialProduct product) {
+            calls++;
+            if (fail) {
+                throw new IllegalStateException("계산 실패");
+            }
+            return new CalculationResult("테스트", new Metric[] {Metric.FACE_VALUE}, new double[] {calls});
+        }
+    }
+
+    private static Bond bond(int i) {
+        return new Bond(10000 + i, 9500, 0.03, 5, 2, 0.001, true);
+    }
+
+    @Test
+    void equalProductsAreEqualKeys() {
+        assertEquals(bond(1), bond(1));
+        assertEquals(bond(1).hashCode(), bond(1).hashCode());
+        assertNotEquals(bond(1), bond(2));
+        assertNotEquals(bond(1), new Bond(10001, 9500, 0.03, 5, 2, 0.001, false));
+
+        assertEquals(new InterestRateTier(6, 3.5), new InterestRateTier(6, 3.5));
+        assertEquals(new InterestRateTier(6, 3.5).hashCode(), new InterestRateTier(6, 3.5).hashCode());
+        assertNotEquals(new InterestRateTier(6, 3.5), new InterestRateTier(7, 3.5));
+
+        TieredSavingsAccount savings = new TieredSavingsAccount(100000,
+                List.of(new InterestRateTier(6, 3.5), new InterestRateTier(6, 4.0)));
+        TieredSavingsAccount same = new TieredSavingsAccount(100000,
+                List.of(new InterestRateTier(6, 3.5), new InterestRateTier(6, 4.0)));
+        assertEquals(savings, same);
+        assertEquals(savings.hashCode(), same.hashCode());
+        assertNotEquals(savings, new TieredSavingsAccount(100000,
+                List.of(new InterestRateTier(6, 4.0), new InterestRateTier(6, 3.5)))); // 구간 순서도 비교
+        assertNotEquals(savings, new TieredSavingsAccount(100000,
+                List.of(new InterestRateTier(6, 3.5), new InterestRateTier(6, 4.0)), InterestMode.MONTHLY_COMPOUND));
+
+        DividendStock stock = new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18);
+        assertEquals(stock, new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18));
+        assertEquals(stock.hashCode(), new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18).hashCode());
+        assertNotEquals(stock, new DividendStock(50000, 55000, 101, 150000, 0.015, 0.18));
+        assertNotEquals(stock, bond(1));
+    }
+
+    @Test
+    void equalButDistinctProductsHitCache() {
+        CountingCalculator delegate = new CountingCalculator();
+        CachingCalculator calculator = new CachingCalculator(delegate, 100);
+        CalculationResult first = calculator.calculate(bond(1));
+        assertSame(first, calculator.calculate(bond(1)));
+        CalculationResult savings = calculator.calculate(new TieredSavingsAccount(100000, List.of(new InterestRateTier(6, 3.5))));
+        assertSame(savings, calculator.calculate(new TieredSavingsAccount(100000, List.of(new InterestRateTier(6, 3.5)))));
+        CalculationResult stock = calculator.calculate(new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18));
+        assertSame(stock, calculator.calculate(new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18)));
+        assertNotSame(first, calculator.calculate(bond(2)));
+
+        assertEquals(4, delegate.calls);
+        assertEquals(3, calculator.getHitCount());
+        assertEquals(4, calculator.getMissCount());
+        assertEquals(3.0 / 7, calculator.getHitRate(), 1e-15);
+        assertEquals(4, calculator.size());
+    }
+
+    @Test
+    void reusedProductIsPromotedAndSurvivesOneOffScan() {
+        // 용량 10: 보호 구역 8, 시험 구역 2 (128 미만이면 구획은 하나)
+        CountingCalculator delegate = new CountingCalculator();
+        CachingCalculator calculator = new CachingCalculator(delegate, 10);
+        calculator.calculate(bond(0));
+        calculator.calculate(bond(0)); // 다시 조회되어 보호 구역으로 올라감
+        for (int i = 1; i <= 50; i++) {
+            calculator.calculate(bond(i)); // 한 번만 쓰이는 상품은 시험 구역에서만 돌고 밀려남
+        }
+        assertEquals(48, calculator.getEvictionCount());
+        assertEquals(3, calculator.size());
+
+        int calls = delegate.calls;
+        calculator.calculate(bond(0));
+        assertEquals(calls, delegate.calls);
+        calculator.calculate(bond(1)); // 밀려난 상품은 다시 계산
+        assertEquals(calls + 1, delegate.calls);
+    }
+
+    @Test
+    void evictsAtCapacityAndDemotesFromProtectedArea() {
+        CountingCalculator delegate = new CountingCalculator();
+        CachingCalculator calculator = new CachingCalculator(delegate, 10);
+        for (int i = 0; i < 8; i++) {
+            calculator.calculate(bond(i));
+            calculator.calculate(bond(i)); // 보호 구역을 채움
+        }
+        calculator.calculate(bond(100));
+        calculator.calculate(bond(101));
+        assertEquals(10, calculator.size());
+        assertEquals(0, calculator.getEvictionCount());
+
+        calculator.calculate(bond(102)); // 시험 구역의 가장 오래된 100이 밀려남
+        assertEquals(10, calculator.size());
+        assertEquals(1, calculator.getEvictionCount());
+
+        calculator.calculate(bond(103)); // 101이 밀려남
+        calculator.calculate(bond(103)); // 보호 구역으로 올라가며 가장 오래된 0이 시험 구역으로 내려감 (밀려나지는 않음)
+        assertEquals(2, calculator.getEvictionCount());
+        assertEquals(10, calculator.size());
+
+        int calls = delegate.calls;
+        calculator.calculate(bond(0)); // 내려간 항목은 아직 남아 있음
+        assertEquals(calls, delegate.calls);
+        calculator.calculate(bond(100));
+        assertEquals(calls + 1, delegate.calls);
+        assertEquals(10, calculator.size());
+    }
+
+    @Test
+    void exceptionsAreNotCachedAndInvalidateKeepsCounters() {
+        CountingCalculator delegate = new CountingCalculator();
+        CachingCalculator calculator = new CachingCalculator(delegate, 10);
+        delegate.fail = true;
+        assertThrows(IllegalStateException.class, () -> calculator.calculate(bond(1)));
+        delegate.fail = false;
+        calculator.calculate(bond(1));
+        assertEquals(2, delegate.calls);
+        assertEquals(2, calculator.getMissCount());
+
+        calculator.calculate(bond(1));
+        calculator.invalidateAll();
+        assertEquals(0, calculator.size());
+        assertEquals(1, calculator.getHitCount());
+        calculator.calculate(bond(1));
+        assertEquals(3, delegate.calls);
+        assertEquals(3, calculator.getMissCount());
+    }
+}
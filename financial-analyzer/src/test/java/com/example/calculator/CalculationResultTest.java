@@ -0,0 +1,30 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class CalculationResultTest {
+
+    @Test
+    void mapConstructorMapsLabelsToMetrics() {
+        Map<String, Double> map = new LinkedHashMap<>();
+        map.put("만기 수익률 (YTM, %)", 3.5);
+        map.put("매입 가격", 9500.0);
+        CalculationResult result = new CalculationResult("채권", map);
+
+        assertEquals(2, result.size());
+        assertEquals(Metric.YIELD_TO_MATURITY, result.getMetric(0));
+        assertEquals(3.5, result.get(Metric.YIELD_TO_MATURITY));
+        assertEquals(9500.0, result.get(Metric.PURCHASE_PRICE));
+        assertEquals(map, result.getResults());
+    }
+
+    @Test
+    void mapConstructorRejectsUnknownLabel() {
+        assertThrows(IllegalArgumentException.class, () -> new CalculationResult("채권", Map.of("없는 지표", 1.0)));
+    }
+}
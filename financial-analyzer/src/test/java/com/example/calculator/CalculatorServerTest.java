@@ -0,0 +1,117 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CalculatorServerTest {
+
+    private static final String BOND = "{\"faceValue\":10000,\"purchasePrice\":9500,\"couponRate\":3.5,"
+            + "\"yearsToMaturity\":3,\"couponFrequency\":2,\"tradingFeeRate\":0.1,\"applyTax\":true}";
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private static CalculatorServer start(int maxConcurrentRequests) throws Exception {
+        return start(maxConcurrentRequests, 1 << 20);
+    }
+
+    private static CalculatorServer start(int maxConcurrentRequests, long maxBodyBytes) throws Exception {
+        CalculatorServer server = new CalculatorServer(new Calculator(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), maxConcurrentRequests, maxBodyBytes);
+        server.start();
+        return server;
+    }
+
+    /** Content-Length 없이 chunked로 본문을 보내고 응답의 상태 줄을 읽습니다. */
+    private static String postChunked(CalculatorServer server, String path, String body) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            socket.setSoTimeout(10_000);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            OutputStream out = socket.getOutputStream();
+            out.write(("POST " + path + " HTTP/1.1\r\nHost: localhost\r\nTransfer-Encoding: chunked\r\n\r\n"
+                    + Integer.toHexString(bytes.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(bytes);
+            out.write("\r\n0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            return in.readLine();
+        }
+    }
+
+    private HttpResponse<String> post(CalculatorServer server, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .timeout(Duration.ofSeconds(10))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void batchContinuesAfterValueErrorAndStopsAtSyntaxError() throws Exception {
+        try (CalculatorServer server = start(4)) {
+            String typed = "{\"type\":\"BOND\"," + BOND.substring(1);
+            HttpResponse<String> response = post(server, "/api/batch",
+                    "[{\"type\":\"BOND\",\"faceValue\":\"x\"}, " + typed + ", {\"type\": BOND}, " + typed + "]");
+            assertEquals(200, response.statusCode());
+            String body = response.body();
+            // 값 종류 오류 → 다음 상품 계산 → 구문 오류에서 중단
+            int valueError = body.indexOf("faceValue");
+            int result = body.indexOf("YIELD_TO_MATURITY");
+            int syntaxError = body.indexOf("JSON 구문 오류");
+            assertTrue(valueError > 0 && result > valueError && syntaxError > result, body);
+            assertEquals(body.indexOf("YIELD_TO_MATURITY"), body.lastIndexOf("YIELD_TO_MATURITY"), body);
+        }
+    }
+
+    @Test
+    void singleProductErrorsAreBadRequest() throws Exception {
+        try (CalculatorServer server = start(4)) {
+            assertEquals(200, post(server, "/api/bond", BOND).statusCode());
+            assertEquals(400, post(server, "/api/bond", "{\"faceValue\":\"x\"}").statusCode());
+            assertEquals(400, post(server, "/api/bond", "{\"faceValue\":").statusCode());
+        }
+    }
+
+    @Test
+    void oversizedChunkedBodyIsRejectedWith413() throws Exception {
+        try (CalculatorServer server = start(4, 1024)) {
+            String padding = " ".repeat(4096); // JSON 공백: 크기 제한에 걸리기 전까지는 올바른 본문
+            assertEquals("HTTP/1.1 413 Request Entity Too Large", postChunked(server, "/api/bond", padding + BOND));
+            assertEquals("HTTP/1.1 413 Request Entity Too Large", postChunked(server, "/api/batch", padding + "[]"));
+            assertEquals("HTTP/1.1 200 OK", postChunked(server, "/api/bond", BOND));
+        }
+    }
+
+    @Test
+    void overloadIsRejectedWithoutWaiting() throws Exception {
+        try (CalculatorServer server = start(1);
+             Socket slow = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            // 본문을 덜 보내 유일한 허용량을 쥔 채 멈춘 요청
+            OutputStream out = slow.getOutputStream();
+            out.write(("POST /api/bond HTTP/1.1\r\nHost: localhost\r\nContent-Length: 1000\r\n\r\n{\"faceValue\":")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            Thread.sleep(200);
+
+            long start = System.nanoTime();
+            HttpResponse<String> response = post(server, "/api/bond", BOND);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            assertEquals(503, response.statusCode(), response.body());
+            assertEquals("1", response.headers().firstValue("Retry-After").orElse(null));
+            assertTrue(elapsedMillis < 1000, "거절이 지연되었습니다: " + elapsedMillis + "ms");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CashFlowScheduleTest {
+
+    private static final Bond BOND = new Bond(10000, 9500, 0.035, 2.75, 2, 0.001, true);
+
+    @Test
+    void bondScheduleStartsWithPurchaseOutflow() {
+        CashFlowSchedule flows = BOND.cashFlows();
+        double actualPurchasePrice = 9500 * 1.001;
+        double coupon = 10000 * 0.035 / 2 * (1 - Bond.TAX_RATE);
+
+        assertEquals(1 + 6, flows.size()); // 매입 + 이표 6회 (2.75년, 연 2회)
+        assertEquals(0.0, flows.time(0));
+        assertEquals(-actualPurchasePrice, flows.amount(0));
+        assertEquals(0.25, flows.time(1), 1e-15);
+        assertEquals(coupon + 10000, flows.amount(6), 1e-9);
+        assertEquals(6 * coupon + 10000 - actualPurchasePrice, flows.totalAmount(), 1e-9);
+        assertEquals(flows.amounts().sum(), flows.totalAmount(), 1e-9);
+    }
+
+    @Test
+    void bondPresentValueAtYieldIsZero() {
+        double ytm = BOND.solveYield(Bond.DEFAULT_SOLVER, BOND.estimateYield()).getYield();
+        double pv = BOND.cashFlows().presentValue(DiscountCurve.flat(ytm, BOND.getCouponFrequency()));
+        assertEquals(0.0, pv, 1e-6);
+    }
+
+    @Test
+    void maturedBondExchangesPurchaseAndFaceNow() {
+        Bond matured = new Bond(10000, 9900, 0.03, 0, 4, 0, false);
+        CashFlowSchedule flows = matured.cashFlows();
+        assertEquals(2, flows.size());
+        assertEquals(0.0, flows.time(1));
+        assertEquals(100.0, flows.totalAmount(), 1e-9);
+    }
+
+    @Test
+    void savingsAndBondAggregateAsNetFlows() {
+        TieredSavingsAccount savings = new TieredSavingsAccount(100000, List.of(new InterestRateTier(12, 3.0)));
+        double[] buckets = CashFlowSchedule.aggregate(List.of(BOND, savings), 1.0, 4);
+
+        double total = 0;
+        for (double bucket : buckets) {
+            total += bucket;
+        }
+        // 두 상품 모두 내는 돈을 포함하므로 구간 합계의 합은 각 상품 순손익의 합
+        assertEquals(BOND.cashFlows().totalAmount() + savings.cashFlows().totalAmount(), total, 1e-6);
+        CalculationResult result = savings.calculate();
+        assertEquals(result.get(Metric.FINAL_AMOUNT) - result.get(Metric.TOTAL_PRINCIPAL),
+                savings.cashFlows().totalAmount(), 1e-6);
+    }
+}
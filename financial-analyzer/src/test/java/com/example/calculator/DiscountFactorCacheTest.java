@@ -0,0 +1,153 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class DiscountFactorCacheTest {
+
+    private static final ZeroCurve CURVE = new ZeroCurve(new double[] {0.5, 2, 10, 30}, new double[] {0.02, 0.025, 0.035, 0.04});
+
+    @Test
+    void flatCurveReproducesKernelDirtyPrice() {
+        double[] yields = {-0.005, 0.0, 0.0001, 0.03, 0.08, 0.25};
+        double[] years = {0.3, 1, 2.75, 5, 10.5, 30};
+        int[] frequencies = {1, 2, 4, 12};
+        int checked = 0;
+        for (int frequency : frequencies) {
+            for (double year : years) {
+                int periods = BondPricingKernel.periodCount(year, frequency);
+                double tau = BondPricingKernel.firstPeriodFraction(year, frequency);
+                double coupon = 10000 * 0.045 / frequency;
+                for (double yield : yields) {
+                    DiscountFactorTable table = DiscountFactorTable.build(DiscountCurve.flat(yield, frequency), frequency, tau, periods);
+                    double expected = BondPricingKernel.dirtyPrice(10000, coupon, periods, tau, frequency, yield);
+                    double actual = table.dirtyPrice(10000, coupon, periods);
+                    assertEquals(expected, actual, expected * 1e-15, "f=" + frequency + " years=" + year + " y=" + yield);
+                    checked++;
+                }
+            }
+        }
+        assertEquals(144, checked);
+    }
+
+    @Test
+    void bondPriceOnFlatCurveMatchesYieldPrice() {
+        Bond bond = new Bond(10000, 9500, 0.03, 4.25, 2, 0.001, true);
+        for (double yield : new double[] {-0.01, 0.02, 0.07}) {
+            double expected = bond.price(yield).getDirtyPrice();
+            assertEquals(expected, bond.price(DiscountCurve.flat(yield, 2)), expected * 1e-15);
+        }
+    }
+
+    @Test
+    void tableSumsDiscountFactors() {
+        DiscountFactorTable table = DiscountFactorTable.build(CURVE, 4, 0.5, 40);
+        double sum = 0;
+        for (int j = 0; j < 40; j++) {
+            double discount = CURVE.discountFactor((0.5 + j) / 4);
+            assertEquals(discount, table.discountFactor(j));
+            sum += discount;
+            assertEquals(sum, table.annuityFactor(j + 1));
+        }
+        assertEquals(10000, table.dirtyPrice(10000, 100, 0));
+        assertEquals(1, DiscountFactorTable.build(CURVE, 4, 0.5, 0).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> DiscountFactorTable.build(CURVE, 0, 0.5, 10));
+    }
+
+    @Test
+    void largeTablesAreStoredOffHeap() {
+        DiscountFactorTable onHeap = DiscountFactorTable.build(CURVE, 12, 1.0, DiscountFactorTable.OFF_HEAP_THRESHOLD - 1);
+        DiscountFactorTable offHeap = DiscountFactorTable.build(CURVE, 12, 1.0, DiscountFactorTable.OFF_HEAP_THRESHOLD);
+        assertFalse(onHeap.isOffHeap());
+        assertTrue(offHeap.isOffHeap());
+        for (int j = 0; j < onHeap.getCapacity(); j += 97) {
+            assertEquals(onHeap.discountFactor(j), offHeap.discountFactor(j));
+            assertEquals(onHeap.annuityFactor(j + 1), offHeap.annuityFactor(j + 1));
+        }
+    }
+
+    @Test
+    void longerBondGrowsTableAndOldTableStaysValid() {
+        DiscountFactorCache cache = new DiscountFactorCache(16);
+        DiscountFactorTable small = cache.get(CURVE, 2, 1.0, 10);
+        assertEquals(10, small.getCapacity());
+        assertSame(small, cache.get(CURVE, 2, 1.0, 10));
+        assertSame(small, cache.get(CURVE, 2, 1.0, 3));
+
+        DiscountFactorTable grown = cache.get(CURVE, 2, 1.0, 11);
+        assertNotSame(small, grown);
+        assertEquals(20, grown.getCapacity()); // 두 배로 늘림
+        assertSame(grown, cache.get(CURVE, 2, 1.0, 15));
+        assertEquals(60, cache.get(CURVE, 2, 1.0, 60).getCapacity()); // 두 배보다 길면 그 길이로
+        assertEquals(1, cache.size());
+
+        // 이미 받아 간 표는 바뀌지 않고 그대로 쓸 수 있음
+        assertEquals(10, small.getCapacity());
+        for (int n = 1; n <= 10; n++) {
+            assertEquals(grown.dirtyPrice(10000, 150, n), small.dirtyPrice(10000, 150, n));
+        }
+    }
+
+    @Test
+    void differentScheduleUsesDifferentTable() {
+        DiscountFactorCache cache = new DiscountFactorCache(16);
+        DiscountFactorTable table = cache.get(CURVE, 2, 1.0, 10);
+        assertNotSame(table, cache.get(CURVE, 4, 1.0, 10));
+        assertNotSame(table, cache.get(CURVE, 2, 0.5, 10));
+        assertSame(table, cache.get(new ZeroCurve(new double[] {0.5, 2, 10, 30}, new double[] {0.02, 0.025, 0.035, 0.04}), 2, 1.0, 10));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void clearsWhenTableCountExceedsMaximum() {
+        DiscountFactorCache cache = new DiscountFactorCache(2);
+        cache.get(CURVE, 1, 1.0, 5);
+        cache.get(CURVE, 2, 1.0, 5);
+        assertEquals(2, cache.size());
+        cache.get(CURVE, 2, 1.0, 6); // 기존 키를 늘리는 것은 비우지 않음
+        assertEquals(2, cache.size());
+        cache.get(CURVE, 4, 1.0, 5);
+        assertEquals(1, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new DiscountFactorCache(0));
+    }
+
+    @Test
+    void zeroCurveInterpolatesAndExtrapolatesFlat() {
+        assertEquals(0.02, CURVE.zeroRate(0.1));   // 첫 기준 만기 앞
+        assertEquals(0.02, CURVE.zeroRate(0.5));
+        assertEquals(0.025, CURVE.zeroRate(2));
+        assertEquals(0.0225, CURVE.zeroRate(1.25), 1e-15);
+        assertEquals(0.03, CURVE.zeroRate(6), 1e-15);
+        assertEquals(0.04, CURVE.zeroRate(30));
+        assertEquals(0.04, CURVE.zeroRate(50));    // 마지막 기준 만기 뒤
+        assertEquals(Math.exp(-0.03 * 6), CURVE.discountFactor(6), 1e-15);
+        assertEquals(1.0, CURVE.discountFactor(0));
+
+        assertThrows(IllegalArgumentException.class, () -> new ZeroCurve(new double[0], new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new ZeroCurve(new double[] {1, 2}, new double[] {0.01}));
+        assertThrows(IllegalArgumentException.class, () -> new ZeroCurve(new double[] {2, 1}, new double[] {0.01, 0.02}));
+    }
+
+    @Test
+    void shiftedCurveIsDifferentCacheKey() {
+        ZeroCurve up = CURVE.shifted(0.0001);
+        assertNotEquals(CURVE, up);
+        assertEquals(0.0301, up.zeroRate(6), 1e-15);
+        assertEquals(CURVE, CURVE.shifted(0));
+        assertEquals(CURVE.hashCode(), CURVE.shifted(0).hashCode());
+
+        DiscountFactorCache cache = new DiscountFactorCache(16);
+        DiscountFactorTable base = cache.get(CURVE, 2, 1.0, 20);
+        DiscountFactorTable shifted = cache.get(up, 2, 1.0, 20);
+        assertNotSame(base, shifted);
+        assertTrue(shifted.dirtyPrice(10000, 150, 20) < base.dirtyPrice(10000, 150, 20));
+        assertSame(base, cache.get(CURVE.shifted(0), 2, 1.0, 20));
+    }
+}
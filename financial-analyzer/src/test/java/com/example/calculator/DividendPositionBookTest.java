@@ -0,0 +1,139 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class DividendPositionBookTest {
+
+    private static final int INSTRUMENTS = 50;
+
+    /** 포지션 입력. 수수료율과 거래세율은 공개 생성자와 같은 % 단위 */
+    private static final class Input {
+        final double purchasePricePerShare;
+        final double sellingPricePerShare;
+        final int numberOfShares;
+        final double totalDividendReceived;
+        final double tradingFeePercent;
+        final double transactionTaxPercent;
+
+        Input(double purchasePricePerShare, double sellingPricePerShare, int numberOfShares,
+              double totalDividendReceived, double tradingFeePercent, double transactionTaxPercent) {
+            this.purchasePricePerShare = purchasePricePerShare;
+            this.sellingPricePerShare = sellingPricePerShare;
+            this.numberOfShares = numberOfShares;
+            this.totalDividendReceived = totalDividendReceived;
+            this.tradingFeePercent = tradingFeePercent;
+            this.transactionTaxPercent = transactionTaxPercent;
+        }
+
+        DividendStock stock() {
+            return atPrice(sellingPricePerShare);
+        }
+
+        /** 시세를 sellingPricePerShare로 바꾼 같은 상품 */
+        DividendStock atPrice(double sellingPricePerShare) {
+            return new DividendStock(purchasePricePerShare, sellingPricePerShare, numberOfShares, totalDividendReceived,
+                    tradingFeePercent, transactionTaxPercent);
+        }
+    }
+
+    private static Input randomInput(SplittableRandom random) {
+        return new Input(1000 + random.nextInt(100_000), 1000 + random.nextInt(100_000), 1 + random.nextInt(5000),
+                random.nextInt(1_000_000), random.nextDouble() * 0.5, random.nextDouble() * 0.3);
+    }
+
+    private static void assertSameResult(CalculationResult expected, CalculationResult actual, String message) {
+        assertEquals(expected.getProductName(), actual.getProductName(), message);
+        assertEquals(expected.size(), actual.size(), message);
+        for (int k = 0; k < expected.size(); k++) {
+            assertEquals(expected.getMetric(k), actual.getMetric(k), message);
+            assertEquals(expected.getValue(k), actual.getValue(k), message + " " + expected.getMetric(k)); // 비트 단위로 같음
+        }
+    }
+
+    @Test
+    void resultsMatchDividendStockAfterTicks() {
+        SplittableRandom random = new SplittableRandom(14);
+        DividendPositionBook book = new DividendPositionBook(16); // 추가하면서 여러 번 늘어나도록
+        List<Input> inputs = new ArrayList<>();
+        double[] price = new double[INSTRUMENTS];
+        for (int i = 0; i < 2000; i++) {
+            int instrument = random.nextInt(INSTRUMENTS);
+            Input input = randomInput(random);
+            assertEquals(i, book.add(instrument, input.stock()));
+            if (price[instrument] == 0) {
+                price[instrument] = input.sellingPricePerShare; // 종목의 첫 포지션이 시세를 정함
+            }
+            inputs.add(input);
+        }
+        for (int tick = 0; tick < 10_000; tick++) {
+            int instrument = random.nextInt(INSTRUMENTS);
+            price[instrument] = 500 + random.nextInt(200_000) + random.nextDouble();
+            assertTrue(book.applyPrice(instrument, price[instrument]));
+        }
+        assertEquals(10_000, book.getTicksApplied());
+
+        for (int i = 0; i < inputs.size(); i++) {
+            int instrument = book.getInstrumentId(i);
+            CalculationResult expected = inputs.get(i).atPrice(price[instrument]).calculate();
+            assertSameResult(expected, book.toResult(i), "포지션 " + i);
+            assertEquals(expected.get(Metric.NET_PROFIT), book.getNetProfit(i));
+            assertEquals(expected.get(Metric.REALIZED_RETURN), book.getReturn(i));
+        }
+    }
+
+    @Test
+    void runningTotalMatchesRecomputedTotal() {
+        SplittableRandom random = new SplittableRandom(15);
+        DividendPositionBook book = new DividendPositionBook();
+        double investment = 0;
+        for (int i = 0; i < 2000; i++) {
+            DividendStock stock = randomInput(random).stock();
+            book.add(random.nextInt(INSTRUMENTS), stock);
+            investment += stock.calculate().get(Metric.TOTAL_INVESTMENT);
+        }
+        for (int tick = 0; tick < 10_000; tick++) {
+            book.applyPrice(random.nextInt(INSTRUMENTS), 500 + random.nextInt(200_000) + random.nextDouble());
+        }
+        double running = book.getTotalNetProfit();
+        double sum = 0;
+        for (int i = 0; i < book.size(); i++) {
+            sum += book.getNetProfit(i);
+        }
+        double recomputed = book.recomputeTotalNetProfit();
+        assertEquals(sum, recomputed, Math.abs(sum) * 1e-12);
+        assertEquals(recomputed, running, Math.abs(recomputed) * 1e-9);
+        assertEquals(recomputed, book.getTotalNetProfit());
+        assertEquals(investment, book.getTotalInvestment(), investment * 1e-12);
+    }
+
+    @Test
+    void newPositionUsesExistingMarkPrice() {
+        DividendPositionBook book = new DividendPositionBook();
+        Input second = new Input(40000, 70000, 10, 0, 0.015, 0.18);
+        book.add(3, new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18));
+        book.applyPrice(3, 60000);
+        book.add(3, second.stock());
+        assertEquals(60000, book.getMarkPrice(3));
+        assertSameResult(second.atPrice(60000).calculate(), book.toResult(1), "기존 시세");
+    }
+
+    @Test
+    void ignoresUnknownInstruments() {
+        DividendPositionBook book = new DividendPositionBook();
+        book.add(2, new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18));
+        double total = book.getTotalNetProfit();
+        assertFalse(book.applyPrice(1, 1));
+        assertFalse(book.applyPrice(99, 1));
+        assertFalse(book.applyPrice(-1, 1));
+        assertEquals(total, book.getTotalNetProfit());
+        assertEquals(0, book.getTicksApplied());
+        assertTrue(Double.isNaN(book.getMarkPrice(1)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+class JsonReaderTest {
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new StringReader(json));
+    }
+
+    @Test
+    void readsNestedDocument() throws IOException {
+        JsonReader reader = reader(" {\"a\": [1, -2.5e1, true, null], \"b\": \"x\\u0041\\n\", \"c\": {}} ");
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        reader.beginArray();
+        assertEquals(1.0, reader.nextDouble());
+        assertEquals(-25.0, reader.nextDouble());
+        assertTrue(reader.nextBoolean());
+        reader.nextNull();
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertEquals("b", reader.nextName());
+        assertEquals("xA\n", reader.nextString());
+        assertEquals("c", reader.nextName());
+        reader.skipValue();
+        assertFalse(reader.hasNext());
+        reader.endObject();
+        assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void typeMismatchLeavesValueUnread() throws IOException {
+        JsonReader reader = reader("[\"x\", 2]");
+        reader.beginArray();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::nextDouble);
+        assertFalse(e instanceof JsonSyntaxException, e.getMessage());
+        reader.skipValue();
+        assertEquals(2.0, reader.nextDouble());
+        reader.endArray();
+    }
+
+    @Test
+    void brokenSyntaxIsReportedAsSyntaxError() {
+        String[] broken = {
+            "[1 2]", "{\"a\" 1}", "{1: 2}", "[tru]", "[\"abc", "[\"\\x\"]", "[1-2]", "[", "{\"a\": }", "[@]"
+        };
+        for (String json : broken) {
+            assertThrows(JsonSyntaxException.class, () -> reader(json).skipValue(), json);
+        }
+    }
+
+    @Test
+    void rejectsExcessiveNesting() {
+        String json = "[".repeat(100) + "]".repeat(100);
+        assertThrows(JsonSyntaxException.class, () -> reader(json).skipValue());
+    }
+
+    @Test
+    void readsAcrossBufferBoundaries() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            json.append(i == 0 ? "" : ",").append("\"").append("가".repeat(i % 7)).append("\"");
+        }
+        json.append("]");
+        JsonReader reader = reader(json.toString());
+        reader.beginArray();
+        int count = 0;
+        while (reader.hasNext()) {
+            assertEquals("가".repeat(count % 7), reader.nextString());
+            count++;
+        }
+        reader.endArray();
+        assertEquals(5000, count);
+    }
+}
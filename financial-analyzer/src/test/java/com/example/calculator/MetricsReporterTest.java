@@ -0,0 +1,55 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class MetricsReporterTest {
+
+    /**
+     * 쓰기를 느리게 하여 주기 보고가 진행 중일 때 close()가 불리도록 만듭니다.
+     */
+    private static final class SlowStream extends OutputStream {
+        final AtomicLong lines = new AtomicLong();
+        final AtomicInteger writers = new AtomicInteger();
+        volatile boolean overlapped;
+
+        @Override
+        public void write(int b) {
+            if (writers.incrementAndGet() > 1) {
+                overlapped = true;
+            }
+            try {
+                if (b == '\n') {
+                    lines.incrementAndGet();
+                }
+                Thread.sleep(0, 50_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                writers.decrementAndGet();
+            }
+        }
+    }
+
+    @Test
+    void closeWaitsForInFlightReportAndReportsLast() throws Exception {
+        SlowStream stream = new SlowStream();
+        MetricsReporter reporter = MetricsReporter.start(CalculatorMetrics.getInstance(), 1, new PrintStream(stream),
+                MetricsReporter.Format.JSON);
+        Thread.sleep(30);
+        reporter.close();
+        long linesAtClose = stream.lines.get();
+        assertTrue(linesAtClose >= 2, "주기 보고와 마지막 보고가 있어야 함: " + linesAtClose);
+
+        Thread.sleep(50);
+        assertEquals(linesAtClose, stream.lines.get(), "close() 뒤에는 더 출력하지 않아야 함");
+        assertFalse(stream.overlapped, "보고 출력이 겹쳤습니다.");
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class MonteCarloEngineTest {
+
+    private static final VasicekModel MODEL = new VasicekModel(0.03, 0.5, 0.035, 0.01);
+    private static final double[] PERCENTILES = {1, 5, 50, 95, 99};
+
+    private static double[] percentiles(Distribution distribution) {
+        double[] values = new double[PERCENTILES.length];
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            values[i] = distribution.getValueAtPercentile(PERCENTILES[i]);
+        }
+        return values;
+    }
+
+    @Test
+    void sameSeedGivesSameDistribution() {
+        Bond bond = new Bond(10000, 9500, 0.03, 5, 2, 0.001, true);
+        MonteCarloResult first = new MonteCarloEngine(MODEL, 42).simulate(bond, 20_000);
+        MonteCarloResult second = new MonteCarloEngine(MODEL, 42).simulate(bond, 20_000);
+        assertEquals(first.getFinalAmount().getMean(), second.getFinalAmount().getMean());
+        double[] a = percentiles(first.getRealizedYield());
+        double[] b = percentiles(second.getRealizedYield());
+        for (int i = 0; i < a.length; i++) {
+            assertEquals(a[i], b[i]);
+        }
+    }
+
+    @Test
+    void resultCanBeReadFromManyThreads() throws Exception {
+        TieredSavingsAccount savings = new TieredSavingsAccount(100000,
+                List.of(new InterestRateTier(12, 3.0), new InterestRateTier(12, 3.5)));
+        MonteCarloResult result = new MonteCarloEngine(MODEL, 7).simulate(savings, 30_001);
+        double[] expected = percentiles(result.getFinalAmount());
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<double[]>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                futures.add(pool.submit(() -> percentiles(result.getFinalAmount())));
+            }
+            for (Future<double[]> future : futures) {
+                double[] actual = future.get();
+                for (int i = 0; i < expected.length; i++) {
+                    assertEquals(expected[i], actual[i]);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PortfolioAggregatorTest {
+
+    private static final String[] ACCOUNTS = {"계좌-A", "계좌-B", "계좌-C"};
+
+    private static List<CalculationResult> mixedResults(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<CalculationResult> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            FinancialProduct product;
+            switch (i % 3) {
+                case 0:
+                    product = new Bond(10000, 9000 + random.nextInt(2000), random.nextDouble() * 0.06,
+                            1 + random.nextInt(10), 2, 0.001, random.nextBoolean());
+                    break;
+                case 1:
+                    product = new TieredSavingsAccount(10000 + random.nextInt(100000),
+                            List.of(new InterestRateTier(1 + random.nextInt(12), random.nextDouble() * 5)));
+                    break;
+                default:
+                    product = new DividendStock(10000 + random.nextInt(50000), 10000 + random.nextInt(50000),
+                            1 + random.nextInt(100), random.nextInt(100000), 0.015, 0.18);
+            }
+            results.add(product.calculate());
+        }
+        return results;
+    }
+
+    private static void assertSameGroup(PortfolioGroup expected, PortfolioGroup actual) {
+        String name = expected.getName();
+        assertEquals(expected.getCount(), actual.getCount(), name);
+        assertEquals(expected.getProfitCount(), actual.getProfitCount(), name);
+        assertEquals(expected.getTotalInvestment(), actual.getTotalInvestment(), Math.abs(expected.getTotalInvestment()) * 1e-12, name);
+        assertEquals(expected.getTotalProfit(), actual.getTotalProfit(), Math.abs(expected.getTotalProfit()) * 1e-12, name);
+        assertEquals(expected.getMetricStatistics().size(), actual.getMetricStatistics().size(), name);
+        for (MetricStatistics stats : expected.getMetricStatistics()) {
+            MetricStatistics other = actual.get(stats.getMetric());
+            String label = name + " " + stats.getMetric();
+            assertEquals(stats.getCount(), other.getCount(), label);
+            assertEquals(stats.getSum(), other.getSum(), Math.abs(stats.getSum()) * 1e-12, label);
+            assertEquals(stats.getWeightedMean(), other.getWeightedMean(), Math.abs(stats.getWeightedMean()) * 1e-12, label);
+            assertEquals(stats.getMin(), other.getMin(), label);
+            assertEquals(stats.getMax(), other.getMax(), label);
+            double median = other.getValueAtPercentile(50);
+            assertTrue(median >= stats.getMin() && median <= stats.getMax(), label);
+        }
+    }
+
+    @Test
+    void parallelCollectorMatchesSequentialAccept() {
+        List<CalculationResult> results = mixedResults(3000, 18);
+        PortfolioAggregator sequential = new PortfolioAggregator();
+        for (int i = 0; i < results.size(); i++) {
+            sequential.accept(results.get(i), ACCOUNTS[i % ACCOUNTS.length]);
+        }
+        PortfolioSummary expected = sequential.summary();
+
+        PortfolioSummary parallel = IntStream.range(0, results.size()).boxed().collect(Collectors.toList())
+                .parallelStream()
+                .collect(PortfolioAggregator.collector(results::get, i -> ACCOUNTS[i % ACCOUNTS.length]));
+
+        // 병렬 스트림이 나누지 않는 환경에서도 merge를 거치도록 직접 나눠 합친 경우
+        PortfolioAggregator[] parts = {new PortfolioAggregator(), new PortfolioAggregator(), new PortfolioAggregator()};
+        for (int i = 0; i < results.size(); i++) {
+            parts[i * parts.length / results.size()].accept(results.get(i), ACCOUNTS[i % ACCOUNTS.length]);
+        }
+        PortfolioSummary merged = parts[0].merge(parts[1]).merge(parts[2]).summary();
+
+        for (PortfolioSummary actual : List.of(parallel, merged)) {
+            assertEquals(expected.getGroupNames(), actual.getGroupNames());
+            for (String name : expected.getGroupNames()) {
+                assertSameGroup(expected.getGroup(name), actual.getGroup(name));
+            }
+            assertSameGroup(expected.getTotal(), actual.getTotal());
+        }
+        assertEquals(3000, expected.getTotal().getCount());
+    }
+
+    @Test
+    void collectorGroupsByProductNameByDefault() {
+        List<CalculationResult> results = mixedResults(30, 19);
+        PortfolioSummary summary = results.parallelStream().collect(PortfolioAggregator.collector());
+        assertEquals(List.of("기간별 차등금리 적금", "배당주 투자", "채권"), summary.getGroupNames());
+        assertEquals(10, summary.getGroup("채권").getCount());
+    }
+
+    @Test
+    void yieldIsWeightedByPurchasePrice() {
+        CalculationResult cheap = new Bond(10000, 8000, 0.02, 5, 2, 0, false).calculate();
+        CalculationResult dear = new Bond(10000, 12000, 0.08, 5, 2, 0, false).calculate();
+        PortfolioAggregator aggregator = new PortfolioAggregator();
+        aggregator.accept(cheap);
+        aggregator.accept(dear);
+        MetricStatistics ytm = aggregator.summary().getGroup("채권").get(Metric.YIELD_TO_MATURITY);
+
+        double cheapPrice = cheap.get(Metric.PURCHASE_PRICE);
+        double dearPrice = dear.get(Metric.PURCHASE_PRICE);
+        double expected = (cheap.get(Metric.YIELD_TO_MATURITY) * cheapPrice + dear.get(Metric.YIELD_TO_MATURITY) * dearPrice)
+                / (cheapPrice + dearPrice);
+        assertEquals(expected, ytm.getWeightedMean(), 1e-12);
+        assertNotEquals(ytm.getMean(), ytm.getWeightedMean(), 1e-6);
+        assertEquals(2, ytm.getCount());
+    }
+
+    @Test
+    void bondsAreLeftOutOfProfit() {
+        CalculationResult bond = new Bond(10000, 9500, 0.03, 3, 2, 0.001, true).calculate();
+        CalculationResult stock = new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18).calculate();
+        CalculationResult savings = new TieredSavingsAccount(100000, List.of(new InterestRateTier(12, 3.0))).calculate();
+        PortfolioAggregator aggregator = new PortfolioAggregator();
+        aggregator.accept(bond, "계좌-A");
+        aggregator.accept(bond, "계좌-A");
+        aggregator.accept(stock, "계좌-A");
+        aggregator.accept(savings, "계좌-A");
+        aggregator.accept(bond, "채권만");
+        PortfolioSummary summary = aggregator.summary();
+
+        PortfolioGroup mixed = summary.getGroup("계좌-A");
+        assertEquals(4, mixed.getCount());
+        assertEquals(2, mixed.getProfitCount());
+        assertEquals(stock.get(Metric.NET_PROFIT) + savings.get(Metric.FINAL_AMOUNT) - savings.get(Metric.TOTAL_PRINCIPAL),
+                mixed.getTotalProfit(), 1e-6);
+        assertEquals(2 * bond.get(Metric.PURCHASE_PRICE) + stock.get(Metric.TOTAL_INVESTMENT) + savings.get(Metric.TOTAL_PRINCIPAL),
+                mixed.getTotalInvestment(), 1e-6);
+
+        PortfolioGroup bondsOnly = summary.getGroup("채권만");
+        assertEquals(1, bondsOnly.getCount());
+        assertEquals(0, bondsOnly.getProfitCount());
+        assertEquals(0.0, bondsOnly.getTotalProfit());
+        assertEquals(2, summary.getTotal().getProfitCount());
+    }
+
+    @Test
+    void totalNameCannotBeUsedAsGroup() {
+        CalculationResult stock = new DividendStock(50000, 55000, 100, 150000, 0.015, 0.18).calculate();
+        PortfolioAggregator aggregator = new PortfolioAggregator();
+        assertThrows(IllegalArgumentException.class, () -> aggregator.accept(stock, PortfolioSummary.TOTAL));
+        assertThrows(IllegalArgumentException.class, () -> List.of(stock).stream()
+                .collect(PortfolioAggregator.collector(r -> r, r -> PortfolioSummary.TOTAL)));
+
+        aggregator.accept(stock, "계좌-A");
+        PortfolioSummary summary = aggregator.summary();
+        assertFalse(summary.getGroupNames().contains(PortfolioSummary.TOTAL));
+        assertNull(summary.getGroup(PortfolioSummary.TOTAL));
+        assertEquals(PortfolioSummary.TOTAL, summary.getTotal().getName());
+        // CSV에서 전체 합계 줄은 묶음 줄 뒤에 한 번만 나옴
+        long totalRows = summary.toCsv().lines().filter(line -> line.startsWith(PortfolioSummary.TOTAL + ",")).count();
+        assertEquals(summary.getTotal().getMetricStatistics().size(), totalRows);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PriceTickRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(8, new PriceTickRingBuffer(5).capacity());
+        assertEquals(8, new PriceTickRingBuffer(8).capacity());
+        assertEquals(1, new PriceTickRingBuffer(1).capacity());
+    }
+
+    @Test
+    void offerFailsWhenFullAndSucceedsAfterDrain() {
+        PriceTickRingBuffer ring = new PriceTickRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ring.offer(i, i * 10.0));
+        }
+        assertFalse(ring.offer(4, 40.0));
+        assertEquals(4, ring.size());
+
+        List<Integer> ids = new ArrayList<>();
+        assertEquals(1, ring.drain((id, price) -> ids.add(id), 1));
+        assertTrue(ring.offer(4, 40.0));
+        assertFalse(ring.offer(5, 50.0));
+
+        List<Double> prices = new ArrayList<>();
+        assertEquals(4, ring.drain((id, price) -> prices.add(price), 100));
+        assertEquals(List.of(0), ids);
+        assertEquals(List.of(10.0, 20.0, 30.0, 40.0), prices); // 넣은 순서대로
+        assertEquals(0, ring.drain((id, price) -> fail("빈 버퍼에서 꺼냄"), 100));
+    }
+
+    @Test
+    void concurrentProducersLoseAndDuplicateNothing() throws Exception {
+        int producers = 4;
+        int ticksPerProducer = 100_000;
+        PriceTickRingBuffer ring = new PriceTickRingBuffer(256);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int n = 0; n < ticksPerProducer; n++) {
+                    while (!ring.offer(producer, n)) {
+                        Thread.yield(); // 가득 참: 소비자가 꺼낼 때까지 다시 시도
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // 생산자마다 가격은 0, 1, 2, ... 순서로만 와야 함 (빠지거나 중복되면 순서가 어긋남)
+        long[] next = new long[producers];
+        long[] received = {0};
+        long deadline = System.nanoTime() + 60_000_000_000L;
+        while (received[0] < (long) producers * ticksPerProducer) {
+            int drained = ring.drain((producer, price) -> {
+                assertEquals(next[producer], (long) price, "생산자 " + producer);
+                next[producer]++;
+                received[0]++;
+            }, 512);
+            if (drained == 0) {
+                if (System.nanoTime() > deadline) {
+                    fail("틱을 모두 받지 못했습니다: " + received[0]);
+                }
+                Thread.yield();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int p = 0; p < producers; p++) {
+            assertEquals(ticksPerProducer, next[p]);
+        }
+        assertEquals(0, ring.drain((id, price) -> fail("남은 틱"), 1));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class ProductJsonTest {
+
+    private static final String BOND = "{\"faceValue\":10000,\"purchasePrice\":9500,\"couponRate\":3.5,"
+            + "\"yearsToMaturity\":3,\"couponFrequency\":2,\"tradingFeeRate\":0.1,\"applyTax\":true}";
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new StringReader(json));
+    }
+
+    @Test
+    void readsBondInPercentUnits() throws IOException {
+        FinancialProduct product = ProductJson.read(reader(BOND), ProductJson.Type.BOND);
+        assertEquals(ProductFactory.bond(10000, 9500, 3.5, 3, 2, 0.1, true), product);
+    }
+
+    @Test
+    void readsTypedProductsAndIgnoresUnknownFields() throws IOException {
+        FinancialProduct savings = ProductJson.read(reader("{\"type\":\"savings\",\"note\":{\"x\":[1]},"
+                + "\"monthlyDeposit\":100000,\"tiers\":[{\"months\":6,\"annualRate\":3.5}]}"), null);
+        assertInstanceOf(TieredSavingsAccount.class, savings);
+
+        FinancialProduct stock = ProductJson.read(reader("{\"type\":\"DIVIDEND\",\"purchasePricePerShare\":50000,"
+                + "\"sellingPricePerShare\":55000,\"numberOfShares\":100,\"totalDividendReceived\":150000,"
+                + "\"tradingFeeRate\":0.015,\"securitiesTransactionTaxRate\":0.18}"), null);
+        assertEquals(ProductFactory.dividendStock(50000, 55000, 100, 150000, 0.015, 0.18), stock);
+    }
+
+    @Test
+    void valueErrorsConsumeWholeObjectSoNextProductCanBeRead() throws IOException {
+        String[] invalid = {
+            "{\"type\":\"BOND\",\"faceValue\":\"x\",\"purchasePrice\":9500}",
+            "{\"type\":\"SAVINGS\",\"monthlyDeposit\":1000,\"tiers\":[{\"months\":\"6\",\"annualRate\":3}]}",
+            "{\"type\":\"SAVINGS\",\"monthlyDeposit\":1000,\"tiers\":{\"months\":6}}",
+            "{\"type\":\"BOND\",\"applyTax\":\"yes\"}",
+            "{\"type\":7}",
+            "{\"type\":\"STOCK\"}",
+            "{\"faceValue\":1}",
+            "[1, 2]",
+            "42",
+        };
+        for (String json : invalid) {
+            JsonReader reader = reader("[" + json + ", {\"type\":\"BOND\"," + BOND.substring(1) + "]");
+            reader.beginArray();
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> ProductJson.read(reader, null), json);
+            assertFalse(e instanceof JsonSyntaxException, json + ": " + e.getMessage());
+            assertInstanceOf(Bond.class, ProductJson.read(reader, null), json);
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void fieldTypeErrorNamesTheField() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ProductJson.read(reader("{\"faceValue\":\"x\"}"), ProductJson.Type.BOND));
+        assertTrue(e.getMessage().contains("faceValue"), e.getMessage());
+    }
+
+    @Test
+    void missingApplyTaxIsRejected() {
+        String withoutTax = BOND.replace(",\"applyTax\":true", "");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ProductJson.read(reader(withoutTax), ProductJson.Type.BOND));
+        assertEquals("필수 항목이 없습니다: applyTax", e.getMessage());
+    }
+
+    @Test
+    void syntaxErrorInsideProductIsNotRecoverable() {
+        assertThrows(JsonSyntaxException.class,
+                () -> ProductJson.read(reader("{\"faceValue\":10000 \"purchasePrice\":1}"), ProductJson.Type.BOND));
+    }
+
+    @Test
+    void writesResultAndError() throws IOException {
+        StringWriter out = new StringWriter();
+        JsonWriter writer = new JsonWriter(out);
+        writer.beginArray();
+        ProductJson.write(writer, new CalculationResult("채권", new Metric[] {Metric.FACE_VALUE}, new double[] {10000}));
+        ProductJson.writeError(writer, "잘못된 \"값\"");
+        writer.endArray();
+        writer.flush();
+        assertEquals("[{\"product\":\"채권\",\"values\":{\"FACE_VALUE\":10000.0}},{\"error\":\"잘못된 \\\"값\\\"\"}]",
+                out.toString());
+    }
+}
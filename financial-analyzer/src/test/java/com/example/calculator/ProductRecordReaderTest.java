@@ -0,0 +1,53 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProductRecordReaderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsPositionIdColumn() throws IOException {
+        Path input = dir.resolve("positions.csv");
+        Files.writeString(input, "# 주석\n"
+                + "P-001,BOND,10000,9500,3.5,3,2,0.1,true\n"
+                + "\n"
+                + "적금-7,SAVINGS,100000,6,3.5\r\n"
+                + "P-003,STOCK,1\n"
+                + ",DIVIDEND,50000,55000,100,150000,0.015,0.18\n");
+        RecordChunk chunk = new RecordChunk(16);
+        try (ProductRecordReader reader = ProductRecordReader.withPositionIds(input)) {
+            assertEquals(4, reader.read(chunk));
+        }
+        assertEquals("P-001", chunk.getPositionId(0));
+        assertEquals(ProductFactory.bond(10000, 9500, 3.5, 3, 2, 0.1, true), chunk.getProduct(0));
+        assertEquals("적금-7", chunk.getPositionId(1));
+        assertEquals(4, chunk.getLineNumber(1));
+        // 상품을 읽지 못해도 ID는 남음
+        assertEquals("P-003", chunk.getPositionId(2));
+        assertNotNull(chunk.getError(2));
+        assertNull(chunk.getPositionId(3));
+        assertNotNull(chunk.getError(3));
+    }
+
+    @Test
+    void plainReaderHasNoPositionIds() throws IOException {
+        Path input = dir.resolve("products.csv");
+        Files.writeString(input, "BOND,10000,9500,3.5,3,2,0.1,true\n");
+        RecordChunk chunk = new RecordChunk(16);
+        try (ProductRecordReader reader = new ProductRecordReader(input)) {
+            assertEquals(1, reader.read(chunk));
+        }
+        assertNull(chunk.getPositionId(0));
+        assertNotNull(chunk.getProduct(0));
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProductStoreTest {
+
+    private static final int SEGMENT_BYTES = 4096; // 레코드 수십 개마다 세그먼트가 바뀌도록
+
+    @TempDir
+    Path dir;
+
+    private static Bond bond(int faceValue) {
+        return new Bond(faceValue, 9500, 0.03, 5, 2, 0.001, true);
+    }
+
+    /** 압축을 직접 호출할 때만 하도록 기준 비율을 1로 둔 저장소 */
+    private ProductStore open() throws IOException {
+        return new ProductStore(dir, SEGMENT_BYTES, 1.0);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static void assertContents(Map<String, Bond> expected, ProductStore store) {
+        assertEquals(expected.size(), store.size());
+        for (Map.Entry<String, Bond> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), store.getProduct(entry.getKey()), entry.getKey());
+        }
+    }
+
+    /** ID 20개를 여러 번 덮어써 봉인된 세그먼트에 쓰이지 않는 레코드가 쌓이게 합니다. */
+    private static Map<String, Bond> overwriteMany(ProductStore store) throws IOException {
+        Map<String, Bond> expected = new HashMap<>();
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 20; i++) {
+                Bond bond = bond(10000 + round * 100 + i);
+                store.put("P-" + i, bond, null);
+                expected.put("P-" + i, bond);
+            }
+        }
+        return expected;
+    }
+
+    @Test
+    void putSkipsUnchangedProducts() throws IOException {
+        try (ProductStore store = open()) {
+            Bond bond = bond(10000);
+            CalculationResult result = bond.calculate();
+            assertTrue(store.put("A", bond, result));
+            assertFalse(store.put("A", bond(10000), result));
+            assertTrue(store.matches("A", bond(10000)));
+            assertFalse(store.matches("A", bond(10001)));
+            assertEquals(result.get(Metric.YIELD_TO_MATURITY), store.getResult("A").get(Metric.YIELD_TO_MATURITY));
+        }
+    }
+
+    @Test
+    void tornTailIsCutOffOnReopen() throws IOException {
+        try (ProductStore store = open()) {
+            store.put("A", bond(10000), null);
+        }
+        Path segment = segmentFiles().get(0);
+        long complete = Files.size(segment);
+        try (ProductStore store = open()) {
+            store.put("B", bond(20000), null);
+        }
+        long written = Files.size(segment);
+        // 두 번째 레코드를 쓰는 도중 프로세스가 죽은 상태
+        long torn = complete + (written - complete) / 2;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(torn);
+        }
+
+        try (ProductStore store = open()) {
+            assertEquals(torn - complete, store.getDiscardedBytes());
+            assertEquals(bond(10000), store.getProduct("A"));
+            assertNull(store.getProduct("B"));
+            store.put("C", bond(30000), null);
+        }
+        try (ProductStore store = open()) {
+            assertEquals(0, store.getDiscardedBytes());
+            assertEquals(2, store.size());
+            assertEquals(bond(30000), store.getProduct("C"));
+        }
+    }
+
+    @Test
+    void deletedIdsStayDeletedAfterCompactionAndReopen() throws IOException {
+        Map<String, Bond> expected;
+        try (ProductStore store = open()) {
+            overwriteMany(store);
+            for (int i = 0; i < 20; i += 3) {
+                assertTrue(store.remove("P-" + i));
+            }
+            assertFalse(store.remove("P-0"));
+            expected = overwriteMany(store); // 지운 ID도 다시 넣었다가
+            for (int i = 0; i < 20; i += 3) {
+                assertTrue(store.remove("P-" + i)); // 또 지움
+                expected.remove("P-" + i);
+            }
+            int before = store.getSegmentCount();
+            store.compact();
+            assertTrue(store.getSegmentCount() < before, store.getSegmentCount() + " / " + before);
+            assertContents(expected, store);
+            assertFalse(store.contains("P-0"));
+        }
+        // 삭제 레코드는 압축에서 버려지지만, 옛 PUT 레코드도 함께 사라졌으므로 다시 나타나지 않음
+        try (ProductStore store = open()) {
+            assertContents(expected, store);
+            assertFalse(store.contains("P-3"));
+        }
+    }
+
+    @Test
+    void reopenAfterCompactionKeepsWriting() throws IOException {
+        Map<String, Bond> expected;
+        try (ProductStore store = open()) {
+            expected = overwriteMany(store);
+            store.compact();
+        }
+        try (ProductStore store = open()) {
+            assertContents(expected, store);
+            // 압축 결과와 파일 번호가 겹치지 않고 이어서 쓸 수 있어야 함
+            expected.putAll(overwriteMany(store));
+            store.put("new", bond(99999), null);
+            expected.put("new", bond(99999));
+            store.compact();
+            assertContents(expected, store);
+        }
+        try (ProductStore store = open()) {
+            assertContents(expected, store);
+        }
+    }
+
+    @Test
+    void recoversFromCrashBetweenRenameAndDelete() throws IOException {
+        Map<String, Bond> expected;
+        try (ProductStore store = open()) {
+            expected = overwriteMany(store);
+            store.remove("P-7");
+            expected.remove("P-7");
+        }
+        Map<Path, byte[]> inputs = new HashMap<>();
+        for (Path path : segmentFiles()) {
+            inputs.put(path, Files.readAllBytes(path));
+        }
+        try (ProductStore store = open()) {
+            store.compact();
+        }
+        // 압축 결과의 이름을 바꾼 뒤, 입력 세그먼트를 지우기 전에 멈춘 상태
+        int restored = 0;
+        for (Map.Entry<Path, byte[]> input : inputs.entrySet()) {
+            if (!Files.exists(input.getKey())) {
+                Files.write(input.getKey(), input.getValue());
+                restored++;
+            }
+        }
+        assertTrue(restored > 0);
+        // 이름을 바꾸기 전에 멈춘 다른 압축의 결과
+        Files.write(dir.resolve("segment-9999999999999999.log.compacting"), new byte[100]);
+
+        try (ProductStore store = open()) {
+            assertContents(expected, store);
+            assertFalse(store.contains("P-7"));
+            store.compact();
+            assertContents(expected, store);
+        }
+        assertFalse(Files.exists(dir.resolve("segment-9999999999999999.log.compacting")));
+        try (ProductStore store = open()) {
+            assertContents(expected, store);
+        }
+    }
+
+    @Test
+    void readersSeeEveryIdWhileBackgroundCompactionRuns() throws Exception {
+        int ids = 50;
+        int rounds = 200;
+        List<Bond> latest = new ArrayList<>();
+        ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        AtomicBoolean done = new AtomicBoolean();
+        try (ProductStore store = new ProductStore(dir, SEGMENT_BYTES, 0.2)) {
+            for (int i = 0; i < ids; i++) {
+                latest.add(bond(10000));
+                store.put("P-" + i, latest.get(i), null);
+            }
+            List<Thread> readers = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                int seed = t;
+                Thread reader = new Thread(() -> {
+                    try {
+                        for (int n = seed; !done.get(); n++) {
+                            FinancialProduct product = store.getProduct("P-" + (n % ids));
+                            assertNotNull(product, "P-" + (n % ids));
+                            assertTrue(((Bond) product).getFaceValue() >= 10000);
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+                reader.start();
+                readers.add(reader);
+            }
+            try {
+                for (int round = 1; round <= rounds; round++) {
+                    for (int i = 0; i < ids; i++) {
+                        latest.set(i, bond(10000 + round));
+                        store.put("P-" + i, latest.get(i), null);
+                    }
+                }
+            } finally {
+                done.set(true);
+                for (Thread reader : readers) {
+                    reader.join();
+                }
+            }
+            assertTrue(failures.isEmpty(), () -> failures.peek().toString());
+            // 압축하지 않았다면 세그먼트가 훨씬 많음 (ID 50개 × 200회를 4KB 세그먼트에 기록)
+            assertTrue(store.getSegmentCount() < 50, "세그먼트 수: " + store.getSegmentCount());
+        } // 백그라운드 압축이 실패했으면 close()가 IOException을 던짐
+
+        try (ProductStore store = open()) {
+            assertEquals(ids, store.size());
+            for (int i = 0; i < ids; i++) {
+                assertEquals(latest.get(i), store.getProduct("P-" + i));
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ScenarioEngineTest {
+
+    private static final Bond BOND = new Bond(10000, 9500, 0.03, 5, 2, 0.001, false);
+
+    @Test
+    void rejectsGridLargerThanOneArray() {
+        // 70,000 × 40,000 = 28억 칸: int 곱셈이면 음수로 넘침
+        List<Bond> products = Collections.nCopies(70_000, BOND);
+        List<Scenario> scenarios = Collections.nCopies(40_000, Scenario.BASE);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> new ScenarioEngine().evaluate(products, scenarios));
+        assertTrue(e.getMessage().contains("2800000000"), e.getMessage());
+    }
+
+    @Test
+    void rejectsGridAtVmArrayLimit() {
+        // Integer.MAX_VALUE 칸은 int에 담기지만 VM이 그 길이의 배열을 만들지 못함
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMatrix.checkSize(1, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> ScenarioMatrix.checkSize(1, (int) ScenarioMatrix.MAX_CELLS + 1));
+        ScenarioMatrix.checkSize(1, (int) ScenarioMatrix.MAX_CELLS);
+    }
+
+    @Test
+    void rejectsProductIndexOutsideMatrix() {
+        ScenarioMatrix matrix = new ScenarioEngine().evaluate(List.of(BOND, BOND),
+                List.of(Scenario.BASE, Scenario.parallelShift(0.01)));
+        assertEquals(matrix.get(0, 1), matrix.row(1)[1]);
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.row(2));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class TDigestTest {
+
+    private static final double[] PERCENTILES = {0, 0.1, 1, 5, 25, 50, 75, 95, 99, 99.9, 100};
+
+    private static TDigest uniform(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        TDigest digest = new TDigest();
+        for (int i = 0; i < count; i++) {
+            digest.add(random.nextDouble());
+        }
+        return digest;
+    }
+
+    private static double[] percentiles(TDigest digest) {
+        double[] values = new double[PERCENTILES.length];
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            values[i] = digest.getValueAtPercentile(PERCENTILES[i]);
+        }
+        return values;
+    }
+
+    @Test
+    void estimatesUniformPercentiles() {
+        TDigest digest = uniform(200_000, 1);
+        for (double p : PERCENTILES) {
+            assertEquals(p / 100, digest.getValueAtPercentile(p), 0.005, "p" + p);
+        }
+    }
+
+    @Test
+    void readsDoNotChangeDigest() {
+        TDigest digest = uniform(10_123, 2); // 버퍼에 병합하지 않은 값이 남는 개수
+        double[] before = percentiles(digest);
+        int centroids = digest.centroidCount();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(centroids, digest.centroidCount());
+            for (int p = 0; p < PERCENTILES.length; p++) {
+                assertEquals(before[p], digest.getValueAtPercentile(PERCENTILES[p]));
+            }
+        }
+        // compress() 뒤의 읽기는 읽기용 사본과 같은 값을 냄
+        digest.compress();
+        double[] after = percentiles(digest);
+        for (int p = 0; p < PERCENTILES.length; p++) {
+            assertEquals(before[p], after[p]);
+        }
+    }
+
+    @Test
+    void mergeDoesNotChangeOther() {
+        TDigest other = uniform(5_001, 3);
+        double[] before = percentiles(other);
+        TDigest merged = uniform(5_000, 4);
+        merged.merge(other);
+        assertEquals(10_001, merged.getTotalWeight());
+        double[] after = percentiles(other);
+        for (int p = 0; p < PERCENTILES.length; p++) {
+            assertEquals(before[p], after[p]);
+        }
+    }
+
+    @Test
+    void concurrentReadersSeeSameValues() throws Exception {
+        TDigest digest = uniform(50_077, 5);
+        double[] expected = percentiles(digest);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<double[]>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                futures.add(pool.submit(() -> percentiles(digest)));
+            }
+            for (Future<double[]> future : futures) {
+                double[] actual = future.get();
+                for (int p = 0; p < PERCENTILES.length; p++) {
+                    assertEquals(expected[p], actual[p]);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class TieredSavingsAccountTest {
+
+    private static final Metric[] METRICS = {
+        Metric.TOTAL_PRINCIPAL, Metric.PRE_TAX_INTEREST, Metric.INTEREST_INCOME_TAX,
+        Metric.FINAL_AMOUNT, Metric.EFFECTIVE_ANNUAL_YIELD
+    };
+
+    @Test
+    void simpleInterestMatchesBaselineLoop() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int trial = 0; trial < 2000; trial++) {
+            List<InterestRateTier> tiers = new ArrayList<>();
+            int tierCount = 1 + random.nextInt(6);
+            for (int t = 0; t < tierCount; t++) {
+                // 0개월, 음수 개월 구간도 기준 구현과 같게 처리해야 함
+                tiers.add(new InterestRateTier(random.nextInt(-3, 37), random.nextDouble(-1, 8)));
+            }
+            double deposit = 1000 + random.nextInt(1_000_000);
+            double[] expected = BaselineCalculations.savings(deposit, tiers);
+            CalculationResult result = new TieredSavingsAccount(deposit, tiers).calculate();
+            for (int m = 0; m < METRICS.length; m++) {
+                double actual = result.get(METRICS[m]);
+                if (Double.isNaN(expected[m])) {
+                    assertTrue(Double.isNaN(actual), METRICS[m] + " trial " + trial);
+                    continue;
+                }
+                double tolerance = 4e-15 * Math.max(Math.abs(expected[m]), deposit);
+                assertEquals(expected[m], actual, tolerance, METRICS[m] + " trial " + trial + " " + tiers);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class YieldSolverTest {
+
+    /**
+     * 이표채 가격 함수: P(y) = sum C·v^t + F·v^(tau+N-1),  v = 1 / (1 + y/f),  t = tau, tau+1, ...
+     * 풀이기만 확인하도록 상품 클래스와 따로 둡니다.
+     */
+    private static final class CouponBondPrice implements PriceFunction {
+        private final double coupon;
+        private final int frequency;
+        private final int periods;
+        private final double tau;
+
+        CouponBondPrice(double couponRate, double years, int frequency) {
+            this.coupon = 10000 * couponRate / frequency;
+            this.frequency = frequency;
+            this.periods = (int) Math.ceil(years * frequency);
+            this.tau = years * frequency - (periods - 1);
+        }
+
+        @Override
+        public double price(double yield) {
+            double growth = 1 + yield / frequency;
+            double price = 0;
+            for (int j = 0; j < periods; j++) {
+                price += coupon * Math.pow(growth, -(tau + j));
+            }
+            return price + 10000 * Math.pow(growth, -(tau + periods - 1));
+        }
+
+        @Override
+        public double derivative(double yield) {
+            double growth = 1 + yield / frequency;
+            double derivative = 0;
+            for (int j = 0; j < periods; j++) {
+                derivative -= (tau + j) / frequency * coupon * Math.pow(growth, -(tau + j + 1));
+            }
+            return derivative - (tau + periods - 1) / frequency * 10000 * Math.pow(growth, -(tau + periods));
+        }
+
+        @Override
+        public double lowerBound() {
+            return -frequency;
+        }
+    }
+
+    /** 풀이기가 맞춰야 할 채권: 가격 함수, 목표 가격, 알려진 수익률 */
+    private static final class Case {
+        final String name;
+        final PriceFunction kernel;
+        final double yield;
+        final double targetPrice;
+
+        Case(String name, double couponRate, double years, int frequency, double yield) {
+            this.name = name;
+            this.kernel = new CouponBondPrice(couponRate, years, frequency);
+            this.yield = yield;
+            this.targetPrice = kernel.price(yield);
+        }
+    }
+
+    private static final Case[] CASES = {
+        new Case("액면가 근처", 0.03, 5, 2, 0.035),
+        new Case("음의 수익률 무이표", 0.0, 5, 1, -0.006),
+        new Case("음의 수익률 이표", 0.01, 7.5, 2, -0.0125),
+        new Case("큰 할증", 0.15, 10, 2, 0.01),
+        new Case("큰 할증 장기", 0.12, 30, 12, -0.002),
+        new Case("큰 할인", 0.0, 30, 2, 0.18),
+        new Case("잔존 기간이 한 기간 미만", 0.04, 0.2, 4, 0.05),
+    };
+
+    private static void assertReprices(Case c, YieldSolution solution) {
+        assertTrue(solution.isConverged(), c.name + " " + solution);
+        assertEquals(c.yield, solution.getYield(), 1e-9, c.name);
+        // 찾은 수익률로 다시 매긴 가격이 목표 가격과 같음 (수익률 오차 1e-10 x 듀레이션 수준)
+        double tolerance = Math.abs(c.kernel.derivative(solution.getYield())) * 1e-9;
+        assertEquals(c.targetPrice, c.kernel.price(solution.getYield()), tolerance, c.name);
+    }
+
+    @Test
+    void newtonSolvesWithinAFewIterations() {
+        NewtonYieldSolver solver = new NewtonYieldSolver();
+        for (Case c : CASES) {
+            YieldSolution solution = solver.solve(c.kernel, c.targetPrice, 0.05);
+            assertReprices(c, solution);
+            assertTrue(solution.getIterations() <= 10, c.name + " " + solution);
+        }
+    }
+
+    @Test
+    void brentSolvesOnItsOwn() {
+        BrentYieldSolver solver = new BrentYieldSolver();
+        for (Case c : CASES) {
+            YieldSolution solution = solver.solve(c.kernel, c.targetPrice, 0.05);
+            assertReprices(c, solution);
+            assertTrue(solution.getIterations() <= 60, c.name + " " + solution);
+        }
+    }
+
+    @Test
+    void warmStartNeedsFewerIterations() {
+        for (YieldSolver solver : new YieldSolver[] {new NewtonYieldSolver(), new BrentYieldSolver()}) {
+            for (Case c : CASES) {
+                YieldSolution cold = solver.solve(c.kernel, c.targetPrice, 0.5);
+                YieldSolution warm = solver.solve(c.kernel, c.targetPrice, c.yield + 1e-4);
+                assertReprices(c, cold);
+                assertReprices(c, warm);
+                assertTrue(warm.getIterations() <= cold.getIterations(), c.name + " " + warm + " " + cold);
+            }
+        }
+    }
+
+    @Test
+    void invalidInitialGuessStartsAtZero() {
+        Case c = CASES[1];
+        for (YieldSolver solver : new YieldSolver[] {new NewtonYieldSolver(), new BrentYieldSolver()}) {
+            assertReprices(c, solver.solve(c.kernel, c.targetPrice, Double.NaN));
+            assertReprices(c, solver.solve(c.kernel, c.targetPrice, -5)); // 하한(-f) 아래
+        }
+    }
+
+    @Test
+    void newtonFallsBackAndCountsBothSolvers() {
+        int[] fallbackCalls = {0};
+        YieldSolver brent = new BrentYieldSolver();
+        YieldSolver fallback = (function, targetPrice, initialGuess, solution) -> {
+            fallbackCalls[0]++;
+            brent.solve(function, targetPrice, initialGuess, solution);
+        };
+        // 한 단계로는 수렴하지 못하므로 브렌트로 넘어감
+        NewtonYieldSolver solver = new NewtonYieldSolver(1e-10, 1, fallback);
+        Case c = CASES[3];
+        YieldSolution solution = solver.solve(c.kernel, c.targetPrice, 0.05);
+        assertReprices(c, solution);
+        assertEquals(1, fallbackCalls[0]);
+        int brentIterations = brent.solve(c.kernel, c.targetPrice, 0.05).getIterations();
+        assertEquals(1 + brentIterations, solution.getIterations());
+
+        new NewtonYieldSolver(1e-10, 20, fallback).solve(c.kernel, c.targetPrice, 0.05);
+        assertEquals(1, fallbackCalls[0]); // 수렴하면 대체 풀이기를 부르지 않음
+    }
+
+    @Test
+    void unreachablePriceIsNotConverged() {
+        Case c = CASES[0];
+        for (YieldSolver solver : new YieldSolver[] {new NewtonYieldSolver(), new BrentYieldSolver()}) {
+            YieldSolution solution = solver.solve(c.kernel, -1.0, 0.05); // 어떤 수익률로도 음의 가격은 나오지 않음
+            assertFalse(solution.isConverged(), solution.toString());
+            assertTrue(solution.getIterations() > 0);
+        }
+    }
+
+    @Test
+    void solutionObjectIsReused() {
+        NewtonYieldSolver solver = new NewtonYieldSolver();
+        YieldSolution solution = new YieldSolution();
+        for (Case c : CASES) {
+            solver.solve(c.kernel, c.targetPrice, 0.05, solution);
+            assertReprices(c, solution);
+        }
+        // 수렴하지 못한 탐색도 이전 결과를 남기지 않고 덮어씀
+        new BrentYieldSolver().solve(CASES[0].kernel, -1.0, 0.05, solution);
+        assertFalse(solution.isConverged());
+    }
+}